@@ -0,0 +1,100 @@
+package application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import database.IDatabase;
+import misc.CheckType;
+
+/**
+ * Keeps track of the active BTO application of each applicant, by NRIC.
+ * <p>
+ * An applicant may have at most one active application: one that is pending,
+ * successful or booked. Submitting an application claims the applicant's
+ * entry with a single put-if-absent, so two sessions applying for the same
+ * applicant at the same time cannot both succeed. The entry is released when
+ * the application becomes unsuccessful or is withdrawn, and only by that
+ * application, so a late release never frees a newer claim.
+ * </p>
+ * <p>
+ * Checking whether an applicant has an active application is a single
+ * lookup, whatever the number of applications.
+ * </p>
+ */
+public class ActiveApplicationMgr {
+
+	/**
+	 * The active BTO application of each applicant that has one, keyed by user ID.
+	 */
+	private static final Map<String, Application> activeApplications = new ConcurrentHashMap<>();
+
+	/**
+	 * Discards all entries and claims one for each active BTO application in the database.
+	 * <p>
+	 * Should the data hold more than one active application for an applicant,
+	 * the first one is kept.
+	 * </p>
+	 *
+	 * @param applicationDatabase The database containing all application data.
+	 */
+	public void rebuild(IDatabase<Application> applicationDatabase) {
+		activeApplications.clear();
+		for (Application application : applicationDatabase.getDataList()) {
+			if (CheckType.isBTOApplication(application) && isActive(application.getStatus())) {
+				claim(application);
+			}
+		}
+	}
+
+	/**
+	 * Claims the entry of an application's applicant for the application.
+	 *
+	 * @param application The BTO application.
+	 * @return {@code true} if the applicant had no active application and this one now is,
+	 *         or if it already was; {@code false} if the applicant has another active application.
+	 */
+	public boolean claim(Application application) {
+		Application active = activeApplications.putIfAbsent(application.getUser().getUserID(), application);
+		return active == null || active == application;
+	}
+
+	/**
+	 * Releases the entry of an application's applicant, if the application holds it.
+	 *
+	 * @param application The BTO application that is no longer active.
+	 */
+	public void release(Application application) {
+		activeApplications.remove(application.getUser().getUserID(), application);
+	}
+
+	/**
+	 * Checks whether an applicant has an active BTO application.
+	 *
+	 * @param userID The NRIC of the applicant.
+	 * @return {@code true} if the applicant has a pending, successful or booked application.
+	 */
+	public boolean hasActiveApplication(String userID) {
+		return activeApplications.containsKey(userID);
+	}
+
+	/**
+	 * Retrieves the active BTO application of an applicant.
+	 *
+	 * @param userID The NRIC of the applicant.
+	 * @return The active {@link Application}, or {@code null} if the applicant has none.
+	 */
+	public Application getActiveApplication(String userID) {
+		return activeApplications.get(userID);
+	}
+
+	/**
+	 * Checks whether an application with a given status is active.
+	 *
+	 * @param status The status.
+	 * @return {@code true} if the status is pending, successful or booked.
+	 */
+	public static boolean isActive(ApplicationStatus status) {
+		return status.equals(ApplicationStatus.PENDING) || status.equals(ApplicationStatus.SUCCESSFUL)
+				|| status.equals(ApplicationStatus.BOOKED);
+	}
+}
@@ -1,5 +1,7 @@
 package application;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import project.Project;
 import user.User;
 
@@ -10,7 +12,13 @@ import user.User;
  * such as BTO applications or project registrations. It encapsulates essential
  * information common to all applications, including a unique identifier, the
  * associated user and project, and the application's current status and type.
- * 
+ * <p>
+ * The status only moves along the transitions that
+ * {@link ApplicationStateMachine} allows for the application's type, and each
+ * move is a compare-and-set on the status. Of two sessions deciding the same
+ * application at the same time, only one succeeds; the other fails at once
+ * rather than waiting or overwriting the decision.
+ * </p>
  */
 public abstract class Application {
 	
@@ -32,7 +40,7 @@ public abstract class Application {
 	/**
 	 * The current status of the application.
 	 */
-	protected ApplicationStatus status;
+	private final AtomicReference<ApplicationStatus> status = new AtomicReference<>(ApplicationStatus.PENDING);
 	
 	/**
 	 * The type of the application.
@@ -50,7 +58,6 @@ public abstract class Application {
 		this.ID = ID;
 		this.user = user;
 		this.project = project;
-		this.status = ApplicationStatus.PENDING;
 	}
 	
 	/**
@@ -86,7 +93,7 @@ public abstract class Application {
 	 * @return The current APPLICATION_STATUS.
 	 */
 	public ApplicationStatus getStatus() {
-		return status;
+		return status.get();
 	}
 
 	/**
@@ -99,23 +106,35 @@ public abstract class Application {
 	}
 
 	/**
-	 * Sets a new status for the application.
+	 * Restores the status of an application loaded from file, without checking any transition.
+	 *
+	 * @param status The saved APPLICATION_STATUS.
+	 */
+	void restoreStatus(ApplicationStatus status) {
+		this.status.set(status);
+	}
+	
+	/**
+	 * Moves the application to a new status, if the transition from its current status is allowed.
 	 *
-	 * @param status The new APPLICATION_STATUS to be set.
+	 * @param newStatus The new status to update to.
+	 * @return {@code true} if the status was updated, {@code false} if the transition is not allowed
+	 *         or the status was changed by another session at the same time.
 	 */
-	public void setStatus(ApplicationStatus status) {
-		this.status = status;
+	public boolean updateStatus(ApplicationStatus newStatus) {
+		return updateStatus(status.get(), newStatus);
 	}
 	
 	/**
-	 * Abstract method to update the status of the application.
-	 * <p>
-	 * Concrete subclasses must implement this method to define the specific
-	 * logic for status transitions.
-	 * </p>
+	 * Moves the application from an expected status to a new status, if the transition is allowed.
 	 *
-	 * @param status The new status to update to.
-	 * @return {@code true} if the status was successfully updated, {@code false} otherwise.
+	 * @param expectedStatus The status the application is expected to have.
+	 * @param newStatus      The new status to update to.
+	 * @return {@code true} if the status was updated, {@code false} if the transition is not allowed
+	 *         or the application no longer has the expected status.
 	 */
-	public abstract boolean updateStatus(ApplicationStatus status);
+	public boolean updateStatus(ApplicationStatus expectedStatus, ApplicationStatus newStatus) {
+		return ApplicationStateMachine.canTransition(applicationType, expectedStatus, newStatus)
+				&& status.compareAndSet(expectedStatus, newStatus);
+	}
 }
\ No newline at end of file
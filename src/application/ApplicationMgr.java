@@ -43,7 +43,7 @@ public class ApplicationMgr {
 	 */
 	public Application create(String applicationID, User user, Project project, ApplicationType applicationType, ApplicationStatus applicationStatus) throws IllegalArgumentException {
 		Application application = create(applicationID, user, project, applicationType);
-		application.updateStatus(applicationStatus);
+		application.restoreStatus(applicationStatus);
 		return application;
 	}
 
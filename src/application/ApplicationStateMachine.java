@@ -0,0 +1,70 @@
+package application;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * The status transitions allowed for each type of application.
+ * <p>
+ * Every application starts pending. A BTO application is then balloted
+ * successful or unsuccessful; a successful one can be booked, and an
+ * unsuccessful one can be promoted from its project's waitlist. It can be
+ * withdrawn at any point until then. A project registration or a withdrawal
+ * application is only ever approved or rejected, once.
+ * </p>
+ * <p>
+ * The transitions are held in a table indexed by type and current status, so
+ * checking one is two array lookups and a bit test.
+ * </p>
+ */
+public class ApplicationStateMachine {
+
+	/**
+	 * The statuses each status may move to, for each type of application.
+	 */
+	private static final Map<ApplicationType, Map<ApplicationStatus, EnumSet<ApplicationStatus>>> transitions = new EnumMap<>(ApplicationType.class);
+
+	static {
+		Map<ApplicationStatus, EnumSet<ApplicationStatus>> btoTransitions = newTable();
+		btoTransitions.put(ApplicationStatus.PENDING,
+				EnumSet.of(ApplicationStatus.SUCCESSFUL, ApplicationStatus.UNSUCCESSFUL, ApplicationStatus.WITHDRAWN));
+		btoTransitions.put(ApplicationStatus.SUCCESSFUL, EnumSet.of(ApplicationStatus.BOOKED, ApplicationStatus.WITHDRAWN));
+		btoTransitions.put(ApplicationStatus.UNSUCCESSFUL, EnumSet.of(ApplicationStatus.SUCCESSFUL, ApplicationStatus.WITHDRAWN));
+		btoTransitions.put(ApplicationStatus.BOOKED, EnumSet.of(ApplicationStatus.WITHDRAWN));
+		transitions.put(ApplicationType.BTO_APPLICATION, btoTransitions);
+
+		for (ApplicationType applicationType : EnumSet.of(ApplicationType.PROJECT_REGISTRATION,
+				ApplicationType.WITHDRAWAL_APPLICATION)) {
+			Map<ApplicationStatus, EnumSet<ApplicationStatus>> decisionTransitions = newTable();
+			decisionTransitions.put(ApplicationStatus.PENDING,
+					EnumSet.of(ApplicationStatus.SUCCESSFUL, ApplicationStatus.UNSUCCESSFUL));
+			transitions.put(applicationType, decisionTransitions);
+		}
+	}
+
+	/**
+	 * Checks whether an application of a type may move from one status to another.
+	 *
+	 * @param applicationType The type of the application.
+	 * @param oldStatus       The current status of the application.
+	 * @param newStatus       The status to move to.
+	 * @return {@code true} if the transition is allowed.
+	 */
+	public static boolean canTransition(ApplicationType applicationType, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		return transitions.get(applicationType).get(oldStatus).contains(newStatus);
+	}
+
+	/**
+	 * Creates a table in which no status may move to any other.
+	 *
+	 * @return The table.
+	 */
+	private static Map<ApplicationStatus, EnumSet<ApplicationStatus>> newTable() {
+		Map<ApplicationStatus, EnumSet<ApplicationStatus>> table = new EnumMap<>(ApplicationStatus.class);
+		for (ApplicationStatus status : ApplicationStatus.values()) {
+			table.put(status, EnumSet.noneOf(ApplicationStatus.class));
+		}
+		return table;
+	}
+}
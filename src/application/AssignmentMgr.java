@@ -0,0 +1,346 @@
+package application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import database.IDatabase;
+import misc.CheckType;
+import misc.DateRangeSet;
+import project.OfficerSlotMgr;
+import project.Project;
+import user.HDBOfficer;
+
+/**
+ * Assigns officers to projects from their pending project registrations.
+ * <p>
+ * The assignment approves as many registrations as possible at once,
+ * subject to two constraints: a project takes no more officers than it has
+ * free officer slots, and an officer is not assigned two projects whose
+ * application periods share a day, nor one that shares a day with a project
+ * they have already joined. This is solved as a maximum flow from the
+ * officers through their registrations to the projects' slots, using Dinic's
+ * algorithm, which takes well under a second for tens of thousands of
+ * officers and projects.
+ * </p>
+ * <p>
+ * An officer's registrations are grouped into chains of overlapping
+ * application periods, and at most one registration of each chain is
+ * assigned. Registering already keeps an officer's pending periods apart, so
+ * each chain is usually a single registration and the assignment is then the
+ * largest possible. When periods do overlap, for instance after a project's
+ * dates were edited, a chain of three periods where only neighbours overlap
+ * can still only give one assignment, where two would have been feasible.
+ * </p>
+ * <p>
+ * Solving does not change any registration: the caller applies the result,
+ * in whole or in part.
+ * </p>
+ */
+public class AssignmentMgr {
+
+	/**
+	 * Computes an assignment of officers to projects from all pending project registrations.
+	 *
+	 * @param applicationDatabase The database containing all application data.
+	 * @return The {@link AssignmentResult}.
+	 */
+	public AssignmentResult solve(IDatabase<Application> applicationDatabase) {
+		OfficerSlotMgr slotMgr = new OfficerSlotMgr();
+		List<Application> unassignedList = new ArrayList<>();
+
+		// Gather the registrations that could be approved, in the order they were submitted.
+		Map<HDBOfficer, List<Application>> candidateMap = new LinkedHashMap<>();
+		Map<Project, Integer> projectIndexes = new HashMap<>();
+		List<Project> projectList = new ArrayList<>();
+		for (Application application : applicationDatabase.getDataList()) {
+			if (!CheckType.isProjectRegistrationApplication(application)
+					|| !application.getStatus().equals(ApplicationStatus.PENDING)) {
+				continue;
+			}
+			Project project = application.getProject();
+			HDBOfficer officer = (HDBOfficer) application.getUser();
+			if (!projectIndexes.containsKey(project)) {
+				projectIndexes.put(project, projectList.size());
+				projectList.add(project);
+			}
+			candidateMap.computeIfAbsent(officer, key -> new ArrayList<>()).add(application);
+		}
+
+		int[] freeSlots = new int[projectList.size()];
+		int slotCount = 0;
+		for (int i = 0; i < projectList.size(); i++) {
+			freeSlots[i] = slotMgr.getFreeSlots(projectList.get(i));
+			slotCount += freeSlots[i];
+		}
+
+		// Split each officer's feasible registrations into chains of overlapping periods.
+		List<Application> edgeList = new ArrayList<>();
+		List<Integer> edgeGroups = new ArrayList<>();
+		int groupCount = 0;
+		for (Map.Entry<HDBOfficer, List<Application>> entry : candidateMap.entrySet()) {
+			DateRangeSet joinedDates = getJoinedDates(entry.getKey());
+			Set<Project> registeredProjects = new HashSet<>();
+			List<Application> datedList = new ArrayList<>();
+			for (Application application : entry.getValue()) {
+				Project project = application.getProject();
+				if (!registeredProjects.add(project) || project.getOfficers().contains(entry.getKey())
+						|| freeSlots[projectIndexes.get(project)] == 0) {
+					unassignedList.add(application);
+				} else if (project.getApplicationStartDate() == null || project.getApplicationEndDate() == null) {
+					edgeList.add(application);
+					edgeGroups.add(groupCount++);
+				} else if (joinedDates.overlaps(project.getApplicationStartDate(), project.getApplicationEndDate())) {
+					unassignedList.add(application);
+				} else {
+					datedList.add(application);
+				}
+			}
+
+			datedList.sort(Comparator.comparing(application -> application.getProject().getApplicationStartDate()));
+			long chainEnd = Long.MIN_VALUE;
+			for (Application application : datedList) {
+				Project project = application.getProject();
+				if (project.getApplicationStartDate().toEpochDay() > chainEnd) {
+					groupCount++;
+				}
+				chainEnd = Math.max(chainEnd, project.getApplicationEndDate().toEpochDay());
+				edgeList.add(application);
+				edgeGroups.add(groupCount - 1);
+			}
+		}
+
+		// Nodes: the source, one per chain, one per project, then the sink.
+		int source = 0, firstProject = 1 + groupCount, sink = firstProject + projectList.size();
+		FlowNetwork network = new FlowNetwork(sink + 1, groupCount + edgeList.size() + projectList.size());
+		// Edges are tried in the reverse order they are added, so earlier submissions are preferred.
+		for (int group = groupCount - 1; group >= 0; group--) {
+			network.addEdge(source, 1 + group, 1);
+		}
+		int[] registrationEdges = new int[edgeList.size()];
+		for (int i = edgeList.size() - 1; i >= 0; i--) {
+			registrationEdges[i] = network.addEdge(1 + edgeGroups.get(i),
+					firstProject + projectIndexes.get(edgeList.get(i).getProject()), 1);
+		}
+		for (int i = 0; i < projectList.size(); i++) {
+			network.addEdge(firstProject + i, sink, freeSlots[i]);
+		}
+		network.maxFlow(source, sink);
+
+		Set<Application> assignedSet = new HashSet<>();
+		for (int i = 0; i < edgeList.size(); i++) {
+			if (network.hasFlow(registrationEdges[i])) {
+				assignedSet.add(edgeList.get(i));
+			} else {
+				unassignedList.add(edgeList.get(i));
+			}
+		}
+		List<Application> assignedList = new ArrayList<>();
+		for (Application application : applicationDatabase.getDataList()) {
+			if (assignedSet.contains(application)) {
+				assignedList.add(application);
+			}
+		}
+		return new AssignmentResult(assignedList, unassignedList, slotCount);
+	}
+
+	/**
+	 * Collects the application periods of the projects an officer has joined.
+	 *
+	 * @param officer The officer.
+	 * @return The days the officer is already committed to.
+	 */
+	private static DateRangeSet getJoinedDates(HDBOfficer officer) {
+		DateRangeSet joinedDates = new DateRangeSet();
+		for (Project project : officer.getJoinedProjects()) {
+			if (project != null && project.getApplicationStartDate() != null && project.getApplicationEndDate() != null) {
+				joinedDates.add(project.getApplicationStartDate(), project.getApplicationEndDate());
+			}
+		}
+		return joinedDates;
+	}
+
+	/**
+	 * A flow network with integer capacities, held in flat arrays.
+	 * <p>
+	 * Each edge is stored next to its reverse edge, so the reverse of edge
+	 * {@code e} is {@code e ^ 1}. Augmenting paths are followed without
+	 * recursion, as a path through the residual network can pass through many
+	 * chains and projects.
+	 * </p>
+	 */
+	private static class FlowNetwork {
+
+		/**
+		 * The number of nodes.
+		 */
+		private final int nodeCount;
+
+		/**
+		 * The first edge leaving each node, or -1.
+		 */
+		private final int[] firstEdge;
+
+		/**
+		 * The next edge leaving the same node as each edge, or -1.
+		 */
+		private final int[] nextEdge;
+
+		/**
+		 * The node each edge enters.
+		 */
+		private final int[] target;
+
+		/**
+		 * The remaining capacity of each edge.
+		 */
+		private final int[] capacity;
+
+		/**
+		 * The number of edges added, counting reverse edges.
+		 */
+		private int edgeCount;
+
+		/**
+		 * Constructs an empty network.
+		 *
+		 * @param nodeCount The number of nodes.
+		 * @param maxEdges  The greatest number of edges that will be added, not counting reverse edges.
+		 */
+		private FlowNetwork(int nodeCount, int maxEdges) {
+			this.nodeCount = nodeCount;
+			firstEdge = new int[nodeCount];
+			Arrays.fill(firstEdge, -1);
+			nextEdge = new int[2 * maxEdges];
+			target = new int[2 * maxEdges];
+			capacity = new int[2 * maxEdges];
+		}
+
+		/**
+		 * Adds an edge and its reverse edge.
+		 *
+		 * @param from     The node the edge leaves.
+		 * @param to       The node the edge enters.
+		 * @param capacity The capacity of the edge.
+		 * @return The index of the edge.
+		 */
+		private int addEdge(int from, int to, int capacity) {
+			int edge = edgeCount;
+			link(from, to, capacity);
+			link(to, from, 0);
+			return edge;
+		}
+
+		/**
+		 * Adds a single edge.
+		 *
+		 * @param from         The node the edge leaves.
+		 * @param to           The node the edge enters.
+		 * @param edgeCapacity The capacity of the edge.
+		 */
+		private void link(int from, int to, int edgeCapacity) {
+			target[edgeCount] = to;
+			capacity[edgeCount] = edgeCapacity;
+			nextEdge[edgeCount] = firstEdge[from];
+			firstEdge[from] = edgeCount++;
+		}
+
+		/**
+		 * Checks whether flow passes through an edge of capacity 1.
+		 *
+		 * @param edge The index of the edge.
+		 * @return {@code true} if the edge is saturated.
+		 */
+		private boolean hasFlow(int edge) {
+			return capacity[edge] == 0;
+		}
+
+		/**
+		 * Pushes as much flow as possible from the source to the sink.
+		 * <p>
+		 * Every edge leaving the source has capacity 1, so each augmenting path
+		 * carries a single unit.
+		 * </p>
+		 *
+		 * @param source The source node.
+		 * @param sink   The sink node.
+		 * @return The total flow.
+		 */
+		private int maxFlow(int source, int sink) {
+			int[] level = new int[nodeCount];
+			int[] currentEdge = new int[nodeCount];
+			int[] path = new int[nodeCount];
+			int[] queue = new int[nodeCount];
+			int flow = 0;
+
+			while (buildLevels(source, sink, level, queue)) {
+				System.arraycopy(firstEdge, 0, currentEdge, 0, nodeCount);
+				int node = source, depth = 0;
+				while (true) {
+					if (node == sink) {
+						for (int i = 0; i < depth; i++) {
+							capacity[path[i]]--;
+							capacity[path[i] ^ 1]++;
+						}
+						flow++;
+						node = source;
+						depth = 0;
+						continue;
+					}
+
+					int edge = currentEdge[node];
+					while (edge != -1 && (capacity[edge] == 0 || level[target[edge]] != level[node] + 1)) {
+						edge = nextEdge[edge];
+					}
+					currentEdge[node] = edge;
+
+					if (edge != -1) {
+						path[depth++] = edge;
+						node = target[edge];
+					} else if (node == source) {
+						break;
+					} else {
+						// No path to the sink continues from here in this phase.
+						level[node] = -1;
+						edge = path[--depth];
+						node = target[edge ^ 1];
+						currentEdge[node] = nextEdge[currentEdge[node]];
+					}
+				}
+			}
+			return flow;
+		}
+
+		/**
+		 * Labels each node with its distance from the source in the residual network.
+		 *
+		 * @param source The source node.
+		 * @param sink   The sink node.
+		 * @param level  Filled with the distance of each node, or -1 if it cannot be reached.
+		 * @param queue  Working space for the breadth-first search.
+		 * @return {@code true} if the sink can be reached.
+		 */
+		private boolean buildLevels(int source, int sink, int[] level, int[] queue) {
+			Arrays.fill(level, -1);
+			level[source] = 0;
+			int head = 0, tail = 0;
+			queue[tail++] = source;
+			while (head < tail) {
+				int node = queue[head++];
+				for (int edge = firstEdge[node]; edge != -1; edge = nextEdge[edge]) {
+					if (capacity[edge] > 0 && level[target[edge]] < 0) {
+						level[target[edge]] = level[node] + 1;
+						queue[tail++] = target[edge];
+					}
+				}
+			}
+			return level[sink] >= 0;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package application;
+
+import java.util.List;
+
+/**
+ * The outcome of an assignment of officers to projects, as computed by {@link AssignmentMgr}.
+ * <p>
+ * The assigned registrations are those to approve; the unassigned ones are
+ * left pending, whether because their project has no free slot left, the
+ * officer is committed to another project at the time, or the officer already
+ * handles the project.
+ * </p>
+ */
+public class AssignmentResult {
+
+	/**
+	 * The registrations to approve, in the order they were submitted.
+	 */
+	private final List<Application> assignedList;
+
+	/**
+	 * The registrations left pending.
+	 */
+	private final List<Application> unassignedList;
+
+	/**
+	 * The number of free officer slots of the projects with pending registrations.
+	 */
+	private final int slotCount;
+
+	/**
+	 * Constructs the outcome of an assignment.
+	 *
+	 * @param assignedList   The registrations to approve, in the order they were submitted.
+	 * @param unassignedList The registrations left pending.
+	 * @param slotCount      The number of free officer slots of the projects with pending registrations.
+	 */
+	public AssignmentResult(List<Application> assignedList, List<Application> unassignedList, int slotCount) {
+		this.assignedList = assignedList;
+		this.unassignedList = unassignedList;
+		this.slotCount = slotCount;
+	}
+
+	/**
+	 * Retrieves the registrations to approve.
+	 *
+	 * @return A {@code List} of registrations, in the order they were submitted.
+	 */
+	public List<Application> getAssignedList() {
+		return assignedList;
+	}
+
+	/**
+	 * Retrieves the registrations left pending.
+	 *
+	 * @return A {@code List} of registrations.
+	 */
+	public List<Application> getUnassignedList() {
+		return unassignedList;
+	}
+
+	/**
+	 * Retrieves the number of free officer slots the registrations competed for.
+	 *
+	 * @return The free officer slots of the projects with pending registrations.
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+}
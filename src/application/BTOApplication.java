@@ -8,8 +8,8 @@ import user.User;
  * <p>
  * This class extends the generic {@link Application} class, providing a concrete
  * implementation for BTO-specific logic. It sets its application type to
- * {@code BTO_APPLICATION} and provides its own implementation of the
- * {@code updateStatus} method.
+ * {@code BTO_APPLICATION}, whose status transitions are given by
+ * {@link ApplicationStateMachine}.
  * </p>
  *
  */
@@ -26,21 +26,4 @@ public class BTOApplication extends Application {
 		super(ID, user, project);
 		this.applicationType = ApplicationType.BTO_APPLICATION;
 	}
-
-	/**
-	 * Updates the status of the BTO application.
-	 * <p>
-	 * This implementation simply calls the superclass's {@code setStatus} method,
-	 * as the status update logic for this specific application type is
-	 * straightforward.
-	 * </p>
-	 *
-	 * @param status The new {@link APPLICATION_STATUS} to be set.
-	 * @return {@code true} indicating that the status was successfully updated.
-	 */
-	@Override
-	public boolean updateStatus(ApplicationStatus status) {
-		this.setStatus(status);
-		return true;
-	}
 }
\ No newline at end of file
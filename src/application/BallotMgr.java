@@ -0,0 +1,194 @@
+package application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import database.IDatabase;
+import misc.CheckType;
+import project.Project;
+
+/**
+ * Draws the ballots of oversubscribed projects.
+ * <p>
+ * A project's ballot ranks its pending BTO applications at random, and the
+ * top applications, up to the number of units still available, are drawn to
+ * be successful while the rest are not. Units already promised to successful
+ * applications that have not been booked yet are not available.
+ * </p>
+ * <p>
+ * A ballot is reproducible: the applications are put in order of their IDs
+ * and then shuffled with a random generator seeded from the ballot seed and
+ * the project ID, so the same seed draws the same result from the same
+ * applications, whatever order they are stored in and whichever other
+ * projects are balloted with it.
+ * </p>
+ * <p>
+ * Projects are balloted independently of each other, so they are drawn in
+ * parallel on the common fork-join pool. Drawing does not change any
+ * application: the caller checks the results against the applications once
+ * all of them have been drawn, and only then applies them.
+ * </p>
+ */
+public class BallotMgr {
+
+	/**
+	 * Draws the ballots of a list of projects.
+	 *
+	 * @param projectList         The projects to ballot. A project listed more than once is balloted once.
+	 * @param applicationDatabase The database containing all application data.
+	 * @param seed                The ballot seed.
+	 * @return The {@link BallotResult} of each project, in the order of the projects.
+	 */
+	public List<BallotResult> draw(List<Project> projectList, IDatabase<Application> applicationDatabase, long seed) {
+		projectList = new ArrayList<>(new LinkedHashSet<>(projectList));
+		Map<Project, List<Application>> pendingMap = new HashMap<>();
+		Map<Project, Integer> promisedCounts = new HashMap<>();
+		for (Project project : projectList) {
+			pendingMap.put(project, new ArrayList<>());
+			promisedCounts.put(project, 0);
+		}
+
+		// One pass over all applications to gather those of the balloted projects.
+		for (Application application : applicationDatabase.getDataList()) {
+			List<Application> pendingList = pendingMap.get(application.getProject());
+			if (pendingList == null || !CheckType.isBTOApplication(application)) {
+				continue;
+			}
+			if (application.getStatus().equals(ApplicationStatus.PENDING)) {
+				pendingList.add(application);
+			} else if (application.getStatus().equals(ApplicationStatus.SUCCESSFUL)) {
+				promisedCounts.merge(application.getProject(), 1, Integer::sum);
+			}
+		}
+
+		BallotResult[] results = new BallotResult[projectList.size()];
+		ForkJoinPool.commonPool().invoke(new BallotTask(projectList, 0, projectList.size(), pendingMap, promisedCounts, seed, results));
+
+		List<BallotResult> resultList = new ArrayList<>();
+		Collections.addAll(resultList, results);
+		return resultList;
+	}
+
+	/**
+	 * Draws the ballot of a single project.
+	 *
+	 * @param project       The project to ballot.
+	 * @param pendingList   The pending BTO applications for the project. This list is reordered.
+	 * @param promisedCount The number of successful applications for the project that have not been booked.
+	 * @param seed          The ballot seed.
+	 * @return The {@link BallotResult} of the project.
+	 */
+	private static BallotResult draw(Project project, List<Application> pendingList, int promisedCount, long seed) {
+		pendingList.sort(Comparator.comparing(Application::getID));
+		Collections.shuffle(pendingList, new Random(getProjectSeed(seed, project)));
+
+		int availableCount = Math.max(0, project.getCount() - promisedCount);
+		int successfulCount = Math.min(availableCount, pendingList.size());
+		return new BallotResult(project, seed, availableCount,
+				new ArrayList<>(pendingList.subList(0, successfulCount)),
+				new ArrayList<>(pendingList.subList(successfulCount, pendingList.size())));
+	}
+
+	/**
+	 * Derives the seed of a project's ballot from the ballot seed and the project ID.
+	 *
+	 * @param seed    The ballot seed.
+	 * @param project The project.
+	 * @return The seed of the project's random generator.
+	 */
+	private static long getProjectSeed(long seed, Project project) {
+		// String.hashCode is specified by the language, so this is stable across runs.
+		long projectSeed = seed * 0x9E3779B97F4A7C15L + project.getID().hashCode();
+		projectSeed = (projectSeed ^ (projectSeed >>> 30)) * 0xBF58476D1CE4E5B9L;
+		projectSeed = (projectSeed ^ (projectSeed >>> 27)) * 0x94D049BB133111EBL;
+		return projectSeed ^ (projectSeed >>> 31);
+	}
+
+	/**
+	 * Draws the ballots of a range of projects, splitting the range in half until a single project is left.
+	 */
+	private static class BallotTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The projects being balloted.
+		 */
+		private final List<Project> projectList;
+
+		/**
+		 * The index of the first project of the range.
+		 */
+		private final int start;
+
+		/**
+		 * The index after the last project of the range.
+		 */
+		private final int end;
+
+		/**
+		 * The pending BTO applications of each project.
+		 */
+		private final Map<Project, List<Application>> pendingMap;
+
+		/**
+		 * The number of successful, unbooked applications of each project.
+		 */
+		private final Map<Project, Integer> promisedCounts;
+
+		/**
+		 * The ballot seed.
+		 */
+		private final long seed;
+
+		/**
+		 * The results, indexed like the projects.
+		 */
+		private final BallotResult[] results;
+
+		/**
+		 * Constructs a task drawing the ballots of a range of projects.
+		 *
+		 * @param projectList    The projects being balloted.
+		 * @param start          The index of the first project of the range.
+		 * @param end            The index after the last project of the range.
+		 * @param pendingMap     The pending BTO applications of each project.
+		 * @param promisedCounts The number of successful, unbooked applications of each project.
+		 * @param seed           The ballot seed.
+		 * @param results        The results, indexed like the projects.
+		 */
+		private BallotTask(List<Project> projectList, int start, int end, Map<Project, List<Application>> pendingMap,
+				Map<Project, Integer> promisedCounts, long seed, BallotResult[] results) {
+			this.projectList = projectList;
+			this.start = start;
+			this.end = end;
+			this.pendingMap = pendingMap;
+			this.promisedCounts = promisedCounts;
+			this.seed = seed;
+			this.results = results;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= 1) {
+				if (end > start) {
+					Project project = projectList.get(start);
+					results[start] = draw(project, pendingMap.get(project), promisedCounts.get(project), seed);
+				}
+				return;
+			}
+
+			int middle = (start + end) >>> 1;
+			invokeAll(new BallotTask(projectList, start, middle, pendingMap, promisedCounts, seed, results),
+					new BallotTask(projectList, middle, end, pendingMap, promisedCounts, seed, results));
+		}
+	}
+}
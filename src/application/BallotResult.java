@@ -0,0 +1,103 @@
+package application;
+
+import java.util.List;
+
+import project.Project;
+
+/**
+ * The outcome of the ballot of a single project, as drawn by {@link BallotMgr}.
+ * <p>
+ * The successful applications are listed in the order they were drawn; the
+ * unsuccessful ones follow on in the same ranking.
+ * </p>
+ */
+public class BallotResult {
+
+	/**
+	 * The project that was balloted.
+	 */
+	private final Project project;
+
+	/**
+	 * The seed of the ballot.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of units that were available to the ballot.
+	 */
+	private final int availableCount;
+
+	/**
+	 * The applications drawn to be successful, in ranking order.
+	 */
+	private final List<Application> successfulList;
+
+	/**
+	 * The applications not drawn, in ranking order.
+	 */
+	private final List<Application> unsuccessfulList;
+
+	/**
+	 * Constructs the outcome of a project's ballot.
+	 *
+	 * @param project          The project that was balloted.
+	 * @param seed             The seed of the ballot.
+	 * @param availableCount   The number of units that were available to the ballot.
+	 * @param successfulList   The applications drawn to be successful, in ranking order.
+	 * @param unsuccessfulList The applications not drawn, in ranking order.
+	 */
+	public BallotResult(Project project, long seed, int availableCount, List<Application> successfulList,
+			List<Application> unsuccessfulList) {
+		this.project = project;
+		this.seed = seed;
+		this.availableCount = availableCount;
+		this.successfulList = successfulList;
+		this.unsuccessfulList = unsuccessfulList;
+	}
+
+	/**
+	 * Retrieves the project that was balloted.
+	 *
+	 * @return The project.
+	 */
+	public Project getProject() {
+		return project;
+	}
+
+	/**
+	 * Retrieves the seed of the ballot, with which the same draw can be reproduced.
+	 *
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Retrieves the number of units that were available to the ballot.
+	 *
+	 * @return The project's unit count less the successful applications that were not yet booked.
+	 */
+	public int getAvailableCount() {
+		return availableCount;
+	}
+
+	/**
+	 * Retrieves the applications drawn to be successful.
+	 *
+	 * @return A {@code List} of applications, in ranking order.
+	 */
+	public List<Application> getSuccessfulList() {
+		return successfulList;
+	}
+
+	/**
+	 * Retrieves the applications not drawn.
+	 *
+	 * @return A {@code List} of applications, in ranking order.
+	 */
+	public List<Application> getUnsuccessfulList() {
+		return unsuccessfulList;
+	}
+}
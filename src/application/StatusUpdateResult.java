@@ -0,0 +1,32 @@
+package application;
+
+/**
+ * Represents the outcome of an HDB Manager's attempt to update the status of an application.
+ * This enum is used to tell the manager why an update did not take effect.
+ */
+public enum StatusUpdateResult {
+	/**
+     * The application's status was updated.
+     */
+	UPDATED,
+
+	/**
+     * The application's current status cannot change to the requested one.
+     */
+	NOT_ALLOWED,
+
+	/**
+     * The application was decided by another session while this update was being made.
+     */
+	ALREADY_DECIDED,
+
+	/**
+     * The application is a project registration, and every officer slot of its project is filled.
+     */
+	NO_FREE_SLOT,
+
+	/**
+     * The application is a project registration, and the officer already handles its project.
+     */
+	ALREADY_JOINED;
+}
@@ -0,0 +1,85 @@
+package application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import project.Project;
+
+/**
+ * The ordered waitlist of a project: the unsuccessful BTO applications that
+ * may still be offered a flat, best-ranked first.
+ * <p>
+ * Entries are only ever added at the tail and taken from the head, so both
+ * are constant time. An entry whose applicant has since moved on is not
+ * searched for and removed; it is skipped when it reaches the head (see
+ * {@link WaitlistMgr}).
+ * </p>
+ */
+public class Waitlist {
+
+	/**
+	 * The project the waitlist belongs to.
+	 */
+	private final Project project;
+
+	/**
+	 * The waiting applications, head first. Guarded by the waitlist's lock.
+	 */
+	private final Deque<Application> applications = new ArrayDeque<>();
+
+	/**
+	 * Constructs an empty waitlist.
+	 *
+	 * @param project The project the waitlist belongs to.
+	 */
+	public Waitlist(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Retrieves the project the waitlist belongs to.
+	 *
+	 * @return The project.
+	 */
+	public Project getProject() {
+		return project;
+	}
+
+	/**
+	 * Adds an application at the tail of the waitlist.
+	 *
+	 * @param application The application.
+	 */
+	public synchronized void add(Application application) {
+		applications.addLast(application);
+	}
+
+	/**
+	 * Removes and returns the application at the head of the waitlist.
+	 *
+	 * @return The application, or {@code null} if the waitlist is empty.
+	 */
+	synchronized Application poll() {
+		return applications.pollFirst();
+	}
+
+	/**
+	 * Retrieves the waiting applications.
+	 *
+	 * @return A {@code List} of the applications, head first.
+	 */
+	public synchronized List<Application> getApplicationList() {
+		return new ArrayList<>(applications);
+	}
+
+	/**
+	 * Retrieves the number of entries on the waitlist, including any that will be skipped.
+	 *
+	 * @return The number of entries.
+	 */
+	public synchronized int size() {
+		return applications.size();
+	}
+}
@@ -0,0 +1,141 @@
+package application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import misc.CheckType;
+import project.Project;
+import user.Applicant;
+
+/**
+ * Keeps the waitlist of each balloted project, and picks the next application
+ * to offer a flat to when one is given up.
+ * <p>
+ * The applications a ballot does not draw join the tail of their project's
+ * waitlist, in ranking order. When a successful application is withdrawn, or
+ * a booked flat is given up, the head of the waitlist is promoted in its
+ * place. An applicant who has applied again since joining the waitlist is
+ * no longer eligible; such entries are dropped as they reach the head, so
+ * each entry is looked at once and a promotion takes constant time on average.
+ * </p>
+ */
+public class WaitlistMgr {
+
+	/**
+	 * The waitlist of each project that has one.
+	 */
+	private static final Map<Project, Waitlist> waitlists = new ConcurrentHashMap<>();
+
+	/**
+	 * Replaces all waitlists by those loaded from the waitlist file, dropping entries that are no longer eligible.
+	 *
+	 * @param waitlistList The waitlists, or {@code null} if they could not be loaded.
+	 */
+	public void rebuild(List<Waitlist> waitlistList) {
+		waitlists.clear();
+		if (waitlistList == null) {
+			return;
+		}
+		for (Waitlist loaded : waitlistList) {
+			Waitlist waitlist = new Waitlist(loaded.getProject());
+			for (Application application : loaded.getApplicationList()) {
+				if (isEligible(application, loaded.getProject())) {
+					waitlist.add(application);
+				}
+			}
+			waitlists.put(waitlist.getProject(), waitlist);
+		}
+	}
+
+	/**
+	 * Retrieves the waitlists of all projects that have one.
+	 *
+	 * @return A {@code List} of {@link Waitlist} objects.
+	 */
+	public List<Waitlist> getWaitlistList() {
+		return new ArrayList<>(waitlists.values());
+	}
+
+	/**
+	 * Retrieves the waitlist of a project.
+	 *
+	 * @param project The project.
+	 * @return The project's {@link Waitlist}, or {@code null} if it has none.
+	 */
+	public Waitlist getWaitlist(Project project) {
+		return waitlists.get(project);
+	}
+
+	/**
+	 * Adds the applications not drawn in a project's ballot to the tail of its waitlist.
+	 *
+	 * @param project         The project.
+	 * @param applicationList The unsuccessful applications, in ranking order.
+	 */
+	public void add(Project project, List<Application> applicationList) {
+		if (applicationList.isEmpty()) {
+			return;
+		}
+		Waitlist waitlist = waitlists.computeIfAbsent(project, Waitlist::new);
+		synchronized (waitlist) {
+			for (Application application : applicationList) {
+				waitlist.add(application);
+			}
+		}
+	}
+
+	/**
+	 * Discards the waitlist of a removed project.
+	 *
+	 * @param project The removed project.
+	 */
+	public void remove(Project project) {
+		waitlists.remove(project);
+	}
+
+	/**
+	 * Takes the first eligible application off a project's waitlist, dropping the ineligible entries ahead of it.
+	 * <p>
+	 * The application is claimed as its applicant's active application (see
+	 * {@link ActiveApplicationMgr}), so an applicant who has applied again in
+	 * the meantime is passed over. The application's status is not changed;
+	 * the caller promotes it.
+	 * </p>
+	 *
+	 * @param project The project.
+	 * @return The application to promote, or {@code null} if no eligible application is waiting.
+	 */
+	public Application poll(Project project) {
+		Waitlist waitlist = waitlists.get(project);
+		if (waitlist == null) {
+			return null;
+		}
+		ActiveApplicationMgr activeMgr = new ActiveApplicationMgr();
+		Application application;
+		while ((application = waitlist.poll()) != null) {
+			if (isEligible(application, project) && activeMgr.claim(application)) {
+				return application;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether a waiting application can still be promoted.
+	 *
+	 * @param application The application.
+	 * @param project     The project whose waitlist it is on.
+	 * @return {@code true} if the application is still unsuccessful and its applicant has not moved on.
+	 */
+	private static boolean isEligible(Application application, Project project) {
+		if (!CheckType.isBTOApplication(application) || application.getProject() != project
+				|| !application.getStatus().equals(ApplicationStatus.UNSUCCESSFUL)) {
+			return false;
+		}
+		// An applicant who has applied since has a newer project application.
+		Applicant applicant = (Applicant) application.getUser();
+		return applicant.getProjectApplication() == application && !applicant.isWithdrawing();
+	}
+}
@@ -0,0 +1,178 @@
+package audit;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import application.Application;
+import application.ApplicationStatus;
+import metrics.DataFileEvent;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import misc.IFileWorker;
+
+/**
+ * Keeps the audit history of every application status transition.
+ * <p>
+ * Every submission and status transition is recorded with its time. The
+ * records are kept in memory until the data is saved, and are then appended
+ * to the audit files, so the history always agrees with the saved data. The
+ * files are never rewritten: each save only adds to their end.
+ * </p>
+ * <p>
+ * The history of a project's applications over a range of days, and the
+ * number of transitions of each kind on each of those days, are read from the
+ * blocks of records that hold the project's transitions within the range, so
+ * a query takes milliseconds however long the history is, and the history is
+ * never loaded as a whole.
+ * </p>
+ * <p>
+ * The state of a project's applications as it stood at the end of a past day
+ * is rebuilt from the latest checkpoint of the project before then, replaying
+ * only the transitions recorded since, so it does not depend on old copies of
+ * the application file.
+ * </p>
+ */
+public class AuditMgr {
+
+	/**
+	 * The audit history.
+	 */
+	private static volatile AuditStore store = new AuditStore(IFileWorker.auditFile, IFileWorker.auditIndexFile,
+			IFileWorker.auditProjectFile, IFileWorker.auditCheckpointFile);
+
+	/**
+	 * Opens the audit history from the audit files, discarding any records not yet saved.
+	 * A history that cannot be read is reported and left empty.
+	 */
+	public void open() {
+		AuditStore openedStore = new AuditStore(IFileWorker.auditFile, IFileWorker.auditIndexFile,
+				IFileWorker.auditProjectFile, IFileWorker.auditCheckpointFile);
+		DataFileEvent event = DataFileEvent.start("read", IFileWorker.auditFile);
+		try {
+			openedStore.open();
+		} catch (IOException e) {
+			System.err.println("Error reading audit file: " + e.getMessage());
+			openedStore = new AuditStore(IFileWorker.auditFile, IFileWorker.auditIndexFile, IFileWorker.auditProjectFile,
+					IFileWorker.auditCheckpointFile);
+		}
+		store = openedStore;
+		event.finish(openedStore.size());
+	}
+
+	/**
+	 * Records the submission of an application under its first status.
+	 *
+	 * @param application The application that was added to the database.
+	 */
+	public void recordApplication(Application application) {
+		if (application.getProject() != null) {
+			store.add(application.getProject().getID(), application.getID(), application.getApplicationType(), null,
+					application.getStatus());
+		}
+	}
+
+	/**
+	 * Records a status transition of an application.
+	 *
+	 * @param application The application whose status has changed.
+	 * @param oldStatus   The status before the transition.
+	 * @param newStatus   The status after the transition.
+	 */
+	public void recordStatusChange(Application application, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		if (application.getProject() != null && !oldStatus.equals(newStatus)) {
+			store.add(application.getProject().getID(), application.getID(), application.getApplicationType(), oldStatus,
+					newStatus);
+		}
+	}
+
+	/**
+	 * Appends the records made since the last save to the audit files.
+	 */
+	public void save() {
+		DataFileEvent event = DataFileEvent.start("write", IFileWorker.auditFile);
+		int recordCount = 0;
+		try {
+			recordCount = store.flush();
+		} catch (IOException e) {
+			System.err.println("Error writing audit file: " + e.getMessage());
+		}
+		event.finish(recordCount);
+	}
+
+	/**
+	 * Retrieves the status transitions of a project's applications over a range of days.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The first day of the range.
+	 * @param to        The last day of the range.
+	 * @return A {@code List} of the transitions, earliest first.
+	 */
+	public List<AuditRecord> getHistory(String projectID, LocalDate from, LocalDate to) {
+		long startTime = System.nanoTime();
+		List<AuditRecord> recordList = new ArrayList<>();
+		try {
+			store.scan(projectID, toTimestamp(from), toTimestamp(to.plusDays(1)), true, recordList::add);
+		} catch (IOException e) {
+			System.err.println("Error reading audit file: " + e.getMessage());
+		} finally {
+			MetricsMgr.record(Operation.QUERY_AUDIT, startTime);
+		}
+		return recordList;
+	}
+
+	/**
+	 * Counts the status transitions of each kind of a project's applications on each day of a range.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The first day of the range.
+	 * @param to        The last day of the range.
+	 * @return The {@link AuditSummary}.
+	 */
+	public AuditSummary getSummary(String projectID, LocalDate from, LocalDate to) {
+		long startTime = System.nanoTime();
+		AuditSummary summary = new AuditSummary(projectID, from, to);
+		try {
+			store.scan(projectID, toTimestamp(from), toTimestamp(to.plusDays(1)), false,
+					record -> summary.add(record.getDateTime().toLocalDate(), record.getApplicationType(),
+							record.getOldStatus(), record.getNewStatus()));
+		} catch (IOException e) {
+			System.err.println("Error reading audit file: " + e.getMessage());
+		} finally {
+			MetricsMgr.record(Operation.QUERY_AUDIT, startTime);
+		}
+		return summary;
+	}
+
+	/**
+	 * Rebuilds the state of a project's applications as it stood at the end of a day.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param day       The day.
+	 * @return The {@link AuditState}.
+	 */
+	public AuditState getState(String projectID, LocalDate day) {
+		long startTime = System.nanoTime();
+		List<AuditRecord> recordList = new ArrayList<>();
+		try {
+			recordList.addAll(store.stateAt(projectID, toTimestamp(day.plusDays(1))).values());
+		} catch (IOException e) {
+			System.err.println("Error reading audit file: " + e.getMessage());
+		} finally {
+			MetricsMgr.record(Operation.QUERY_AUDIT, startTime);
+		}
+		return new AuditState(projectID, day, recordList);
+	}
+
+	/**
+	 * Converts the start of a day in the system's time zone to a time.
+	 *
+	 * @param day The day.
+	 * @return The time at which the day starts, in milliseconds since the epoch.
+	 */
+	private static long toTimestamp(LocalDate day) {
+		return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
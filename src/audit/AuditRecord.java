@@ -0,0 +1,131 @@
+package audit;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+
+/**
+ * A status transition of an application, as kept in the audit history.
+ * <p>
+ * The submission of an application is recorded as a transition with no old
+ * status into its first status.
+ * </p>
+ */
+public class AuditRecord {
+
+	/**
+	 * The time of the transition, in milliseconds since the epoch.
+	 */
+	private final long timestamp;
+
+	/**
+	 * The ID of the application's project.
+	 */
+	private final String projectID;
+
+	/**
+	 * The ID of the application.
+	 */
+	private final String applicationID;
+
+	/**
+	 * The type of the application.
+	 */
+	private final ApplicationType applicationType;
+
+	/**
+	 * The status before the transition, or {@code null} if the application was submitted.
+	 */
+	private final ApplicationStatus oldStatus;
+
+	/**
+	 * The status after the transition.
+	 */
+	private final ApplicationStatus newStatus;
+
+	/**
+	 * Constructs an audit record.
+	 *
+	 * @param timestamp       The time of the transition, in milliseconds since the epoch.
+	 * @param projectID       The ID of the application's project.
+	 * @param applicationID   The ID of the application.
+	 * @param applicationType The type of the application.
+	 * @param oldStatus       The status before the transition, or {@code null} if the application was submitted.
+	 * @param newStatus       The status after the transition.
+	 */
+	public AuditRecord(long timestamp, String projectID, String applicationID, ApplicationType applicationType,
+			ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		this.timestamp = timestamp;
+		this.projectID = projectID;
+		this.applicationID = applicationID;
+		this.applicationType = applicationType;
+		this.oldStatus = oldStatus;
+		this.newStatus = newStatus;
+	}
+
+	/**
+	 * Retrieves the time of the transition.
+	 *
+	 * @return The time, in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves the time of the transition in the system's time zone.
+	 *
+	 * @return The local date and time of the transition.
+	 */
+	public LocalDateTime getDateTime() {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+	}
+
+	/**
+	 * Retrieves the ID of the application's project.
+	 *
+	 * @return The project ID.
+	 */
+	public String getProjectID() {
+		return projectID;
+	}
+
+	/**
+	 * Retrieves the ID of the application.
+	 *
+	 * @return The application ID.
+	 */
+	public String getApplicationID() {
+		return applicationID;
+	}
+
+	/**
+	 * Retrieves the type of the application.
+	 *
+	 * @return The application type.
+	 */
+	public ApplicationType getApplicationType() {
+		return applicationType;
+	}
+
+	/**
+	 * Retrieves the status before the transition.
+	 *
+	 * @return The old status, or {@code null} if the application was submitted.
+	 */
+	public ApplicationStatus getOldStatus() {
+		return oldStatus;
+	}
+
+	/**
+	 * Retrieves the status after the transition.
+	 *
+	 * @return The new status.
+	 */
+	public ApplicationStatus getNewStatus() {
+		return newStatus;
+	}
+}
@@ -0,0 +1,91 @@
+package audit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+
+/**
+ * The state of a project's applications as it stood at the end of a day, rebuilt from the audit history.
+ * <p>
+ * Each application submitted by then is represented by its latest
+ * transition, which gives its status and the time it moved into it.
+ * </p>
+ */
+public class AuditState {
+
+	/**
+	 * The ID of the project.
+	 */
+	private final String projectID;
+
+	/**
+	 * The day at whose end the state is taken.
+	 */
+	private final LocalDate day;
+
+	/**
+	 * The latest transition of each application, in the order the applications were submitted.
+	 */
+	private final List<AuditRecord> recordList;
+
+	/**
+	 * Constructs a state.
+	 *
+	 * @param projectID  The ID of the project.
+	 * @param day        The day at whose end the state is taken.
+	 * @param recordList The latest transition of each application, in the order the applications were submitted.
+	 */
+	public AuditState(String projectID, LocalDate day, List<AuditRecord> recordList) {
+		this.projectID = projectID;
+		this.day = day;
+		this.recordList = new ArrayList<>(recordList);
+	}
+
+	/**
+	 * Retrieves the ID of the project.
+	 *
+	 * @return The project ID.
+	 */
+	public String getProjectID() {
+		return projectID;
+	}
+
+	/**
+	 * Retrieves the day at whose end the state is taken.
+	 *
+	 * @return The day.
+	 */
+	public LocalDate getDay() {
+		return day;
+	}
+
+	/**
+	 * Retrieves the latest transition of each application.
+	 *
+	 * @return An unmodifiable {@code List} of the transitions, in the order the applications were submitted.
+	 */
+	public List<AuditRecord> getRecords() {
+		return Collections.unmodifiableList(recordList);
+	}
+
+	/**
+	 * Counts the applications of a type that were in a status.
+	 *
+	 * @param applicationType The type of the applications.
+	 * @param status          The status.
+	 * @return The number of applications.
+	 */
+	public int getCount(ApplicationType applicationType, ApplicationStatus status) {
+		int count = 0;
+		for (AuditRecord record : recordList) {
+			if (record.getApplicationType() == applicationType && record.getNewStatus() == status) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
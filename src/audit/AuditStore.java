@@ -0,0 +1,1128 @@
+package audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+
+/**
+ * The audit history on disk: an append-only file of binary records, in order of time.
+ * <p>
+ * A record holds the time of a transition, its project as an index into a
+ * file of project IDs, the application type, the old and new statuses, and
+ * the application ID. A generated application ID is packed into 16 bytes, so
+ * most records take 32 bytes; other IDs are stored as text.
+ * </p>
+ * <p>
+ * Records are grouped into blocks of {@link #BLOCK_SIZE} records. Once a
+ * block is full, an entry is appended to the index file with the block's
+ * position in the record file, its first and last times and the projects it
+ * holds records for, with the number of records of each. Only the index is
+ * held in memory: for each project, the blocks holding its records, in order.
+ * A query for a project and a time range finds the first block by binary
+ * search and reads only that project's blocks within the range, so its cost
+ * does not grow with the size of the history.
+ * </p>
+ * <p>
+ * The state of a project's applications at a past time is rebuilt from
+ * checkpoints: snapshots of the latest record of each of the project's
+ * applications, taken as the record file grows and appended to the
+ * checkpoint file. The latest checkpoint before the time is read, and only
+ * the project's records between the checkpoint and the time are replayed onto
+ * it. A checkpoint of a project is taken once the project has gained at least
+ * {@link #MIN_CHECKPOINT_RECORDS} records since its last one, and at least as
+ * many as that checkpoint holds applications. The checkpoints therefore take
+ * no more space than the records themselves, and a replay covers no more
+ * records than the checkpoint it starts from, or the minimum.
+ * </p>
+ * <p>
+ * Records that have not yet been given an index entry, because their block
+ * is not full or the index entry was never written, are found by reading the
+ * end of the record file when the store is opened. A record cut short by an
+ * interrupted write is discarded, as are checkpoints cut short or taken
+ * after the end of the records.
+ * </p>
+ */
+class AuditStore {
+
+	/**
+	 * The number of records in a block.
+	 */
+	static final int BLOCK_SIZE = 1024;
+
+	/**
+	 * The size of an index entry before its list of projects and their record counts.
+	 */
+	private static final int INDEX_ENTRY_SIZE = 36;
+
+	/**
+	 * The size of a checkpoint before its applications.
+	 */
+	private static final int CHECKPOINT_HEADER_SIZE = 36;
+
+	/**
+	 * The least number of records a project gains before another checkpoint of it is taken.
+	 */
+	static final int MIN_CHECKPOINT_RECORDS = BLOCK_SIZE;
+
+	/**
+	 * Marks an application ID packed into two longs.
+	 */
+	private static final byte PACKED_ID = 0;
+
+	/**
+	 * Marks an application ID stored as UTF-8 text, preceded by its length.
+	 */
+	private static final byte TEXT_ID = 1;
+
+	/**
+	 * The form of the application IDs generated by {@link misc.IDCreator}, which hold 31 hexadecimal digits.
+	 */
+	private static final Pattern PACKABLE_ID = Pattern.compile("[0-9a-f]{7}-APPL-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+	/**
+	 * The lowercase hexadecimal digits, by value.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * The path of the record file.
+	 */
+	private final String recordFile;
+
+	/**
+	 * The path of the block index file.
+	 */
+	private final String indexFile;
+
+	/**
+	 * The path of the project ID file.
+	 */
+	private final String projectFile;
+
+	/**
+	 * The path of the checkpoint file.
+	 */
+	private final String checkpointFile;
+
+	/**
+	 * The length of the valid part of the checkpoint file.
+	 */
+	private long checkpointFileLength;
+
+	/**
+	 * The project IDs, in the order they were first recorded.
+	 */
+	private final List<String> projectIDs = new ArrayList<>();
+
+	/**
+	 * The index of each project ID in {@link #projectIDs}.
+	 */
+	private final Map<String, Integer> projectIndexes = new HashMap<>();
+
+	/**
+	 * The number of project IDs already written to the project ID file.
+	 */
+	private int savedProjectCount;
+
+	/**
+	 * All blocks in order; the last one may not be full yet.
+	 */
+	private final List<Block> blocks = new ArrayList<>();
+
+	/**
+	 * The blocks, record count and checkpoints of each project, by project index.
+	 */
+	private final List<ProjectHistory> projectHistories = new ArrayList<>();
+
+	/**
+	 * The number of records in the record file.
+	 */
+	private long recordCount;
+
+	/**
+	 * The time of the latest record, saved or not.
+	 */
+	private long lastTimestamp = Long.MIN_VALUE;
+
+	/**
+	 * The records not yet appended to the record file, in order of time.
+	 */
+	private final List<AuditRecord> pendingList = new ArrayList<>();
+
+	/**
+	 * Constructs a store over a set of files. Nothing is read until the store is opened.
+	 *
+	 * @param recordFile     The path of the record file.
+	 * @param indexFile      The path of the block index file.
+	 * @param projectFile    The path of the project ID file.
+	 * @param checkpointFile The path of the checkpoint file.
+	 */
+	AuditStore(String recordFile, String indexFile, String projectFile, String checkpointFile) {
+		this.recordFile = recordFile;
+		this.indexFile = indexFile;
+		this.projectFile = projectFile;
+		this.checkpointFile = checkpointFile;
+	}
+
+	/**
+	 * Reads the project IDs, the block index and the records at the end of the record file that are not
+	 * indexed yet, and finds the checkpoints. Missing files mean an empty history.
+	 *
+	 * @throws IOException If a file cannot be read, or repaired after an interrupted write.
+	 */
+	synchronized void open() throws IOException {
+		if (new File(projectFile).exists()) {
+			try (BufferedReader reader = new BufferedReader(new FileReader(projectFile))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (!line.trim().isEmpty()) {
+						internProject(line.trim());
+					}
+				}
+			}
+		}
+		savedProjectCount = projectIDs.size();
+		long recordFileLength = new File(recordFile).length();
+
+		if (new File(indexFile).exists()) {
+			long indexLength = readIndex(recordFileLength);
+			if (indexLength < new File(indexFile).length()) {
+				try (RandomAccessFile file = new RandomAccessFile(indexFile, "rw")) {
+					file.setLength(indexLength);
+				}
+			}
+		}
+
+		long position = blocks.isEmpty() ? 0 : blocks.get(blocks.size() - 1).getEnd();
+		if (position < recordFileLength) {
+			readUnindexed(position, recordFileLength);
+		}
+		lastTimestamp = blocks.isEmpty() ? Long.MIN_VALUE : blocks.get(blocks.size() - 1).lastTimestamp;
+
+		if (new File(checkpointFile).exists()) {
+			checkpointFileLength = readCheckpoints();
+			if (checkpointFileLength < new File(checkpointFile).length()) {
+				try (RandomAccessFile file = new RandomAccessFile(checkpointFile, "rw")) {
+					file.setLength(checkpointFileLength);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a transition to the records waiting to be appended, timed now.
+	 * <p>
+	 * The time never goes back, even if the clock does, so the records stay in order of time.
+	 * </p>
+	 *
+	 * @param projectID       The ID of the application's project.
+	 * @param applicationID   The ID of the application.
+	 * @param applicationType The type of the application.
+	 * @param oldStatus       The status before the transition, or {@code null} if the application was submitted.
+	 * @param newStatus       The status after the transition.
+	 */
+	synchronized void add(String projectID, String applicationID, ApplicationType applicationType,
+			ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		lastTimestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+		pendingList.add(new AuditRecord(lastTimestamp, projectID, applicationID, applicationType, oldStatus, newStatus));
+	}
+
+	/**
+	 * Appends the waiting records to the record file, indexes the blocks they fill, and takes a checkpoint of
+	 * each of their projects that is due one.
+	 * <p>
+	 * New project IDs are written first, then the records, the index entries
+	 * and the checkpoints, so that an interrupted append never leaves a record,
+	 * an entry or a checkpoint that refers to something missing.
+	 * </p>
+	 *
+	 * @return The number of records appended.
+	 * @throws IOException If a file cannot be written.
+	 */
+	synchronized int flush() throws IOException {
+		if (pendingList.isEmpty()) {
+			return 0;
+		}
+
+		List<Integer> recordProjects = new ArrayList<>(pendingList.size());
+		for (AuditRecord record : pendingList) {
+			recordProjects.add(internProject(record.getProjectID()));
+		}
+		if (savedProjectCount < projectIDs.size()) {
+			try (BufferedWriter writer = new BufferedWriter(new FileWriter(projectFile, true))) {
+				for (int i = savedProjectCount; i < projectIDs.size(); i++) {
+					writer.write(projectIDs.get(i));
+					writer.newLine();
+				}
+			}
+			savedProjectCount = projectIDs.size();
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		int[] recordLengths = new int[pendingList.size()];
+		for (int i = 0; i < pendingList.size(); i++) {
+			int start = out.size();
+			encode(out, pendingList.get(i), recordProjects.get(i));
+			recordLengths[i] = out.size() - start;
+		}
+		try (FileOutputStream file = new FileOutputStream(recordFile, true)) {
+			bytes.writeTo(file);
+		}
+
+		ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+		DataOutputStream indexOut = new DataOutputStream(indexBytes);
+		for (int i = 0; i < pendingList.size(); i++) {
+			addToIndex(pendingList.get(i).getTimestamp(), recordProjects.get(i), recordLengths[i], indexOut);
+		}
+		int appendedCount = pendingList.size();
+		pendingList.clear();
+
+		// Should this write fail, the blocks are indexed again from the record file when the store is next opened.
+		if (indexBytes.size() > 0) {
+			try (FileOutputStream file = new FileOutputStream(indexFile, true)) {
+				indexBytes.writeTo(file);
+			}
+		}
+		writeCheckpoints(recordProjects);
+		return appendedCount;
+	}
+
+	/**
+	 * Passes each record of a project within a time range to a consumer, in order of time,
+	 * including the records not yet appended.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The start of the range, in milliseconds since the epoch, inclusive.
+	 * @param to        The end of the range, in milliseconds since the epoch, exclusive.
+	 * @param withIDs   Whether the records need their application IDs; if not, the IDs are {@code null}.
+	 * @param consumer  Receives the records.
+	 * @throws IOException If the record file cannot be read.
+	 */
+	synchronized void scan(String projectID, long from, long to, boolean withIDs, Consumer<AuditRecord> consumer) throws IOException {
+		Integer projectIndex = projectIndexes.get(projectID);
+		if (projectIndex != null && projectIndex < projectHistories.size()) {
+			IntList blockList = projectHistories.get(projectIndex).blocks;
+			scanBlocks(projectIndex, findFirstBlock(blockList, from), 0, from, to, withIDs, consumer);
+		}
+
+		for (AuditRecord record : pendingList) {
+			if (record.getProjectID().equals(projectID) && record.getTimestamp() >= from && record.getTimestamp() < to) {
+				consumer.accept(record);
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the state of a project's applications at a time: the latest record of each application before
+	 * the time, including the records not yet appended.
+	 * <p>
+	 * The state starts from the project's latest checkpoint before the time,
+	 * and only the records that follow the checkpoint are replayed.
+	 * </p>
+	 *
+	 * @param projectID The ID of the project.
+	 * @param to        The time, in milliseconds since the epoch; records at or after it are left out.
+	 * @return The latest record of each application, by application ID, in the order the applications were
+	 *         submitted.
+	 * @throws IOException If the record or checkpoint file cannot be read.
+	 */
+	synchronized Map<String, AuditRecord> stateAt(String projectID, long to) throws IOException {
+		Map<String, AuditRecord> state = new LinkedHashMap<>();
+		Integer projectIndex = projectIndexes.get(projectID);
+		if (projectIndex != null && projectIndex < projectHistories.size()) {
+			replay(projectIndex, to, state);
+		}
+
+		for (AuditRecord record : pendingList) {
+			if (record.getProjectID().equals(projectID) && record.getTimestamp() < to) {
+				state.put(record.getApplicationID(), record);
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Retrieves the number of records in the store, saved or not.
+	 *
+	 * @return The number of records.
+	 */
+	synchronized long size() {
+		return recordCount + pendingList.size();
+	}
+
+	/**
+	 * Rebuilds the state of a project's applications at a time from the appended records, starting from the
+	 * project's latest checkpoint before the time.
+	 *
+	 * @param projectIndex The index of the project.
+	 * @param to           The time, exclusive.
+	 * @param state        Receives the latest record of each application, by application ID.
+	 * @throws IOException If the record or checkpoint file cannot be read.
+	 */
+	private void replay(int projectIndex, long to, Map<String, AuditRecord> state) throws IOException {
+		ProjectHistory history = projectHistories.get(projectIndex);
+		Checkpoint checkpoint = history.findCheckpoint(to);
+		long position = 0;
+		if (checkpoint != null) {
+			readCheckpoint(checkpoint, projectIDs.get(projectIndex), state);
+			position = checkpoint.recordEnd;
+		}
+		scanBlocks(projectIndex, findBlockAfter(history.blocks, position), position, Long.MIN_VALUE, to, true,
+				record -> state.put(record.getApplicationID(), record));
+	}
+
+	/**
+	 * Passes the records of a project within a time range to a consumer, in order of time, reading the project's
+	 * blocks from one of them on.
+	 *
+	 * @param projectIndex The index of the project.
+	 * @param first        The position in the project's block list of the first block to read.
+	 * @param fromPosition The position in the record file of the first record to pass on.
+	 * @param from         The start of the range, inclusive.
+	 * @param to           The end of the range, exclusive.
+	 * @param withIDs      Whether to decode the application IDs.
+	 * @param consumer     Receives the records.
+	 * @throws IOException If the record file cannot be read.
+	 */
+	private void scanBlocks(int projectIndex, int first, long fromPosition, long from, long to, boolean withIDs,
+			Consumer<AuditRecord> consumer) throws IOException {
+		IntList blockList = projectHistories.get(projectIndex).blocks;
+		if (first >= blockList.size || blocks.get(blockList.values[first]).firstTimestamp >= to) {
+			return;
+		}
+		try (RandomAccessFile file = new RandomAccessFile(recordFile, "r")) {
+			FileChannel channel = file.getChannel();
+			ByteBuffer buffer = null;
+			for (int i = first; i < blockList.size; i++) {
+				Block block = blocks.get(blockList.values[i]);
+				if (block.firstTimestamp >= to) {
+					break;
+				}
+				if (buffer == null || buffer.capacity() < block.length) {
+					buffer = ByteBuffer.allocate(Math.max(block.length, 64 * BLOCK_SIZE));
+				}
+				readFully(channel, buffer, block.offset, block.length);
+				scanBlock(buffer, (int) Math.max(0, fromPosition - block.offset), projectIndex, from, to, withIDs,
+						consumer);
+			}
+		}
+	}
+
+	/**
+	 * Passes the records of a project within a time range in a block to a consumer.
+	 *
+	 * @param buffer       The block's bytes.
+	 * @param fromPosition The position in the block of the first record to pass on.
+	 * @param projectIndex The index of the project.
+	 * @param from         The start of the range, inclusive.
+	 * @param to           The end of the range, exclusive.
+	 * @param withIDs      Whether to decode the application IDs.
+	 * @param consumer     Receives the records.
+	 */
+	private void scanBlock(ByteBuffer buffer, int fromPosition, int projectIndex, long from, long to, boolean withIDs,
+			Consumer<AuditRecord> consumer) {
+		ApplicationType[] types = ApplicationType.values();
+		ApplicationStatus[] statuses = ApplicationStatus.values();
+		while (buffer.hasRemaining()) {
+			int start = buffer.position();
+			long timestamp = buffer.getLong();
+			int project = buffer.getInt();
+			byte type = buffer.get(), oldStatus = buffer.get(), newStatus = buffer.get();
+			if (project != projectIndex || timestamp < from || timestamp >= to || start < fromPosition) {
+				skipID(buffer);
+				continue;
+			}
+			String applicationID = null;
+			if (withIDs) {
+				applicationID = decodeID(buffer);
+			} else {
+				skipID(buffer);
+			}
+			consumer.accept(new AuditRecord(timestamp, projectIDs.get(project), applicationID, types[type],
+					(oldStatus < 0) ? null : statuses[oldStatus], statuses[newStatus]));
+		}
+	}
+
+	/**
+	 * Finds the first of a project's blocks that may hold records at or after a time.
+	 *
+	 * @param blockList The project's blocks, in order.
+	 * @param from      The time.
+	 * @return The position in the list of the first block whose last record is at or after the time,
+	 *         or the size of the list if there is none.
+	 */
+	private int findFirstBlock(IntList blockList, long from) {
+		int low = 0, high = blockList.size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (blocks.get(blockList.values[middle]).lastTimestamp < from) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the first of a project's blocks that holds records at or after a position in the record file.
+	 *
+	 * @param blockList The project's blocks, in order.
+	 * @param position  The position.
+	 * @return The position in the list of the first block that ends after the position,
+	 *         or the size of the list if there is none.
+	 */
+	private int findBlockAfter(IntList blockList, long position) {
+		int low = 0, high = blockList.size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (blocks.get(blockList.values[middle]).getEnd() <= position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Reads the block index, keeping the entries that agree with the record and project ID files.
+	 *
+	 * @param recordFileLength The length of the record file.
+	 * @return The length of the valid part of the index file.
+	 * @throws IOException If the index file cannot be read.
+	 */
+	private long readIndex(long recordFileLength) throws IOException {
+		long validLength = 0;
+		try (FileChannel channel = FileChannel.open(Paths.get(indexFile), StandardOpenOption.READ)) {
+			// Entries are read through a buffer refilled as it empties; a full block has at most BLOCK_SIZE projects.
+			ByteBuffer in = ByteBuffer.allocate(Math.max(1 << 20, INDEX_ENTRY_SIZE + 8 * BLOCK_SIZE));
+			in.flip();
+			while (fill(channel, in, INDEX_ENTRY_SIZE)) {
+				long offset = in.getLong();
+				int length = in.getInt(), count = in.getInt();
+				long firstTimestamp = in.getLong(), lastTimestamp = in.getLong();
+				int projectCount = in.getInt();
+				if (projectCount < 0 || projectCount > BLOCK_SIZE || !fill(channel, in, 8 * projectCount)) {
+					break;
+				}
+				int[] projects = new int[projectCount], projectRecordCounts = new int[projectCount];
+				boolean knownProjects = true;
+				int countedRecords = 0;
+				for (int i = 0; i < projectCount; i++) {
+					projects[i] = in.getInt();
+					projectRecordCounts[i] = in.getInt();
+					knownProjects &= projects[i] >= 0 && projects[i] < projectIDs.size() && projectRecordCounts[i] > 0;
+					countedRecords += projectRecordCounts[i];
+				}
+
+				long expectedOffset = blocks.isEmpty() ? 0 : blocks.get(blocks.size() - 1).getEnd();
+				if (offset != expectedOffset || offset + length > recordFileLength || count != BLOCK_SIZE || !knownProjects
+						|| countedRecords != count) {
+					break;
+				}
+				Block block = new Block(offset);
+				block.length = length;
+				block.recordCount = count;
+				block.firstTimestamp = firstTimestamp;
+				block.lastTimestamp = lastTimestamp;
+				int blockNumber = blocks.size();
+				blocks.add(block);
+				for (int i = 0; i < projectCount; i++) {
+					addProjectBlock(projects[i], blockNumber);
+					projectHistories.get(projects[i]).recordCount += projectRecordCounts[i];
+				}
+				recordCount += count;
+				validLength += INDEX_ENTRY_SIZE + 8L * projectCount;
+			}
+		}
+		return validLength;
+	}
+
+	/**
+	 * Makes sure a buffer being read from a file holds enough bytes, reading more if needed.
+	 *
+	 * @param channel The file.
+	 * @param buffer  The buffer, ready to be read from.
+	 * @param needed  The number of bytes needed.
+	 * @return {@code true} if the buffer now holds the bytes, {@code false} if the file ends first.
+	 * @throws IOException If the file cannot be read.
+	 */
+	private static boolean fill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+		if (buffer.remaining() >= needed) {
+			return true;
+		}
+		buffer.compact();
+		while (buffer.position() < needed && channel.read(buffer) >= 0) {
+			// Read until enough bytes are held or the file ends.
+		}
+		buffer.flip();
+		return buffer.remaining() >= needed;
+	}
+
+	/**
+	 * Reads the records that follow the last indexed block, indexing any blocks they fill.
+	 * A record cut short at the end of the file is removed.
+	 *
+	 * @param position         The position of the first record not indexed.
+	 * @param recordFileLength The length of the record file.
+	 * @throws IOException If the record file cannot be read or repaired.
+	 */
+	private void readUnindexed(long position, long recordFileLength) throws IOException {
+		ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+		DataOutputStream indexOut = new DataOutputStream(indexBytes);
+		long validEnd = position;
+
+		try (RandomAccessFile file = new RandomAccessFile(recordFile, "rw")) {
+			ByteBuffer buffer = ByteBuffer.allocate((int) (recordFileLength - position));
+			FileChannel channel = file.getChannel();
+			while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+				// Read to the end of the file.
+			}
+			buffer.flip();
+
+			while (buffer.hasRemaining()) {
+				int start = buffer.position();
+				long timestamp;
+				int project;
+				try {
+					timestamp = buffer.getLong();
+					project = buffer.getInt();
+					buffer.position(buffer.position() + 3);
+					skipID(buffer);
+				} catch (BufferUnderflowException | IllegalArgumentException e) {
+					break;
+				}
+				if (project < 0 || project >= projectIDs.size()) {
+					break;
+				}
+				addToIndex(timestamp, project, buffer.position() - start, indexOut);
+				validEnd = position + buffer.position();
+			}
+			if (validEnd < recordFileLength) {
+				file.setLength(validEnd);
+			}
+		}
+		if (indexBytes.size() > 0) {
+			try (FileOutputStream file = new FileOutputStream(indexFile, true)) {
+				indexBytes.writeTo(file);
+			}
+		}
+	}
+
+	/**
+	 * Adds a record appended to the record file to the last block, writing the block's index entry once it is full.
+	 *
+	 * @param timestamp    The time of the record.
+	 * @param project      The index of the record's project.
+	 * @param length       The length of the record in bytes.
+	 * @param indexOut     Receives the index entry of a block that is filled.
+	 * @throws IOException If the index entry cannot be written.
+	 */
+	private void addToIndex(long timestamp, int project, int length, DataOutputStream indexOut) throws IOException {
+		Block block = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+		if (block == null || block.recordCount == BLOCK_SIZE) {
+			block = new Block((block == null) ? 0 : block.getEnd());
+			block.firstTimestamp = timestamp;
+			block.projects = new IntList();
+			blocks.add(block);
+		}
+		int blockNumber = blocks.size() - 1;
+		ProjectHistory history = history(project);
+		if (addProjectBlock(project, blockNumber)) {
+			block.projects.add(project);
+			history.lastBlockRecordCount = 0;
+		}
+		history.lastBlockRecordCount++;
+		history.recordCount++;
+		block.length += length;
+		block.recordCount++;
+		block.lastTimestamp = timestamp;
+		recordCount++;
+
+		if (block.recordCount == BLOCK_SIZE) {
+			indexOut.writeLong(block.offset);
+			indexOut.writeInt(block.length);
+			indexOut.writeInt(block.recordCount);
+			indexOut.writeLong(block.firstTimestamp);
+			indexOut.writeLong(block.lastTimestamp);
+			indexOut.writeInt(block.projects.size);
+			for (int i = 0; i < block.projects.size; i++) {
+				// The block is the last of each of its projects, so their counts for the block are still at hand.
+				indexOut.writeInt(block.projects.values[i]);
+				indexOut.writeInt(projectHistories.get(block.projects.values[i]).lastBlockRecordCount);
+			}
+			block.projects = null;
+		}
+	}
+
+	/**
+	 * Notes that a block holds records of a project.
+	 *
+	 * @param project     The index of the project.
+	 * @param blockNumber The number of the block.
+	 * @return {@code true} if the block was not yet noted for the project.
+	 */
+	private boolean addProjectBlock(int project, int blockNumber) {
+		IntList blockList = history(project).blocks;
+		if (blockList.size > 0 && blockList.values[blockList.size - 1] == blockNumber) {
+			return false;
+		}
+		blockList.add(blockNumber);
+		return true;
+	}
+
+	/**
+	 * Retrieves the history of a project, creating it, and those of the projects before it, if needed.
+	 *
+	 * @param project The index of the project.
+	 * @return The project's history.
+	 */
+	private ProjectHistory history(int project) {
+		while (projectHistories.size() <= project) {
+			projectHistories.add(new ProjectHistory());
+		}
+		return projectHistories.get(project);
+	}
+
+	/**
+	 * Takes a checkpoint of each of a set of projects that has gained enough records since its last one, and
+	 * appends them to the checkpoint file.
+	 *
+	 * @param projects The indexes of the projects, possibly repeated.
+	 * @throws IOException If the record file cannot be read, or the checkpoint file written.
+	 */
+	private void writeCheckpoints(List<Integer> projects) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		List<Integer> checkpointProjects = new ArrayList<>();
+		List<Checkpoint> checkpoints = new ArrayList<>();
+		long recordEnd = blocks.get(blocks.size() - 1).getEnd();
+
+		for (int project : projects) {
+			ProjectHistory history = projectHistories.get(project);
+			Checkpoint last = history.checkpoints.isEmpty() ? null
+					: history.checkpoints.get(history.checkpoints.size() - 1);
+			if (checkpointProjects.contains(project) || history.recordCount - ((last == null) ? 0 : last.recordCount)
+					< Math.max(MIN_CHECKPOINT_RECORDS, (last == null) ? 0 : last.applicationCount)) {
+				continue;
+			}
+
+			Map<String, AuditRecord> state = new LinkedHashMap<>();
+			replay(project, Long.MAX_VALUE, state);
+			ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+			DataOutputStream body = new DataOutputStream(bodyBytes);
+			for (AuditRecord record : state.values()) {
+				body.writeLong(record.getTimestamp());
+				body.writeByte(record.getApplicationType().ordinal());
+				body.writeByte((record.getOldStatus() == null) ? -1 : record.getOldStatus().ordinal());
+				body.writeByte(record.getNewStatus().ordinal());
+				encodeID(body, record.getApplicationID());
+			}
+
+			// The last block of the project bounds the time of its latest record.
+			Checkpoint checkpoint = new Checkpoint(checkpointFileLength + out.size(), recordEnd,
+					blocks.get(history.blocks.values[history.blocks.size - 1]).lastTimestamp, history.recordCount,
+					state.size(), body.size());
+			out.writeInt(project);
+			out.writeLong(checkpoint.recordEnd);
+			out.writeLong(checkpoint.timestamp);
+			out.writeLong(checkpoint.recordCount);
+			out.writeInt(checkpoint.applicationCount);
+			out.writeInt(checkpoint.length);
+			bodyBytes.writeTo(out);
+			checkpointProjects.add(project);
+			checkpoints.add(checkpoint);
+		}
+		if (checkpoints.isEmpty()) {
+			return;
+		}
+
+		try (FileOutputStream file = new FileOutputStream(checkpointFile, true)) {
+			bytes.writeTo(file);
+		}
+		checkpointFileLength += bytes.size();
+		for (int i = 0; i < checkpoints.size(); i++) {
+			projectHistories.get(checkpointProjects.get(i)).checkpoints.add(checkpoints.get(i));
+		}
+	}
+
+	/**
+	 * Reads the headers of the checkpoints, keeping those that agree with the records.
+	 *
+	 * @return The length of the valid part of the checkpoint file.
+	 * @throws IOException If the checkpoint file cannot be read.
+	 */
+	private long readCheckpoints() throws IOException {
+		long validLength = 0;
+		long recordEnd = blocks.isEmpty() ? 0 : blocks.get(blocks.size() - 1).getEnd();
+		try (FileChannel channel = FileChannel.open(Paths.get(checkpointFile), StandardOpenOption.READ)) {
+			long fileLength = channel.size();
+			ByteBuffer header = ByteBuffer.allocate(CHECKPOINT_HEADER_SIZE);
+			while (validLength + CHECKPOINT_HEADER_SIZE <= fileLength) {
+				readFully(channel, header, validLength, CHECKPOINT_HEADER_SIZE);
+				int project = header.getInt();
+				long checkpointRecordEnd = header.getLong(), timestamp = header.getLong(), projectRecordCount = header.getLong();
+				int applicationCount = header.getInt(), length = header.getInt();
+				if (project < 0 || project >= projectHistories.size() || applicationCount < 0 || length < 0
+						|| validLength + CHECKPOINT_HEADER_SIZE + length > fileLength || checkpointRecordEnd > recordEnd) {
+					break;
+				}
+				ProjectHistory history = projectHistories.get(project);
+				Checkpoint last = history.checkpoints.isEmpty() ? null
+						: history.checkpoints.get(history.checkpoints.size() - 1);
+				if (projectRecordCount > history.recordCount
+						|| (last != null && (checkpointRecordEnd <= last.recordEnd || projectRecordCount < last.recordCount))) {
+					break;
+				}
+				history.checkpoints.add(new Checkpoint(validLength, checkpointRecordEnd, timestamp, projectRecordCount,
+						applicationCount, length));
+				validLength += CHECKPOINT_HEADER_SIZE + length;
+			}
+		}
+		return validLength;
+	}
+
+	/**
+	 * Reads the applications of a checkpoint.
+	 *
+	 * @param checkpoint The checkpoint.
+	 * @param projectID  The ID of the checkpoint's project.
+	 * @param state      Receives the latest record of each application, by application ID.
+	 * @throws IOException If the checkpoint file cannot be read.
+	 */
+	private void readCheckpoint(Checkpoint checkpoint, String projectID, Map<String, AuditRecord> state) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(checkpoint.length);
+		try (FileChannel channel = FileChannel.open(Paths.get(checkpointFile), StandardOpenOption.READ)) {
+			readFully(channel, buffer, checkpoint.position + CHECKPOINT_HEADER_SIZE, checkpoint.length);
+		}
+		ApplicationType[] types = ApplicationType.values();
+		ApplicationStatus[] statuses = ApplicationStatus.values();
+		for (int i = 0; i < checkpoint.applicationCount; i++) {
+			long timestamp = buffer.getLong();
+			byte type = buffer.get(), oldStatus = buffer.get(), newStatus = buffer.get();
+			String applicationID = decodeID(buffer);
+			state.put(applicationID, new AuditRecord(timestamp, projectID, applicationID, types[type],
+					(oldStatus < 0) ? null : statuses[oldStatus], statuses[newStatus]));
+		}
+	}
+
+	/**
+	 * Reads a run of bytes from a file into a buffer, leaving the buffer ready to be read from.
+	 *
+	 * @param channel  The file.
+	 * @param buffer   The buffer, large enough for the bytes.
+	 * @param position The position of the bytes in the file.
+	 * @param length   The number of bytes.
+	 * @throws IOException If the file cannot be read.
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position, int length) throws IOException {
+		buffer.clear().limit(length);
+		while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+			// Read all the bytes.
+		}
+		buffer.flip();
+	}
+
+	/**
+	 * Retrieves the index of a project ID, giving it the next index if it is new.
+	 *
+	 * @param projectID The project ID.
+	 * @return The index of the project.
+	 */
+	private int internProject(String projectID) {
+		Integer index = projectIndexes.get(projectID);
+		if (index == null) {
+			index = projectIDs.size();
+			projectIDs.add(projectID);
+			projectIndexes.put(projectID, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Writes a record in its binary form.
+	 *
+	 * @param out     The stream to write to.
+	 * @param record  The record.
+	 * @param project The index of the record's project.
+	 * @throws IOException If the record cannot be written.
+	 */
+	private static void encode(DataOutputStream out, AuditRecord record, int project) throws IOException {
+		out.writeLong(record.getTimestamp());
+		out.writeInt(project);
+		out.writeByte(record.getApplicationType().ordinal());
+		out.writeByte((record.getOldStatus() == null) ? -1 : record.getOldStatus().ordinal());
+		out.writeByte(record.getNewStatus().ordinal());
+		encodeID(out, record.getApplicationID());
+	}
+
+	/**
+	 * Writes an application ID in its binary form.
+	 *
+	 * @param out           The stream to write to.
+	 * @param applicationID The application ID.
+	 * @throws IOException If the ID cannot be written.
+	 */
+	private static void encodeID(DataOutputStream out, String applicationID) throws IOException {
+		if (PACKABLE_ID.matcher(applicationID).matches()) {
+			String digits = applicationID.replace("-APPL", "").replace("-", "");
+			out.writeByte(PACKED_ID);
+			out.writeLong(Long.parseUnsignedLong(digits.substring(0, 15), 16));
+			out.writeLong(Long.parseUnsignedLong(digits.substring(15), 16));
+		} else {
+			byte[] text = applicationID.getBytes(StandardCharsets.UTF_8);
+			out.writeByte(TEXT_ID);
+			out.writeShort(text.length);
+			out.write(text);
+		}
+	}
+
+	/**
+	 * Reads an application ID in its binary form.
+	 *
+	 * @param buffer The buffer, positioned at the ID.
+	 * @return The application ID.
+	 */
+	private static String decodeID(ByteBuffer buffer) {
+		if (buffer.get() == TEXT_ID) {
+			byte[] text = new byte[Short.toUnsignedInt(buffer.getShort())];
+			buffer.get(text);
+			return new String(text, StandardCharsets.UTF_8);
+		}
+		// The 31 digits are written straight into place around the separators, as replays decode many IDs.
+		char[] id = "0000000-APPL-0000-0000-0000-000000000000".toCharArray();
+		long high = buffer.getLong(), low = buffer.getLong();
+		for (int i = id.length - 1, digit = 0; i >= 0; i--) {
+			if (id[i] == '0') {
+				id[i] = HEX_DIGITS[(int) (((digit < 16) ? low >>> (4 * digit) : high >>> (4 * (digit - 16))) & 0xf)];
+				digit++;
+			}
+		}
+		return new String(id);
+	}
+
+	/**
+	 * Skips an application ID in its binary form.
+	 *
+	 * @param buffer The buffer, positioned at the ID.
+	 * @throws BufferUnderflowException If the ID is cut short.
+	 * @throws IllegalArgumentException If the ID runs past the end of the buffer.
+	 */
+	private static void skipID(ByteBuffer buffer) {
+		if (buffer.get() == TEXT_ID) {
+			int length = Short.toUnsignedInt(buffer.getShort());
+			buffer.position(buffer.position() + length);
+		} else {
+			buffer.position(buffer.position() + 16);
+		}
+	}
+
+	/**
+	 * A run of consecutive records in the record file.
+	 */
+	private static class Block {
+
+		/**
+		 * The position of the block's first record.
+		 */
+		private final long offset;
+
+		/**
+		 * The length of the block in bytes.
+		 */
+		private int length;
+
+		/**
+		 * The number of records in the block.
+		 */
+		private int recordCount;
+
+		/**
+		 * The time of the block's first record.
+		 */
+		private long firstTimestamp;
+
+		/**
+		 * The time of the block's last record.
+		 */
+		private long lastTimestamp;
+
+		/**
+		 * The projects the block holds records of, until the block is full and indexed.
+		 */
+		private IntList projects;
+
+		/**
+		 * Constructs an empty block.
+		 *
+		 * @param offset The position of the block's first record.
+		 */
+		private Block(long offset) {
+			this.offset = offset;
+		}
+
+		/**
+		 * Retrieves the position just after the block.
+		 *
+		 * @return The position of the next block.
+		 */
+		private long getEnd() {
+			return offset + length;
+		}
+	}
+
+	/**
+	 * What is known in memory of a project's records.
+	 */
+	private static class ProjectHistory {
+
+		/**
+		 * The blocks holding records of the project, in order.
+		 */
+		private final IntList blocks = new IntList();
+
+		/**
+		 * The number of records of the project in the record file.
+		 */
+		private long recordCount;
+
+		/**
+		 * The number of records of the project in its last block.
+		 */
+		private int lastBlockRecordCount;
+
+		/**
+		 * The checkpoints of the project, in order.
+		 */
+		private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+		/**
+		 * Finds the latest checkpoint holding only records before a time.
+		 *
+		 * @param to The time.
+		 * @return The checkpoint, or {@code null} if there is none.
+		 */
+		private Checkpoint findCheckpoint(long to) {
+			int low = 0, high = checkpoints.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (checkpoints.get(middle).timestamp < to) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return (low == 0) ? null : checkpoints.get(low - 1);
+		}
+	}
+
+	/**
+	 * A snapshot of the latest record of each of a project's applications, as of a position in the record file.
+	 */
+	private static class Checkpoint {
+
+		/**
+		 * The position of the checkpoint in the checkpoint file.
+		 */
+		private final long position;
+
+		/**
+		 * The position in the record file just after the last record the checkpoint takes in.
+		 */
+		private final long recordEnd;
+
+		/**
+		 * A time no earlier than that of the project's last record the checkpoint takes in.
+		 */
+		private final long timestamp;
+
+		/**
+		 * The number of records of the project the checkpoint takes in.
+		 */
+		private final long recordCount;
+
+		/**
+		 * The number of applications in the checkpoint.
+		 */
+		private final int applicationCount;
+
+		/**
+		 * The length of the checkpoint's applications in bytes.
+		 */
+		private final int length;
+
+		/**
+		 * Constructs a checkpoint.
+		 *
+		 * @param position         The position of the checkpoint in the checkpoint file.
+		 * @param recordEnd        The position in the record file just after the last record taken in.
+		 * @param timestamp        A time no earlier than that of the project's last record taken in.
+		 * @param recordCount      The number of records of the project taken in.
+		 * @param applicationCount The number of applications.
+		 * @param length           The length of the applications in bytes.
+		 */
+		private Checkpoint(long position, long recordEnd, long timestamp, long recordCount, int applicationCount,
+				int length) {
+			this.position = position;
+			this.recordEnd = recordEnd;
+			this.timestamp = timestamp;
+			this.recordCount = recordCount;
+			this.applicationCount = applicationCount;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * A growable list of ints, without boxing.
+	 */
+	private static class IntList {
+
+		/**
+		 * The values, followed by unused space.
+		 */
+		private int[] values = new int[4];
+
+		/**
+		 * The number of values.
+		 */
+		private int size;
+
+		/**
+		 * Adds a value to the end of the list.
+		 *
+		 * @param value The value.
+		 */
+		private void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, 2 * size);
+			}
+			values[size++] = value;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package audit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+
+/**
+ * The number of status transitions of a project's applications on each day of a range.
+ * <p>
+ * Transitions are counted by application type, old status and new status,
+ * with submissions counted under no old status. Only days with at least one
+ * transition are kept.
+ * </p>
+ */
+public class AuditSummary {
+
+	/**
+	 * The number of statuses.
+	 */
+	private static final int STATUS_COUNT = ApplicationStatus.values().length;
+
+	/**
+	 * The number of counters for each day: one per type, old status or submission, and new status.
+	 */
+	private static final int COUNTER_COUNT = ApplicationType.values().length * (STATUS_COUNT + 1) * STATUS_COUNT;
+
+	/**
+	 * The ID of the project.
+	 */
+	private final String projectID;
+
+	/**
+	 * The first day of the range.
+	 */
+	private final LocalDate from;
+
+	/**
+	 * The last day of the range.
+	 */
+	private final LocalDate to;
+
+	/**
+	 * The counters of each day with at least one transition, in order of day.
+	 */
+	private final TreeMap<LocalDate, int[]> dayCounts = new TreeMap<>();
+
+	/**
+	 * Constructs an empty summary.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The first day of the range.
+	 * @param to        The last day of the range.
+	 */
+	public AuditSummary(String projectID, LocalDate from, LocalDate to) {
+		this.projectID = projectID;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Counts a transition.
+	 *
+	 * @param day             The day of the transition.
+	 * @param applicationType The type of the application.
+	 * @param oldStatus       The status before the transition, or {@code null} for a submission.
+	 * @param newStatus       The status after the transition.
+	 */
+	void add(LocalDate day, ApplicationType applicationType, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		dayCounts.computeIfAbsent(day, key -> new int[COUNTER_COUNT])[indexOf(applicationType, oldStatus, newStatus)]++;
+	}
+
+	/**
+	 * Retrieves the ID of the project.
+	 *
+	 * @return The project ID.
+	 */
+	public String getProjectID() {
+		return projectID;
+	}
+
+	/**
+	 * Retrieves the first day of the range.
+	 *
+	 * @return The first day.
+	 */
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	/**
+	 * Retrieves the last day of the range.
+	 *
+	 * @return The last day.
+	 */
+	public LocalDate getTo() {
+		return to;
+	}
+
+	/**
+	 * Retrieves the days with at least one transition.
+	 *
+	 * @return A {@code List} of the days, earliest first.
+	 */
+	public List<LocalDate> getDays() {
+		return new ArrayList<>(dayCounts.keySet());
+	}
+
+	/**
+	 * Retrieves the number of transitions of a kind on a day.
+	 *
+	 * @param day             The day.
+	 * @param applicationType The type of the applications.
+	 * @param oldStatus       The status before the transition, or {@code null} for submissions.
+	 * @param newStatus       The status after the transition.
+	 * @return The number of transitions.
+	 */
+	public int getCount(LocalDate day, ApplicationType applicationType, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		int[] counts = dayCounts.get(day);
+		return (counts == null) ? 0 : counts[indexOf(applicationType, oldStatus, newStatus)];
+	}
+
+	/**
+	 * Retrieves the number of transitions of a kind over the whole range.
+	 *
+	 * @param applicationType The type of the applications.
+	 * @param oldStatus       The status before the transition, or {@code null} for submissions.
+	 * @param newStatus       The status after the transition.
+	 * @return The number of transitions.
+	 */
+	public int getTotal(ApplicationType applicationType, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		int index = indexOf(applicationType, oldStatus, newStatus);
+		int total = 0;
+		for (int[] counts : dayCounts.values()) {
+			total += counts[index];
+		}
+		return total;
+	}
+
+	/**
+	 * Finds the counter of a kind of transition.
+	 *
+	 * @param applicationType The type of the application.
+	 * @param oldStatus       The status before the transition, or {@code null} for a submission.
+	 * @param newStatus       The status after the transition.
+	 * @return The index of the counter.
+	 */
+	private static int indexOf(ApplicationType applicationType, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		int old = (oldStatus == null) ? STATUS_COUNT : oldStatus.ordinal();
+		return (applicationType.ordinal() * (STATUS_COUNT + 1) + old) * STATUS_COUNT + newStatus.ordinal();
+	}
+}
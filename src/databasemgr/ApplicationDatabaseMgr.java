@@ -1,13 +1,16 @@
 package databasemgr;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import application.Application;
 import application.ApplicationStatus;
 import application.ApplicationType;
 import database.IDatabase;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import metrics.QueryEvent;
 import misc.CheckType;
 import user.HDBManager;
 import user.HDBOfficer;
@@ -57,23 +60,64 @@ public class ApplicationDatabaseMgr extends ItemDatabaseMgr<Application> {
 	 * @return A {@link List} of filtered {@link Application} objects.
 	 */
 	public List<Application> getData(IDatabase<Application> applicationDatabase, User user, boolean processAsApplicant) {
-		List<Application> applicationList = new ArrayList<>();
-		if (CheckType.isHDBManager(user)) {
-			applicationList = applicationDatabase.getDataList()
+		long startTime = System.nanoTime();
+		QueryEvent event = QueryEvent.start("Application.getData");
+		try {
+			List<Application> applicationList = applicationDatabase.getDataList()
 					.stream()
-					.filter(application -> application.getProject().getManager().equals((HDBManager) user))
-					.filter(application -> application.getStatus().equals(ApplicationStatus.PENDING))
+					.filter(getFilter(user, processAsApplicant))
 					.collect(Collectors.toList());
+			event.finish(applicationDatabase.getDataList().size(), applicationList.size());
+			return applicationList;
+		} finally {
+			MetricsMgr.record(Operation.GET_APPLICATIONS, startTime);
+		}
+	}
+
+	/**
+	 * Retrieves the filter selecting the applications relevant to a given user.
+	 * <p>
+	 * This method defaults to not processing the user as an applicant.
+	 * </p>
+	 *
+	 * @param user The user whose applications are to be selected.
+	 * @return A {@link Predicate} that accepts the relevant {@link Application} objects.
+	 */
+	@Override
+	protected Predicate<Application> getFilter(User user) {
+		return getFilter(user, false);
+	}
+
+	/**
+	 * Retrieves the filter selecting the applications relevant to a given user,
+	 * as described in {@link #getData(IDatabase, User, boolean)}.
+	 *
+	 * @param user               The user whose applications are to be selected.
+	 * @param processAsApplicant A flag to determine if the user should be treated as an applicant.
+	 * @return A {@link Predicate} that accepts the relevant {@link Application} objects.
+	 */
+	public Predicate<Application> getFilter(User user, boolean processAsApplicant) {
+		if (CheckType.isHDBManager(user)) {
+			return application -> application.getProject().getManager().equals((HDBManager) user)
+					&& application.getStatus().equals(ApplicationStatus.PENDING);
 		} else if (CheckType.isHDBOfficer(user) && !processAsApplicant) {
-			applicationList = applicationDatabase.getDataList()
-					.stream()
-					.filter(application -> ((HDBOfficer) user).getJoinedProjects().contains(application.getProject()))
-					.filter(application -> application.getApplicationType().equals(ApplicationType.BTO_APPLICATION))
-					.filter(application -> !application.getStatus().equals(ApplicationStatus.BOOKED))
-					.collect(Collectors.toList());
+			return application -> ((HDBOfficer) user).getJoinedProjects().contains(application.getProject())
+					&& application.getApplicationType().equals(ApplicationType.BTO_APPLICATION)
+					&& !application.getStatus().equals(ApplicationStatus.BOOKED);
 		}
-		
-		return applicationList;
+
+		return application -> false;
+	}
+
+	/**
+	 * Retrieves the key applications are ordered by when paging with cursors.
+	 *
+	 * @param application The application whose sort key is to be retrieved.
+	 * @return The unique ID of the application.
+	 */
+	@Override
+	protected String getSortKey(Application application) {
+		return application.getID();
 	}
 
 	/**
@@ -85,14 +129,21 @@ public class ApplicationDatabaseMgr extends ItemDatabaseMgr<Application> {
 	 * if no such application is found.
 	 */
 	public Application getData(IDatabase<Application> applicationDatabase, String applicationID) {
-		List<Application> applicationList = applicationDatabase.getDataList().stream()
-			.filter(application -> application.getID().equals(applicationID))
-			.collect(Collectors.toList());
+		long startTime = System.nanoTime();
+		QueryEvent event = QueryEvent.start("Application.getData(ID)");
+		try {
+			List<Application> applicationList = applicationDatabase.getDataList().stream()
+				.filter(application -> application.getID().equals(applicationID))
+				.collect(Collectors.toList());
+			event.finish(applicationDatabase.getDataList().size(), applicationList.size());
 		
-		if (!applicationList.isEmpty()) {
-			return applicationList.get(0);
-		}
+			if (!applicationList.isEmpty()) {
+				return applicationList.get(0);
+			}
 		
-		return null; // Or throw an exception if the item is not found.
+			return null; // Or throw an exception if the item is not found.
+		} finally {
+			MetricsMgr.record(Operation.GET_APPLICATION_BY_ID, startTime);
+		}
 	}
 }
\ No newline at end of file
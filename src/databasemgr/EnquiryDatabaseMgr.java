@@ -1,11 +1,14 @@
 package databasemgr;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import database.IDatabase;
 import enquiry.Enquiry;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import metrics.QueryEvent;
 import misc.CheckType;
 import user.Applicant;
 import user.HDBManager;
@@ -62,30 +65,66 @@ public class EnquiryDatabaseMgr extends ItemDatabaseMgr<Enquiry> {
 	 * @return A {@link List} of filtered {@link Enquiry} objects.
 	 */
 	public List<Enquiry> getData(IDatabase<Enquiry> database, User user, boolean processAsApplicant) {
-		List<Enquiry> matchedEnquiries = new ArrayList<>();
+		long startTime = System.nanoTime();
+		QueryEvent event = QueryEvent.start("Enquiry.getData");
+		try {
+			List<Enquiry> enquiryList = database.getDataList()
+					.stream()
+					.filter(getFilter(user, processAsApplicant))
+					.collect(Collectors.toList());
+			event.finish(database.getDataList().size(), enquiryList.size());
+			return enquiryList;
+		} finally {
+			MetricsMgr.record(Operation.GET_ENQUIRIES, startTime);
+		}
+	}
+
+	/**
+	 * Retrieves the filter selecting the enquiries relevant to a given user.
+	 * <p>
+	 * This method defaults to not processing the user as an applicant.
+	 * </p>
+	 *
+	 * @param user The user whose enquiries are to be selected.
+	 * @return A {@link Predicate} that accepts the relevant {@link Enquiry} objects.
+	 */
+	@Override
+	protected Predicate<Enquiry> getFilter(User user) {
+		return getFilter(user, false);
+	}
+
+	/**
+	 * Retrieves the filter selecting the enquiries relevant to a given user,
+	 * as described in {@link #getData(IDatabase, User, boolean)}.
+	 *
+	 * @param user               The user whose enquiries are to be selected.
+	 * @param processAsApplicant A flag to determine if the user should be treated as an applicant.
+	 * @return A {@link Predicate} that accepts the relevant {@link Enquiry} objects.
+	 */
+	public Predicate<Enquiry> getFilter(User user, boolean processAsApplicant) {
 		if (CheckType.isHDBManager(user) && !processAsApplicant) {
 			// A manager who is not being processed as an applicant gets to see all enquiries.
-			matchedEnquiries = database.getDataList();
+			return enquiry -> true;
 		} else if (CheckType.isHDBManager(user)) {
 			// A manager processed as an applicant only gets to see their own enquiries.
-			matchedEnquiries.addAll(database.getDataList()
-					.stream()
-					.filter(enquiry -> enquiry.getProjectManager().equals((HDBManager) user))
-					.collect(Collectors.toList()));
+			return enquiry -> enquiry.getProjectManager().equals((HDBManager) user);
 		} else if (CheckType.isHDBOfficer(user) && !processAsApplicant) {
 			// An officer who is not being processed as an applicant gets to see enquiries for projects they're on.
-			matchedEnquiries.addAll(database.getDataList()
-					.stream()
-					.filter(enquiry -> enquiry.getProjectOfficers().contains((HDBOfficer) user))
-					.collect(Collectors.toList()));
+			return enquiry -> enquiry.getProjectOfficers().contains((HDBOfficer) user);
 		} else {
 			// All other users (e.g., Applicants) only see their own enquiries.
-			matchedEnquiries.addAll(database.getDataList()
-					.stream()
-					.filter(enquiry -> enquiry.getEnquiryFiler().equals((Applicant) user))
-					.collect(Collectors.toList()));
+			return enquiry -> enquiry.getEnquiryFiler().equals((Applicant) user);
 		}
+	}
 
-		return matchedEnquiries;
+	/**
+	 * Retrieves the key enquiries are ordered by when paging with cursors.
+	 *
+	 * @param enquiry The enquiry whose sort key is to be retrieved.
+	 * @return The unique ID of the enquiry.
+	 */
+	@Override
+	protected String getSortKey(Enquiry enquiry) {
+		return enquiry.getID();
 	}
-}
\ No newline at end of file
+}
@@ -30,6 +30,50 @@ public interface IItemDatabaseMgr<T> extends IDatabaseMgr<T> {
 	 */
 	public List<T> getData(IDatabase<T> database, User user);
 
+	/**
+	 * Retrieves one page of the items relevant to the provided user, by position.
+	 * <p>
+	 * The items are returned in database order, skipping the first {@code offset}
+	 * matches. The scan stops as soon as the page is filled.
+	 * </p>
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user who is requesting the data.
+	 * @param offset   The number of matching items to skip.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items.
+	 * @throws IllegalArgumentException if the offset is negative or the limit is not positive.
+	 */
+	public Page<T> getPage(IDatabase<T> database, User user, int offset, int limit) throws IllegalArgumentException;
+
+	/**
+	 * Retrieves the page of relevant items whose sort keys directly follow a cursor.
+	 * <p>
+	 * Unlike an offset, a cursor remains valid when items are added to or removed
+	 * from the database while the user is browsing.
+	 * </p>
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user who is requesting the data.
+	 * @param cursor   The sort key after which the page starts, or {@code null} for the first page.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items, in ascending sort key order.
+	 * @throws IllegalArgumentException if the limit is not positive.
+	 */
+	public Page<T> getPageAfter(IDatabase<T> database, User user, String cursor, int limit) throws IllegalArgumentException;
+
+	/**
+	 * Retrieves the page of relevant items whose sort keys directly precede a cursor.
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user who is requesting the data.
+	 * @param cursor   The sort key before which the page ends, or {@code null} for the last page.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items, in ascending sort key order.
+	 * @throws IllegalArgumentException if the limit is not positive.
+	 */
+	public Page<T> getPageBefore(IDatabase<T> database, User user, String cursor, int limit) throws IllegalArgumentException;
+
 	/**
 	 * Adds a new item to the database.
 	 *
@@ -38,4 +82,13 @@ public interface IItemDatabaseMgr<T> extends IDatabaseMgr<T> {
 	 * @return {@code true} if the item was successfully added, {@code false} otherwise.
 	 */
 	public boolean add(IDatabase<T> database, T item);
+
+	/**
+	 * Removes an item from the database.
+	 *
+	 * @param database The database from which the item will be removed.
+	 * @param item     The item of type {@code T} to be removed.
+	 * @return {@code true} if the item was in the database, {@code false} otherwise.
+	 */
+	public boolean remove(IDatabase<T> database, T item);
 }
\ No newline at end of file
@@ -1,7 +1,15 @@
 package databasemgr;
 
 import database.IDatabase;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import user.User;
 
 /**
@@ -12,9 +20,48 @@ import user.User;
  * Subclasses are responsible for providing the specific logic for retrieving
  * data, as defined in the {@link IItemDatabaseMgr} interface.
  * </p>
+ * <p>
+ * Paging is implemented once here on top of two hooks supplied by subclasses:
+ * the filter selecting the items a user may see, and the sort key that cursors
+ * are expressed in. Only the items of the requested page are ever collected.
+ * </p>
+ * <p>
+ * Cursor paging walks a sorted index of the sort keys, one for each kind of
+ * item, and stops as soon as the page is full. Like the user ID index of
+ * {@link UserDatabaseMgr}, it is extended with any items appended to the data
+ * list since it was last used, and rebuilt if a different or shorter list is
+ * given. Items must therefore be removed through {@link #remove}, which keeps
+ * the index in step.
+ * </p>
  */
 public abstract class ItemDatabaseMgr<T> implements IItemDatabaseMgr<T> {
 
+	/**
+	 * The sort key index of each kind of item, keyed by the class of its database manager.
+	 */
+	private static final Map<Class<?>, KeyIndex<?>> keyIndexes = new HashMap<>();
+
+	/**
+	 * A sorted index from sort key to item over the data list of a database.
+	 */
+	private static class KeyIndex<T> {
+
+		/**
+		 * The data list the index was built from.
+		 */
+		private List<T> indexedList;
+
+		/**
+		 * The number of items at the start of the list that have been indexed.
+		 */
+		private int indexedCount;
+
+		/**
+		 * The indexed items, in sort key order.
+		 */
+		private TreeMap<String, T> items = new TreeMap<>();
+	}
+
 	/**
 	 * Adds a new item to the database's data list.
 	 * <p>
@@ -31,6 +78,32 @@ public abstract class ItemDatabaseMgr<T> implements IItemDatabaseMgr<T> {
 		return (item != null) ? database.getDataList().add(item) : false;
 	}
 
+	/**
+	 * Removes an item from the database's data list, and from the sort key index.
+	 *
+	 * @param database The database from which the item will be removed.
+	 * @param item     The item of type {@code T} to be removed.
+	 * @return {@code true} if the item was in the database, {@code false} otherwise.
+	 */
+	@Override
+	public boolean remove(IDatabase<T> database, T item) {
+		KeyIndex<T> index = getKeyIndex();
+		synchronized (index) {
+			List<T> dataList = database.getDataList();
+			int position = dataList.indexOf(item);
+			if (position < 0) {
+				return false;
+			}
+
+			dataList.remove(position);
+			if (dataList == index.indexedList && position < index.indexedCount) {
+				index.items.remove(getSortKey(item));
+				index.indexedCount--;
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Abstract method to retrieve a list of items from the database.
 	 * <p>
@@ -44,4 +117,217 @@ public abstract class ItemDatabaseMgr<T> implements IItemDatabaseMgr<T> {
 	 */
 	@Override
 	public abstract List<T> getData(IDatabase<T> database, User user);
-}
\ No newline at end of file
+
+	/**
+	 * Retrieves one page of the items relevant to the provided user, by position.
+	 * <p>
+	 * The filtered stream is cut off one item after the page is filled, so the
+	 * scan never reads further into the database than the end of the page.
+	 * </p>
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user requesting the data.
+	 * @param offset   The number of matching items to skip.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items.
+	 * @throws IllegalArgumentException if the offset is negative or the limit is not positive.
+	 */
+	@Override
+	public Page<T> getPage(IDatabase<T> database, User user, int offset, int limit) throws IllegalArgumentException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("Invalid page offset: " + offset);
+		}
+		checkLimit(limit);
+
+		List<T> items = database.getDataList()
+				.stream()
+				.filter(getFilter(user))
+				.skip(offset)
+				.limit(limit + 1L)
+				.collect(Collectors.toCollection(ArrayList::new));
+
+		boolean hasNext = items.size() > limit;
+		if (hasNext) {
+			items.remove(limit);
+		}
+		return toPage(items, offset, offset > 0, hasNext);
+	}
+
+	/**
+	 * Retrieves the page of relevant items whose sort keys directly follow a cursor.
+	 * <p>
+	 * The sort key index is walked from the cursor until {@code limit + 1}
+	 * relevant items are found, so the cost depends on the page size rather
+	 * than on the size of the database. The items before the cursor are not
+	 * counted, so the offset of the page is {@link Page#UNKNOWN_OFFSET}.
+	 * </p>
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user requesting the data.
+	 * @param cursor   The sort key after which the page starts, or {@code null} for the first page.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items, in ascending sort key order.
+	 * @throws IllegalArgumentException if the limit is not positive.
+	 */
+	@Override
+	public Page<T> getPageAfter(IDatabase<T> database, User user, String cursor, int limit) throws IllegalArgumentException {
+		checkLimit(limit);
+		Predicate<T> filter = getFilter(user);
+		KeyIndex<T> index = getKeyIndex();
+
+		synchronized (index) {
+			update(index, database);
+			NavigableMap<String, T> following = (cursor == null) ? index.items : index.items.tailMap(cursor, false);
+			List<T> items = collect(following, filter, limit + 1);
+			boolean hasNext = items.size() > limit;
+			if (hasNext) {
+				items.remove(limit);
+			}
+			boolean hasPrevious = (cursor != null) && !collect(index.items.headMap(cursor, true).descendingMap(), filter, 1).isEmpty();
+			return toPage(items, (cursor == null) ? 0 : Page.UNKNOWN_OFFSET, hasPrevious, hasNext);
+		}
+	}
+
+	/**
+	 * Retrieves the page of relevant items whose sort keys directly precede a cursor.
+	 * <p>
+	 * The sort key index is walked backwards from the cursor until
+	 * {@code limit + 1} relevant items are found. The offset of the page is
+	 * {@link Page#UNKNOWN_OFFSET}.
+	 * </p>
+	 *
+	 * @param database The database containing the items.
+	 * @param user     The user requesting the data.
+	 * @param cursor   The sort key before which the page ends, or {@code null} for the last page.
+	 * @param limit    The maximum number of items on the page.
+	 * @return The requested {@link Page} of items, in ascending sort key order.
+	 * @throws IllegalArgumentException if the limit is not positive.
+	 */
+	@Override
+	public Page<T> getPageBefore(IDatabase<T> database, User user, String cursor, int limit) throws IllegalArgumentException {
+		checkLimit(limit);
+		Predicate<T> filter = getFilter(user);
+		KeyIndex<T> index = getKeyIndex();
+
+		synchronized (index) {
+			update(index, database);
+			NavigableMap<String, T> preceding = (cursor == null) ? index.items : index.items.headMap(cursor, false);
+			List<T> items = collect(preceding.descendingMap(), filter, limit + 1);
+			boolean hasPrevious = items.size() > limit;
+			if (hasPrevious) {
+				items.remove(limit);
+			}
+			Collections.reverse(items);
+			boolean hasNext = (cursor != null) && !collect(index.items.tailMap(cursor, true), filter, 1).isEmpty();
+			return toPage(items, hasPrevious ? Page.UNKNOWN_OFFSET : 0, hasPrevious, hasNext);
+		}
+	}
+
+	/**
+	 * Collects the first relevant items of a range of the sort key index.
+	 *
+	 * @param range  The range of the index, in the order it is to be walked.
+	 * @param filter The filter selecting the relevant items.
+	 * @param count  The maximum number of items to collect.
+	 * @return A {@code List} of at most {@code count} relevant items, in the order they were walked.
+	 */
+	private List<T> collect(NavigableMap<String, T> range, Predicate<T> filter, int count) {
+		List<T> items = new ArrayList<>();
+		for (T item : range.values()) {
+			if (items.size() == count) {
+				break;
+			}
+			if (filter.test(item)) {
+				items.add(item);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Retrieves the sort key index of this kind of item.
+	 *
+	 * @return The {@code KeyIndex} of this database manager's class.
+	 */
+	@SuppressWarnings("unchecked")
+	private KeyIndex<T> getKeyIndex() {
+		synchronized (keyIndexes) {
+			return (KeyIndex<T>) keyIndexes.computeIfAbsent(getClass(), key -> new KeyIndex<>());
+		}
+	}
+
+	/**
+	 * Brings a sort key index up to date with a database. The caller must hold the index's monitor.
+	 * <p>
+	 * Items appended since the index was last used are added to it, and the
+	 * index is rebuilt if the database holds a different or shorter list.
+	 * </p>
+	 *
+	 * @param index    The sort key index.
+	 * @param database The database the index is over.
+	 */
+	private void update(KeyIndex<T> index, IDatabase<T> database) {
+		List<T> dataList = database.getDataList();
+		if (dataList != index.indexedList || dataList.size() < index.indexedCount) {
+			index.indexedList = dataList;
+			index.indexedCount = 0;
+			index.items = new TreeMap<>();
+		}
+		for (; index.indexedCount < dataList.size(); index.indexedCount++) {
+			T item = dataList.get(index.indexedCount);
+			index.items.put(getSortKey(item), item);
+		}
+	}
+
+	/**
+	 * Wraps the items of a page together with their cursors.
+	 *
+	 * @param items       The items on the page, in order.
+	 * @param offset      The number of matching items that precede the page.
+	 * @param hasPrevious Whether there are matching items before the page.
+	 * @param hasNext     Whether there are matching items after the page.
+	 * @return The resulting {@link Page}.
+	 */
+	private Page<T> toPage(List<T> items, int offset, boolean hasPrevious, boolean hasNext) {
+		if (items.isEmpty()) {
+			return new Page<>(Collections.emptyList(), offset, hasPrevious, hasNext, null, null);
+		}
+		return new Page<>(items, offset, hasPrevious, hasNext,
+				getSortKey(items.get(0)), getSortKey(items.get(items.size() - 1)));
+	}
+
+	/**
+	 * Validates the maximum number of items on a page.
+	 *
+	 * @param limit The maximum number of items on a page.
+	 * @throws IllegalArgumentException if the limit is not positive.
+	 */
+	private void checkLimit(int limit) throws IllegalArgumentException {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("Invalid page size: " + limit);
+		}
+	}
+
+	/**
+	 * Abstract method to retrieve the filter selecting the items relevant to a user.
+	 * <p>
+	 * This is the same selection that {@link #getData(IDatabase, User)} performs,
+	 * expressed as a predicate so that it can be applied lazily while paging.
+	 * </p>
+	 *
+	 * @param user The user requesting the data.
+	 * @return A {@link Predicate} that accepts the items relevant to the user.
+	 */
+	protected abstract Predicate<T> getFilter(User user);
+
+	/**
+	 * Abstract method to retrieve the key that items are ordered by when paging with cursors.
+	 * <p>
+	 * The key must be unique and must not change while the item is in the database.
+	 * </p>
+	 *
+	 * @param item The item whose sort key is to be retrieved.
+	 * @return The sort key of the item.
+	 */
+	protected abstract String getSortKey(T item);
+}
@@ -0,0 +1,133 @@
+package databasemgr;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single page of items retrieved from a database.
+ * <p>
+ * A page holds at most the requested number of items, together with its
+ * position in the full result and the cursors needed to fetch the neighbouring
+ * pages. Cursors are the sort keys of the first and last item on the page, so
+ * they remain valid when other items are added to or removed from the database.
+ * </p>
+ */
+public class Page<T> {
+
+	/**
+	 * The offset of a page fetched by cursor, whose preceding items are not counted.
+	 */
+	public static final int UNKNOWN_OFFSET = -1;
+
+	/**
+	 * The items on this page, in sort order.
+	 */
+	private final List<T> items;
+
+	/**
+	 * The number of matching items that precede this page, or {@link #UNKNOWN_OFFSET}.
+	 */
+	private final int offset;
+
+	/**
+	 * Whether there are matching items before this page.
+	 */
+	private final boolean hasPrevious;
+
+	/**
+	 * Whether there are matching items after this page.
+	 */
+	private final boolean hasNext;
+
+	/**
+	 * The sort key of the first item on this page, or {@code null} if the page is empty.
+	 */
+	private final String firstCursor;
+
+	/**
+	 * The sort key of the last item on this page, or {@code null} if the page is empty.
+	 */
+	private final String lastCursor;
+
+	/**
+	 * Constructs a new page.
+	 *
+	 * @param items       The items on this page.
+	 * @param offset      The number of matching items that precede this page, or {@link #UNKNOWN_OFFSET}.
+	 * @param hasPrevious Whether there are matching items before this page.
+	 * @param hasNext     Whether there are matching items after this page.
+	 * @param firstCursor The sort key of the first item on this page.
+	 * @param lastCursor  The sort key of the last item on this page.
+	 */
+	public Page(List<T> items, int offset, boolean hasPrevious, boolean hasNext, String firstCursor, String lastCursor) {
+		this.items = Collections.unmodifiableList(items);
+		this.offset = offset;
+		this.hasPrevious = hasPrevious;
+		this.hasNext = hasNext;
+		this.firstCursor = firstCursor;
+		this.lastCursor = lastCursor;
+	}
+
+	/**
+	 * Retrieves the items on this page.
+	 *
+	 * @return An unmodifiable {@link List} of the items on this page.
+	 */
+	public List<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * Retrieves the number of matching items that precede this page.
+	 *
+	 * @return The offset of the first item on this page, or {@link #UNKNOWN_OFFSET} if it was not counted.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Checks whether there are matching items before this page.
+	 *
+	 * @return {@code true} if a previous page exists, {@code false} otherwise.
+	 */
+	public boolean hasPrevious() {
+		return hasPrevious;
+	}
+
+	/**
+	 * Checks whether there are matching items after this page.
+	 *
+	 * @return {@code true} if a next page exists, {@code false} otherwise.
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * Retrieves the cursor from which the previous page is fetched.
+	 *
+	 * @return The sort key of the first item on this page, or {@code null} if the page is empty.
+	 */
+	public String getPreviousCursor() {
+		return firstCursor;
+	}
+
+	/**
+	 * Retrieves the cursor from which the next page is fetched.
+	 *
+	 * @return The sort key of the last item on this page, or {@code null} if the page is empty.
+	 */
+	public String getNextCursor() {
+		return lastCursor;
+	}
+
+	/**
+	 * Checks whether this page holds no items.
+	 *
+	 * @return {@code true} if the page is empty, {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+}
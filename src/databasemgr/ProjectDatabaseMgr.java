@@ -2,9 +2,13 @@ package databasemgr;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import database.IDatabase;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import metrics.QueryEvent;
 import misc.CheckType;
 import project.Project;
 import user.HDBOfficer;
@@ -57,29 +61,56 @@ public class ProjectDatabaseMgr extends ItemDatabaseMgr<Project> {
 	 * @return A {@link List} of filtered {@link Project} objects.
 	 */
 	public List<Project> getData(IDatabase<Project> database, User user, boolean condition) {
-		ArrayList<Project> matchedProjects = new ArrayList<>();
-		
+		long startTime = System.nanoTime();
+		QueryEvent event = QueryEvent.start("Project.getData");
+		try {
+			ArrayList<Project> matchedProjects = new ArrayList<>();
+			matchedProjects.addAll(database.getDataList()
+					.stream()
+					.filter(getFilter(user))
+					.collect(Collectors.toList()));
+			event.finish(database.getDataList().size(), matchedProjects.size());
+
+			return matchedProjects;
+		} finally {
+			MetricsMgr.record(Operation.GET_PROJECTS, startTime);
+		}
+	}
+
+	/**
+	 * Retrieves the filter selecting the projects relevant to a given user,
+	 * as described in {@link #getData(IDatabase, User, boolean)}.
+	 *
+	 * @param user The user whose projects are to be selected.
+	 * @return A {@link Predicate} that accepts the relevant {@link Project} objects.
+	 */
+	@Override
+	public Predicate<Project> getFilter(User user) {
 		if (CheckType.isHDBManager(user)) {
 			// HDB Managers can see all projects in the database.
-			matchedProjects.addAll(database.getDataList());
+			return project -> true;
 		} else if (CheckType.isHDBOfficer(user)) {
 			// HDB Officers see all visible projects, excluding those they are prohibited from.
-			matchedProjects.addAll(database.getDataList()
-					.stream()
-					.filter(Project::isVisible)
-					.filter(project -> !((HDBOfficer) user).getProhibitedProjects().contains(project))
-					.collect(Collectors.toList()));
+			return project -> project.isVisible() && !((HDBOfficer) user).getProhibitedProjects().contains(project);
 		} else if (CheckType.isApplicant(user)) {
 			// Applicants only see projects that are marked as visible.
-			matchedProjects.addAll(database.getDataList()
-					.stream()
-					.filter(Project::isVisible)
-					.collect(Collectors.toList()));
+			return Project::isVisible;
 		}
 
-		return matchedProjects;
+		return project -> false;
 	}
-	
+
+	/**
+	 * Retrieves the key projects are ordered by when paging with cursors.
+	 *
+	 * @param project The project whose sort key is to be retrieved.
+	 * @return The unique ID of the project.
+	 */
+	@Override
+	protected String getSortKey(Project project) {
+		return project.getID();
+	}
+
 	/**
 	 * Retrieves a single {@link Project} object by its unique ID.
 	 *
@@ -88,17 +119,24 @@ public class ProjectDatabaseMgr extends ItemDatabaseMgr<Project> {
 	 * @return The {@link Project} object with the matching ID.
 	 */
 	public Project getData(IDatabase<Project> projectDatabase, String projectID) {
-		ArrayList<Project> matchedProjects = new ArrayList<>();
-		matchedProjects.addAll(projectDatabase.getDataList()
-				.stream()
-				.filter(project -> project.getID().equals(projectID))
-				.collect(Collectors.toList()));
+		long startTime = System.nanoTime();
+		QueryEvent event = QueryEvent.start("Project.getData(ID)");
+		try {
+			ArrayList<Project> matchedProjects = new ArrayList<>();
+			matchedProjects.addAll(projectDatabase.getDataList()
+					.stream()
+					.filter(project -> project.getID().equals(projectID))
+					.collect(Collectors.toList()));
+			event.finish(projectDatabase.getDataList().size(), matchedProjects.size());
 				
-		// It's safer to check if the list is not empty before returning the first element.
-		if (!matchedProjects.isEmpty()) {
-			return matchedProjects.get(0);
-		}
+			// It's safer to check if the list is not empty before returning the first element.
+			if (!matchedProjects.isEmpty()) {
+				return matchedProjects.get(0);
+			}
 		
-		return null; // Or throw an exception if not found.
+			return null; // Or throw an exception if not found.
+		} finally {
+			MetricsMgr.record(Operation.GET_PROJECT_BY_ID, startTime);
+		}
 	}
 }
\ No newline at end of file
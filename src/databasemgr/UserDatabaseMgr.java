@@ -1,27 +1,46 @@
 package databasemgr;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import database.IDatabase;
+import metrics.MetricsMgr;
+import metrics.Operation;
 import user.User;
 
 /**
  * Manages operations on a database of {@link User} objects.
  * <p>
  * This class provides methods for retrieving user data from a database,
- * specifically by a unique user ID. It implements the {@link IDatabaseMgr}
+ * specifically by a unique user ID, using a hash index over the user IDs. It implements the {@link IDatabaseMgr}
  * interface for managing {@link User} objects.
  * </p>
  */
 public class UserDatabaseMgr implements IDatabaseMgr<User> {
+
+	/**
+	 * The user list the ID index was built from.
+	 */
+	private static List<User> indexedList;
+
+	/**
+	 * The number of users in the list that have been indexed.
+	 */
+	private static int indexedCount;
+
+	/**
+	 * The index from user ID to user.
+	 */
+	private static Map<String, User> userIndex = new HashMap<>();
 	
 	/**
 	 * Retrieves a {@link User} object from the database using their unique user ID.
 	 * <p>
-	 * The method filters the database's data list to find a user with a matching
-	 * ID. Since user IDs (like NRICs) are unique, it is expected to find at most
-	 * one matching user.
+	 * Since user IDs (like NRICs) are unique, users are looked up in a hash index
+	 * rather than by scanning the database. Users are only ever appended to the
+	 * user list, so the index is extended with any users added since the last
+	 * lookup, and rebuilt if a different or shorter list is given.
 	 * </p>
 	 *
 	 * @param database The database containing all user data.
@@ -30,17 +49,26 @@ public class UserDatabaseMgr implements IDatabaseMgr<User> {
 	 * user is found.
 	 */
 	public User getUser(IDatabase<User> database, String userID) {
-		List<User> matchedUsers = database.getDataList()
-				.stream()
-				.filter(user -> user.getUserID().equals(userID))
-				.collect(Collectors.toList());
+		long startTime = System.nanoTime();
+		try {
+			synchronized (UserDatabaseMgr.class) {
+				List<User> userList = database.getDataList();
+				if (userList != indexedList || userList.size() < indexedCount) {
+					indexedList = userList;
+					indexedCount = 0;
+					userIndex = new HashMap<>();
+				}
+				for (; indexedCount < userList.size(); indexedCount++) {
+					User user = userList.get(indexedCount);
+					userIndex.putIfAbsent(user.getUserID(), user);
+				}
 
-		if (matchedUsers != null && !matchedUsers.isEmpty()) {
-			// User IDs are unique, so there will be at most one match.
-			return matchedUsers.get(0);
-		} else {
-			// Return null if no user is found with the given ID.
-			return null;
+				User user = userIndex.get(userID);
+				// Return null if no user is found with the given ID.
+				return (user != null && user.getUserID().equals(userID)) ? user : null;
+			}
+		} finally {
+			MetricsMgr.record(Operation.GET_USER, startTime);
 		}
 	}
-}
\ No newline at end of file
+}
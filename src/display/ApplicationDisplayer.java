@@ -13,7 +13,7 @@ import application.Application;
 public class ApplicationDisplayer extends ItemDisplayer<Application> {
 	
 	/**
-	 * Displays the details of a given {@link Application} object to the standard output.
+	 * Renders the details of a given {@link Application} object into the screen buffer.
 	 * <p>
 	 * The output includes the application's type, the name of the user who issued it,
 	 * the name of the project it concerns, and its current status.
@@ -22,10 +22,10 @@ public class ApplicationDisplayer extends ItemDisplayer<Application> {
 	 * @param application The {@link Application} object to be displayed.
 	 */
 	@Override
-    public void display(Application application) {
-		System.out.println(application.getApplicationType());
-		System.out.println("\tIssued by:\t" + application.getUser().getName());
-		System.out.println("\tConcerning Project:\t" + application.getProject().getName());
-		System.out.println("\tApplication Status:\t" + application.getStatus());
+    protected void render(Application application) {
+		out.println(application.getApplicationType());
+		out.println("\tIssued by:\t" + application.getUser().getName());
+		out.println("\tConcerning Project:\t" + application.getProject().getName());
+		out.println("\tApplication Status:\t" + application.getStatus());
     }
 }
\ No newline at end of file
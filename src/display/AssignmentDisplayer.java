@@ -0,0 +1,26 @@
+package display;
+
+import application.AssignmentResult;
+
+/**
+ * A class responsible for displaying the outcome of an assignment of officers to projects.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing an {@link AssignmentResult} object to the console.
+ * </p>
+ */
+public class AssignmentDisplayer extends ItemDisplayer<AssignmentResult> {
+
+	/**
+	 * Renders the outcome of an assignment into the screen buffer.
+	 *
+	 * @param result The {@link AssignmentResult} object to be displayed.
+	 */
+	@Override
+	protected void render(AssignmentResult result) {
+		out.println("Pending Registrations:\t" + (result.getAssignedList().size() + result.getUnassignedList().size()));
+		out.println("\tFree Officer Slots:\t" + result.getSlotCount());
+		out.println("\tAssigned:\t" + result.getAssignedList().size());
+		out.println("\tLeft Pending:\t" + result.getUnassignedList().size());
+	}
+}
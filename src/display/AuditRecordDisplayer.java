@@ -0,0 +1,32 @@
+package display;
+
+import java.time.format.DateTimeFormatter;
+
+import audit.AuditRecord;
+
+/**
+ * A class responsible for displaying a status transition from the audit history.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing an {@link AuditRecord} object to the console.
+ * </p>
+ */
+public class AuditRecordDisplayer extends ItemDisplayer<AuditRecord> {
+
+	/**
+	 * The format of the time of a transition.
+	 */
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+
+	/**
+	 * Renders a single transition into the screen buffer.
+	 *
+	 * @param record The {@link AuditRecord} object to be displayed.
+	 */
+	@Override
+	protected void render(AuditRecord record) {
+		out.println(record.getDateTime().format(FORMATTER) + "\t" + record.getApplicationID() + "\t"
+				+ record.getApplicationType() + "\t"
+				+ ((record.getOldStatus() == null) ? "SUBMITTED" : record.getOldStatus()) + " -> " + record.getNewStatus());
+	}
+}
@@ -0,0 +1,55 @@
+package display;
+
+import java.time.format.DateTimeFormatter;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+import audit.AuditRecord;
+import audit.AuditState;
+import misc.DateConvertor;
+
+/**
+ * A class responsible for displaying the state of a project's applications at the end of a past day.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing an {@link AuditState} object to the console:
+ * one line for each application with its status and the time it moved into
+ * it, followed by the number of applications in each status.
+ * </p>
+ */
+public class AuditStateDisplayer extends ItemDisplayer<AuditState> {
+
+	/**
+	 * The format of the time of a transition.
+	 */
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+
+	/**
+	 * Renders the state of a project's applications into the screen buffer.
+	 *
+	 * @param state The {@link AuditState} object to be displayed.
+	 */
+	@Override
+	protected void render(AuditState state) {
+		out.println("Project:\t" + state.getProjectID());
+		out.println("\tAs of the end of:\t" + DateConvertor.formatLocalDate(state.getDay()));
+		if (state.getRecords().isEmpty()) {
+			out.println("\tNo applications.");
+			return;
+		}
+
+		for (AuditRecord record : state.getRecords()) {
+			out.println("\t" + record.getApplicationID() + "\t" + record.getApplicationType() + "\t"
+					+ record.getNewStatus() + "\tsince " + record.getDateTime().format(FORMATTER));
+		}
+		out.println("\tTotal:");
+		for (ApplicationType applicationType : ApplicationType.values()) {
+			for (ApplicationStatus status : ApplicationStatus.values()) {
+				int count = state.getCount(applicationType, status);
+				if (count > 0) {
+					out.println("\t\t" + applicationType + "\t" + status + ":\t" + count);
+				}
+			}
+		}
+	}
+}
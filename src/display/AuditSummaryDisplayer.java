@@ -0,0 +1,67 @@
+package display;
+
+import java.time.LocalDate;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+import audit.AuditSummary;
+import misc.DateConvertor;
+
+/**
+ * A class responsible for displaying the daily status transitions of a project's applications.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing an {@link AuditSummary} object to the console:
+ * one line for each kind of transition on each day, followed by the totals
+ * over the whole range.
+ * </p>
+ */
+public class AuditSummaryDisplayer extends ItemDisplayer<AuditSummary> {
+
+	/**
+	 * Renders the daily transitions of a project into the screen buffer.
+	 *
+	 * @param summary The {@link AuditSummary} object to be displayed.
+	 */
+	@Override
+	protected void render(AuditSummary summary) {
+		out.println("Project:\t" + summary.getProjectID());
+		out.println("\tFrom:\t" + DateConvertor.formatLocalDate(summary.getFrom()));
+		out.println("\tTo:\t" + DateConvertor.formatLocalDate(summary.getTo()));
+		if (summary.getDays().isEmpty()) {
+			out.println("\tNo transitions.");
+			return;
+		}
+
+		for (LocalDate day : summary.getDays()) {
+			out.println("\t" + DateConvertor.formatLocalDate(day) + ":");
+			renderCounts(summary, day);
+		}
+		out.println("\tTotal:");
+		renderCounts(summary, null);
+	}
+
+	/**
+	 * Renders the number of transitions of each kind that occurred, on a day or over the whole range.
+	 *
+	 * @param summary The summary.
+	 * @param day     The day, or {@code null} for the whole range.
+	 */
+	private void renderCounts(AuditSummary summary, LocalDate day) {
+		ApplicationStatus[] statuses = ApplicationStatus.values();
+		for (ApplicationType applicationType : ApplicationType.values()) {
+			// Submissions, which have no old status, come first.
+			for (int old = -1; old < statuses.length; old++) {
+				ApplicationStatus oldStatus = (old < 0) ? null : statuses[old];
+				for (ApplicationStatus newStatus : ApplicationStatus.values()) {
+					int count = (day == null) ? summary.getTotal(applicationType, oldStatus, newStatus)
+							: summary.getCount(day, applicationType, oldStatus, newStatus);
+					if (count > 0) {
+						out.println("\t\t" + applicationType + "\t" + ((oldStatus == null) ? "SUBMITTED" : oldStatus)
+								+ " -> " + newStatus + ":\t" + count);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package display;
+
+import application.BallotResult;
+
+/**
+ * A class responsible for displaying the outcome of a project's ballot.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing a {@link BallotResult} object to the console,
+ * including the seed that reproduces the draw.
+ * </p>
+ */
+public class BallotDisplayer extends ItemDisplayer<BallotResult> {
+
+	/**
+	 * Renders the outcome of a single project's ballot into the screen buffer.
+	 *
+	 * @param result The {@link BallotResult} object to be displayed.
+	 */
+	@Override
+	protected void render(BallotResult result) {
+		out.println("Project:\t" + result.getProject().getName());
+		out.println("\tSeed:\t\t" + result.getSeed());
+		out.println("\tAvailable Flats:\t" + result.getAvailableCount());
+		out.println("\tApplications:\t" + (result.getSuccessfulList().size() + result.getUnsuccessfulList().size()));
+		out.println("\tSuccessful:\t" + result.getSuccessfulList().size());
+		out.println("\tUnsuccessful:\t" + result.getUnsuccessfulList().size());
+	}
+}
@@ -14,7 +14,7 @@ import enquiry.Enquiry;
 public class EnquiryDisplayer extends ItemDisplayer<Enquiry> {
 
 	/**
-	 * Displays the details of a given {@link Enquiry} object to the standard output.
+	 * Renders the details of a given {@link Enquiry} object into the screen buffer.
 	 * <p>
 	 * The output includes the name of the project the enquiry is about, the name
 	 * of the user who filed it, the question asked, and the reply given.
@@ -23,11 +23,11 @@ public class EnquiryDisplayer extends ItemDisplayer<Enquiry> {
 	 * @param enquiry The {@link Enquiry} object to be displayed.
 	 */
 	@Override
-	public void display(Enquiry enquiry) {
-		System.out.println("Enquiry:");
-		System.out.println("\tRegarding Project:\n\t\t" + enquiry.getProject().getName());
-		System.out.println("\tFiled by:\n\t\t" + enquiry.getEnquiryFiler().getName());
-		System.out.println("\tQuestion:\n\t\t" + enquiry.getQuestion());
-		System.out.println("\tReply:\n\t\t" + enquiry.getReply());
+	protected void render(Enquiry enquiry) {
+		out.println("Enquiry:");
+		out.println("\tRegarding Project:\n\t\t" + enquiry.getProject().getName());
+		out.println("\tFiled by:\n\t\t" + enquiry.getEnquiryFiler().getName());
+		out.println("\tQuestion:\n\t\t" + enquiry.getQuestion());
+		out.println("\tReply:\n\t\t" + enquiry.getReply());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package display;
+
+import inventory.FlatUnit;
+
+/**
+ * A class responsible for displaying the flats of a project.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing a {@link FlatUnit} object to the console on a single line.
+ * </p>
+ */
+public class FlatUnitDisplayer extends ItemDisplayer<FlatUnit> {
+
+	/**
+	 * Renders the address and price of a single flat into the screen buffer.
+	 *
+	 * @param unit The {@link FlatUnit} object to be displayed.
+	 */
+	@Override
+	protected void render(FlatUnit unit) {
+		out.println(unit.getAddress() + "\tPrice: " + unit.getPrice());
+	}
+}
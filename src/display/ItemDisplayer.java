@@ -2,50 +2,288 @@ package display;
 
 import java.util.List;
 
+import database.IDatabase;
+import databasemgr.IItemDatabaseMgr;
+import databasemgr.Page;
+import user.User;
+
 /**
  * An abstract base class for displaying a single item or a list of items.
  * <p>
  * This class implements the {@link IDisplayer} interface and provides a
  * common, reusable method for iterating through a list of objects and
- * displaying each one. Subclasses must implement the abstract {@code display(T ob)}
+ * displaying each one. Subclasses must implement the abstract {@code render(T ob)}
  * method to define how a single item is presented.
  * </p>
+ * <p>
+ * Items are rendered into a {@link ScreenBuffer}, which is flushed to the console
+ * once per screen rather than once per line. Lists can also be displayed one page
+ * at a time, so that the time taken to show a list depends on the page size
+ * rather than on the size of the list.
+ * </p>
+ * <p>
+ * A displayer can also browse the items of a database one {@link Page} at a time
+ * with {@link #browse}, {@link #next()} and {@link #previous()}. Each page is
+ * fetched through cursors when it is shown, so only the current page is held.
+ * </p>
  */
 public abstract class ItemDisplayer<T> implements IDisplayer<T> {
 
+	/**
+	 * The default number of items on one page of a list.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	/**
+	 * The buffer into which items are rendered.
+	 */
+	protected final ScreenBuffer out = new ScreenBuffer();
+
+	/**
+	 * The database manager that pages are fetched from while browsing.
+	 */
+	private IItemDatabaseMgr<T> pageMgr;
+
+	/**
+	 * The database being browsed.
+	 */
+	private IDatabase<T> pageDatabase;
+
+	/**
+	 * The user on whose behalf the database is browsed.
+	 */
+	private User pageUser;
+
+	/**
+	 * The number of items on each page while browsing.
+	 */
+	private int pageSize;
+
+	/**
+	 * The page currently shown while browsing, or {@code null} if not browsing.
+	 */
+	private Page<T> currentPage;
+
+	/**
+	 * The number of items before the page being browsed.
+	 * <p>
+	 * Pages fetched by cursor do not count the items before them, so the
+	 * position is tracked here as the user moves from page to page.
+	 * </p>
+	 */
+	private int currentOffset;
+
 	/**
 	 * Displays a list of items.
 	 * <p>
-	 * This method iterates through the provided list and calls the abstract
-	 * {@code display(T ob)} method for each item. It also adds a numbered
-	 * prefix for each item to improve readability. If the list is empty,
-	 * it prints "NA".
+	 * This method iterates through the provided list and renders each item with
+	 * a numbered prefix to improve readability. The output is flushed once per
+	 * {@link #DEFAULT_PAGE_SIZE} items. If the list is empty, it prints "NA".
 	 * </p>
 	 *
 	 * @param itemList The {@link List} of items to be displayed.
 	 */
 	public void display(List<T> itemList) {
 		if (itemList.isEmpty()) {
-			System.out.println("NA");
+			out.println("NA");
+			out.flush();
 		} else {
 			int i = 0;
 			for (T listItem : itemList) {
-				System.out.print(++i + ". ");
-				display(listItem);
-				System.out.println("\n");
+				renderListItem(++i, listItem);
+				if (i % DEFAULT_PAGE_SIZE == 0) {
+					out.flush();
+				}
 			}
+			out.flush();
 		}
 	}
-	
+
 	/**
-	 * Abstract method to display a single item.
+	 * Displays a single page of a list of items.
 	 * <p>
-	 * Subclasses must provide their own implementation of this method to
-	 * define how an object of type {@code T} is formatted for display.
+	 * Only the items on the requested page are rendered. They keep their
+	 * position in the whole list as their number, so that the numbers shown
+	 * can be used as indices into the full list. The page is followed by a
+	 * "Page x of y" line and flushed once.
+	 * </p>
+	 *
+	 * @param itemList   The {@link List} of items to be displayed.
+	 * @param pageNumber The zero-based page to display.
+	 * @param pageSize   The number of items on a page.
+	 * @return The total number of pages in the list.
+	 * @throws IllegalArgumentException if the page size is not positive.
+	 */
+	public int display(List<T> itemList, int pageNumber, int pageSize) throws IllegalArgumentException {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Invalid page size: " + pageSize);
+		}
+
+		int pageCount = getPageCount(itemList.size(), pageSize);
+		if (itemList.isEmpty()) {
+			out.println("NA");
+		} else {
+			int page = Math.max(0, Math.min(pageNumber, pageCount - 1));
+			int end = Math.min(itemList.size(), (page + 1) * pageSize);
+			for (int i = page * pageSize; i < end; i++) {
+				renderListItem(i + 1, itemList.get(i));
+			}
+			out.println("Page " + (page + 1) + " of " + pageCount);
+		}
+		out.flush();
+		return pageCount;
+	}
+
+	/**
+	 * Displays a page of items retrieved from a database.
+	 * <p>
+	 * The items are numbered by their position in the full result, and the page
+	 * is followed by a line stating which items are shown. The output is flushed once.
+	 * </p>
+	 *
+	 * @param page The {@link Page} of items to be displayed.
+	 */
+	public void display(Page<T> page) {
+		display(page, page.getOffset());
+	}
+
+	/**
+	 * Displays a page of items, numbered from a given position.
+	 *
+	 * @param page   The {@link Page} of items to be displayed.
+	 * @param offset The number of items before the page; items are numbered from 1 if it is {@link Page#UNKNOWN_OFFSET}.
+	 */
+	private void display(Page<T> page, int offset) {
+		if (page.isEmpty()) {
+			out.println("NA");
+		} else {
+			int number = Math.max(offset, 0);
+			for (T listItem : page.getItems()) {
+				renderListItem(++number, listItem);
+			}
+			out.println("Showing items " + (Math.max(offset, 0) + 1) + " to " + number);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Starts browsing the items of a database relevant to a user, and displays the first page.
+	 *
+	 * @param mgr      The database manager that pages are fetched from.
+	 * @param database The database to be browsed.
+	 * @param user     The user on whose behalf the database is browsed.
+	 * @param pageSize The number of items on each page.
+	 * @return The first {@link Page}.
+	 * @throws IllegalArgumentException if the page size is not positive.
+	 */
+	public Page<T> browse(IItemDatabaseMgr<T> mgr, IDatabase<T> database, User user, int pageSize)
+			throws IllegalArgumentException {
+		this.pageMgr = mgr;
+		this.pageDatabase = database;
+		this.pageUser = user;
+		this.pageSize = pageSize;
+		currentPage = mgr.getPageAfter(database, user, null, pageSize);
+		currentOffset = 0;
+		display(currentPage, currentOffset);
+		return currentPage;
+	}
+
+	/**
+	 * Checks whether the page being browsed is followed by another page.
+	 *
+	 * @return {@code true} if {@link #next()} would display a page, {@code false} otherwise.
+	 */
+	public boolean hasNext() {
+		return currentPage != null && currentPage.hasNext();
+	}
+
+	/**
+	 * Checks whether the page being browsed is preceded by another page.
+	 *
+	 * @return {@code true} if {@link #previous()} would display a page, {@code false} otherwise.
+	 */
+	public boolean hasPrevious() {
+		return currentPage != null && currentPage.hasPrevious();
+	}
+
+	/**
+	 * Displays the page after the one being browsed.
+	 *
+	 * @return {@code true} if a next page was displayed, {@code false} if there is none.
+	 */
+	public boolean next() {
+		if (!hasNext()) {
+			return false;
+		}
+		currentOffset += currentPage.getItems().size();
+		currentPage = pageMgr.getPageAfter(pageDatabase, pageUser, currentPage.getNextCursor(), pageSize);
+		display(currentPage, currentOffset);
+		return true;
+	}
+
+	/**
+	 * Displays the page before the one being browsed.
+	 *
+	 * @return {@code true} if a previous page was displayed, {@code false} if there is none.
+	 */
+	public boolean previous() {
+		if (!hasPrevious()) {
+			return false;
+		}
+		currentPage = pageMgr.getPageBefore(pageDatabase, pageUser, currentPage.getPreviousCursor(), pageSize);
+		// Items may have been added or removed before the page since it was last shown.
+		currentOffset = currentPage.hasPrevious() ? Math.max(currentOffset - currentPage.getItems().size(), 0) : 0;
+		display(currentPage, currentOffset);
+		return true;
+	}
+
+	/**
+	 * Calculates how many pages a list of a given size spans.
+	 *
+	 * @param itemCount The number of items in the list.
+	 * @param pageSize  The number of items on a page.
+	 * @return The number of pages, which is at least 1.
+	 */
+	public static int getPageCount(int itemCount, int pageSize) {
+		return Math.max(1, (itemCount + pageSize - 1) / pageSize);
+	}
+
+	/**
+	 * Displays a single item.
+	 * <p>
+	 * The item is rendered by {@link #render(Object)} and flushed to the console
+	 * in a single write.
 	 * </p>
 	 *
 	 * @param ob The object of type {@code T} to be displayed.
 	 */
 	@Override
-	public abstract void display(T ob);
-}
\ No newline at end of file
+	public void display(T ob) {
+		render(ob);
+		out.flush();
+	}
+
+	/**
+	 * Renders a single item of a list, prefixed by its number.
+	 *
+	 * @param number   The one-based number of the item in the list.
+	 * @param listItem The item to be rendered.
+	 */
+	protected void renderListItem(int number, T listItem) {
+		out.print(number + ". ");
+		render(listItem);
+		out.println("\n");
+	}
+
+	/**
+	 * Abstract method to render a single item.
+	 * <p>
+	 * Subclasses must provide their own implementation of this method to
+	 * define how an object of type {@code T} is formatted, writing it to
+	 * {@link #out} without flushing.
+	 * </p>
+	 *
+	 * @param ob The object of type {@code T} to be rendered.
+	 */
+	protected abstract void render(T ob);
+}
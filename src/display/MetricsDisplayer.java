@@ -0,0 +1,41 @@
+package display;
+
+import metrics.OperationMetrics;
+
+/**
+ * A class responsible for displaying the call count and latencies of an operation.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing an {@link OperationMetrics} object to the console,
+ * with latencies shown in milliseconds.
+ * </p>
+ */
+public class MetricsDisplayer extends ItemDisplayer<OperationMetrics> {
+
+	/**
+	 * Renders the metrics of a single operation into the screen buffer.
+	 *
+	 * @param metrics The {@link OperationMetrics} object to be displayed.
+	 */
+	@Override
+	protected void render(OperationMetrics metrics) {
+		out.println("Operation:\t" + metrics.getOperation().getLabel());
+		out.println("\tCalls:\t" + metrics.getCount());
+		if (metrics.getCount() > 0) {
+			out.println("\tMean:\t" + toMillis(metrics.getMeanNanos()) + " ms");
+			out.println("\tp50:\t" + toMillis(metrics.getP50Nanos()) + " ms");
+			out.println("\tp99:\t" + toMillis(metrics.getP99Nanos()) + " ms");
+			out.println("\tMax:\t" + toMillis(metrics.getMaxNanos()) + " ms");
+		}
+	}
+
+	/**
+	 * Formats a latency in milliseconds with microsecond precision.
+	 *
+	 * @param nanos The latency in nanoseconds.
+	 * @return The formatted latency.
+	 */
+	private static String toMillis(long nanos) {
+		return String.format("%.3f", nanos / 1_000_000.0);
+	}
+}
@@ -18,9 +18,9 @@ import user.User;
 public class ProjectDisplayer extends ItemDisplayer<Project> {
 	
 	/**
-	 * Displays the complete details of a single {@link Project} object.
+	 * Renders the complete details of a single {@link Project} object.
 	 * <p>
-	 * This method prints all attributes of a project, including its name, count,
+	 * This method renders all attributes of a project, including its name, count,
 	 * neighborhood, selling price, application dates, room type, and assigned officers.
 	 * </p>
 	 *
@@ -28,37 +28,37 @@ public class ProjectDisplayer extends ItemDisplayer<Project> {
 	 * @throws IllegalArgumentException if the provided project is null.
 	 */
 	@Override
-	public void display(Project project) throws IllegalArgumentException {
+	protected void render(Project project) throws IllegalArgumentException {
 		if (project != null) {
-			System.out.println("Project details:");
+			out.println("Project details:");
 			
-			System.out.println("Project name:");
-			System.out.println("\t" + project.getName());
+			out.println("Project name:");
+			out.println("\t" + project.getName());
 	
-			System.out.println("Project count:");
-			System.out.println("\t" + project.getCount());
+			out.println("Project count:");
+			out.println("\t" + project.getCount());
 			
-			System.out.println("Neighbourhood:");
-			System.out.println("\t" + project.getNeighbourhood());
+			out.println("Neighbourhood:");
+			out.println("\t" + project.getNeighbourhood());
 			
-			System.out.println("Selling Price:");
-			System.out.println("\t" + project.getSellingPrice());
+			out.println("Selling Price:");
+			out.println("\t" + project.getSellingPrice());
 			
-			System.out.println("Application Start Date (in the following format DD-MM-YYYY):");
-			System.out.println("\t" + DateConvertor.formatLocalDate(project.getApplicationStartDate()));
+			out.println("Application Start Date (in the following format DD-MM-YYYY):");
+			out.println("\t" + DateConvertor.formatLocalDate(project.getApplicationStartDate()));
 			
-			System.out.println("Application End Date (in the following format DD-MM-YYYY):");
-			System.out.println("\t" + DateConvertor.formatLocalDate(project.getApplicationEndDate()));
+			out.println("Application End Date (in the following format DD-MM-YYYY):");
+			out.println("\t" + DateConvertor.formatLocalDate(project.getApplicationEndDate()));
 			
-			System.out.println("Room type choice:");
-			System.out.println("\t" + project.getRoomType());
+			out.println("Room type choice:");
+			out.println("\t" + project.getRoomType());
 			
-			System.out.println("Number of officers:");
-			System.out.println("\t" + project.getOfficerSlot());
+			out.println("Number of officers:");
+			out.println("\t" + project.getOfficerSlot());
 	
-			System.out.println("Officers:");
+			out.println("Officers:");
 			for (User officer : project.getOfficers()) {
-				System.out.println("\t" + officer.getName());
+				out.println("\t" + officer.getName());
 			}
 		} else {
 			throw new IllegalArgumentException("No Project");
@@ -70,7 +70,8 @@ public class ProjectDisplayer extends ItemDisplayer<Project> {
 	 * <p>
 	 * This method iterates through a list of projects and calls the overloaded
 	 * {@link #display(Project, User, boolean)} method for each one, providing
-	 * a user context. It adds a numbered prefix for each project.
+	 * a user context. It adds a numbered prefix for each project, and flushes
+	 * the output once per {@link #DEFAULT_PAGE_SIZE} projects.
 	 * </p>
 	 *
 	 * @param projectList The {@link List} of projects to display.
@@ -80,10 +81,14 @@ public class ProjectDisplayer extends ItemDisplayer<Project> {
 	public void display(List<Project> projectList, User user, boolean asApplicant) {
 		int i = 0;
 		for (Project project : projectList) {
-			System.out.print(++i + ". ");
-			display(project, user, asApplicant);
-			System.out.println("\n");
+			out.print(++i + ". ");
+			render(project, user, asApplicant);
+			out.println("\n");
+			if (i % DEFAULT_PAGE_SIZE == 0) {
+				out.flush();
+			}
 		}
+		out.flush();
 	}
 	
 	/**
@@ -91,7 +96,7 @@ public class ProjectDisplayer extends ItemDisplayer<Project> {
 	 * <p>
 	 * If the user is an applicant and the project is not visible, this method
 	 * does not display the project's details. Otherwise, it calls the main
-	 * {@link #display(Project)} method to print the project information.
+	 * {@link #render(Project)} method to render the project information.
 	 * </p>
 	 *
 	 * @param project     The project to display.
@@ -100,10 +105,23 @@ public class ProjectDisplayer extends ItemDisplayer<Project> {
 	 * @throws IllegalArgumentException if the provided project is null.
 	 */
 	public void display(Project project, User user, boolean asApplicant) throws IllegalArgumentException {
+		render(project, user, asApplicant);
+		out.flush();
+	}
+
+	/**
+	 * Renders a single project into the screen buffer, considering the user's role.
+	 *
+	 * @param project     The project to render.
+	 * @param user        The user viewing the project.
+	 * @param asApplicant A flag indicating if the user is an applicant.
+	 * @throws IllegalArgumentException if the provided project is null.
+	 */
+	private void render(Project project, User user, boolean asApplicant) throws IllegalArgumentException {
 		if (asApplicant && !project.isVisible()) {
 			return;
 		}
-		display(project);
-		System.out.println("\n");
+		render(project);
+		out.println("\n");
 	}
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import user.Applicant;
 public class ReportDisplayer extends ItemDisplayer<Applicant> {
 
 	/**
-	 * Displays a report for a single {@link Applicant} object to the standard output.
+	 * Renders a report for a single {@link Applicant} object into the screen buffer.
 	 * <p>
 	 * The report includes the applicant's name, the project they applied for,
 	 * the room type of the applied project, their age, and their marital status.
@@ -23,12 +23,12 @@ public class ReportDisplayer extends ItemDisplayer<Applicant> {
 	 * @param applicant The {@link Applicant} object whose report is to be displayed.
 	 */
 	@Override
-	public void display(Applicant applicant) {
-		System.out.println("Applicant Name:\t" + applicant.getName());
-		System.out.println("Project Name:\t" + applicant.getAppliedProject().getName());
-		System.out.println("Room Type:\t" + applicant.getAppliedProject().getRoomType());
-		System.out.println("Age:\t" + applicant.getAge());
-		System.out.println("Marital Status:\t" + applicant.getMaritalStatus().toString().toLowerCase());
-		System.out.println();
+	protected void render(Applicant applicant) {
+		out.println("Applicant Name:\t" + applicant.getName());
+		out.println("Project Name:\t" + applicant.getAppliedProject().getName());
+		out.println("Room Type:\t" + applicant.getAppliedProject().getRoomType());
+		out.println("Age:\t" + applicant.getAge());
+		out.println("Marital Status:\t" + applicant.getMaritalStatus().toString().toLowerCase());
+		out.println();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package display;
+
+/**
+ * A reusable output buffer for rendering a screen of console output.
+ * <p>
+ * Displayers append their lines to this buffer instead of printing each line
+ * directly, and the whole screen is written to {@link System#out} in a single
+ * call when {@link #flush()} is invoked. The underlying {@link StringBuilder} is
+ * kept per thread and reused across screens, so rendering does not allocate a
+ * new buffer for every list that is displayed.
+ * </p>
+ */
+public class ScreenBuffer {
+
+	/**
+	 * The initial capacity of the buffer, in characters.
+	 */
+	private static final int INITIAL_CAPACITY = 8192;
+
+	/**
+	 * The capacity above which the buffer is shrunk after a flush, so that one
+	 * unusually large screen does not pin a large buffer for the rest of the session.
+	 */
+	private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+	/**
+	 * The buffer of the current thread.
+	 */
+	private static final ThreadLocal<StringBuilder> BUFFER =
+			ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+	/**
+	 * Appends a value to the current line.
+	 *
+	 * @param value The value to append.
+	 * @return This buffer, for chaining.
+	 */
+	public ScreenBuffer print(Object value) {
+		BUFFER.get().append(value);
+		return this;
+	}
+
+	/**
+	 * Appends a value followed by a line break.
+	 *
+	 * @param value The value to append.
+	 * @return This buffer, for chaining.
+	 */
+	public ScreenBuffer println(Object value) {
+		BUFFER.get().append(value).append(System.lineSeparator());
+		return this;
+	}
+
+	/**
+	 * Appends a line break.
+	 *
+	 * @return This buffer, for chaining.
+	 */
+	public ScreenBuffer println() {
+		BUFFER.get().append(System.lineSeparator());
+		return this;
+	}
+
+	/**
+	 * Writes the buffered screen to the standard output in a single call and clears the buffer.
+	 */
+	public void flush() {
+		StringBuilder buffer = BUFFER.get();
+		if (buffer.length() > 0) {
+			System.out.print(buffer);
+			System.out.flush();
+		}
+		buffer.setLength(0);
+		if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+			buffer.trimToSize();
+			buffer.ensureCapacity(INITIAL_CAPACITY);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package display;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+import project.Project;
+import statistics.ProjectStatistics;
+
+/**
+ * A class responsible for displaying the dashboard statistics of a project.
+ * <p>
+ * This class extends {@link ItemDisplayer} and provides a specific implementation
+ * for formatting and printing a {@link ProjectStatistics} object to the console,
+ * including application counts by type and status, bookings by room type,
+ * remaining flats and answered versus unanswered enquiries.
+ * </p>
+ */
+public class StatisticsDisplayer extends ItemDisplayer<ProjectStatistics> {
+
+	/**
+	 * Renders the statistics of a single project into the screen buffer.
+	 *
+	 * @param statistics The {@link ProjectStatistics} object to be displayed.
+	 */
+	@Override
+	protected void render(ProjectStatistics statistics) {
+		out.println("Project:\t" + statistics.getProject().getName());
+		out.println("\tRemaining Flats:\t" + statistics.getRemainingFlats());
+
+		for (ApplicationType applicationType : ApplicationType.values()) {
+			out.println("\t" + applicationType + " (" + statistics.getApplicationCount(applicationType) + "):");
+			for (ApplicationStatus status : ApplicationStatus.values()) {
+				out.println("\t\t" + status + ":\t" + statistics.getApplicationCount(applicationType, status));
+			}
+		}
+
+		out.println("\tBookings by Room Type:");
+		for (Project.ROOM_TYPE roomType : Project.ROOM_TYPE.values()) {
+			out.println("\t\t" + roomType + ":\t" + statistics.getBookingCount(roomType));
+		}
+
+		out.println("\tEnquiries:");
+		out.println("\t\tAnswered:\t" + statistics.getAnsweredEnquiryCount());
+		out.println("\t\tUnanswered:\t" + statistics.getUnansweredEnquiryCount());
+	}
+}
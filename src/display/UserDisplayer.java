@@ -13,24 +13,31 @@ import user.User;
  */
 public class UserDisplayer implements IDisplayer<User> {
 
+	/**
+	 * The buffer into which the user details are rendered.
+	 */
+	private final ScreenBuffer out = new ScreenBuffer();
+
 	/**
 	 * Displays the details of a given {@link User} object to the standard output.
 	 * <p>
-	 * The output includes the user's name, user ID, password, age, and marital status.
-	 * The display is formatted for readability with newlines and tabs.
+	 * The output includes the user's name, user ID, age, and marital status.
+	 * The password is never displayed.
+	 * The display is formatted for readability with newlines and tabs, and is
+	 * written to the console as a single screen.
 	 * </p>
 	 *
 	 * @param user The {@link User} object to be displayed.
 	 */
 	@Override
 	public void display(User user) {
-		System.out.println("\n\n\n\f");
-		System.out.println("User Details:");
-		System.out.println("\tName:\t\t" + user.getName());
-		System.out.println("\tUser ID:\t" + user.getUserID());
-		System.out.println("\tPassword:\t" + user.getPassword());
-		System.out.println("\tAge:\t\t" + user.getAge());
-		System.out.println("\tMarital Status:\t" + user.getMaritalStatus().name().toLowerCase());
-		System.out.println("\n\n");
+		out.println("\n\n\n\f");
+		out.println("User Details:");
+		out.println("\tName:\t\t" + user.getName());
+		out.println("\tUser ID:\t" + user.getUserID());
+		out.println("\tAge:\t\t" + user.getAge());
+		out.println("\tMarital Status:\t" + user.getMaritalStatus().name().toLowerCase());
+		out.println("\n\n");
+		out.flush();
 	}
 }
\ No newline at end of file
@@ -156,6 +156,15 @@ public class Enquiry {
 	public String getReply() {
 		return reply;
 	}
+
+	/**
+	 * Checks whether the enquiry has been replied to.
+	 *
+	 * @return {@code true} if the enquiry has a non-blank reply, {@code false} otherwise.
+	 */
+	public boolean isAnswered() {
+		return reply != null && !reply.isBlank();
+	}
 	
 	/**
 	 * Sets the question for the enquiry.
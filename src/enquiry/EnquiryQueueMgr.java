@@ -0,0 +1,219 @@
+package enquiry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import database.IDatabase;
+import misc.CheckType;
+import project.Project;
+import user.HDBManager;
+import user.HDBOfficer;
+import user.HDBOfficial;
+import user.User;
+
+/**
+ * Maintains a work queue of unanswered enquiries for every project.
+ * <p>
+ * Each project has its own queue, ordered by age so that the oldest unanswered
+ * enquiry is handled first. Enquiries have no timestamp, so their age is the
+ * order in which they were queued: the order of the database when the data is
+ * loaded, and afterwards the order in which they are filed. Every manager
+ * also has a single queue, in the same order, of the unclaimed enquiries of
+ * all the projects they manage.
+ * </p>
+ * <p>
+ * HDB Officials claim the oldest enquiry from the projects they handle: a
+ * manager takes the head of their own queue, and an officer compares the
+ * heads of the queues of the projects they have joined. A claim therefore
+ * costs a logarithmic removal, and never depends on the total number of
+ * projects. Claiming removes the enquiry from both queues under one lock, so two officials working at the same time never
+ * claim the same enquiry. A claimed enquiry leaves the queues for good once it
+ * is replied to, or is returned to its original position if it is released
+ * unanswered.
+ * </p>
+ */
+public class EnquiryQueueMgr {
+
+	/**
+	 * Guards the queues and the claims.
+	 */
+	private static final Object lock = new Object();
+
+	/**
+	 * The queue of unclaimed, unanswered enquiries of every project, keyed by queue position.
+	 * Guarded by {@link #lock}.
+	 */
+	private static Map<Project, TreeMap<Long, Enquiry>> queues = new HashMap<>();
+
+	/**
+	 * The queue of unclaimed, unanswered enquiries of each manager's projects, keyed by queue position.
+	 * Guarded by {@link #lock}.
+	 */
+	private static Map<HDBManager, TreeMap<Long, Enquiry>> managerQueues = new HashMap<>();
+
+	/**
+	 * The queue position of every unanswered enquiry, whether claimed or not. Guarded by {@link #lock}.
+	 */
+	private static Map<Enquiry, Long> positions = new HashMap<>();
+
+	/**
+	 * The official who has claimed each claimed enquiry. Guarded by {@link #lock}.
+	 */
+	private static Map<Enquiry, HDBOfficial> claimants = new HashMap<>();
+
+	/**
+	 * The next queue position to be handed out. Guarded by {@link #lock}.
+	 */
+	private static long nextPosition;
+
+	/**
+	 * Discards all queues and rebuilds them from the unanswered enquiries in the given database.
+	 *
+	 * @param enquiryDatabase The database containing all enquiry data.
+	 */
+	public void rebuild(IDatabase<Enquiry> enquiryDatabase) {
+		synchronized (lock) {
+			queues = new HashMap<>();
+			managerQueues = new HashMap<>();
+			positions = new HashMap<>();
+			claimants = new HashMap<>();
+
+			for (Enquiry enquiry : enquiryDatabase.getDataList()) {
+				add(enquiry);
+			}
+		}
+	}
+
+	/**
+	 * Adds an enquiry to the back of its project's queue if it has not been answered.
+	 *
+	 * @param enquiry The new or no longer answered enquiry.
+	 */
+	public void add(Enquiry enquiry) {
+		if (enquiry == null || enquiry.isAnswered()) {
+			return;
+		}
+
+		synchronized (lock) {
+			if (!positions.containsKey(enquiry)) {
+				long position = nextPosition++;
+				positions.put(enquiry, position);
+				enqueue(enquiry, position);
+			}
+		}
+	}
+
+	/**
+	 * Removes an enquiry from its project's queue, whether or not it has been claimed.
+	 * <p>
+	 * This is called when the enquiry is answered or deleted.
+	 * </p>
+	 *
+	 * @param enquiry The answered or deleted enquiry.
+	 */
+	public void remove(Enquiry enquiry) {
+		synchronized (lock) {
+			Long position = positions.remove(enquiry);
+			if (position == null) {
+				return;
+			}
+
+			if (claimants.remove(enquiry) == null) {
+				dequeue(enquiry, position);
+			}
+		}
+	}
+
+	/**
+	 * Claims the oldest unclaimed enquiry that an HDB Official can reply to.
+	 * <p>
+	 * A manager can reply to the enquiries of the projects they manage, and an
+	 * officer to those of the projects they have joined. Only the head of the
+	 * manager's queue, or of each of the officer's projects' queues, is
+	 * examined, so a claim costs a logarithmic removal rather than a scan of
+	 * all enquiries or of all projects.
+	 * </p>
+	 *
+	 * @param official The HDB Official claiming an enquiry.
+	 * @return The claimed {@link Enquiry}, or {@code null} if there is none to claim.
+	 */
+	public Enquiry claimNext(HDBOfficial official) {
+		synchronized (lock) {
+			Map.Entry<Long, Enquiry> oldest = null;
+			if (CheckType.isHDBManager((User) official)) {
+				TreeMap<Long, Enquiry> queue = managerQueues.get((HDBManager) official);
+				oldest = (queue == null) ? null : queue.firstEntry();
+			} else if (CheckType.isHDBOfficer((User) official)) {
+				for (Project project : ((HDBOfficer) official).getJoinedProjects()) {
+					TreeMap<Long, Enquiry> queue = queues.get(project);
+					Map.Entry<Long, Enquiry> head = (queue == null) ? null : queue.firstEntry();
+					if (head != null && (oldest == null || head.getKey() < oldest.getKey())) {
+						oldest = head;
+					}
+				}
+			}
+
+			if (oldest == null) {
+				return null;
+			}
+			dequeue(oldest.getValue(), oldest.getKey());
+			claimants.put(oldest.getValue(), official);
+			return oldest.getValue();
+		}
+	}
+
+	/**
+	 * Returns a claimed enquiry that was not answered to its original position in its project's queue.
+	 *
+	 * @param enquiry The claimed enquiry.
+	 * @return {@code true} if the enquiry was claimed and has been returned, {@code false} otherwise.
+	 */
+	public boolean release(Enquiry enquiry) {
+		synchronized (lock) {
+			if (claimants.remove(enquiry) == null) {
+				return false;
+			}
+
+			Long position = positions.get(enquiry);
+			if (position != null) {
+				enqueue(enquiry, position);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Puts an enquiry in its project's queue and its manager's queue. The caller must hold {@link #lock}.
+	 *
+	 * @param enquiry  The enquiry.
+	 * @param position The enquiry's queue position.
+	 */
+	private static void enqueue(Enquiry enquiry, long position) {
+		queues.computeIfAbsent(enquiry.getProject(), key -> new TreeMap<>()).put(position, enquiry);
+		managerQueues.computeIfAbsent(enquiry.getProjectManager(), key -> new TreeMap<>()).put(position, enquiry);
+	}
+
+	/**
+	 * Takes an enquiry out of its project's queue and its manager's queue. The caller must hold {@link #lock}.
+	 *
+	 * @param enquiry  The enquiry.
+	 * @param position The enquiry's queue position.
+	 */
+	private static void dequeue(Enquiry enquiry, long position) {
+		TreeMap<Long, Enquiry> queue = queues.get(enquiry.getProject());
+		if (queue != null) {
+			queue.remove(position);
+			if (queue.isEmpty()) {
+				queues.remove(enquiry.getProject());
+			}
+		}
+		TreeMap<Long, Enquiry> managerQueue = managerQueues.get(enquiry.getProjectManager());
+		if (managerQueue != null) {
+			managerQueue.remove(position);
+			if (managerQueue.isEmpty()) {
+				managerQueues.remove(enquiry.getProjectManager());
+			}
+		}
+	}
+}
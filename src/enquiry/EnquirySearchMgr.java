@@ -0,0 +1,348 @@
+package enquiry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import database.IDatabase;
+
+/**
+ * Maintains an in-memory inverted index over the questions and replies of all enquiries.
+ * <p>
+ * Text is split into lower-case words, common stop words are dropped and plural
+ * endings are stripped, so that "flats" matches "flat". Every word maps to a
+ * postings list of the enquiries containing it, stored as primitive arrays in
+ * the order the enquiries were indexed. Keyword queries only visit the postings
+ * of their own words and rank the matches with BM25.
+ * </p>
+ * <p>
+ * The index is rebuilt once when the data is loaded and afterwards updated
+ * incrementally by the control layer whenever an enquiry is added, edited,
+ * replied to or deleted. A changed enquiry is re-indexed under a new document
+ * number and its old entry is marked as deleted; deleted entries are purged
+ * once they outnumber the live ones.
+ * </p>
+ */
+public class EnquirySearchMgr {
+
+	/**
+	 * The BM25 term frequency saturation parameter.
+	 */
+	private static final double K1 = 1.2;
+
+	/**
+	 * The BM25 document length normalisation parameter.
+	 */
+	private static final double B = 0.75;
+
+	/**
+	 * The minimum number of deleted entries before the index is compacted.
+	 */
+	private static final int MIN_COMPACTION_SIZE = 1024;
+
+	/**
+	 * Words that are too common to be useful in a search.
+	 */
+	private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+			"a", "an", "and", "are", "as", "at", "be", "by", "can", "do", "does", "for", "from",
+			"has", "have", "how", "i", "if", "in", "is", "it", "my", "of", "on", "or", "the",
+			"this", "that", "to", "was", "what", "when", "where", "which", "will", "with", "you"));
+
+	/**
+	 * The postings list of every word.
+	 */
+	private static Map<String, Postings> postingsMap = new HashMap<>();
+
+	/**
+	 * The indexed enquiry of every document number, or {@code null} if it was deleted.
+	 */
+	private static List<Enquiry> documents = new ArrayList<>();
+
+	/**
+	 * The number of words in every document.
+	 */
+	private static int[] documentLengths = new int[16];
+
+	/**
+	 * The distinct words of every document, used to update the document frequencies on deletion.
+	 */
+	private static List<String[]> documentTerms = new ArrayList<>();
+
+	/**
+	 * The current document number of every indexed enquiry.
+	 */
+	private static Map<Enquiry, Integer> documentNumbers = new IdentityHashMap<>();
+
+	/**
+	 * The total number of words in all live documents.
+	 */
+	private static long totalLength;
+
+	/**
+	 * Discards the index and rebuilds it from the given database.
+	 *
+	 * @param enquiryDatabase The database containing all enquiry data.
+	 */
+	public void rebuild(IDatabase<Enquiry> enquiryDatabase) {
+		rebuild(enquiryDatabase.getDataList());
+	}
+
+	/**
+	 * Adds an enquiry that was added to the database to the index.
+	 *
+	 * @param enquiry The new enquiry.
+	 */
+	public void add(Enquiry enquiry) {
+		if (enquiry == null || documentNumbers.containsKey(enquiry)) {
+			return;
+		}
+
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		int length = tokenize(enquiry.getQuestion(), frequencies) + tokenize(enquiry.getReply(), frequencies);
+		int document = documents.size();
+
+		documents.add(enquiry);
+		documentTerms.add(frequencies.keySet().toArray(new String[0]));
+		if (document == documentLengths.length) {
+			documentLengths = Arrays.copyOf(documentLengths, document * 2);
+		}
+		documentLengths[document] = length;
+		documentNumbers.put(enquiry, document);
+		totalLength += length;
+
+		for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+			postingsMap.computeIfAbsent(entry.getKey(), key -> new Postings()).add(document, entry.getValue());
+		}
+	}
+
+	/**
+	 * Removes an enquiry that was removed from the database from the index.
+	 *
+	 * @param enquiry The removed enquiry.
+	 */
+	public void remove(Enquiry enquiry) {
+		Integer document = documentNumbers.remove(enquiry);
+		if (document == null) {
+			return;
+		}
+
+		documents.set(document, null);
+		totalLength -= documentLengths[document];
+		for (String term : documentTerms.get(document)) {
+			postingsMap.get(term).liveCount--;
+		}
+		documentTerms.set(document, null);
+
+		int deletedCount = documents.size() - documentNumbers.size();
+		if (deletedCount >= MIN_COMPACTION_SIZE && deletedCount > documentNumbers.size()) {
+			List<Enquiry> liveDocuments = new ArrayList<>(documentNumbers.size());
+			for (Enquiry liveDocument : documents) {
+				if (liveDocument != null) {
+					liveDocuments.add(liveDocument);
+				}
+			}
+			rebuild(liveDocuments);
+		}
+	}
+
+	/**
+	 * Re-indexes an enquiry whose question or reply has changed.
+	 *
+	 * @param enquiry The changed enquiry.
+	 */
+	public void update(Enquiry enquiry) {
+		if (documentNumbers.containsKey(enquiry)) {
+			remove(enquiry);
+			add(enquiry);
+		}
+	}
+
+	/**
+	 * Finds the enquiries that best match a keyword query.
+	 * <p>
+	 * An enquiry matches if it contains at least one of the keywords. Matches are
+	 * ranked by BM25, so that enquiries containing more of the keywords, and
+	 * rarer keywords, come first.
+	 * </p>
+	 *
+	 * @param keywords The keywords to search for.
+	 * @param filter   A predicate the returned enquiries must satisfy, such as being visible to the searching user.
+	 * @param limit    The maximum number of enquiries to return.
+	 * @return A {@link List} of at most {@code limit} matching enquiries, best match first.
+	 */
+	public List<Enquiry> search(String keywords, Predicate<Enquiry> filter, int limit) {
+		Map<String, Integer> queryTerms = new LinkedHashMap<>();
+		tokenize(keywords, queryTerms);
+		int liveCount = documentNumbers.size();
+		if (queryTerms.isEmpty() || liveCount == 0 || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+		double[] scores = new double[documents.size()];
+		int[] matched = new int[16];
+		int matchedCount = 0;
+
+		for (String term : queryTerms.keySet()) {
+			Postings postings = postingsMap.get(term);
+			if (postings == null || postings.liveCount == 0) {
+				continue;
+			}
+
+			double idf = Math.log(1 + (liveCount - postings.liveCount + 0.5) / (postings.liveCount + 0.5));
+			for (int i = 0; i < postings.size; i++) {
+				int document = postings.documents[i];
+				if (documents.get(document) == null) {
+					continue;
+				}
+				if (scores[document] == 0) {
+					if (matchedCount == matched.length) {
+						matched = Arrays.copyOf(matched, matchedCount * 2);
+					}
+					matched[matchedCount++] = document;
+				}
+				int frequency = postings.frequencies[i];
+				scores[document] += idf * frequency * (K1 + 1)
+						/ (frequency + K1 * (1 - B + B * documentLengths[document] / averageLength));
+			}
+		}
+
+		PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1,
+				(first, second) -> Double.compare(scores[first], scores[second]));
+		for (int i = 0; i < matchedCount; i++) {
+			int document = matched[i];
+			if (filter.test(documents.get(document))) {
+				best.add(document);
+				if (best.size() > limit) {
+					best.poll();
+				}
+			}
+		}
+
+		List<Enquiry> results = new ArrayList<>(best.size());
+		while (!best.isEmpty()) {
+			results.add(documents.get(best.poll()));
+		}
+		Collections.reverse(results);
+		return results;
+	}
+
+	/**
+	 * Discards the index and rebuilds it from a list of enquiries.
+	 *
+	 * @param enquiryList The enquiries to index.
+	 */
+	private void rebuild(List<Enquiry> enquiryList) {
+		postingsMap = new HashMap<>();
+		documents = new ArrayList<>(enquiryList.size());
+		documentLengths = new int[Math.max(16, enquiryList.size())];
+		documentTerms = new ArrayList<>(enquiryList.size());
+		documentNumbers = new IdentityHashMap<>();
+		totalLength = 0;
+
+		for (Enquiry enquiry : enquiryList) {
+			add(enquiry);
+		}
+	}
+
+	/**
+	 * Splits a text into normalised words and counts them.
+	 *
+	 * @param text        The text to split, which may be {@code null}.
+	 * @param frequencies The word counts to add to.
+	 * @return The number of words added.
+	 */
+	private static int tokenize(String text, Map<String, Integer> frequencies) {
+		if (text == null) {
+			return 0;
+		}
+
+		int count = 0;
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i <= text.length(); i++) {
+			char c = (i < text.length()) ? text.charAt(i) : ' ';
+			if (Character.isLetterOrDigit(c)) {
+				word.append(Character.toLowerCase(c));
+			} else if (word.length() > 0) {
+				String term = normalise(word.toString());
+				word.setLength(0);
+				if (term != null) {
+					frequencies.merge(term, 1, Integer::sum);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Normalises a lower-case word by dropping stop words and stripping plural endings.
+	 *
+	 * @param word The word to normalise.
+	 * @return The normalised word, or {@code null} if it should not be indexed.
+	 */
+	private static String normalise(String word) {
+		if (word.length() < 2 || STOP_WORDS.contains(word)) {
+			return null;
+		}
+		if (word.length() > 4 && word.endsWith("ies")) {
+			return word.substring(0, word.length() - 3) + "y";
+		}
+		if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")) {
+			return word.substring(0, word.length() - 1);
+		}
+		return word;
+	}
+
+	/**
+	 * The documents containing a word, with the number of times the word occurs in each.
+	 */
+	private static class Postings {
+
+		/**
+		 * The document numbers, in ascending order.
+		 */
+		private int[] documents = new int[4];
+
+		/**
+		 * The number of occurrences of the word in each document.
+		 */
+		private int[] frequencies = new int[4];
+
+		/**
+		 * The number of entries in use.
+		 */
+		private int size;
+
+		/**
+		 * The number of entries whose document has not been deleted.
+		 */
+		private int liveCount;
+
+		/**
+		 * Appends a document to the postings list.
+		 *
+		 * @param document  The document number.
+		 * @param frequency The number of occurrences of the word in the document.
+		 */
+		private void add(int document, int frequency) {
+			if (size == documents.length) {
+				documents = Arrays.copyOf(documents, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			documents[size] = document;
+			frequencies[size] = frequency;
+			size++;
+			liveCount++;
+		}
+	}
+}
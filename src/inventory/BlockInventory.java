@@ -0,0 +1,274 @@
+package inventory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The flats of a single block and which of them are available.
+ * <p>
+ * The block is laid out as a grid of floors by unit numbers, and each cell of
+ * the grid has a fixed index, floor by floor from the lowest. A cell with no
+ * flat is simply never available. Availability is one bit per cell, packed 64
+ * to a word, so the flats on a floor and above are a single range of bits, and
+ * counting them is a population count of a few words.
+ * </p>
+ * <p>
+ * A flat is claimed by clearing its bit with a compare-and-set, so officers
+ * reserving flats of the same block at the same time never block each other,
+ * and exactly one of them succeeds for any given flat.
+ * </p>
+ */
+class BlockInventory {
+
+	/**
+	 * The name of the block.
+	 */
+	private final String name;
+
+	/**
+	 * The lowest floor with flats.
+	 */
+	private final int lowestFloor;
+
+	/**
+	 * The highest floor with flats.
+	 */
+	private final int highestFloor;
+
+	/**
+	 * The number of flats on each floor.
+	 */
+	private final int unitsPerFloor;
+
+	/**
+	 * The price of each cell, or {@code NaN} for a cell with no flat.
+	 */
+	private final double[] prices;
+
+	/**
+	 * The availability of each cell, one bit per cell.
+	 */
+	private final AtomicLongArray available;
+
+	/**
+	 * The ID of the application each cell is booked for, or {@code null} if it is not booked.
+	 */
+	private final AtomicReferenceArray<String> bookedApplicationIDs;
+
+	/**
+	 * Constructs an empty block with no flats.
+	 *
+	 * @param name          The name of the block.
+	 * @param lowestFloor   The lowest floor with flats.
+	 * @param highestFloor  The highest floor with flats.
+	 * @param unitsPerFloor The number of flats on each floor.
+	 */
+	BlockInventory(String name, int lowestFloor, int highestFloor, int unitsPerFloor) {
+		this.name = name;
+		this.lowestFloor = lowestFloor;
+		this.highestFloor = highestFloor;
+		this.unitsPerFloor = unitsPerFloor;
+
+		int cellCount = (highestFloor - lowestFloor + 1) * unitsPerFloor;
+		this.prices = new double[cellCount];
+		Arrays.fill(prices, Double.NaN);
+		this.available = new AtomicLongArray((cellCount + 63) >>> 6);
+		this.bookedApplicationIDs = new AtomicReferenceArray<>(cellCount);
+	}
+
+	/**
+	 * Adds a flat to the block. This is only done while the block is being built.
+	 *
+	 * @param floor               The floor of the flat.
+	 * @param unitNumber          The number of the flat on its floor.
+	 * @param price               The price of the flat.
+	 * @param bookedApplicationID The ID of the application the flat is booked for, or {@code null} if it is available.
+	 * @return {@code false} if the block already has that flat.
+	 */
+	boolean addUnit(int floor, int unitNumber, double price, String bookedApplicationID) {
+		int index = getIndex(floor, unitNumber);
+		if (!Double.isNaN(prices[index])) {
+			return false;
+		}
+
+		prices[index] = price;
+		if (bookedApplicationID == null) {
+			restore(index);
+		} else {
+			bookedApplicationIDs.set(index, bookedApplicationID);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the name of the block.
+	 *
+	 * @return The block name.
+	 */
+	String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the number of cells of the block's grid.
+	 *
+	 * @return The number of cells, including those with no flat.
+	 */
+	int getCellCount() {
+		return prices.length;
+	}
+
+	/**
+	 * Retrieves the flat in a cell.
+	 *
+	 * @param index The index of the cell.
+	 * @return The {@link FlatUnit}, or {@code null} if the cell has no flat.
+	 */
+	FlatUnit getUnit(int index) {
+		if (Double.isNaN(prices[index])) {
+			return null;
+		}
+		return new FlatUnit(name, lowestFloor + index / unitsPerFloor, index % unitsPerFloor + 1, prices[index]);
+	}
+
+	/**
+	 * Finds the cell of a flat.
+	 *
+	 * @param floor      The floor of the flat.
+	 * @param unitNumber The number of the flat on its floor.
+	 * @return The index of the cell, or -1 if the block has no such flat.
+	 */
+	int indexOf(int floor, int unitNumber) {
+		if (floor < lowestFloor || floor > highestFloor || unitNumber < 1 || unitNumber > unitsPerFloor) {
+			return -1;
+		}
+		int index = getIndex(floor, unitNumber);
+		return Double.isNaN(prices[index]) ? -1 : index;
+	}
+
+	/**
+	 * Claims a flat if it is available.
+	 *
+	 * @param index The index of the flat's cell.
+	 * @return {@code true} if the flat was available and is now claimed by the caller.
+	 */
+	boolean claim(int index) {
+		long mask = 1L << index;
+		long oldWord = available.getAndUpdate(index >>> 6, word -> word & ~mask);
+		return (oldWord & mask) != 0;
+	}
+
+	/**
+	 * Makes a claimed flat available again.
+	 *
+	 * @param index The index of the flat's cell.
+	 */
+	void restore(int index) {
+		long mask = 1L << index;
+		available.getAndUpdate(index >>> 6, word -> word | mask);
+	}
+
+	/**
+	 * Records a claimed flat as booked.
+	 *
+	 * @param index         The index of the flat's cell.
+	 * @param applicationID The ID of the application the flat is booked for.
+	 */
+	void book(int index, String applicationID) {
+		bookedApplicationIDs.set(index, applicationID);
+	}
+
+	/**
+	 * Makes a booked flat available again.
+	 *
+	 * @param index         The index of the flat's cell.
+	 * @param applicationID The application ID the flat was booked for, as returned by {@link #getBookedApplicationID}.
+	 * @return {@code true} if the flat was still booked for that application and is now available.
+	 */
+	boolean unbook(int index, String applicationID) {
+		if (!bookedApplicationIDs.compareAndSet(index, applicationID, null)) {
+			return false;
+		}
+		restore(index);
+		return true;
+	}
+
+	/**
+	 * Retrieves the application a flat is booked for.
+	 *
+	 * @param index The index of the flat's cell.
+	 * @return The application ID, or {@code null} if the flat is not booked.
+	 */
+	String getBookedApplicationID(int index) {
+		return bookedApplicationIDs.get(index);
+	}
+
+	/**
+	 * Counts the available flats on a floor and above.
+	 *
+	 * @param minFloor The lowest floor to count.
+	 * @return The number of available flats.
+	 */
+	int countAvailable(int minFloor) {
+		int start = getFirstIndex(minFloor);
+		int count = 0;
+		for (int word = start >>> 6; word < available.length(); word++) {
+			long bits = available.get(word);
+			if (word == start >>> 6) {
+				bits &= -1L << start;
+			}
+			count += Long.bitCount(bits);
+		}
+		return count;
+	}
+
+	/**
+	 * Adds the available flats on a floor and above to a list, lowest floor first.
+	 *
+	 * @param minFloor The lowest floor to look at.
+	 * @param limit    The size the list may grow to.
+	 * @param unitList The list to add the flats to.
+	 */
+	void findAvailable(int minFloor, int limit, List<FlatUnit> unitList) {
+		int start = getFirstIndex(minFloor);
+		for (int word = start >>> 6; word < available.length() && unitList.size() < limit; word++) {
+			long bits = available.get(word);
+			if (word == start >>> 6) {
+				bits &= -1L << start;
+			}
+			while (bits != 0 && unitList.size() < limit) {
+				unitList.add(getUnit((word << 6) + Long.numberOfTrailingZeros(bits)));
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/**
+	 * Computes the index of the cell of a flat.
+	 *
+	 * @param floor      The floor of the flat.
+	 * @param unitNumber The number of the flat on its floor.
+	 * @return The index of the cell.
+	 */
+	private int getIndex(int floor, int unitNumber) {
+		return (floor - lowestFloor) * unitsPerFloor + unitNumber - 1;
+	}
+
+	/**
+	 * Computes the index of the first cell on a floor or above.
+	 *
+	 * @param minFloor The floor.
+	 * @return The index of the cell, or the cell count if the floor is above the block.
+	 */
+	private int getFirstIndex(int minFloor) {
+		if (minFloor <= lowestFloor) {
+			return 0;
+		}
+		if (minFloor > highestFloor) {
+			return prices.length;
+		}
+		return (minFloor - lowestFloor) * unitsPerFloor;
+	}
+}
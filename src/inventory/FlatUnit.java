@@ -0,0 +1,121 @@
+package inventory;
+
+import java.util.Objects;
+
+/**
+ * A single flat of a project, identified by its block, floor and unit number.
+ * <p>
+ * A {@code FlatUnit} only describes a flat; whether it is available, reserved
+ * or booked is held by the project's {@link UnitInventory}.
+ * </p>
+ */
+public class FlatUnit {
+
+	/**
+	 * The name of the block, e.g. "101A".
+	 */
+	private final String block;
+
+	/**
+	 * The floor of the flat.
+	 */
+	private final int floor;
+
+	/**
+	 * The number of the flat on its floor, starting from 1.
+	 */
+	private final int unitNumber;
+
+	/**
+	 * The selling price of the flat.
+	 */
+	private final double price;
+
+	/**
+	 * Constructs a flat unit.
+	 *
+	 * @param block      The name of the block.
+	 * @param floor      The floor of the flat.
+	 * @param unitNumber The number of the flat on its floor, starting from 1.
+	 * @param price      The selling price of the flat.
+	 */
+	public FlatUnit(String block, int floor, int unitNumber, double price) {
+		this.block = block;
+		this.floor = floor;
+		this.unitNumber = unitNumber;
+		this.price = price;
+	}
+
+	/**
+	 * Retrieves the name of the block.
+	 *
+	 * @return The block name.
+	 */
+	public String getBlock() {
+		return block;
+	}
+
+	/**
+	 * Retrieves the floor of the flat.
+	 *
+	 * @return The floor.
+	 */
+	public int getFloor() {
+		return floor;
+	}
+
+	/**
+	 * Retrieves the number of the flat on its floor.
+	 *
+	 * @return The unit number, starting from 1.
+	 */
+	public int getUnitNumber() {
+		return unitNumber;
+	}
+
+	/**
+	 * Retrieves the selling price of the flat.
+	 *
+	 * @return The price.
+	 */
+	public double getPrice() {
+		return price;
+	}
+
+	/**
+	 * Retrieves the address of the flat within its project, e.g. "Blk 101A #05-12".
+	 *
+	 * @return The address.
+	 */
+	public String getAddress() {
+		return String.format("Blk %s #%02d-%02d", block, floor, unitNumber);
+	}
+
+	/**
+	 * Two flat units are equal if they have the same block, floor and unit number.
+	 *
+	 * @param ob The object to compare with.
+	 * @return {@code true} if the object is the same flat.
+	 */
+	@Override
+	public boolean equals(Object ob) {
+		if (this == ob) {
+			return true;
+		}
+		if (!(ob instanceof FlatUnit)) {
+			return false;
+		}
+		FlatUnit other = (FlatUnit) ob;
+		return floor == other.floor && unitNumber == other.unitNumber && block.equals(other.block);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(block, floor, unitNumber);
+	}
+
+	@Override
+	public String toString() {
+		return getAddress();
+	}
+}
@@ -0,0 +1,309 @@
+package inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
+
+import project.Project;
+
+/**
+ * Manages the flats of projects that have them: which are available, which
+ * are reserved and which are booked.
+ * <p>
+ * A flat is booked in two steps. An officer first reserves it for an
+ * application with {@link #reserve}, which holds the flat for
+ * {@link #RESERVATION_TIMEOUT_MINUTES} minutes, and then either confirms the
+ * reservation with {@link #confirm}, booking the flat, or releases it with
+ * {@link #release}. A reservation that is neither confirmed nor released in
+ * time expires, and its flat becomes available again. Many officers can
+ * reserve flats at the same time: claiming a flat is a single compare-and-set
+ * on its availability bit, so no lock is taken and no flat is ever reserved
+ * twice.
+ * </p>
+ * <p>
+ * Reservations wait in a delay queue ordered by expiry time. Nothing scans
+ * for expired reservations: those at the head of the queue whose time has
+ * passed are released whenever the inventory is used.
+ * </p>
+ * <p>
+ * Projects without flats are not managed here, and keep a plain count of the
+ * flats left.
+ * </p>
+ */
+public class InventoryMgr {
+
+	/**
+	 * The number of minutes a reservation holds a flat before it expires.
+	 */
+	public static final long RESERVATION_TIMEOUT_MINUTES = 5;
+
+	/**
+	 * The inventory of each project that has flats.
+	 */
+	private static final Map<Project, UnitInventory> inventories = new ConcurrentHashMap<>();
+
+	/**
+	 * The reservations that may still be held, earliest expiry first.
+	 */
+	private static final DelayQueue<Reservation> reservations = new DelayQueue<>();
+
+	/**
+	 * Replaces all inventories by those loaded from the unit file.
+	 * <p>
+	 * Every outstanding reservation is released, and the unit count of each
+	 * project with flats is set to its number of unbooked flats.
+	 * </p>
+	 *
+	 * @param inventoryList The inventories to manage, or {@code null} if they could not be loaded.
+	 */
+	public void rebuild(List<UnitInventory> inventoryList) {
+		// The flats of these reservations are discarded with their inventories.
+		for (Reservation reservation : reservations) {
+			reservation.end(Reservation.State.RELEASED);
+		}
+		reservations.clear();
+
+		inventories.clear();
+		if (inventoryList == null) {
+			return;
+		}
+		for (UnitInventory inventory : inventoryList) {
+			inventories.put(inventory.getProject(), inventory);
+			inventory.getProject().setCount(inventory.getUnbookedCount());
+		}
+	}
+
+	/**
+	 * Retrieves the inventories of all projects with flats.
+	 *
+	 * @return A {@code List} of {@link UnitInventory} objects.
+	 */
+	public List<UnitInventory> getInventoryList() {
+		return new ArrayList<>(inventories.values());
+	}
+
+	/**
+	 * Checks whether a project has flats, rather than a plain count of them.
+	 *
+	 * @param project The project.
+	 * @return {@code true} if the project's flats are managed here.
+	 */
+	public boolean hasUnits(Project project) {
+		return project != null && inventories.containsKey(project);
+	}
+
+	/**
+	 * Adds a block of available flats to a project, with the same number of flats on every floor.
+	 * The project's unit count is set to its number of unbooked flats.
+	 *
+	 * @param project       The project.
+	 * @param block         The name of the new block.
+	 * @param lowestFloor   The lowest floor with flats.
+	 * @param highestFloor  The highest floor with flats.
+	 * @param unitsPerFloor The number of flats on each floor.
+	 * @param price         The price of each flat.
+	 * @return The number of flats added.
+	 * @throws IllegalArgumentException If the block already exists or its floors, flats or price are invalid.
+	 */
+	public int addBlock(Project project, String block, int lowestFloor, int highestFloor, int unitsPerFloor, double price) {
+		if (lowestFloor < 1 || highestFloor < lowestFloor || highestFloor > UnitInventory.MAX_FLOOR
+				|| unitsPerFloor < 1 || unitsPerFloor > UnitInventory.MAX_UNIT_NUMBER) {
+			throw new IllegalArgumentException("Floors must be within 1 to " + UnitInventory.MAX_FLOOR
+					+ " and flats per floor within 1 to " + UnitInventory.MAX_UNIT_NUMBER);
+		}
+
+		List<FlatUnit> unitList = new ArrayList<>();
+		List<String> bookedApplicationIDList = new ArrayList<>();
+		for (int floor = lowestFloor; floor <= highestFloor; floor++) {
+			for (int unitNumber = 1; unitNumber <= unitsPerFloor; unitNumber++) {
+				unitList.add(new FlatUnit(block, floor, unitNumber, price));
+				bookedApplicationIDList.add(null);
+			}
+		}
+
+		// A new inventory is only published once its first block is known to be valid.
+		UnitInventory newInventory = new UnitInventory(project);
+		UnitInventory inventory = inventories.getOrDefault(project, newInventory);
+		inventory.addBlock(block, unitList, bookedApplicationIDList);
+		if (inventory == newInventory && inventories.putIfAbsent(project, newInventory) != null) {
+			// Another block was added first; add this one to its inventory.
+			inventory = inventories.get(project);
+			inventory.addBlock(block, unitList, bookedApplicationIDList);
+		}
+
+		synchronized (project) {
+			project.setCount(inventory.getUnbookedCount());
+		}
+		return unitList.size();
+	}
+
+	/**
+	 * Discards the flats of a removed project. Its outstanding reservations can no longer be confirmed.
+	 *
+	 * @param project The removed project.
+	 */
+	public void remove(Project project) {
+		inventories.remove(project);
+	}
+
+	/**
+	 * Counts the available flats of a project on a floor and above.
+	 *
+	 * @param project  The project.
+	 * @param minFloor The lowest floor to count.
+	 * @return The number of available flats, or 0 if the project has no flats.
+	 */
+	public int countAvailableUnits(Project project, int minFloor) {
+		expireReservations();
+		UnitInventory inventory = inventories.get(project);
+		return (inventory == null) ? 0 : inventory.countAvailable(minFloor);
+	}
+
+	/**
+	 * Lists the available flats of a project on a floor and above, block by block and floor by floor.
+	 *
+	 * @param project  The project.
+	 * @param minFloor The lowest floor to look at.
+	 * @param limit    The greatest number of flats to list.
+	 * @return A {@code List} of available flats, empty if the project has no flats.
+	 */
+	public List<FlatUnit> getAvailableUnits(Project project, int minFloor, int limit) {
+		expireReservations();
+		UnitInventory inventory = inventories.get(project);
+		return (inventory == null) ? new ArrayList<>() : inventory.findAvailable(minFloor, limit);
+	}
+
+	/**
+	 * Finds a flat of a project by its address, whatever its state.
+	 *
+	 * @param project    The project.
+	 * @param block      The name of the block.
+	 * @param floor      The floor of the flat.
+	 * @param unitNumber The number of the flat on its floor.
+	 * @return The {@link FlatUnit}, or {@code null} if the project has no such flat.
+	 */
+	public FlatUnit findUnit(Project project, String block, int floor, int unitNumber) {
+		UnitInventory inventory = inventories.get(project);
+		BlockInventory blockInventory = (inventory == null) ? null : inventory.getBlock(block);
+		int index = (blockInventory == null) ? -1 : blockInventory.indexOf(floor, unitNumber);
+		return (index < 0) ? null : blockInventory.getUnit(index);
+	}
+
+	/**
+	 * Reserves a flat for an application, if it is available.
+	 *
+	 * @param project       The project of the flat.
+	 * @param unit          The flat to reserve.
+	 * @param applicationID The ID of the application the flat is reserved for.
+	 * @return The held {@link Reservation}, or {@code null} if the flat is not in the project or is not available.
+	 */
+	public Reservation reserve(Project project, FlatUnit unit, String applicationID) {
+		expireReservations();
+		UnitInventory inventory = inventories.get(project);
+		BlockInventory block = (inventory == null) ? null : inventory.getBlock(unit.getBlock());
+		int index = (block == null) ? -1 : block.indexOf(unit.getFloor(), unit.getUnitNumber());
+		if (index < 0 || !block.claim(index)) {
+			return null;
+		}
+
+		Reservation reservation = new Reservation(project, block, index, block.getUnit(index), applicationID,
+				System.nanoTime() + TimeUnit.MINUTES.toNanos(RESERVATION_TIMEOUT_MINUTES));
+		reservations.add(reservation);
+		return reservation;
+	}
+
+	/**
+	 * Reserves the first available flat of a project on a floor and above, lowest floor first.
+	 *
+	 * @param project       The project.
+	 * @param minFloor      The lowest floor to consider.
+	 * @param applicationID The ID of the application the flat is reserved for.
+	 * @return The held {@link Reservation}, or {@code null} if no flat is available.
+	 */
+	public Reservation reserveAny(Project project, int minFloor, String applicationID) {
+		while (true) {
+			List<FlatUnit> unitList = getAvailableUnits(project, minFloor, 16);
+			if (unitList.isEmpty()) {
+				return null;
+			}
+			for (FlatUnit unit : unitList) {
+				Reservation reservation = reserve(project, unit, applicationID);
+				if (reservation != null) {
+					return reservation;
+				}
+			}
+			// Every listed flat was taken by someone else in the meantime; look again.
+		}
+	}
+
+	/**
+	 * Confirms a reservation, booking its flat for the application.
+	 *
+	 * @param reservation The reservation to confirm.
+	 * @return {@code true} if the flat is now booked, {@code false} if the reservation had expired or was already
+	 *         ended, or the project's flats have since been removed or reloaded.
+	 */
+	public boolean confirm(Reservation reservation) {
+		UnitInventory inventory = inventories.get(reservation.getProject());
+		if (inventory == null || inventory.getBlock(reservation.getUnit().getBlock()) != reservation.getBlock()) {
+			reservation.end(Reservation.State.RELEASED);
+			return false;
+		}
+		if (reservation.isExpired()) {
+			release(reservation);
+			return false;
+		}
+		if (!reservation.end(Reservation.State.CONFIRMED)) {
+			return false;
+		}
+		reservation.getBlock().book(reservation.getIndex(), reservation.getApplicationID());
+		return true;
+	}
+
+	/**
+	 * Releases a reservation, making its flat available again. Releasing a reservation that has already ended does nothing.
+	 *
+	 * @param reservation The reservation to release.
+	 */
+	public void release(Reservation reservation) {
+		if (reservation.end(Reservation.State.RELEASED)) {
+			reservation.getBlock().restore(reservation.getIndex());
+		}
+	}
+
+	/**
+	 * Makes the flat booked for an application available again, after the application was withdrawn.
+	 *
+	 * @param project       The project of the flat.
+	 * @param applicationID The ID of the application.
+	 * @return {@code true} if a flat of the project was booked for the application and is now available.
+	 */
+	public boolean unbook(Project project, String applicationID) {
+		UnitInventory inventory = inventories.get(project);
+		return inventory != null && inventory.unbook(applicationID);
+	}
+
+	/**
+	 * Makes the flat of a confirmed reservation available again, when the application it was booked for
+	 * could not be marked as booked.
+	 *
+	 * @param reservation The confirmed reservation.
+	 * @return {@code true} if the flat was still booked for the reservation's application and is now available.
+	 */
+	public boolean unbook(Reservation reservation) {
+		return reservation.getBlock().unbook(reservation.getIndex(), reservation.getApplicationID());
+	}
+
+	/**
+	 * Releases the reservations whose time has passed.
+	 */
+	private void expireReservations() {
+		Reservation reservation;
+		while ((reservation = reservations.poll()) != null) {
+			release(reservation);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package inventory;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import project.Project;
+
+/**
+ * A hold on a flat for an application, made by {@link InventoryMgr#reserve}.
+ * <p>
+ * While a reservation is held, no one else can reserve or book the flat. It
+ * ends in exactly one way: it is confirmed, turning it into a booking, or
+ * released, either by its holder or because it was not confirmed in time. The
+ * end is decided by a compare-and-set on its state, so a confirmation racing
+ * with the expiry of the reservation either books the flat or fails cleanly.
+ * </p>
+ */
+public class Reservation implements Delayed {
+
+	/**
+	 * The states of a reservation.
+	 */
+	enum State { HELD, CONFIRMED, RELEASED }
+
+	/**
+	 * The project of the flat.
+	 */
+	private final Project project;
+
+	/**
+	 * The block of the flat.
+	 */
+	private final BlockInventory block;
+
+	/**
+	 * The index of the flat's cell in its block.
+	 */
+	private final int index;
+
+	/**
+	 * The reserved flat.
+	 */
+	private final FlatUnit unit;
+
+	/**
+	 * The ID of the application the flat is reserved for.
+	 */
+	private final String applicationID;
+
+	/**
+	 * The value of {@link System#nanoTime()} at which the reservation expires.
+	 */
+	private final long expiryTime;
+
+	/**
+	 * The state of the reservation.
+	 */
+	private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+	/**
+	 * Constructs a held reservation.
+	 *
+	 * @param project       The project of the flat.
+	 * @param block         The block of the flat.
+	 * @param index         The index of the flat's cell in its block.
+	 * @param unit          The reserved flat.
+	 * @param applicationID The ID of the application the flat is reserved for.
+	 * @param expiryTime    The value of {@link System#nanoTime()} at which the reservation expires.
+	 */
+	Reservation(Project project, BlockInventory block, int index, FlatUnit unit, String applicationID, long expiryTime) {
+		this.project = project;
+		this.block = block;
+		this.index = index;
+		this.unit = unit;
+		this.applicationID = applicationID;
+		this.expiryTime = expiryTime;
+	}
+
+	/**
+	 * Retrieves the project of the reserved flat.
+	 *
+	 * @return The project.
+	 */
+	public Project getProject() {
+		return project;
+	}
+
+	/**
+	 * Retrieves the reserved flat.
+	 *
+	 * @return The {@link FlatUnit}.
+	 */
+	public FlatUnit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Retrieves the ID of the application the flat is reserved for.
+	 *
+	 * @return The application ID.
+	 */
+	public String getApplicationID() {
+		return applicationID;
+	}
+
+	/**
+	 * Checks whether the reservation is still held, i.e. neither confirmed nor released.
+	 * A held reservation may still have expired without having been released yet.
+	 *
+	 * @return {@code true} if the reservation is held.
+	 */
+	public boolean isHeld() {
+		return state.get() == State.HELD;
+	}
+
+	/**
+	 * Retrieves the time left before the reservation expires.
+	 *
+	 * @param unit The unit of the result.
+	 * @return The time left, negative if the reservation has expired.
+	 */
+	@Override
+	public long getDelay(TimeUnit unit) {
+		return unit.convert(expiryTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Orders reservations by expiry time.
+	 *
+	 * @param other The reservation to compare with.
+	 * @return A negative, zero or positive number as this reservation expires before, with or after the other.
+	 */
+	@Override
+	public int compareTo(Delayed other) {
+		return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Retrieves the block of the reserved flat.
+	 *
+	 * @return The block.
+	 */
+	BlockInventory getBlock() {
+		return block;
+	}
+
+	/**
+	 * Retrieves the index of the reserved flat's cell in its block.
+	 *
+	 * @return The index.
+	 */
+	int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Ends a held reservation.
+	 *
+	 * @param newState The state the reservation ends in.
+	 * @return {@code true} if the reservation was held and has been ended by this call.
+	 */
+	boolean end(State newState) {
+		return state.compareAndSet(State.HELD, newState);
+	}
+
+	/**
+	 * Checks whether the reservation has passed its expiry time.
+	 *
+	 * @return {@code true} if the reservation has expired.
+	 */
+	boolean isExpired() {
+		return System.nanoTime() - expiryTime >= 0;
+	}
+}
@@ -0,0 +1,212 @@
+package inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import project.Project;
+
+/**
+ * The flats of a project, block by block, with their availability and bookings.
+ * <p>
+ * Each block keeps its own availability bits (see {@link BlockInventory}), so
+ * adding a block never disturbs the flats already being reserved in the
+ * others. Reservations, bookings and availability queries go through
+ * {@link InventoryMgr}, which also expires reservations that were not
+ * confirmed in time.
+ * </p>
+ */
+public class UnitInventory {
+
+	/**
+	 * The highest floor a flat may be on.
+	 */
+	public static final int MAX_FLOOR = 99;
+
+	/**
+	 * The highest unit number a flat may have.
+	 */
+	public static final int MAX_UNIT_NUMBER = 99;
+
+	/**
+	 * The project the flats belong to.
+	 */
+	private final Project project;
+
+	/**
+	 * The blocks of the project, in the order they were added.
+	 */
+	private final List<BlockInventory> blocks = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Constructs an inventory with no flats.
+	 *
+	 * @param project The project the flats belong to.
+	 */
+	public UnitInventory(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Retrieves the project the flats belong to.
+	 *
+	 * @return The project.
+	 */
+	public Project getProject() {
+		return project;
+	}
+
+	/**
+	 * Adds a block of flats.
+	 * <p>
+	 * The block spans the floors of its lowest and highest flats, and as many
+	 * units per floor as its highest unit number; the flats do not need to fill
+	 * every floor.
+	 * </p>
+	 *
+	 * @param block                   The name of the block.
+	 * @param unitList                The flats of the block. Flats of other blocks are not allowed.
+	 * @param bookedApplicationIDList The ID of the application each flat is booked for, or {@code null} for each available flat.
+	 * @throws IllegalArgumentException If the block already exists, has no flats, or has an invalid or repeated flat.
+	 */
+	public synchronized void addBlock(String block, List<FlatUnit> unitList, List<String> bookedApplicationIDList) {
+		if (block == null || block.isBlank() || getBlock(block) != null) {
+			throw new IllegalArgumentException("Block " + block + " already exists or has no name");
+		}
+		if (unitList.isEmpty()) {
+			throw new IllegalArgumentException("Block " + block + " has no flats");
+		}
+
+		int lowestFloor = Integer.MAX_VALUE, highestFloor = Integer.MIN_VALUE, unitsPerFloor = 0;
+		for (FlatUnit unit : unitList) {
+			if (!block.equals(unit.getBlock()) || unit.getFloor() < 1 || unit.getFloor() > MAX_FLOOR
+					|| unit.getUnitNumber() < 1 || unit.getUnitNumber() > MAX_UNIT_NUMBER || !(unit.getPrice() >= 0)) {
+				throw new IllegalArgumentException("Invalid flat " + unit.getAddress());
+			}
+			lowestFloor = Math.min(lowestFloor, unit.getFloor());
+			highestFloor = Math.max(highestFloor, unit.getFloor());
+			unitsPerFloor = Math.max(unitsPerFloor, unit.getUnitNumber());
+		}
+
+		BlockInventory blockInventory = new BlockInventory(block, lowestFloor, highestFloor, unitsPerFloor);
+		for (int i = 0; i < unitList.size(); i++) {
+			FlatUnit unit = unitList.get(i);
+			if (!blockInventory.addUnit(unit.getFloor(), unit.getUnitNumber(), unit.getPrice(), bookedApplicationIDList.get(i))) {
+				throw new IllegalArgumentException("Repeated flat " + unit.getAddress());
+			}
+		}
+		blocks.add(blockInventory);
+	}
+
+	/**
+	 * Retrieves all the flats of the project, block by block and floor by floor.
+	 *
+	 * @return A {@code List} of every {@link FlatUnit}, whatever its state.
+	 */
+	public List<FlatUnit> getUnitList() {
+		List<FlatUnit> unitList = new ArrayList<>();
+		for (BlockInventory block : blocks) {
+			for (int i = 0; i < block.getCellCount(); i++) {
+				FlatUnit unit = block.getUnit(i);
+				if (unit != null) {
+					unitList.add(unit);
+				}
+			}
+		}
+		return unitList;
+	}
+
+	/**
+	 * Retrieves the application a flat is booked for.
+	 *
+	 * @param unit The flat.
+	 * @return The application ID, or {@code null} if the flat is not booked or not in the project.
+	 */
+	public String getBookedApplicationID(FlatUnit unit) {
+		BlockInventory block = getBlock(unit.getBlock());
+		int index = (block == null) ? -1 : block.indexOf(unit.getFloor(), unit.getUnitNumber());
+		return (index < 0) ? null : block.getBookedApplicationID(index);
+	}
+
+	/**
+	 * Makes the flat booked for an application available again.
+	 *
+	 * @param applicationID The ID of the application.
+	 * @return {@code true} if a flat was booked for the application and is now available.
+	 */
+	public boolean unbook(String applicationID) {
+		for (BlockInventory block : blocks) {
+			for (int i = 0; i < block.getCellCount(); i++) {
+				String bookedApplicationID = block.getBookedApplicationID(i);
+				if (applicationID.equals(bookedApplicationID) && block.unbook(i, bookedApplicationID)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Counts the flats that are not booked, whether available or reserved.
+	 *
+	 * @return The number of unbooked flats.
+	 */
+	public int getUnbookedCount() {
+		int count = 0;
+		for (BlockInventory block : blocks) {
+			for (int i = 0; i < block.getCellCount(); i++) {
+				if (block.getUnit(i) != null && block.getBookedApplicationID(i) == null) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Finds a block by name.
+	 *
+	 * @param name The name of the block.
+	 * @return The block, or {@code null} if the project has no such block.
+	 */
+	BlockInventory getBlock(String name) {
+		for (BlockInventory block : blocks) {
+			if (block.getName().equals(name)) {
+				return block;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Counts the available flats on a floor and above, across all blocks.
+	 *
+	 * @param minFloor The lowest floor to count.
+	 * @return The number of available flats.
+	 */
+	int countAvailable(int minFloor) {
+		int count = 0;
+		for (BlockInventory block : blocks) {
+			count += block.countAvailable(minFloor);
+		}
+		return count;
+	}
+
+	/**
+	 * Lists available flats on a floor and above, block by block and floor by floor.
+	 *
+	 * @param minFloor The lowest floor to look at.
+	 * @param limit    The greatest number of flats to list.
+	 * @return A {@code List} of available flats.
+	 */
+	List<FlatUnit> findAvailable(int minFloor, int limit) {
+		List<FlatUnit> unitList = new ArrayList<>();
+		for (BlockInventory block : blocks) {
+			if (unitList.size() >= limit) {
+				break;
+			}
+			block.findAvailable(minFloor, limit, unitList);
+		}
+		return unitList;
+	}
+}
@@ -4,12 +4,20 @@ import java.util.Scanner;
 import java.util.stream.Collectors;
 
 import application.*;
+import audit.AuditMgr;
 import database.*;
 import enquiry.*;
+import inventory.InventoryMgr;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import metrics.PersistenceEvent;
 import misc.CheckType;
 import project.*;
 import reader.*;
+import security.CredentialMgr;
+import statistics.StatisticsMgr;
 import user.*;
+import userctrl.UserMgr;
 import userinterface.*;
 import writer.*;
 
@@ -53,10 +61,25 @@ public class BTOManagementSystem {
 	 * Upon a successful login, it delegates control to the user interface to manage
 	 * user-specific actions.
 	 * </p>
+	 * <p>
+	 * If command-line arguments are given, the application instead runs as a
+	 * non-interactive command (see {@link CommandInterface}), saves the data once
+	 * if the command changed it, and exits with the command's exit code.
+	 * </p>
 	 *
-	 * @param args Command-line arguments (not used in this application).
+	 * @param args Command-line arguments describing a non-interactive command, if any.
 	 */
 	public static void main(String args[]) {
+		if (args.length > 0) {
+			loadData();
+			CommandInterface commandInterface = new CommandInterface();
+			int exitCode = commandInterface.run(args, projectDatabase, applicationDatabase, enquiryDatabase, userDatabase);
+			if (commandInterface.hasUnsavedChanges()) {
+				saveData();
+			}
+			System.exit(exitCode);
+		}
+		
 		@SuppressWarnings("resource")
 		Scanner sc = new Scanner(System.in);
 		UserInterface userInterface = new UserInterface();
@@ -77,12 +100,14 @@ public class BTOManagementSystem {
 			switch (choice) {
 				case 1:
 					System.out.print("\n\n\n\f");
-					User currentUser = userInterface.login(userDatabase);
+					String sessionToken = userInterface.login(userDatabase);
+					User currentUser = (new UserMgr()).getSessionUser(sessionToken);
 					
 					if (currentUser != null) {
 						System.out.print("\n\n\n\f");
 						System.out.println("Login Successful!\n\nWelcome " + currentUser.getName() + "\n\n");
 						userInterface.manage(currentUser, projectDatabase, applicationDatabase, enquiryDatabase, userDatabase);
+						(new UserMgr()).logout(sessionToken);
 					} else {
 						System.out.println("Login Failed. Please try again.\n\n");
 					}
@@ -104,22 +129,48 @@ public class BTOManagementSystem {
 	 * This method uses various reader classes to deserialize user, project,
 	 * application, and enquiry data. It also performs a post-loading update to
 	 * link related objects (e.g., associating applicants and officers with their
-	 * applications and projects).
+	 * applications and projects, and recording the days each officer is
+	 * committed to), to load the flats of the projects that have
+	 * them, to build the pre-aggregated project statistics and to build the
+	 * project query indexes, the project application windows (hiding projects
+	 * from applicants as they close), the enquiry
+	 * search index and the unanswered-enquiry work queues. The index of the
+	 * application audit history is read as well, but not its records.
 	 * </p>
 	 */
 	public static void loadData() {
-		ApplicantReader applicantReader = new ApplicantReader();
-		HDBOfficerReader officerReader = new HDBOfficerReader();
+		long startTime = System.nanoTime();
+		PersistenceEvent event = PersistenceEvent.start("load");
+		try {
+			ApplicantReader applicantReader = new ApplicantReader();
+			HDBOfficerReader officerReader = new HDBOfficerReader();
 
-		userDatabase.getDataList().addAll(applicantReader.read());
-		userDatabase.getDataList().addAll(officerReader.read());
-		userDatabase.getDataList().addAll((new HDBManagerReader()).read());
-		projectDatabase.setDataList((new ProjectReader()).read(userDatabase));
-		applicationDatabase.setDataList((new ApplicationReader()).read(userDatabase, projectDatabase));
-		enquiryDatabase.setDataList((new EnquiryReader()).read(userDatabase, projectDatabase));
+			userDatabase.getDataList().addAll(applicantReader.read());
+			userDatabase.getDataList().addAll(officerReader.read());
+			userDatabase.getDataList().addAll((new HDBManagerReader()).read());
+			projectDatabase.setDataList((new ProjectReader()).read(userDatabase));
+			applicationDatabase.setDataList((new ApplicationReader()).read(userDatabase, projectDatabase));
+			(new ActiveApplicationMgr()).rebuild(applicationDatabase);
+			enquiryDatabase.setDataList((new EnquiryReader()).read(userDatabase, projectDatabase));
+		
+			applicantReader.updateApplicants(userDatabase, applicationDatabase, projectDatabase);
+			officerReader.updateHDBOfficers(userDatabase, applicationDatabase, projectDatabase);
+			(new OfficerScheduleMgr()).rebuild(userDatabase);
+			(new OfficerSlotMgr()).rebuild();
+			(new InventoryMgr()).rebuild((new UnitReader()).read(projectDatabase));
+			(new WaitlistMgr()).rebuild((new WaitlistReader()).read(projectDatabase, applicationDatabase));
 		
-		applicantReader.updateApplicants(userDatabase, applicationDatabase, projectDatabase);
-		officerReader.updateHDBOfficers(userDatabase, applicationDatabase, projectDatabase);
+			(new StatisticsMgr()).rebuild(projectDatabase, applicationDatabase, enquiryDatabase);
+			(new ProjectIndexMgr()).rebuild(projectDatabase);
+			(new ProjectWindowMgr()).rebuild(projectDatabase);
+			(new ProjectWindowMgr()).addClosingJob((new ProjectMgr())::hideClosedProjects);
+			(new EnquirySearchMgr()).rebuild(enquiryDatabase);
+			(new EnquiryQueueMgr()).rebuild(enquiryDatabase);
+			(new AuditMgr()).open();
+			event.finish(getRowCount());
+		} finally {
+			MetricsMgr.record(Operation.LOAD_DATA, startTime);
+		}
 	}
 
 	/**
@@ -128,31 +179,54 @@ public class BTOManagementSystem {
 	 * This method uses writer classes to serialize the current state of projects,
 	 * enquiries, applications, and all user types back into files. It filters the
 	 * master user list into separate lists for applicants, officers, and managers
-	 * before writing.
+	 * before writing, after hashing any password still held as plaintext. The
+	 * application status transitions made since the last save are appended to
+	 * the audit history.
 	 * </p>
 	 */
 	public static void saveData() {
-		(new ProjectWriter()).write(projectDatabase.getDataList());
-		(new EnquiryWriter()).write(enquiryDatabase.getDataList());
-		(new ApplicationWriter()).write(applicationDatabase.getDataList());
+		long startTime = System.nanoTime();
+		PersistenceEvent event = PersistenceEvent.start("save");
+		try {
+			(new ProjectWriter()).write(projectDatabase.getDataList());
+			(new EnquiryWriter()).write(enquiryDatabase.getDataList());
+			(new ApplicationWriter()).write(applicationDatabase.getDataList());
+			(new UnitWriter()).write((new InventoryMgr()).getInventoryList());
+			(new WaitlistWriter()).write((new WaitlistMgr()).getWaitlistList());
+			(new AuditMgr()).save();
 		
-		// Filter and save different user types
-		(new ApplicantWriter()).write(userDatabase.getDataList()
-				.stream()
-				.filter(user -> CheckType.isApplicant(user) && !CheckType.isHDBOfficer(user))
-				.map(user -> (Applicant) user)
-				.collect(Collectors.toList()));
+			// Filter and save different user types, never writing a plaintext password
+			(new CredentialMgr()).hashAll(userDatabase.getDataList());
+			(new ApplicantWriter()).write(userDatabase.getDataList()
+					.stream()
+					.filter(user -> CheckType.isApplicant(user) && !CheckType.isHDBOfficer(user))
+					.map(user -> (Applicant) user)
+					.collect(Collectors.toList()));
 		
-		(new HDBOfficerWriter()).write(userDatabase.getDataList()
-				.stream()
-				.filter(user -> CheckType.isHDBOfficer(user))
-				.map(user -> (HDBOfficer) user)
-				.collect(Collectors.toList()));
+			(new HDBOfficerWriter()).write(userDatabase.getDataList()
+					.stream()
+					.filter(user -> CheckType.isHDBOfficer(user))
+					.map(user -> (HDBOfficer) user)
+					.collect(Collectors.toList()));
 		
-		(new HDBManagerWriter()).write(userDatabase.getDataList()
-				.stream()
-				.filter(user -> CheckType.isHDBManager(user))
-				.map(user -> (HDBManager) user)
-				.collect(Collectors.toList()));
+			(new HDBManagerWriter()).write(userDatabase.getDataList()
+					.stream()
+					.filter(user -> CheckType.isHDBManager(user))
+					.map(user -> (HDBManager) user)
+					.collect(Collectors.toList()));
+			event.finish(getRowCount());
+		} finally {
+			MetricsMgr.record(Operation.SAVE_DATA, startTime);
+		}
+	}
+
+	/**
+	 * Counts the records held in all databases, as reported in the persistence events.
+	 *
+	 * @return The total number of users, projects, applications and enquiries.
+	 */
+	private static long getRowCount() {
+		return (long) userDatabase.getDataList().size() + projectDatabase.getDataList().size()
+				+ applicationDatabase.getDataList().size() + enquiryDatabase.getDataList().size();
 	}
 }
\ No newline at end of file
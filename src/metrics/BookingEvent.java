@@ -0,0 +1,71 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted when an HDB Officer books a flat for an applicant.
+ */
+@Name("bto.Booking")
+@Label("Flat Booking")
+@Category({ "BTO Management System", "Booking" })
+@Description("An HDB Officer booking a flat for an applicant")
+public class BookingEvent extends Event {
+
+	/**
+	 * The ID of the application the flat is booked for.
+	 */
+	@Label("Application ID")
+	private String applicationID;
+
+	/**
+	 * The ID of the project the flat belongs to.
+	 */
+	@Label("Project ID")
+	private String projectID;
+
+	/**
+	 * Whether a flat was booked.
+	 */
+	@Label("Booked")
+	private boolean isBooked;
+
+	/**
+	 * The number of flats remaining in the project after the booking.
+	 */
+	@Label("Remaining Flats")
+	private int remainingCount;
+
+	/**
+	 * Starts timing a booking.
+	 *
+	 * @param applicationID The ID of the application the flat is booked for.
+	 * @param projectID     The ID of the project the flat belongs to.
+	 * @return The started event.
+	 */
+	public static BookingEvent start(String applicationID, String projectID) {
+		BookingEvent event = new BookingEvent();
+		event.applicationID = applicationID;
+		event.projectID = projectID;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the booking and commits the event if it is being recorded.
+	 *
+	 * @param isBooked       Whether a flat was booked.
+	 * @param remainingCount The number of flats remaining in the project after the booking.
+	 */
+	public void finish(boolean isBooked, int remainingCount) {
+		end();
+		if (shouldCommit()) {
+			this.isBooked = isBooked;
+			this.remainingCount = remainingCount;
+			commit();
+		}
+	}
+}
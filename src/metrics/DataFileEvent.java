@@ -0,0 +1,85 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted when a reader or writer processes a data file.
+ * <p>
+ * The event spans the whole read or write and records the number of rows and
+ * the size of the file. The fields are only filled in when the event is
+ * committed, so a reader or writer pays almost nothing while no recording is running.
+ * </p>
+ */
+@Name("bto.DataFile")
+@Label("Data File")
+@Category({ "BTO Management System", "Persistence" })
+@Description("A data file read or written by a reader or writer")
+public class DataFileEvent extends Event {
+
+	/**
+	 * The operation performed on the file.
+	 */
+	@Label("Operation")
+	private String operation;
+
+	/**
+	 * The path of the file.
+	 */
+	@Label("File")
+	private String file;
+
+	/**
+	 * The number of rows read or written.
+	 */
+	@Label("Rows")
+	private long rowCount;
+
+	/**
+	 * The size of the file after the operation.
+	 */
+	@Label("Bytes")
+	@DataAmount(DataAmount.BYTES)
+	private long byteCount;
+
+	/**
+	 * Starts timing an operation on a data file.
+	 *
+	 * @param operation The operation performed on the file, such as "read" or "write".
+	 * @param file      The path of the file.
+	 * @return The started event.
+	 */
+	public static DataFileEvent start(String operation, String file) {
+		DataFileEvent event = new DataFileEvent();
+		event.operation = operation;
+		event.file = file;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the operation and commits the event if it is being recorded.
+	 *
+	 * @param rowCount The number of rows read or written.
+	 */
+	public void finish(long rowCount) {
+		end();
+		if (shouldCommit()) {
+			this.rowCount = rowCount;
+			try {
+				byteCount = Files.size(Paths.get(file));
+			} catch (IOException e) {
+				byteCount = -1;
+			}
+			commit();
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds.
+ * <p>
+ * Latencies are counted in log-linear buckets: every power of two is split
+ * into {@link #SUB_BUCKET_COUNT} equal buckets, so that a percentile read from
+ * the histogram is never more than 12.5% above the true value, whatever the
+ * magnitude. The buckets are a fixed array of counters, so recording a latency
+ * only increments atomic counters and never allocates.
+ * </p>
+ */
+class LatencyHistogram {
+
+	/**
+	 * The number of buckets each power of two is split into.
+	 */
+	private static final int SUB_BUCKET_COUNT = 8;
+
+	/**
+	 * The number of bits needed to select a sub-bucket.
+	 */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	/**
+	 * The total number of buckets, enough for any non-negative {@code long}.
+	 */
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	/**
+	 * The number of latencies recorded in each bucket.
+	 */
+	private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * The number of latencies recorded.
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * The sum of all recorded latencies.
+	 */
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	/**
+	 * The largest recorded latency.
+	 */
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos The latency in nanoseconds. Negative values are recorded as zero.
+	 */
+	void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+
+		bucketCounts.incrementAndGet(getBucket(nanos));
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * Discards all recorded latencies.
+	 */
+	void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			bucketCounts.set(i, 0);
+		}
+		count.set(0);
+		totalNanos.set(0);
+		maxNanos.set(0);
+	}
+
+	/**
+	 * Takes a snapshot of the histogram.
+	 * <p>
+	 * Recording may continue while the snapshot is taken, in which case the
+	 * snapshot may include some of the concurrently recorded latencies.
+	 * </p>
+	 *
+	 * @param operation The operation whose latencies are recorded in this histogram.
+	 * @return The {@link OperationMetrics} summarising the recorded latencies.
+	 */
+	OperationMetrics snapshot(Operation operation) {
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = bucketCounts.get(i);
+			total += counts[i];
+		}
+
+		long max = maxNanos.get();
+		long meanNanos = (total == 0) ? 0 : totalNanos.get() / Math.max(1, count.get());
+		return new OperationMetrics(operation, total, meanNanos,
+				getPercentile(counts, total, 0.50, max), getPercentile(counts, total, 0.99, max), max);
+	}
+
+	/**
+	 * Finds the latency below which a given fraction of the recorded latencies lie.
+	 *
+	 * @param counts   The bucket counts.
+	 * @param total    The sum of the bucket counts.
+	 * @param fraction The fraction of latencies, between 0 and 1.
+	 * @param max      The largest recorded latency, used to cap the result.
+	 * @return The upper bound of the bucket holding the percentile, or 0 if nothing was recorded.
+	 */
+	private static long getPercentile(long[] counts, long total, double fraction, long max) {
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(total * fraction));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(getUpperBound(i), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Finds the bucket of a latency.
+	 *
+	 * @param nanos The non-negative latency in nanoseconds.
+	 * @return The index of the bucket.
+	 */
+	private static int getBucket(long nanos) {
+		if (nanos < SUB_BUCKET_COUNT) {
+			return (int) nanos;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Finds the largest latency that falls into a bucket.
+	 *
+	 * @param bucket The index of the bucket.
+	 * @return The largest latency of the bucket in nanoseconds.
+	 */
+	private static long getUpperBound(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKET_COUNT;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((SUB_BUCKET_COUNT + subBucket) * width) + width - 1;
+	}
+}
@@ -0,0 +1,68 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the call counts and latencies of the instrumented {@link Operation}s.
+ * <p>
+ * Instrumented code reads {@link System#nanoTime()} when an operation starts and
+ * passes it to {@link #record(Operation, long)} when the operation ends. The
+ * histograms are created once, one per operation, so recording a call never
+ * allocates. Recording is a static method for the same reason: it is called on
+ * the hot paths of the control and database layers, where even a short-lived
+ * manager object per call is unwanted.
+ * </p>
+ */
+public class MetricsMgr {
+
+	/**
+	 * The latency histogram of every operation, indexed by {@link Operation#ordinal()}.
+	 */
+	private static final LatencyHistogram[] histograms = createHistograms();
+
+	/**
+	 * Records a completed call of an operation.
+	 *
+	 * @param operation The operation that was called.
+	 * @param startTime The value of {@link System#nanoTime()} when the call started.
+	 */
+	public static void record(Operation operation, long startTime) {
+		histograms[operation.ordinal()].record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Retrieves a snapshot of the metrics of every operation.
+	 *
+	 * @return A {@link List} of {@link OperationMetrics}, in the order the operations are declared.
+	 */
+	public List<OperationMetrics> getMetrics() {
+		List<OperationMetrics> metricsList = new ArrayList<>();
+		for (Operation operation : Operation.values()) {
+			metricsList.add(histograms[operation.ordinal()].snapshot(operation));
+		}
+		return metricsList;
+	}
+
+	/**
+	 * Discards the metrics recorded so far for every operation.
+	 */
+	public void reset() {
+		for (LatencyHistogram histogram : histograms) {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Creates an empty histogram for every operation.
+	 *
+	 * @return The histograms, indexed by {@link Operation#ordinal()}.
+	 */
+	private static LatencyHistogram[] createHistograms() {
+		LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		return histograms;
+	}
+}
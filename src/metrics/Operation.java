@@ -0,0 +1,95 @@
+package metrics;
+
+/**
+ * The instrumented operations whose call counts and latencies are recorded by {@link MetricsMgr}.
+ */
+public enum Operation {
+
+	/**
+	 * Logging in with a user ID and password.
+	 */
+	LOGIN("Login"),
+
+	/**
+	 * An applicant applying for a project.
+	 */
+	APPLY_FOR_PROJECT("Apply for project"),
+
+	/**
+	 * An HDB Officer booking a flat for an applicant.
+	 */
+	BOOK_FLAT("Book flat"),
+
+	/**
+	 * An HDB Manager updating the status of an application.
+	 */
+	UPDATE_STATUS("Update application status"),
+
+	/**
+	 * Retrieving the applications relevant to a user.
+	 */
+	GET_APPLICATIONS("Get applications"),
+
+	/**
+	 * Retrieving an application by its ID.
+	 */
+	GET_APPLICATION_BY_ID("Get application by ID"),
+
+	/**
+	 * Retrieving the enquiries relevant to a user.
+	 */
+	GET_ENQUIRIES("Get enquiries"),
+
+	/**
+	 * Retrieving the projects relevant to a user.
+	 */
+	GET_PROJECTS("Get projects"),
+
+	/**
+	 * Retrieving a project by its ID.
+	 */
+	GET_PROJECT_BY_ID("Get project by ID"),
+
+	/**
+	 * Retrieving a user by their ID.
+	 */
+	GET_USER("Get user by ID"),
+
+	/**
+	 * Loading all data from file.
+	 */
+	LOAD_DATA("Load data"),
+
+	/**
+	 * Saving all data to file.
+	 */
+	SAVE_DATA("Save data"),
+
+	/**
+	 * Querying the audit history of a project's applications.
+	 */
+	QUERY_AUDIT("Query audit history");
+
+	/**
+	 * The name of the operation as shown to users.
+	 */
+	private final String label;
+
+	/**
+	 * Constructs an operation.
+	 *
+	 * @param label The name of the operation as shown to users.
+	 */
+	Operation(String label) {
+		this.label = label;
+	}
+
+	/**
+	 * Retrieves the name of the operation as shown to users.
+	 *
+	 * @return The label of the operation.
+	 */
+	public String getLabel() {
+		return label;
+	}
+}
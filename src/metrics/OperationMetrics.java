@@ -0,0 +1,114 @@
+package metrics;
+
+/**
+ * A snapshot of the call count and latency distribution of an {@link Operation}.
+ * <p>
+ * Latencies are in nanoseconds. Percentiles are read from a bucketed histogram
+ * and may overstate the true value by up to 12.5%.
+ * </p>
+ */
+public class OperationMetrics {
+
+	/**
+	 * The operation the metrics describe.
+	 */
+	private final Operation operation;
+
+	/**
+	 * The number of calls recorded.
+	 */
+	private final long count;
+
+	/**
+	 * The mean latency.
+	 */
+	private final long meanNanos;
+
+	/**
+	 * The median latency.
+	 */
+	private final long p50Nanos;
+
+	/**
+	 * The 99th percentile latency.
+	 */
+	private final long p99Nanos;
+
+	/**
+	 * The largest latency.
+	 */
+	private final long maxNanos;
+
+	/**
+	 * Constructs a new snapshot.
+	 *
+	 * @param operation The operation the metrics describe.
+	 * @param count     The number of calls recorded.
+	 * @param meanNanos The mean latency.
+	 * @param p50Nanos  The median latency.
+	 * @param p99Nanos  The 99th percentile latency.
+	 * @param maxNanos  The largest latency.
+	 */
+	public OperationMetrics(Operation operation, long count, long meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+		this.operation = operation;
+		this.count = count;
+		this.meanNanos = meanNanos;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/**
+	 * Retrieves the operation the metrics describe.
+	 *
+	 * @return The operation.
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Retrieves the number of calls recorded.
+	 *
+	 * @return The call count.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Retrieves the mean latency.
+	 *
+	 * @return The mean latency in nanoseconds.
+	 */
+	public long getMeanNanos() {
+		return meanNanos;
+	}
+
+	/**
+	 * Retrieves the median latency.
+	 *
+	 * @return The median latency in nanoseconds.
+	 */
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	/**
+	 * Retrieves the 99th percentile latency.
+	 *
+	 * @return The 99th percentile latency in nanoseconds.
+	 */
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+
+	/**
+	 * Retrieves the largest latency.
+	 *
+	 * @return The largest latency in nanoseconds.
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+}
@@ -0,0 +1,58 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted when all data is loaded from or saved to file.
+ * <p>
+ * The individual files are recorded as nested {@link DataFileEvent}s.
+ * </p>
+ */
+@Name("bto.Persistence")
+@Label("Load or Save Data")
+@Category({ "BTO Management System", "Persistence" })
+@Description("Loading or saving the data of every database")
+public class PersistenceEvent extends Event {
+
+	/**
+	 * The operation performed, "load" or "save".
+	 */
+	@Label("Operation")
+	private String operation;
+
+	/**
+	 * The total number of users, projects, applications and enquiries loaded or saved.
+	 */
+	@Label("Rows")
+	private long rowCount;
+
+	/**
+	 * Starts timing the loading or saving of all data.
+	 *
+	 * @param operation The operation performed, "load" or "save".
+	 * @return The started event.
+	 */
+	public static PersistenceEvent start(String operation) {
+		PersistenceEvent event = new PersistenceEvent();
+		event.operation = operation;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the operation and commits the event if it is being recorded.
+	 *
+	 * @param rowCount The total number of records loaded or saved.
+	 */
+	public void finish(long rowCount) {
+		end();
+		if (shouldCommit()) {
+			this.rowCount = rowCount;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted when a database manager answers a query.
+ */
+@Name("bto.Query")
+@Label("Database Query")
+@Category({ "BTO Management System", "Query" })
+@Description("A query answered by a database manager")
+public class QueryEvent extends Event {
+
+	/**
+	 * The name of the query.
+	 */
+	@Label("Query")
+	private String query;
+
+	/**
+	 * The number of records in the database that was queried.
+	 */
+	@Label("Scanned Rows")
+	private long scannedCount;
+
+	/**
+	 * The number of records returned.
+	 */
+	@Label("Result Rows")
+	private long resultCount;
+
+	/**
+	 * Starts timing a query.
+	 *
+	 * @param query The name of the query.
+	 * @return The started event.
+	 */
+	public static QueryEvent start(String query) {
+		QueryEvent event = new QueryEvent();
+		event.query = query;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the query and commits the event if it is being recorded.
+	 *
+	 * @param scannedCount The number of records in the database that was queried.
+	 * @param resultCount  The number of records returned.
+	 */
+	public void finish(long scannedCount, long resultCount) {
+		end();
+		if (shouldCommit()) {
+			this.scannedCount = scannedCount;
+			this.resultCount = resultCount;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package misc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A set of days, held as sorted, non-overlapping ranges of whole days.
+ * <p>
+ * Each range is stored by its first day, counted in epoch days, and ranges
+ * that overlap or touch are merged as they are added. Because the ranges are
+ * disjoint and sorted, the only range that can overlap a query is the last one
+ * starting on or before the query's last day, so an overlap check is a single
+ * {@link TreeMap#floorEntry} lookup. Ranges are inclusive at both ends.
+ * </p>
+ * <p>
+ * Days cannot be removed individually, since the ranges they came from are
+ * lost when merged; a set that needs to shrink is rebuilt instead.
+ * </p>
+ */
+public class DateRangeSet {
+
+	/**
+	 * The last day of each range, keyed by its first day, both in epoch days.
+	 */
+	private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+	/**
+	 * Adds the days of a range to the set.
+	 *
+	 * @param start The first day of the range.
+	 * @param end   The last day of the range. A range ending before it starts is ignored.
+	 */
+	public void add(LocalDate start, LocalDate end) {
+		long first = start.toEpochDay(), last = end.toEpochDay();
+		if (last < first) {
+			return;
+		}
+
+		Map.Entry<Long, Long> before = ranges.floorEntry(first);
+		if (before != null && before.getValue() >= first - 1) {
+			first = before.getKey();
+			last = Math.max(last, before.getValue());
+		}
+		Map.Entry<Long, Long> after;
+		while ((after = ranges.ceilingEntry(first)) != null && after.getKey() <= last + 1) {
+			last = Math.max(last, after.getValue());
+			ranges.remove(after.getKey());
+		}
+		ranges.put(first, last);
+	}
+
+	/**
+	 * Checks whether any day of a range is in the set.
+	 *
+	 * @param start The first day of the range.
+	 * @param end   The last day of the range.
+	 * @return {@code true} if the range shares at least one day with the set.
+	 */
+	public boolean overlaps(LocalDate start, LocalDate end) {
+		if (end.isBefore(start)) {
+			return false;
+		}
+		Map.Entry<Long, Long> candidate = ranges.floorEntry(end.toEpochDay());
+		return candidate != null && candidate.getValue() >= start.toEpochDay();
+	}
+
+	/**
+	 * Selects the items whose ranges share no day with the set, in a single sweep.
+	 * <p>
+	 * The items must be sorted by the first day of their ranges. The sweep then
+	 * moves forward through the set's ranges only, taking time proportional to
+	 * the number of items plus the number of ranges.
+	 * </p>
+	 *
+	 * @param <T>      The type of the items.
+	 * @param itemList The items, sorted by the first day of their ranges.
+	 * @param start    Gives the first day of an item's range.
+	 * @param end      Gives the last day of an item's range.
+	 * @return A {@code List} of the items that do not overlap the set, in their original order.
+	 */
+	public <T> List<T> filterDisjoint(List<T> itemList, Function<T, LocalDate> start, Function<T, LocalDate> end) {
+		List<T> disjointList = new ArrayList<>();
+		List<Map.Entry<Long, Long>> rangeList = new ArrayList<>(ranges.entrySet());
+		int rangeIndex = 0;
+
+		for (T item : itemList) {
+			long first = start.apply(item).toEpochDay(), last = end.apply(item).toEpochDay();
+			// Ranges ending before this item starts also end before every later item starts.
+			while (rangeIndex < rangeList.size() && rangeList.get(rangeIndex).getValue() < first) {
+				rangeIndex++;
+			}
+			if (last < first || rangeIndex == rangeList.size() || rangeList.get(rangeIndex).getKey() > last) {
+				disjointList.add(item);
+			}
+		}
+		return disjointList;
+	}
+
+	/**
+	 * Retrieves the number of disjoint ranges in the set.
+	 *
+	 * @return The number of ranges.
+	 */
+	public int getRangeCount() {
+		return ranges.size();
+	}
+}
@@ -40,4 +40,49 @@ public interface IFileWorker {
 	 * The file path for storing application data.
 	 */
 	static final String applicationFile = "data/ApplicationFile.txt";
-}
\ No newline at end of file
+    
+	/**
+	 * The file path for storing the flats of projects.
+	 */
+	static final String unitFile = "data/UnitFile.txt";
+    
+	/**
+	 * The file path for storing the waitlists of projects.
+	 */
+	static final String waitlistFile = "data/WaitlistFile.txt";
+    
+	/**
+	 * The file path for storing the binary records of the application audit history.
+	 */
+	static final String auditFile = "data/AuditFile.dat";
+    
+	/**
+	 * The file path for storing the block index of the application audit history.
+	 */
+	static final String auditIndexFile = "data/AuditIndexFile.dat";
+    
+	/**
+	 * The file path for storing the project IDs referred to by the application audit history.
+	 */
+	static final String auditProjectFile = "data/AuditProjectFile.txt";
+    
+	/**
+	 * The file path for storing the checkpoints of the application audit history.
+	 */
+	static final String auditCheckpointFile = "data/AuditCheckpointFile.dat";
+    
+	/**
+	 * The default file path for exporting the applicant report as CSV.
+	 */
+	static final String reportCSVFile = "data/ReportFile.csv";
+    
+	/**
+	 * The default file path for exporting the applicant report as JSON.
+	 */
+	static final String reportJSONFile = "data/ReportFile.json";
+    
+	/**
+	 * The default file path for dumping the operation latency metrics.
+	 */
+	static final String metricsFile = "data/MetricsFile.csv";
+}
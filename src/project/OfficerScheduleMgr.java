@@ -0,0 +1,192 @@
+package project;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import database.IDatabase;
+import misc.CheckType;
+import misc.DateRangeSet;
+import user.HDBOfficer;
+import user.User;
+
+/**
+ * Keeps track of the days each HDB Officer is committed to a project.
+ * <p>
+ * An officer is committed to the application period of every project they
+ * have joined or registered for, and cannot register for another project whose
+ * period shares a day with any of them. Each officer's committed days are kept
+ * in a {@link DateRangeSet}, so checking a project is a single tree lookup
+ * however many projects the officer handles, and the projects an officer can
+ * still join are found in one sweep over all projects.
+ * </p>
+ * <p>
+ * The sets are updated as officers register and join. When a project's dates
+ * may have changed, no officer's set is searched: a version number is bumped
+ * instead, and each set is rebuilt from its officer's projects the next time
+ * it is used.
+ * </p>
+ */
+public class OfficerScheduleMgr {
+
+	/**
+	 * The committed days of each officer.
+	 */
+	private static final Map<HDBOfficer, Schedule> schedules = new ConcurrentHashMap<>();
+
+	/**
+	 * The version of the project dates, bumped whenever they may have changed.
+	 */
+	private static final AtomicLong datesVersion = new AtomicLong();
+
+	/**
+	 * Discards all schedules and builds those of every officer in the database.
+	 *
+	 * @param userDatabase The database containing all users.
+	 */
+	public void rebuild(IDatabase<User> userDatabase) {
+		schedules.clear();
+		for (User user : userDatabase.getDataList()) {
+			if (CheckType.isHDBOfficer(user)) {
+				getSchedule((HDBOfficer) user);
+			}
+		}
+	}
+
+	/**
+	 * Commits an officer to a project they have joined or registered for.
+	 *
+	 * @param officer The officer.
+	 * @param project The project.
+	 */
+	public void add(HDBOfficer officer, Project project) {
+		Schedule schedule = getSchedule(officer);
+		synchronized (schedule) {
+			addProject(schedule.dateRanges, project);
+		}
+	}
+
+	/**
+	 * Rebuilds an officer's schedule after a project has been removed from their joined or registered projects.
+	 *
+	 * @param officer The officer.
+	 */
+	public void refresh(HDBOfficer officer) {
+		schedules.put(officer, buildSchedule(officer));
+	}
+
+	/**
+	 * Marks every schedule as out of date, after the dates of a project may have changed.
+	 */
+	public void invalidate() {
+		datesVersion.incrementAndGet();
+	}
+
+	/**
+	 * Checks whether an officer is free for the whole application period of a project.
+	 *
+	 * @param officer The officer.
+	 * @param project The project.
+	 * @return {@code true} if the project's period shares no day with those of the officer's projects.
+	 */
+	public boolean isAvailable(HDBOfficer officer, Project project) {
+		if (project.getApplicationStartDate() == null || project.getApplicationEndDate() == null) {
+			return true;
+		}
+		Schedule schedule = getSchedule(officer);
+		synchronized (schedule) {
+			return !schedule.dateRanges.overlaps(project.getApplicationStartDate(), project.getApplicationEndDate());
+		}
+	}
+
+	/**
+	 * Selects the projects whose application periods an officer is free for.
+	 *
+	 * @param officer     The officer.
+	 * @param projectList The projects to select from.
+	 * @return A {@code List} of the projects the officer is free for, in order of their start dates.
+	 */
+	public List<Project> getAvailableProjects(HDBOfficer officer, List<Project> projectList) {
+		List<Project> datedList = projectList.stream()
+				.filter(project -> project.getApplicationStartDate() != null && project.getApplicationEndDate() != null)
+				.sorted(Comparator.comparing(Project::getApplicationStartDate))
+				.collect(Collectors.toList());
+
+		Schedule schedule = getSchedule(officer);
+		synchronized (schedule) {
+			return schedule.dateRanges.filterDisjoint(datedList, Project::getApplicationStartDate, Project::getApplicationEndDate);
+		}
+	}
+
+	/**
+	 * Retrieves the up-to-date schedule of an officer, building it if needed.
+	 *
+	 * @param officer The officer.
+	 * @return The officer's schedule.
+	 */
+	private static Schedule getSchedule(HDBOfficer officer) {
+		Schedule schedule = schedules.get(officer);
+		if (schedule == null || schedule.version != datesVersion.get()) {
+			schedule = buildSchedule(officer);
+			schedules.put(officer, schedule);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Builds the schedule of an officer from the projects they have joined or registered for.
+	 *
+	 * @param officer The officer.
+	 * @return The officer's schedule.
+	 */
+	private static Schedule buildSchedule(HDBOfficer officer) {
+		Schedule schedule = new Schedule(datesVersion.get());
+		List<Project> projectList = new ArrayList<>(officer.getJoinedProjects());
+		projectList.addAll(officer.getRegisteredProjects());
+		for (Project project : projectList) {
+			addProject(schedule.dateRanges, project);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Adds the application period of a project to a set of days.
+	 *
+	 * @param dateRanges The set of days.
+	 * @param project    The project. A project without dates, or a missing project, adds nothing.
+	 */
+	private static void addProject(DateRangeSet dateRanges, Project project) {
+		if (project != null && project.getApplicationStartDate() != null && project.getApplicationEndDate() != null) {
+			dateRanges.add(project.getApplicationStartDate(), project.getApplicationEndDate());
+		}
+	}
+
+	/**
+	 * The committed days of an officer.
+	 */
+	private static class Schedule {
+
+		/**
+		 * The version of the project dates the schedule was built from.
+		 */
+		private final long version;
+
+		/**
+		 * The days of the application periods of the officer's projects. Guarded by the schedule's lock.
+		 */
+		private final DateRangeSet dateRanges = new DateRangeSet();
+
+		/**
+		 * Constructs an empty schedule.
+		 *
+		 * @param version The version of the project dates the schedule is built from.
+		 */
+		private Schedule(long version) {
+			this.version = version;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package project;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import user.HDBOfficer;
+
+/**
+ * Keeps track of the officer slots of each project that are already filled.
+ * <p>
+ * A slot is claimed when an officer's registration for a project is approved,
+ * and a project never takes more officers than it has slots. Each project has
+ * its own counter of filled slots, and a slot is claimed with a
+ * compare-and-set on that counter, so managers approving registrations at the
+ * same time never overfill a project, and approvals for different projects
+ * never wait for one another.
+ * </p>
+ * <p>
+ * The counters are built lazily from each project's officers the first time
+ * the project is used, and are discarded when the data is reloaded. The number
+ * of slots is read from the project on every claim, so a project whose slots
+ * are reduced below its officers simply takes no more of them.
+ * </p>
+ */
+public class OfficerSlotMgr {
+
+	/**
+	 * The filled slots of each project that has been used.
+	 */
+	private static final Map<Project, Slots> slots = new ConcurrentHashMap<>();
+
+	/**
+	 * Discards all counters, so that they are rebuilt from the projects' officers when next used.
+	 */
+	public void rebuild() {
+		slots.clear();
+	}
+
+	/**
+	 * Discards the counter of a removed project.
+	 *
+	 * @param project The removed project.
+	 */
+	public void remove(Project project) {
+		slots.remove(project);
+	}
+
+	/**
+	 * Claims an officer slot of a project for an officer, and adds the officer to the project.
+	 *
+	 * @param project The project.
+	 * @param officer The officer joining the project.
+	 * @return {@code true} if a slot was claimed, {@code false} if every slot is filled or the officer
+	 *         already handles the project.
+	 */
+	public boolean claim(Project project, HDBOfficer officer) {
+		Slots projectSlots = getSlots(project);
+		if (!projectSlots.officers.add(officer)) {
+			return false;
+		}
+
+		int filled;
+		do {
+			filled = projectSlots.filled.get();
+			if (filled >= project.getOfficerSlot()) {
+				projectSlots.officers.remove(officer);
+				return false;
+			}
+		} while (!projectSlots.filled.compareAndSet(filled, filled + 1));
+
+		synchronized (project) {
+			project.getOfficers().add(officer);
+		}
+		return true;
+	}
+
+	/**
+	 * Gives back the slot an officer claimed, and removes the officer from the project,
+	 * when the registration it was claimed for could not be approved.
+	 *
+	 * @param project The project.
+	 * @param officer The officer who claimed the slot.
+	 */
+	public void release(Project project, HDBOfficer officer) {
+		Slots projectSlots = getSlots(project);
+		synchronized (project) {
+			project.getOfficers().remove(officer);
+		}
+		if (projectSlots.officers.remove(officer)) {
+			projectSlots.filled.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Retrieves the number of officer slots of a project that are still free.
+	 *
+	 * @param project The project.
+	 * @return The number of free slots, never negative.
+	 */
+	public int getFreeSlots(Project project) {
+		return Math.max(0, project.getOfficerSlot() - getSlots(project).filled.get());
+	}
+
+	/**
+	 * Retrieves the counter of a project, building it from the project's officers if needed.
+	 *
+	 * @param project The project.
+	 * @return The project's counter.
+	 */
+	private static Slots getSlots(Project project) {
+		return slots.computeIfAbsent(project, Slots::new);
+	}
+
+	/**
+	 * The filled officer slots of a project.
+	 */
+	private static class Slots {
+
+		/**
+		 * The officers handling the project.
+		 */
+		private final Set<HDBOfficer> officers = ConcurrentHashMap.newKeySet();
+
+		/**
+		 * The number of filled slots.
+		 */
+		private final AtomicInteger filled = new AtomicInteger();
+
+		/**
+		 * Constructs the counter of a project from the officers it already has.
+		 *
+		 * @param project The project.
+		 */
+		private Slots(Project project) {
+			synchronized (project) {
+				for (HDBOfficer officer : project.getOfficers()) {
+					if (officer != null && officers.add(officer)) {
+						filled.incrementAndGet();
+					}
+				}
+			}
+		}
+	}
+}
@@ -80,8 +80,21 @@ public class Project {
 	
 	/**
 	 * A flag indicating whether the project is visible to applicants.
+	 * <p>
+	 * It is volatile as {@link ProjectWindowMgr} changes it from its background thread.
+	 * </p>
 	 */
-	private boolean isVisible;
+	private volatile boolean isVisible;
+	
+	/**
+	 * A flag indicating whether applications are currently accepted for the project.
+	 * <p>
+	 * This is not persisted: it is derived from the application dates when the
+	 * project is created and kept up to date by {@link ProjectWindowMgr} as the
+	 * dates pass, so that checking it needs no date comparison.
+	 * </p>
+	 */
+	private volatile boolean isOpenForApplications;
 	
 	/**
 	 * Constructs a new Project instance with all its details.
@@ -114,6 +127,7 @@ public class Project {
 		this.officerSlot = officerSlot;
 		this.officers = officers;
 		this.isVisible = isVisibile;
+		this.isOpenForApplications = isInApplicationWindow(LocalDate.now());
 	}
 
 	/**
@@ -224,6 +238,26 @@ public class Project {
 		return isVisible;
 	}
 
+	/**
+	 * Checks if applications are currently accepted for the project.
+	 *
+	 * @return {@code true} if the application period is open, {@code false} otherwise.
+	 */
+	public boolean isOpenForApplications() {
+		return isOpenForApplications;
+	}
+
+	/**
+	 * Checks if a date falls within the project's application period, both ends included.
+	 *
+	 * @param date The date to check.
+	 * @return {@code true} if the date is within the application period, {@code false} otherwise.
+	 */
+	public boolean isInApplicationWindow(LocalDate date) {
+		return applicationStartDate != null && applicationEndDate != null
+				&& !date.isBefore(applicationStartDate) && !date.isAfter(applicationEndDate);
+	}
+
 	/**
 	 * Sets the number of units in the project.
 	 *
@@ -260,6 +294,15 @@ public class Project {
 		this.isVisible = isVisible;
 	}
 
+	/**
+	 * Opens or closes the project for applications.
+	 *
+	 * @param isOpenForApplications Whether applications are accepted.
+	 */
+	public void setOpenForApplications(boolean isOpenForApplications) {
+		this.isOpenForApplications = isOpenForApplications;
+	}
+
 	/**
 	 * Sets the name of the project.
 	 *
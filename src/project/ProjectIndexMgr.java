@@ -0,0 +1,381 @@
+package project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import database.IDatabase;
+
+/**
+ * Maintains the secondary indexes over the project database used by {@link ProjectQuery}.
+ * <p>
+ * Neighbourhood and room type are kept in hash indexes, and selling price and
+ * application start date in sorted indexes. The indexes are built once when
+ * the data is loaded and afterwards kept up to date by the control layer when
+ * projects are created, edited or removed.
+ * </p>
+ * <p>
+ * This class also keeps a sorted view of all projects for every {@link ProjectSort},
+ * so that projects can be listed in either order without sorting them per request.
+ * </p>
+ * <p>
+ * Projects are re-indexed from several threads at once, for example when
+ * flats of different projects are booked concurrently, so every change to the
+ * indexes is made under a single lock. Lookups copy their results under the
+ * same lock, except for the sorted views, which are concurrent maps that can
+ * be traversed while they are being updated.
+ * </p>
+ */
+public class ProjectIndexMgr {
+
+	/**
+	 * Guards all indexes.
+	 */
+	private static final Object lock = new Object();
+
+	/**
+	 * The database the indexes were built from, or {@code null} if none has been built.
+	 */
+	private static volatile IDatabase<Project> indexedDatabase;
+
+	/**
+	 * The hash index from neighbourhood to projects.
+	 */
+	private static Map<String, Set<Project>> neighbourhoodIndex = new HashMap<>();
+
+	/**
+	 * The hash index from room type to projects.
+	 */
+	private static Map<Project.ROOM_TYPE, Set<Project>> roomTypeIndex = new EnumMap<>(Project.ROOM_TYPE.class);
+
+	/**
+	 * The sorted index from selling price to projects.
+	 */
+	private static NavigableMap<Double, Set<Project>> priceIndex = new TreeMap<>();
+
+	/**
+	 * The sorted index from application start date to projects.
+	 */
+	private static NavigableMap<LocalDate, Set<Project>> startDateIndex = new TreeMap<>();
+
+	/**
+	 * The sorted view of all projects for every sort attribute.
+	 */
+	private static Map<ProjectSort, NavigableMap<SortKey, Project>> sortedViews = createSortedViews();
+
+	/**
+	 * The keys each project is currently indexed under, so that it can be removed
+	 * from the indexes after its attributes have been edited.
+	 */
+	private static Map<Project, IndexKeys> indexedKeys = new IdentityHashMap<>();
+
+	/**
+	 * Discards all indexes and rebuilds them from the given database.
+	 *
+	 * @param projectDatabase The database containing all project data.
+	 */
+	public void rebuild(IDatabase<Project> projectDatabase) {
+		synchronized (lock) {
+			indexedDatabase = projectDatabase;
+			neighbourhoodIndex = new HashMap<>();
+			roomTypeIndex = new EnumMap<>(Project.ROOM_TYPE.class);
+			priceIndex = new TreeMap<>();
+			startDateIndex = new TreeMap<>();
+			sortedViews = createSortedViews();
+			indexedKeys = new IdentityHashMap<>();
+
+			for (Project project : projectDatabase.getDataList()) {
+				add(project);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the indexes describe the given database.
+	 *
+	 * @param projectDatabase The database to be queried.
+	 * @return {@code true} if the indexes were built from this database, {@code false} otherwise.
+	 */
+	public boolean isIndexed(IDatabase<Project> projectDatabase) {
+		return projectDatabase != null && projectDatabase == indexedDatabase;
+	}
+
+	/**
+	 * Adds a project that was added to the database to the indexes.
+	 *
+	 * @param project The new project.
+	 */
+	public void add(Project project) {
+		synchronized (lock) {
+			if (project == null || indexedKeys.containsKey(project)) {
+				return;
+			}
+
+			IndexKeys keys = new IndexKeys(project);
+			indexedKeys.put(project, keys);
+
+			neighbourhoodIndex.computeIfAbsent(project.getNeighbourhood(), key -> new LinkedHashSet<>()).add(project);
+			roomTypeIndex.computeIfAbsent(project.getRoomType(), key -> new LinkedHashSet<>()).add(project);
+			priceIndex.computeIfAbsent(project.getSellingPrice(), key -> new LinkedHashSet<>()).add(project);
+			if (project.getApplicationStartDate() != null) {
+				startDateIndex.computeIfAbsent(project.getApplicationStartDate(), key -> new LinkedHashSet<>()).add(project);
+			}
+			for (ProjectSort sort : ProjectSort.values()) {
+				sortedViews.get(sort).put(keys.sortKeys[sort.ordinal()], project);
+			}
+		}
+	}
+
+	/**
+	 * Removes a project that was removed from the database from the indexes.
+	 *
+	 * @param project The removed project.
+	 */
+	public void remove(Project project) {
+		synchronized (lock) {
+			IndexKeys keys = indexedKeys.remove(project);
+			if (keys == null) {
+				return;
+			}
+
+			removeFrom(neighbourhoodIndex, keys.neighbourhood, project);
+			removeFrom(roomTypeIndex, keys.roomType, project);
+			removeFrom(priceIndex, keys.sellingPrice, project);
+			if (keys.applicationStartDate != null) {
+				removeFrom(startDateIndex, keys.applicationStartDate, project);
+			}
+			for (ProjectSort sort : ProjectSort.values()) {
+				sortedViews.get(sort).remove(keys.sortKeys[sort.ordinal()]);
+			}
+		}
+	}
+
+	/**
+	 * Re-indexes a project whose attributes may have been edited.
+	 * <p>
+	 * This must be called whenever an indexed or sorted attribute changes,
+	 * including the number of remaining flats.
+	 * </p>
+	 *
+	 * @param project The edited project.
+	 */
+	public void update(Project project) {
+		synchronized (lock) {
+			if (indexedKeys.containsKey(project)) {
+				remove(project);
+				add(project);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the projects in a neighbourhood.
+	 *
+	 * @param neighbourhood The neighbourhood to look up.
+	 * @return A copy of the projects in the neighbourhood.
+	 */
+	public Collection<Project> getByNeighbourhood(String neighbourhood) {
+		synchronized (lock) {
+			return new ArrayList<>(neighbourhoodIndex.getOrDefault(neighbourhood, Collections.emptySet()));
+		}
+	}
+
+	/**
+	 * Retrieves the projects of a room type.
+	 *
+	 * @param roomType The room type to look up.
+	 * @return A copy of the projects of the room type.
+	 */
+	public Collection<Project> getByRoomType(Project.ROOM_TYPE roomType) {
+		synchronized (lock) {
+			return new ArrayList<>(roomTypeIndex.getOrDefault(roomType, Collections.emptySet()));
+		}
+	}
+
+	/**
+	 * Retrieves the projects whose selling price lies within a range.
+	 *
+	 * @param minPrice The lowest price, inclusive.
+	 * @param maxPrice The highest price, inclusive.
+	 * @return The projects within the price range, in ascending order of price.
+	 */
+	public Collection<Project> getByPriceRange(double minPrice, double maxPrice) {
+		if (minPrice > maxPrice) {
+			return Collections.emptyList();
+		}
+		synchronized (lock) {
+			return flatten(priceIndex.subMap(minPrice, true, maxPrice, true).values());
+		}
+	}
+
+	/**
+	 * Retrieves the projects whose application period starts on or before a date.
+	 *
+	 * @param date The latest start date, inclusive.
+	 * @return The projects starting on or before the date, in ascending order of start date.
+	 */
+	public Collection<Project> getByStartDateUpTo(LocalDate date) {
+		synchronized (lock) {
+			return flatten(startDateIndex.headMap(date, true).values());
+		}
+	}
+
+	/**
+	 * Retrieves all projects ordered by an attribute.
+	 * <p>
+	 * The returned collection is a read-only view of the maintained sorted view,
+	 * so starting a traversal in either direction neither sorts nor copies the
+	 * projects. The view is a concurrent map, so it may be traversed while other
+	 * threads re-index projects; a project re-indexed during the traversal may
+	 * be seen at its old position, its new one, or not at all. Projects with
+	 * equal attributes are ordered by ID.
+	 * </p>
+	 *
+	 * @param sort        The attribute to order by.
+	 * @param isAscending {@code true} for ascending order, {@code false} for descending.
+	 * @return A read-only {@link Collection} of all indexed projects in the requested order.
+	 */
+	public Collection<Project> getSorted(ProjectSort sort, boolean isAscending) {
+		NavigableMap<SortKey, Project> view;
+		synchronized (lock) {
+			view = sortedViews.get(sort);
+		}
+		return Collections.unmodifiableCollection(isAscending ? view.values() : view.descendingMap().values());
+	}
+
+	/**
+	 * Creates an empty sorted view for every sort attribute.
+	 *
+	 * @return The empty sorted views.
+	 */
+	private static Map<ProjectSort, NavigableMap<SortKey, Project>> createSortedViews() {
+		Map<ProjectSort, NavigableMap<SortKey, Project>> views = new EnumMap<>(ProjectSort.class);
+		for (ProjectSort sort : ProjectSort.values()) {
+			views.put(sort, new ConcurrentSkipListMap<>());
+		}
+		return views;
+	}
+
+	/**
+	 * Concatenates the project sets of a range of index entries.
+	 *
+	 * @param sets The project sets to concatenate.
+	 * @return A list holding the projects of every set.
+	 */
+	private static List<Project> flatten(Collection<Set<Project>> sets) {
+		List<Project> projects = new ArrayList<>();
+		for (Set<Project> set : sets) {
+			projects.addAll(set);
+		}
+		return projects;
+	}
+
+	/**
+	 * Removes a project from the entry of an index, dropping the entry once it is empty.
+	 *
+	 * @param index   The index to update.
+	 * @param key     The key the project is indexed under.
+	 * @param project The project to remove.
+	 */
+	private static <K> void removeFrom(Map<K, Set<Project>> index, K key, Project project) {
+		Set<Project> projects = index.get(key);
+		if (projects != null) {
+			projects.remove(project);
+			if (projects.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * The attribute values a project was indexed under when it was last added.
+	 */
+	private static class IndexKeys {
+
+		/**
+		 * The indexed neighbourhood.
+		 */
+		private final String neighbourhood;
+
+		/**
+		 * The indexed room type.
+		 */
+		private final Project.ROOM_TYPE roomType;
+
+		/**
+		 * The indexed selling price.
+		 */
+		private final Double sellingPrice;
+
+		/**
+		 * The indexed application start date.
+		 */
+		private final LocalDate applicationStartDate;
+
+		/**
+		 * The key of the project in each sorted view, indexed by {@link ProjectSort#ordinal()}.
+		 */
+		private final SortKey[] sortKeys;
+
+		/**
+		 * Captures the current attribute values of a project.
+		 *
+		 * @param project The project being indexed.
+		 */
+		private IndexKeys(Project project) {
+			neighbourhood = project.getNeighbourhood();
+			roomType = project.getRoomType();
+			sellingPrice = project.getSellingPrice();
+			applicationStartDate = project.getApplicationStartDate();
+			sortKeys = new SortKey[ProjectSort.values().length];
+			for (ProjectSort sort : ProjectSort.values()) {
+				sortKeys[sort.ordinal()] = new SortKey(sort.getKey(project), project.getID());
+			}
+		}
+	}
+
+	/**
+	 * The position of a project in a sorted view: its attribute value, with the
+	 * project ID breaking ties. Missing values are ordered first.
+	 */
+	private static class SortKey implements Comparable<SortKey> {
+
+		/**
+		 * The attribute value the project is ordered by.
+		 */
+		private final Comparable<?> value;
+
+		/**
+		 * The ID of the project.
+		 */
+		private final String id;
+
+		/**
+		 * Constructs a sort key.
+		 *
+		 * @param value The attribute value the project is ordered by.
+		 * @param id    The ID of the project.
+		 */
+		private SortKey(Comparable<?> value, String id) {
+			this.value = value;
+			this.id = id;
+		}
+
+		@Override
+		public int compareTo(SortKey other) {
+			int result = ProjectSort.compareKeys(value, other.value);
+			return (result != 0) ? result : id.compareTo(other.id);
+		}
+	}
+}
@@ -1,11 +1,12 @@
 package project;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import database.IDatabase;
 import misc.IDCreator;
 import user.HDBManager;
 import user.HDBOfficer;
@@ -13,7 +14,7 @@ import user.HDBOfficer;
 /**
  * Manages the business logic for {@link Project} objects.
  * <p>
- * This class provides methods for creating, filtering, sorting, and modifying
+ * This class provides methods for creating, querying, sorting, and modifying
  * project data. It contains the core logic for operations that are independent
  * of user interface concerns, such as validation and data manipulation.
  * </p>
@@ -52,6 +53,7 @@ public class ProjectMgr {
 		
 		for (HDBOfficer officer : officers) {
 			officer.getJoinedProjects().add(project);
+			(new OfficerScheduleMgr()).add(officer, project);
 		}
 		
 		return project;
@@ -89,35 +91,70 @@ public class ProjectMgr {
 
 		for (HDBOfficer officer : officers) {
 			officer.getJoinedProjects().add(project);
+			(new OfficerScheduleMgr()).add(officer, project);
 		}
 
 		return project;
 	}
 	
 	/**
-	 * Filters a list of projects based on a specific attribute and a value.
+	 * Runs a query against the project database.
 	 * <p>
-	 * This method uses Java Streams to filter the list of projects by name,
-	 * neighbourhood, or room type. The comparison is case-sensitive for string attributes.
+	 * If the database is indexed and the query can be answered from an index,
+	 * only the projects returned by the index lookup are tested against the full
+	 * query. Otherwise every project in the database is scanned. The plan that
+	 * was used is reported in the result.
 	 * </p>
 	 *
-	 * @param projectList   The list of projects to be filtered.
-	 * @param attributeName The name of the attribute to filter by (e.g., "Name", "Neighbourhood", "RoomType").
-	 * @param value         The value to match against the attribute.
-	 * @return A new {@link List} containing only the projects that match the filter criteria.
+	 * @param projectDatabase The database containing all project data.
+	 * @param query           The query to be answered.
+	 * @return The {@link ProjectQueryResult} holding the matching projects and the plan used.
 	 */
-	public List<Project> filter(List<Project> projectList, String attributeName, Object value) {
-		Stream<Project> projectStream = projectList.stream();
-		
-		if (attributeName.equals("Name")) {
-			projectStream = projectStream.filter(project -> project.getName().equals(value));
-		} else if (attributeName.equals("Neighbourhood")) {
-			projectStream = projectStream.filter(project -> project.getNeighbourhood().equals(value));
-		} else if (attributeName.equalsIgnoreCase("RoomType")) {
-			projectStream = projectStream.filter(project -> project.getRoomType().equals(value));
+	public ProjectQueryResult query(IDatabase<Project> projectDatabase, ProjectQuery query) {
+		return query(projectDatabase, query, null, true);
+	}
+
+	/**
+	 * Runs a query against the project database and returns the matches in order.
+	 * <p>
+	 * When the query has to scan the whole database, the scan walks the maintained
+	 * sorted view of {@link ProjectIndexMgr} instead of the database list, so the
+	 * matches come out already ordered. When an index narrows the query down,
+	 * only the matching projects are sorted.
+	 * </p>
+	 *
+	 * @param projectDatabase The database containing all project data.
+	 * @param query           The query to be answered.
+	 * @param sort            The attribute to order the matches by, or {@code null} to keep database order.
+	 * @param isAscending     {@code true} for ascending order, {@code false} for descending.
+	 * @return The {@link ProjectQueryResult} holding the matching projects and the plan used.
+	 */
+	public ProjectQueryResult query(IDatabase<Project> projectDatabase, ProjectQuery query, ProjectSort sort, boolean isAscending) {
+		ProjectIndexMgr index = new ProjectIndexMgr();
+		boolean isIndexed = index.isIndexed(projectDatabase);
+		ProjectQueryPlan plan = isIndexed ? query.plan(index) : null;
+		Collection<Project> candidates;
+		String description;
+
+		if (plan != null) {
+			candidates = plan.getCandidates();
+			description = "Index lookup: " + plan.getDescription();
+		} else if (isIndexed && sort != null) {
+			candidates = index.getSorted(sort, isAscending);
+			description = "Full scan in " + sort.getLabel() + " order";
+		} else {
+			candidates = projectDatabase.getDataList();
+			description = "Full scan";
 		}
-		
-		return projectStream.collect(Collectors.toList());
+
+		List<Project> projectList = candidates.stream()
+				.filter(query)
+				.collect(Collectors.toList());
+		if (sort != null && (plan != null || !isIndexed)) {
+			sort(projectList, sort, isAscending);
+		}
+
+		return new ProjectQueryResult(projectList, description + ", filter: " + query, candidates.size());
 	}
 	
 	/**
@@ -130,10 +167,38 @@ public class ProjectMgr {
 	 * @param isAscending {@code true} for ascending order, {@code false} for descending.
 	 */
 	public void sort(List<Project> projectList, boolean isAscending) {
-		projectList.sort(Comparator.comparing(Project::getName));
-		if (!isAscending) {
-			projectList = projectList.reversed();
+		sort(projectList, ProjectSort.NAME, isAscending);
+	}
+
+	/**
+	 * Sorts a list of projects by an attribute.
+	 * <p>
+	 * The sorting is done in-place, using the same order as the sorted views of
+	 * {@link ProjectIndexMgr}. It is intended for short lists, such as the matches
+	 * of an indexed query; a full listing should use
+	 * {@link #query(IDatabase, ProjectQuery, ProjectSort, boolean)} instead.
+	 * </p>
+	 *
+	 * @param projectList The list of projects to be sorted.
+	 * @param sort        The attribute to order by.
+	 * @param isAscending {@code true} for ascending order, {@code false} for descending.
+	 */
+	public void sort(List<Project> projectList, ProjectSort sort, boolean isAscending) {
+		Comparator<Project> comparator = Comparator.comparing(sort::getKey, ProjectSort::compareKeys)
+				.thenComparing(Project::getID);
+		projectList.sort(isAscending ? comparator : comparator.reversed());
+	}
+
+	/**
+	 * Increments the unit count of a project by one, after a booked flat was given up.
+	 *
+	 * @param project The project whose count is to be increased.
+	 */
+	public void increaseCount(Project project) {
+		synchronized (project) {
+			project.setCount(project.getCount() + 1);
 		}
+		(new ProjectIndexMgr()).update(project);
 	}
 
 	/**
@@ -143,12 +208,14 @@ public class ProjectMgr {
 	 * @return {@code true} if the count was successfully decreased (i.e., not zero), {@code false} otherwise.
 	 */
 	public boolean decreaseCount(Project project) {
-		if (project.getCount() != 0) {
+		synchronized (project) {
+			if (project.getCount() == 0) {
+				return false;
+			}
 			project.setCount(project.getCount() - 1);
-			return true;
-		} else {
-			return false;
 		}
+		(new ProjectIndexMgr()).update(project);
+		return true;
 	}
 
 	/**
@@ -192,4 +259,22 @@ public class ProjectMgr {
 	public void toggleVisibility(Project project) {
 		project.setVisibility(!project.isVisible());
 	}
+
+	/**
+	 * Hides projects from applicants once they have closed for applications.
+	 * <p>
+	 * This is registered as a closing job of {@link ProjectWindowMgr}. An
+	 * applicant who applied for a hidden project can still view it with their
+	 * application, and managers can make it visible again.
+	 * </p>
+	 *
+	 * @param projectList The projects that have closed.
+	 */
+	public void hideClosedProjects(List<Project> projectList) {
+		for (Project project : projectList) {
+			if (!project.isOpenForApplications()) {
+				project.setVisibility(false);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,335 @@
+package project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A composable query over {@link Project} objects.
+ * <p>
+ * Queries are built from criteria on a single attribute (name, neighbourhood,
+ * room type, price range, application window, remaining flats and visibility)
+ * and combined with {@link #and(ProjectQuery)} and {@link #or(ProjectQuery)}.
+ * A query is a {@link Predicate} and can be tested against any project, but it
+ * can also tell {@link ProjectMgr#query} which index lookup narrows down the
+ * projects it has to examine.
+ * </p>
+ */
+public abstract class ProjectQuery implements Predicate<Project> {
+
+	/**
+	 * Creates a query that matches every project.
+	 *
+	 * @return The new query.
+	 */
+	public static ProjectQuery all() {
+		return matching("all", project -> true);
+	}
+
+	/**
+	 * Creates a query that matches projects with the given name.
+	 *
+	 * @param name The name to match.
+	 * @return The new query.
+	 */
+	public static ProjectQuery nameIs(String name) {
+		return matching("name = '" + name + "'", project -> project.getName().equals(name));
+	}
+
+	/**
+	 * Creates a query that matches projects in the given neighbourhood.
+	 *
+	 * @param neighbourhood The neighbourhood to match.
+	 * @return The new query.
+	 */
+	public static ProjectQuery neighbourhoodIs(String neighbourhood) {
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				return project.getNeighbourhood().equals(neighbourhood);
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				return new ProjectQueryPlan(index.getByNeighbourhood(neighbourhood),
+						"hash index on neighbourhood = '" + neighbourhood + "'");
+			}
+
+			@Override
+			public String toString() {
+				return "neighbourhood = '" + neighbourhood + "'";
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects of the given room type.
+	 *
+	 * @param roomType The room type to match.
+	 * @return The new query.
+	 */
+	public static ProjectQuery roomTypeIs(Project.ROOM_TYPE roomType) {
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				return project.getRoomType().equals(roomType);
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				return new ProjectQueryPlan(index.getByRoomType(roomType), "hash index on room type = " + roomType);
+			}
+
+			@Override
+			public String toString() {
+				return "room type = " + roomType;
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects whose selling price lies within a range.
+	 *
+	 * @param minPrice The lowest matching price, inclusive.
+	 * @param maxPrice The highest matching price, inclusive.
+	 * @return The new query.
+	 */
+	public static ProjectQuery priceBetween(double minPrice, double maxPrice) {
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				return minPrice <= project.getSellingPrice() && project.getSellingPrice() <= maxPrice;
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				return new ProjectQueryPlan(index.getByPriceRange(minPrice, maxPrice),
+						"sorted index on price in [" + minPrice + ", " + maxPrice + "]");
+			}
+
+			@Override
+			public String toString() {
+				return "price in [" + minPrice + ", " + maxPrice + "]";
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects whose application period overlaps a date window.
+	 * <p>
+	 * A project matches if applications open on or before {@code to} and close on
+	 * or after {@code from}.
+	 * </p>
+	 *
+	 * @param from The first day of the window.
+	 * @param to   The last day of the window.
+	 * @return The new query.
+	 */
+	public static ProjectQuery openBetween(LocalDate from, LocalDate to) {
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				return !project.getApplicationStartDate().isAfter(to) && !project.getApplicationEndDate().isBefore(from);
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				return new ProjectQueryPlan(index.getByStartDateUpTo(to), "sorted index on start date <= " + to);
+			}
+
+			@Override
+			public String toString() {
+				return "open between " + from + " and " + to;
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects with at least the given number of flats remaining.
+	 *
+	 * @param count The minimum number of remaining flats.
+	 * @return The new query.
+	 */
+	public static ProjectQuery remainingAtLeast(int count) {
+		return matching("remaining >= " + count, project -> project.getCount() >= count);
+	}
+
+	/**
+	 * Creates a query that matches projects with the given visibility.
+	 *
+	 * @param isVisible The visibility to match.
+	 * @return The new query.
+	 */
+	public static ProjectQuery visibleIs(boolean isVisible) {
+		return matching("visible = " + isVisible, project -> project.isVisible() == isVisible);
+	}
+
+	/**
+	 * Creates a query from an arbitrary predicate, which can only be answered by scanning.
+	 *
+	 * @param description A short description of the predicate, used when reporting the plan.
+	 * @param predicate   The predicate that matching projects satisfy.
+	 * @return The new query.
+	 */
+	public static ProjectQuery matching(String description, Predicate<Project> predicate) {
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				return predicate.test(project);
+			}
+
+			@Override
+			public String toString() {
+				return description;
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects satisfying every one of the given queries.
+	 * <p>
+	 * When planned, the child with the fewest indexed candidates is used to drive the
+	 * lookup and the remaining children are checked against those candidates only.
+	 * </p>
+	 *
+	 * @param queries The queries to combine.
+	 * @return The new query.
+	 */
+	public static ProjectQuery allOf(ProjectQuery... queries) {
+		List<ProjectQuery> children = Arrays.asList(queries);
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				for (ProjectQuery child : children) {
+					if (!child.test(project)) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				ProjectQueryPlan best = null;
+				for (ProjectQuery child : children) {
+					ProjectQueryPlan plan = child.plan(index);
+					if (plan != null && (best == null || plan.getCandidates().size() < best.getCandidates().size())) {
+						best = plan;
+					}
+				}
+				return best;
+			}
+
+			@Override
+			public String toString() {
+				return join(children, " AND ");
+			}
+		};
+	}
+
+	/**
+	 * Creates a query that matches projects satisfying at least one of the given queries.
+	 * <p>
+	 * An index can only be used if every child can be answered by one, in which
+	 * case the candidates of the children are merged.
+	 * </p>
+	 *
+	 * @param queries The queries to combine.
+	 * @return The new query.
+	 */
+	public static ProjectQuery anyOf(ProjectQuery... queries) {
+		List<ProjectQuery> children = Arrays.asList(queries);
+		return new ProjectQuery() {
+			@Override
+			public boolean test(Project project) {
+				for (ProjectQuery child : children) {
+					if (child.test(project)) {
+						return true;
+					}
+				}
+				return false;
+			}
+
+			@Override
+			ProjectQueryPlan plan(ProjectIndexMgr index) {
+				Set<Project> candidates = new LinkedHashSet<>();
+				List<String> descriptions = new ArrayList<>();
+				for (ProjectQuery child : children) {
+					ProjectQueryPlan plan = child.plan(index);
+					if (plan == null) {
+						return null;
+					}
+					candidates.addAll(plan.getCandidates());
+					descriptions.add(plan.getDescription());
+				}
+				return new ProjectQueryPlan(candidates, "union of (" + String.join("; ", descriptions) + ")");
+			}
+
+			@Override
+			public String toString() {
+				return join(children, " OR ");
+			}
+		};
+	}
+
+	/**
+	 * Combines this query with another so that both must match.
+	 *
+	 * @param other The other query.
+	 * @return The combined query.
+	 */
+	public ProjectQuery and(ProjectQuery other) {
+		return allOf(this, other);
+	}
+
+	/**
+	 * Combines this query with another so that either may match.
+	 *
+	 * @param other The other query.
+	 * @return The combined query.
+	 */
+	public ProjectQuery or(ProjectQuery other) {
+		return anyOf(this, other);
+	}
+
+	/**
+	 * Tests whether a project matches this query.
+	 *
+	 * @param project The project to be tested.
+	 * @return {@code true} if the project matches, {@code false} otherwise.
+	 */
+	@Override
+	public abstract boolean test(Project project);
+
+	/**
+	 * Determines the indexed candidates that contain every project matching this query.
+	 * <p>
+	 * The default implementation reports that no index can answer the query.
+	 * </p>
+	 *
+	 * @param index The project indexes to look up.
+	 * @return The {@link ProjectQueryPlan} describing the lookup, or {@code null} if the query requires a scan.
+	 */
+	ProjectQueryPlan plan(ProjectIndexMgr index) {
+		return null;
+	}
+
+	/**
+	 * Joins the descriptions of a list of queries, bracketing each one.
+	 *
+	 * @param children  The queries to describe.
+	 * @param separator The separator placed between descriptions.
+	 * @return The combined description.
+	 */
+	private static String join(Collection<ProjectQuery> children, String separator) {
+		return children.stream()
+				.map(child -> "(" + child + ")")
+				.collect(Collectors.joining(separator));
+	}
+}
@@ -0,0 +1,52 @@
+package project;
+
+import java.util.Collection;
+
+/**
+ * The index lookup chosen to answer a {@link ProjectQuery}.
+ * <p>
+ * A plan holds a superset of the matching projects, obtained from one or more
+ * indexes, and a description of the lookup for reporting.
+ * </p>
+ */
+class ProjectQueryPlan {
+
+	/**
+	 * The projects that may match the query.
+	 */
+	private final Collection<Project> candidates;
+
+	/**
+	 * A description of the index lookup.
+	 */
+	private final String description;
+
+	/**
+	 * Constructs a new plan.
+	 *
+	 * @param candidates  The projects that may match the query.
+	 * @param description A description of the index lookup.
+	 */
+	ProjectQueryPlan(Collection<Project> candidates, String description) {
+		this.candidates = candidates;
+		this.description = description;
+	}
+
+	/**
+	 * Retrieves the projects that may match the query.
+	 *
+	 * @return The candidate projects.
+	 */
+	Collection<Project> getCandidates() {
+		return candidates;
+	}
+
+	/**
+	 * Retrieves the description of the index lookup.
+	 *
+	 * @return The description of the lookup.
+	 */
+	String getDescription() {
+		return description;
+	}
+}
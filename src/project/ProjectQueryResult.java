@@ -0,0 +1,69 @@
+package project;
+
+import java.util.List;
+
+/**
+ * The outcome of running a {@link ProjectQuery}.
+ * <p>
+ * Besides the matching projects, the result reports the plan that was used to
+ * find them and how many projects had to be examined, so that callers can see
+ * whether an index was used or the whole database was scanned.
+ * </p>
+ */
+public class ProjectQueryResult {
+
+	/**
+	 * The projects matching the query.
+	 */
+	private final List<Project> projects;
+
+	/**
+	 * A description of the plan used to answer the query.
+	 */
+	private final String plan;
+
+	/**
+	 * The number of projects tested against the query.
+	 */
+	private final int examinedCount;
+
+	/**
+	 * Constructs a new query result.
+	 *
+	 * @param projects      The projects matching the query.
+	 * @param plan          A description of the plan used to answer the query.
+	 * @param examinedCount The number of projects tested against the query.
+	 */
+	public ProjectQueryResult(List<Project> projects, String plan, int examinedCount) {
+		this.projects = projects;
+		this.plan = plan;
+		this.examinedCount = examinedCount;
+	}
+
+	/**
+	 * Retrieves the projects matching the query.
+	 *
+	 * @return A {@link List} of the matching projects.
+	 */
+	public List<Project> getProjects() {
+		return projects;
+	}
+
+	/**
+	 * Retrieves a description of the plan used to answer the query.
+	 *
+	 * @return The plan description.
+	 */
+	public String getPlan() {
+		return plan;
+	}
+
+	/**
+	 * Retrieves the number of projects tested against the query.
+	 *
+	 * @return The number of examined projects.
+	 */
+	public int getExaminedCount() {
+		return examinedCount;
+	}
+}
@@ -0,0 +1,88 @@
+package project;
+
+import java.util.function.Function;
+
+/**
+ * The attributes by which projects can be listed in order.
+ * <p>
+ * {@link ProjectIndexMgr} keeps one maintained sorted view of the projects
+ * for each of these attributes.
+ * </p>
+ */
+public enum ProjectSort {
+
+	/**
+	 * Orders projects alphabetically by name.
+	 */
+	NAME("Name", Project::getName),
+
+	/**
+	 * Orders projects by selling price.
+	 */
+	PRICE("Selling Price", Project::getSellingPrice),
+
+	/**
+	 * Orders projects by the start of their application period.
+	 */
+	START_DATE("Application Start Date", Project::getApplicationStartDate),
+
+	/**
+	 * Orders projects by the number of flats remaining.
+	 */
+	REMAINING("Remaining Flats", Project::getCount);
+
+	/**
+	 * The name of the attribute as shown to users.
+	 */
+	private final String label;
+
+	/**
+	 * Extracts the attribute from a project.
+	 */
+	private final Function<Project, ? extends Comparable<?>> keyExtractor;
+
+	/**
+	 * Constructs a sort attribute.
+	 *
+	 * @param label        The name of the attribute as shown to users.
+	 * @param keyExtractor Extracts the attribute from a project.
+	 */
+	ProjectSort(String label, Function<Project, ? extends Comparable<?>> keyExtractor) {
+		this.label = label;
+		this.keyExtractor = keyExtractor;
+	}
+
+	/**
+	 * Retrieves the name of the attribute as shown to users.
+	 *
+	 * @return The label of the attribute.
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * Retrieves the value of the attribute for a project.
+	 *
+	 * @param project The project.
+	 * @return The value the project is ordered by.
+	 */
+	Comparable<?> getKey(Project project) {
+		return keyExtractor.apply(project);
+	}
+
+	/**
+	 * Compares two attribute values, ordering missing values first.
+	 *
+	 * @param first  The first value.
+	 * @param second The second value.
+	 * @return A negative number, zero or a positive number as the first value is less than, equal to or greater than the second.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static int compareKeys(Comparable first, Comparable second) {
+		if (first == null || second == null) {
+			return (first == null) ? ((second == null) ? 0 : -1) : 1;
+		}
+		return first.compareTo(second);
+	}
+}
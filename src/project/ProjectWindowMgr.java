@@ -0,0 +1,270 @@
+package project;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import database.IDatabase;
+
+/**
+ * Opens and closes the application periods of projects as their dates pass.
+ * <p>
+ * Every project has two window boundaries: the start of its first application
+ * day, when it opens, and the start of the day after its last application day,
+ * when it closes. The boundaries that have not passed yet are kept in a
+ * priority queue ordered by time, and a single background thread sleeps until
+ * the earliest one is due. Nothing ever scans the projects for their dates:
+ * whether a project accepts applications is a flag on the {@link Project},
+ * maintained by this class.
+ * </p>
+ * <p>
+ * When a project opens, it is made visible to applicants. When it closes, it
+ * stops accepting applications, and the closing jobs registered with
+ * {@link #addClosingJob(Consumer)} are run once for all the projects closing
+ * at the same time, in the order they were registered. The system registers
+ * {@link ProjectMgr#hideClosedProjects(List)} when it loads its data.
+ * </p>
+ * <p>
+ * The boundaries of a project are replaced whenever its dates may have
+ * changed. Rather than searching the queue, each project carries a generation
+ * number, and a boundary left over from an older generation is discarded when
+ * it reaches the head of the queue.
+ * </p>
+ */
+public class ProjectWindowMgr {
+
+	/**
+	 * The longest time the background thread sleeps before checking the queue again,
+	 * so that adjustments of the system clock are noticed.
+	 */
+	private static final long MAX_SLEEP_MINUTES = 60;
+
+	/**
+	 * The pending window boundaries, earliest first. Guarded by its own lock.
+	 */
+	private static final PriorityQueue<WindowBoundary> boundaries = new PriorityQueue<>();
+
+	/**
+	 * The current generation of the boundaries of every scheduled project.
+	 */
+	private static final Map<Project, Long> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * The jobs run when projects close.
+	 */
+	private static final List<Consumer<List<Project>>> closingJobs = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The clock the boundaries are compared against.
+	 */
+	private static volatile Clock clock = Clock.systemDefaultZone();
+
+	/**
+	 * The background thread processing the boundaries.
+	 */
+	private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "project-window");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The next scheduled run of the background thread. Guarded by the lock of {@link #boundaries}.
+	 */
+	private static ScheduledFuture<?> nextRun;
+
+	/**
+	 * Discards all boundaries and schedules those of every project in the database.
+	 * <p>
+	 * Each project is opened or closed according to today's date, without
+	 * changing its visibility or running any closing job, as the boundaries
+	 * that have already passed are not replayed.
+	 * </p>
+	 *
+	 * @param projectDatabase The database containing all project data.
+	 */
+	public void rebuild(IDatabase<Project> projectDatabase) {
+		synchronized (boundaries) {
+			boundaries.clear();
+			generations.clear();
+			for (Project project : projectDatabase.getDataList()) {
+				schedule(project);
+			}
+			wakeUp();
+		}
+	}
+
+	/**
+	 * Schedules the boundaries of a new project, or reschedules those of a project whose dates have changed.
+	 *
+	 * @param project The new or edited project.
+	 */
+	public void update(Project project) {
+		synchronized (boundaries) {
+			schedule(project);
+			wakeUp();
+		}
+	}
+
+	/**
+	 * Discards the boundaries of a removed project.
+	 *
+	 * @param project The removed project.
+	 */
+	public void remove(Project project) {
+		generations.remove(project);
+	}
+
+	/**
+	 * Registers a job to be run when projects close.
+	 * <p>
+	 * The job is given all the projects closing at the same time, and runs on
+	 * the background thread after they have stopped accepting applications.
+	 * </p>
+	 *
+	 * @param closingJob The job to run.
+	 */
+	public void addClosingJob(Consumer<List<Project>> closingJob) {
+		closingJobs.add(closingJob);
+	}
+
+	/**
+	 * Sets a project's state for today and queues its boundaries that are still to come.
+	 * The caller must hold the lock of {@link #boundaries}.
+	 *
+	 * @param project The project to schedule.
+	 */
+	private static void schedule(Project project) {
+		long generation = generations.merge(project, 1L, Long::sum);
+		LocalDate today = LocalDate.now(clock);
+		project.setOpenForApplications(project.isInApplicationWindow(today));
+
+		if (project.getApplicationStartDate() == null || project.getApplicationEndDate() == null) {
+			return;
+		}
+
+		Instant now = clock.instant();
+		Instant openTime = project.getApplicationStartDate().atStartOfDay(clock.getZone()).toInstant();
+		Instant closeTime = project.getApplicationEndDate().plusDays(1).atStartOfDay(clock.getZone()).toInstant();
+		if (openTime.isAfter(now) && openTime.isBefore(closeTime)) {
+			boundaries.add(new WindowBoundary(openTime, project, generation, true));
+		}
+		if (closeTime.isAfter(now)) {
+			boundaries.add(new WindowBoundary(closeTime, project, generation, false));
+		}
+	}
+
+	/**
+	 * Schedules the background thread to run when the earliest boundary is due.
+	 * The caller must hold the lock of {@link #boundaries}.
+	 */
+	private static void wakeUp() {
+		if (nextRun != null) {
+			nextRun.cancel(false);
+		}
+
+		WindowBoundary earliest = boundaries.peek();
+		if (earliest == null) {
+			nextRun = null;
+			return;
+		}
+
+		long delay = Math.max(0, Duration.between(clock.instant(), earliest.time).toMillis());
+		nextRun = timer.schedule(ProjectWindowMgr::processDueBoundaries,
+				Math.min(delay, TimeUnit.MINUTES.toMillis(MAX_SLEEP_MINUTES)), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Opens and closes the projects whose boundaries are due, then runs the closing jobs.
+	 */
+	private static void processDueBoundaries() {
+		List<Project> closedList = new ArrayList<>();
+
+		synchronized (boundaries) {
+			Instant now = clock.instant();
+			while (!boundaries.isEmpty() && !boundaries.peek().time.isAfter(now)) {
+				WindowBoundary boundary = boundaries.poll();
+				if (!Long.valueOf(boundary.generation).equals(generations.get(boundary.project))) {
+					continue; // Rescheduled or removed since.
+				}
+
+				if (boundary.isOpening) {
+					boundary.project.setOpenForApplications(true);
+					boundary.project.setVisibility(true);
+				} else {
+					boundary.project.setOpenForApplications(false);
+					closedList.add(boundary.project);
+				}
+			}
+			wakeUp();
+		}
+
+		if (!closedList.isEmpty()) {
+			for (Consumer<List<Project>> closingJob : closingJobs) {
+				try {
+					closingJob.accept(closedList);
+				} catch (RuntimeException e) {
+					System.err.println("Error running project closing job: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * A point in time at which a project opens or closes.
+	 */
+	private static class WindowBoundary implements Comparable<WindowBoundary> {
+
+		/**
+		 * The time at which the boundary is due.
+		 */
+		private final Instant time;
+
+		/**
+		 * The project that opens or closes.
+		 */
+		private final Project project;
+
+		/**
+		 * The generation of the project's boundaries this boundary belongs to.
+		 */
+		private final long generation;
+
+		/**
+		 * Whether the project opens, rather than closes, at this boundary.
+		 */
+		private final boolean isOpening;
+
+		/**
+		 * Constructs a window boundary.
+		 *
+		 * @param time       The time at which the boundary is due.
+		 * @param project    The project that opens or closes.
+		 * @param generation The generation of the project's boundaries this boundary belongs to.
+		 * @param isOpening  Whether the project opens, rather than closes, at this boundary.
+		 */
+		private WindowBoundary(Instant time, Project project, long generation, boolean isOpening) {
+			this.time = time;
+			this.project = project;
+			this.generation = generation;
+			this.isOpening = isOpening;
+		}
+
+		@Override
+		public int compareTo(WindowBoundary other) {
+			return time.compareTo(other.time);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package reader;
+
+import java.util.Set;
+
+import user.Applicant;
+import user.User.MARITAL_STATUS;
+import userctrl.UserMgr;
+
+/**
+ * Imports new applicants in bulk from an external CSV file.
+ * <p>
+ * Each line holds the details of one applicant in the following format:
+ * userID, name, password, age, maritalStatus
+ * </p>
+ * <p>
+ * The user ID must be a valid NRIC that is not used by any existing user, and
+ * the age must be valid. An empty password selects the default password.
+ * The passwords read are hashed before the applicants are saved.
+ * Imported applicants have no applications yet and are free to apply.
+ * </p>
+ */
+public class ApplicantImporter extends BulkImporter<Applicant, Applicant>
+{
+	/**
+	 * Constructs an importer that rejects applicants whose user ID is already in use.
+	 *
+	 * @param existingUserIDs The user IDs of all existing users.
+	 */
+	public ApplicantImporter(Set<String> existingUserIDs)
+	{
+		super(existingUserIDs);
+	}
+
+	@Override
+	protected String getHeaderField()
+	{
+		return "userID";
+	}
+
+	@Override
+	protected int getFieldCount()
+	{
+		return 5;
+	}
+
+	@Override
+	protected Applicant parse(String[] data) throws IllegalArgumentException
+	{
+		UserMgr mgr = new UserMgr();
+		int age;
+		MARITAL_STATUS maritalStatus;
+
+		if (!mgr.checkNRIC(data[0]))
+			throw new IllegalArgumentException("Invalid NRIC " + data[0]);
+		if (data[1].isEmpty())
+			throw new IllegalArgumentException("Missing name");
+
+		try
+		{
+			age = Integer.parseInt(data[3]);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Invalid age " + data[3]);
+		}
+		if (!mgr.checkAge(age))
+			throw new IllegalArgumentException("Invalid age " + data[3]);
+
+		try
+		{
+			maritalStatus = MARITAL_STATUS.valueOf(data[4].toUpperCase());
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new IllegalArgumentException("Invalid marital status " + data[4]);
+		}
+
+		return mgr.createApplicant(data[0], data[1], data[2], age, maritalStatus, true, false, false);
+	}
+
+	@Override
+	protected String getKey(Applicant applicant)
+	{
+		return applicant.getUserID();
+	}
+
+	@Override
+	protected Applicant create(Applicant applicant)
+	{
+		return applicant;
+	}
+}
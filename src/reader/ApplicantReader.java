@@ -10,6 +10,7 @@ import database.IDatabase;
 import databasemgr.ApplicationDatabaseMgr;
 import databasemgr.ProjectDatabaseMgr;
 import databasemgr.UserDatabaseMgr;
+import metrics.DataFileEvent;
 import project.Project;
 import user.Applicant;
 import user.User;
@@ -58,6 +59,7 @@ public class ApplicantReader implements IUserReader<Applicant>
 		String line;
         String data[];
 
+        DataFileEvent event = DataFileEvent.start("read", applicantFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(applicantFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -126,8 +128,10 @@ public class ApplicantReader implements IUserReader<Applicant>
         catch(IOException e)
         {
             System.err.println("Error reading applicant file: " + e.getMessage());
+            event.finish(userList.size());
             return null;
         }
+		event.finish(userList.size());
 		return userList;
 	}
 	
@@ -152,6 +156,9 @@ public class ApplicantReader implements IUserReader<Applicant>
 		String line;
         String data[];
 
+        DataFileEvent event = DataFileEvent.start("update", applicantFile);
+        int rowCount = 0;
+
         try(BufferedReader reader = new BufferedReader(new FileReader(applicantFile)))
         {
         while ((line = reader.readLine()) != null)
@@ -160,6 +167,7 @@ public class ApplicantReader implements IUserReader<Applicant>
 	            if (line.isEmpty()) {
 	                continue; // skip blank lines
 	            }
+	            rowCount++;
 	
 	            data = line.split(",", -1);
 	            if (data.length != 11) {
@@ -192,5 +200,6 @@ public class ApplicantReader implements IUserReader<Applicant>
             System.err.println("Error reading applicant file: " + e.getMessage());
         }
 
+        event.finish(rowCount);
 	}
 }
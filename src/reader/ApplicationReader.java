@@ -12,6 +12,7 @@ import application.ApplicationMgr;
 import database.IDatabase;
 import databasemgr.ProjectDatabaseMgr;
 import databasemgr.UserDatabaseMgr;
+import metrics.DataFileEvent;
 import project.Project;
 import user.User;
 
@@ -58,6 +59,7 @@ public class ApplicationReader implements IReader<Application>
 		String line;
         String[] data;
 
+        DataFileEvent event = DataFileEvent.start("read", applicationFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(applicationFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -96,9 +98,11 @@ public class ApplicationReader implements IReader<Application>
         catch(IOException e)
         {
             System.err.println("Error reading application file: " + e.getMessage());
+            event.finish(applicationList.size());
             return null;
         }
 
+		event.finish(applicationList.size());
 		return applicationList;
 	}
 }
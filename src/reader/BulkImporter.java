@@ -0,0 +1,216 @@
+package reader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports records in bulk from an external CSV file.
+ * <p>
+ * The file is streamed in chunks of {@link #CHUNK_SIZE} lines. The lines of a
+ * chunk are parsed and validated in parallel, after which the valid rows are
+ * checked for duplicates in file order against an index of the keys that
+ * already exist, so that the first occurrence of a key wins. Accepted rows are
+ * turned into records one at a time, since creating a record may link it to
+ * existing objects. Every rejected line is written to a reject file together
+ * with the reason it was rejected.
+ * </p>
+ * <p>
+ * Accepted records are only returned, not stored, so that the caller can add
+ * them to the database and persist them in one batch.
+ * </p>
+ *
+ * @param <R> The type of a parsed and validated row.
+ * @param <T> The type of the records being imported.
+ */
+public abstract class BulkImporter<R, T>
+{
+	/**
+	 * The number of lines validated together in parallel.
+	 */
+	public static final int CHUNK_SIZE = 4096;
+
+	/**
+	 * The keys of the existing records, extended with the key of every accepted row.
+	 */
+	private final Set<String> keyIndex;
+
+	/**
+	 * Constructs an importer that rejects rows whose key is already in use.
+	 *
+	 * @param existingKeys The keys of the existing records. This set is extended with the keys of accepted rows.
+	 */
+	protected BulkImporter(Set<String> existingKeys)
+	{
+		this.keyIndex = existingKeys;
+	}
+
+	/**
+	 * Imports the records of a CSV file.
+	 * <p>
+	 * A first line whose first field equals {@link #getHeaderField()} is treated
+	 * as a header and skipped. Blank lines are ignored.
+	 * </p>
+	 *
+	 * @param inputFile  The path of the CSV file to import.
+	 * @param rejectFile The path of the file the rejected lines are written to.
+	 * @return The {@link ImportResult} holding the accepted records,
+	 * or {@code null} if one of the files could not be read or written.
+	 */
+	public ImportResult<T> importFile(String inputFile, String rejectFile)
+	{
+		List<T> acceptedList = new ArrayList<>();
+		List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+		int[] counts = new int[2]; // read, rejected
+		String line;
+
+		try(BufferedReader reader = new BufferedReader(new FileReader(inputFile));
+				BufferedWriter rejectWriter = new BufferedWriter(new FileWriter(rejectFile)))
+		{
+			boolean isFirstLine = true;
+			while ((line = reader.readLine()) != null)
+			{
+				line = line.trim();
+				if (line.isEmpty())
+					continue;
+
+				if (isFirstLine)
+				{
+					isFirstLine = false;
+					if (line.split(",", -1)[0].trim().equalsIgnoreCase(getHeaderField()))
+						continue;
+				}
+
+				chunk.add(line);
+				if (chunk.size() == CHUNK_SIZE)
+				{
+					processChunk(chunk, acceptedList, rejectWriter, counts);
+					chunk.clear();
+				}
+			}
+			processChunk(chunk, acceptedList, rejectWriter, counts);
+		}
+		catch (IOException e)
+		{
+			System.err.println("Error importing file: " + e.getMessage());
+			return null;
+		}
+		return new ImportResult<>(acceptedList, counts[0], counts[1]);
+	}
+
+	/**
+	 * Validates a chunk of lines in parallel, then deduplicates and creates the accepted records in order.
+	 *
+	 * @param chunk        The lines of the chunk.
+	 * @param acceptedList The list the accepted records are added to.
+	 * @param rejectWriter The writer of the reject file.
+	 * @param counts       The number of lines read and rejected so far, updated by this method.
+	 * @throws IOException If the reject file cannot be written.
+	 */
+	private void processChunk(List<String> chunk, List<T> acceptedList, BufferedWriter rejectWriter, int[] counts) throws IOException
+	{
+		List<Object> parsedList = chunk.parallelStream()
+				.map(this::parseLine)
+				.collect(Collectors.toList());
+
+		for (int i = 0; i < chunk.size(); i++)
+		{
+			String reason;
+			Object parsed = parsedList.get(i);
+			if (parsed instanceof String)
+			{
+				reason = (String) parsed;
+			}
+			else
+			{
+				@SuppressWarnings("unchecked")
+				R row = (R) parsed;
+				if (keyIndex.add(getKey(row)))
+				{
+					acceptedList.add(create(row));
+					continue;
+				}
+				reason = "Duplicate of an existing or earlier row: " + getKey(row);
+			}
+
+			rejectWriter.write(chunk.get(i) + ", " + reason.replace(',', ' '));
+			rejectWriter.newLine();
+			counts[1]++;
+		}
+		counts[0] += chunk.size();
+	}
+
+	/**
+	 * Splits and trims a line and parses it, converting a validation failure into its reason.
+	 *
+	 * @param line The line to parse.
+	 * @return The parsed row, or a {@code String} describing why the line was rejected.
+	 */
+	private Object parseLine(String line)
+	{
+		String data[] = line.split(",", -1);
+		if (data.length != getFieldCount())
+			return "Expected " + getFieldCount() + " fields but found " + data.length;
+
+		for (int i = 0; i < data.length; i++)
+			data[i] = data[i].trim();
+
+		try
+		{
+			return parse(data);
+		}
+		catch (IllegalArgumentException e)
+		{
+			return (e.getMessage() != null) ? e.getMessage() : "Invalid value";
+		}
+	}
+
+	/**
+	 * Retrieves the name of the first column, used to recognise a header line.
+	 *
+	 * @return The name of the first column.
+	 */
+	protected abstract String getHeaderField();
+
+	/**
+	 * Retrieves the number of comma-separated fields in a line.
+	 *
+	 * @return The number of fields.
+	 */
+	protected abstract int getFieldCount();
+
+	/**
+	 * Parses and validates the fields of a line.
+	 * <p>
+	 * This method is called concurrently for different lines, so it must not
+	 * modify any shared state.
+	 * </p>
+	 *
+	 * @param data The trimmed fields of the line.
+	 * @return The parsed row.
+	 * @throws IllegalArgumentException If a field is invalid, with a message describing the problem.
+	 */
+	protected abstract R parse(String[] data) throws IllegalArgumentException;
+
+	/**
+	 * Retrieves the key used to detect duplicate rows.
+	 *
+	 * @param row The parsed row.
+	 * @return The key of the row.
+	 */
+	protected abstract String getKey(R row);
+
+	/**
+	 * Creates the record of an accepted row.
+	 *
+	 * @param row The accepted row.
+	 * @return The new record.
+	 */
+	protected abstract T create(R row);
+}
@@ -10,6 +10,7 @@ import databasemgr.ProjectDatabaseMgr;
 import databasemgr.UserDatabaseMgr;
 import enquiry.Enquiry;
 import enquiry.EnquiryMgr;
+import metrics.DataFileEvent;
 import project.Project;
 import user.User;
 import user.Applicant;
@@ -59,6 +60,7 @@ public class EnquiryReader implements IReader<Enquiry>
 		String line;
         String data[];
 
+        DataFileEvent event = DataFileEvent.start("read", enquiryFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(enquiryFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -95,9 +97,11 @@ public class EnquiryReader implements IReader<Enquiry>
         catch(IOException e)
         {
             System.err.println("Error reading enquiry file: " + e.getMessage());
+            event.finish(enquiryList.size());
             return null;
         }
 
+        event.finish(enquiryList.size());
         return enquiryList;
 	}
 }
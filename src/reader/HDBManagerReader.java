@@ -5,6 +5,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 
+import metrics.DataFileEvent;
 import user.HDBManager;
 import user.User.MARITAL_STATUS;
 import userctrl.UserMgr;
@@ -42,6 +43,7 @@ public class HDBManagerReader implements IUserReader<HDBManager>
 		String line;
         String data[];
 
+        DataFileEvent event = DataFileEvent.start("read", HDBManagerFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(HDBManagerFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -90,9 +92,11 @@ public class HDBManagerReader implements IUserReader<HDBManager>
         catch(IOException e)
         {
             System.err.println("Error reading manager file: " + e.getMessage());
+            event.finish(userList.size());
             return null;
         }
 
+		event.finish(userList.size());
 		return userList;
 	}
 
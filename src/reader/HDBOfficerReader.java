@@ -10,6 +10,7 @@ import database.IDatabase;
 import databasemgr.ApplicationDatabaseMgr;
 import databasemgr.ProjectDatabaseMgr;
 import databasemgr.UserDatabaseMgr;
+import metrics.DataFileEvent;
 import project.Project;
 import user.HDBOfficer;
 import user.User;
@@ -61,6 +62,7 @@ public class HDBOfficerReader implements IUserReader<HDBOfficer>
 		String line;
         String data[];
 
+        DataFileEvent event = DataFileEvent.start("read", HDBOfficerFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(HDBOfficerFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -127,8 +129,10 @@ public class HDBOfficerReader implements IUserReader<HDBOfficer>
         catch(IOException e)
         {
             System.err.println("Error reading officer file: " + e.getMessage());
+            event.finish(userList.size());
             return null;
         }
+		event.finish(userList.size());
 		return userList;
 	}
 
@@ -154,6 +158,9 @@ public class HDBOfficerReader implements IUserReader<HDBOfficer>
 		String line;
         String[] data;
 
+        DataFileEvent event = DataFileEvent.start("update", HDBOfficerFile);
+        int rowCount = 0;
+
         try(BufferedReader reader = new BufferedReader(new FileReader(HDBOfficerFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -168,6 +175,7 @@ public class HDBOfficerReader implements IUserReader<HDBOfficer>
 	            if (line.isEmpty()) {
 	                continue; // skip blank lines
 	            }
+	            rowCount++;
 	
 	            data = line.split(",", -1);
 	            if (data.length != 14) {
@@ -268,5 +276,6 @@ public class HDBOfficerReader implements IUserReader<HDBOfficer>
         {
             System.err.println("Error reading officer file: " + e.getMessage());
         }
+        event.finish(rowCount);
 	}
 }
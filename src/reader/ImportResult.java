@@ -0,0 +1,70 @@
+package reader;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk import by a {@link BulkImporter}.
+ *
+ * @param <T> The type of the imported records.
+ */
+public class ImportResult<T>
+{
+	/**
+	 * The records created from the accepted lines, in file order.
+	 */
+	private final List<T> acceptedList;
+
+	/**
+	 * The number of non-blank lines read, excluding any header.
+	 */
+	private final int readCount;
+
+	/**
+	 * The number of lines written to the reject file.
+	 */
+	private final int rejectedCount;
+
+	/**
+	 * Constructs a new import result.
+	 *
+	 * @param acceptedList  The records created from the accepted lines.
+	 * @param readCount     The number of non-blank lines read, excluding any header.
+	 * @param rejectedCount The number of lines written to the reject file.
+	 */
+	public ImportResult(List<T> acceptedList, int readCount, int rejectedCount)
+	{
+		this.acceptedList = acceptedList;
+		this.readCount = readCount;
+		this.rejectedCount = rejectedCount;
+	}
+
+	/**
+	 * Retrieves the records created from the accepted lines.
+	 *
+	 * @return A {@link List} of the accepted records, in file order.
+	 */
+	public List<T> getAcceptedList()
+	{
+		return acceptedList;
+	}
+
+	/**
+	 * Retrieves the number of lines read.
+	 *
+	 * @return The number of non-blank lines read, excluding any header.
+	 */
+	public int getReadCount()
+	{
+		return readCount;
+	}
+
+	/**
+	 * Retrieves the number of rejected lines.
+	 *
+	 * @return The number of lines written to the reject file.
+	 */
+	public int getRejectedCount()
+	{
+		return rejectedCount;
+	}
+}
@@ -0,0 +1,206 @@
+package reader;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import misc.CheckType;
+import misc.DateConvertor;
+import project.Project;
+import project.ProjectMgr;
+import user.HDBManager;
+import user.HDBOfficer;
+import user.User;
+
+/**
+ * Imports new projects in bulk from an external CSV file.
+ * <p>
+ * Each line holds the details of one project in the same format as the
+ * project file, except that the project ID is generated:
+ * name, count, neighbourhood, roomType, sellingPrice, applicationStartDate,
+ * applicationEndDate, managerID, officerSlot, [officerIDs separated by ;], visibility
+ * </p>
+ * <p>
+ * Rows are validated with the same rules as interactively created projects.
+ * Since projects have no natural ID, a project is treated as a duplicate if
+ * another project already has the same name, ignoring case.
+ * </p>
+ */
+public class ProjectImporter extends BulkImporter<ProjectImporter.ProjectRow, Project>
+{
+	/**
+	 * The existing users, keyed by user ID, used to look up managers and officers.
+	 */
+	private final Map<String, User> userIndex;
+
+	/**
+	 * Constructs an importer that rejects projects whose name is already in use.
+	 *
+	 * @param existingNames The names of all existing projects, as returned by {@link #toKey(String)}.
+	 * @param userIndex     The existing users, keyed by user ID.
+	 */
+	public ProjectImporter(Set<String> existingNames, Map<String, User> userIndex)
+	{
+		super(existingNames);
+		this.userIndex = userIndex;
+	}
+
+	/**
+	 * Converts a project name to the key used to detect duplicate projects.
+	 *
+	 * @param name The name of the project.
+	 * @return The duplicate-detection key of the name.
+	 */
+	public static String toKey(String name)
+	{
+		return name.trim().toLowerCase();
+	}
+
+	@Override
+	protected String getHeaderField()
+	{
+		return "name";
+	}
+
+	@Override
+	protected int getFieldCount()
+	{
+		return 11;
+	}
+
+	@Override
+	protected ProjectRow parse(String[] data) throws IllegalArgumentException
+	{
+		ProjectMgr mgr = new ProjectMgr();
+		ProjectRow row = new ProjectRow();
+
+		row.name = data[0];
+		if (row.name.isEmpty())
+			throw new IllegalArgumentException("Missing name");
+
+		row.count = parseInt(data[1], "count");
+		if (row.count < 0)
+			throw new IllegalArgumentException("Invalid count " + data[1]);
+
+		row.neighbourhood = data[2];
+		if (row.neighbourhood.isEmpty())
+			throw new IllegalArgumentException("Missing neighbourhood");
+
+		try
+		{
+			row.roomType = Project.ROOM_TYPE.valueOf(data[3]);
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new IllegalArgumentException("Invalid room type " + data[3]);
+		}
+
+		try
+		{
+			row.sellingPrice = Double.parseDouble(data[4]);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Invalid selling price " + data[4]);
+		}
+		if (row.sellingPrice <= 0)
+			throw new IllegalArgumentException("Invalid selling price " + data[4]);
+
+		try
+		{
+			row.applicationStartDate = DateConvertor.parseToLocalDate(data[5]);
+			row.applicationEndDate = DateConvertor.parseToLocalDate(data[6]);
+		}
+		catch (DateTimeParseException e)
+		{
+			throw new IllegalArgumentException("Invalid date " + e.getParsedString());
+		}
+		if (!mgr.isValidApplicationEndDate(row.applicationStartDate, row.applicationEndDate))
+			throw new IllegalArgumentException("Application end date is not after start date");
+
+		User manager = userIndex.get(data[7]);
+		if (manager == null || !CheckType.isHDBManager(manager))
+			throw new IllegalArgumentException("Unknown manager " + data[7]);
+		row.manager = (HDBManager) manager;
+
+		row.officerSlot = parseInt(data[8], "officer slot");
+		if (!mgr.isValidOfficerSlot(row.officerSlot))
+			throw new IllegalArgumentException("Officer slot must be " + mgr.getOfficerSlotValidRange());
+
+		row.officers = new ArrayList<>();
+		for (String officerID : data[9].split(";"))
+		{
+			officerID = officerID.trim();
+			if (officerID.isEmpty())
+				continue;
+
+			User officer = userIndex.get(officerID);
+			if (officer == null || !CheckType.isHDBOfficer(officer))
+				throw new IllegalArgumentException("Unknown officer " + officerID);
+			row.officers.add((HDBOfficer) officer);
+		}
+		if (row.officers.size() > row.officerSlot)
+			throw new IllegalArgumentException("More officers than officer slots");
+
+		if (!data[10].equalsIgnoreCase("true") && !data[10].equalsIgnoreCase("false"))
+			throw new IllegalArgumentException("Invalid visibility " + data[10]);
+		row.isVisible = Boolean.parseBoolean(data[10]);
+
+		return row;
+	}
+
+	@Override
+	protected String getKey(ProjectRow row)
+	{
+		return toKey(row.name);
+	}
+
+	@Override
+	protected Project create(ProjectRow row)
+	{
+		return (new ProjectMgr()).create(row.name, row.count, row.neighbourhood, row.roomType, row.sellingPrice,
+				row.applicationStartDate, row.applicationEndDate, row.officerSlot, row.officers, row.isVisible,
+				row.manager);
+	}
+
+	/**
+	 * Parses an integer field.
+	 *
+	 * @param value The field value.
+	 * @param field The name of the field, used in the error message.
+	 * @return The parsed integer.
+	 * @throws IllegalArgumentException If the value is not an integer.
+	 */
+	private static int parseInt(String value, String field) throws IllegalArgumentException
+	{
+		try
+		{
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Invalid " + field + " " + value);
+		}
+	}
+
+	/**
+	 * The validated fields of a project line, before the project is created.
+	 */
+	static class ProjectRow
+	{
+		private String name;
+		private int count;
+		private String neighbourhood;
+		private Project.ROOM_TYPE roomType;
+		private double sellingPrice;
+		private LocalDate applicationStartDate;
+		private LocalDate applicationEndDate;
+		private HDBManager manager;
+		private int officerSlot;
+		private List<HDBOfficer> officers;
+		private boolean isVisible;
+	}
+}
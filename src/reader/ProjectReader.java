@@ -9,6 +9,7 @@ import java.util.ArrayList;
 
 import database.IDatabase;
 import databasemgr.UserDatabaseMgr;
+import metrics.DataFileEvent;
 import misc.DateConvertor;
 import project.Project;
 import project.ProjectMgr;
@@ -68,6 +69,7 @@ public class ProjectReader implements IReader<Project>
 		String line = null;
         String data[], officerIDs[];
 
+        DataFileEvent event = DataFileEvent.start("read", projectFile);
         try(BufferedReader reader = new BufferedReader(new FileReader(projectFile)))
         {
 	        while ((line = reader.readLine()) != null)
@@ -107,8 +109,9 @@ public class ProjectReader implements IReader<Project>
 		            for(String officerID: officerIDs)
 		            {
 		            	officerID = officerID.trim();
+		            	// A project without officers is saved with a blank officer field.
 		            	if(officerID.length() == 0)
-		            		officerID = null;
+		            		continue;
 		            	projectOfficers.add((HDBOfficer)userMgr.getUser(userDatabase, officerID));
 		            }
 		            
@@ -129,8 +132,10 @@ public class ProjectReader implements IReader<Project>
         }
         catch (IOException e) {
             System.err.println("Error reading project file: " + e.getMessage());
+            event.finish(projectList.size());
             return null;
         }
+		event.finish(projectList.size());
 		return projectList;
 	}
 	
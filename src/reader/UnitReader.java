@@ -0,0 +1,136 @@
+package reader;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import database.IDatabase;
+import databasemgr.ProjectDatabaseMgr;
+import inventory.FlatUnit;
+import inventory.UnitInventory;
+import metrics.DataFileEvent;
+import project.Project;
+
+/**
+ * Reads the flats of projects from a CSV file and builds a {@code UnitInventory} for each project that has any.
+ * The file format is defined in the comments within the class.
+ */
+public class UnitReader implements IReader<UnitInventory>
+{
+	/*
+	 * Flats are stored in the following format:
+	 * projectID, block, floor(int), unitNumber(int), price(double), [bookedApplicationID]
+	 */
+
+	/**
+	 * Constructs a {@code UnitReader}.
+	 */
+	public UnitReader()
+	{
+		// default constructor
+	}
+
+	/**
+	 * Reads the flats from the unit file and builds the inventory of each project they belong to.
+	 * Flats of unknown projects are skipped, as are blocks with an invalid or repeated flat.
+	 * A missing unit file means that no project has flats.
+	 *
+	 * @param projectDatabase The database containing {@code Project} objects.
+	 * @return An {@code ArrayList} of {@code UnitInventory} objects loaded from the file,
+	 * or {@code null} if an error occurs during file reading.
+	 */
+	public ArrayList<UnitInventory> read(IDatabase<Project> projectDatabase)
+	{
+		ProjectDatabaseMgr projMgr = new ProjectDatabaseMgr();
+		// The flats of each block of each project, and the application each flat is booked for.
+		Map<Project, Map<String, List<FlatUnit>>> unitMap = new LinkedHashMap<>();
+		Map<Project, Map<String, List<String>>> bookedMap = new LinkedHashMap<>();
+		Project project;
+		int unitCount = 0;
+
+		String line;
+        String[] data;
+
+        DataFileEvent event = DataFileEvent.start("read", unitFile);
+        try(BufferedReader reader = new BufferedReader(new FileReader(unitFile)))
+        {
+	        while ((line = reader.readLine()) != null)
+	        {
+	        	line = line.trim();
+	            if (line.isEmpty()) {
+	                continue; // skip blank lines
+	            }
+
+	            data = line.split(",", -1);
+	            if (data.length != 6) {
+	                // malformed line
+	                continue;
+	            }
+
+	            for(int i = 0; i < data.length; i++)
+	            {
+	            	data[i] = data[i].trim();
+	            	if(data[i].isEmpty())
+	            		data[i] = null;
+	            }
+
+	            project = projMgr.getData(projectDatabase, data[0]);
+	            if(project == null || data[1] == null)
+	            	continue;
+
+	            try
+	            {
+		            FlatUnit unit = new FlatUnit(data[1], Integer.parseInt(data[2]), Integer.parseInt(data[3]),
+		            		Double.parseDouble(data[4]));
+		            unitMap.computeIfAbsent(project, key -> new LinkedHashMap<>())
+		            		.computeIfAbsent(unit.getBlock(), key -> new ArrayList<>()).add(unit);
+		            bookedMap.computeIfAbsent(project, key -> new LinkedHashMap<>())
+		            		.computeIfAbsent(unit.getBlock(), key -> new ArrayList<>()).add(data[5]);
+	            }
+	            catch (NumberFormatException | NullPointerException e) {
+	                System.err.println("Error parsing unit line: " + line + " - " + e.getMessage());
+	            }
+	        }
+        }
+        catch(FileNotFoundException e)
+        {
+        	// Data saved before flats were tracked has no unit file.
+        	event.finish(0);
+        	return new ArrayList<>();
+        }
+        catch(IOException e)
+        {
+            System.err.println("Error reading unit file: " + e.getMessage());
+            event.finish(0);
+            return null;
+        }
+
+        ArrayList<UnitInventory> inventoryList = new ArrayList<>();
+        for (Map.Entry<Project, Map<String, List<FlatUnit>>> projectEntry : unitMap.entrySet())
+        {
+        	UnitInventory inventory = new UnitInventory(projectEntry.getKey());
+        	for (Map.Entry<String, List<FlatUnit>> blockEntry : projectEntry.getValue().entrySet())
+        	{
+        		try
+        		{
+        			inventory.addBlock(blockEntry.getKey(), blockEntry.getValue(),
+        					bookedMap.get(projectEntry.getKey()).get(blockEntry.getKey()));
+        			unitCount += blockEntry.getValue().size();
+        		}
+        		catch (IllegalArgumentException e) {
+        			System.err.println("Error loading block " + blockEntry.getKey() + " of project "
+        					+ projectEntry.getKey().getID() + " - " + e.getMessage());
+        		}
+        	}
+        	inventoryList.add(inventory);
+        }
+
+		event.finish(unitCount);
+		return inventoryList;
+	}
+}
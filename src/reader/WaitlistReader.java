@@ -0,0 +1,114 @@
+package reader;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import application.Application;
+import application.Waitlist;
+import database.IDatabase;
+import databasemgr.ProjectDatabaseMgr;
+import metrics.DataFileEvent;
+import project.Project;
+
+/**
+ * Reads the waitlists of projects from a CSV file.
+ * The file format is defined in the comments within the class.
+ */
+public class WaitlistReader implements IReader<Waitlist>
+{
+	/*
+	 * Waitlists are stored in the following format, one project per line:
+	 * projectID, [applicationIDs separated by ;]
+	 */
+
+	/**
+	 * Constructs a {@code WaitlistReader}.
+	 */
+	public WaitlistReader()
+	{
+		// default constructor
+	}
+
+	/**
+	 * Reads the waitlists from the waitlist file, head first.
+	 * Waitlists of unknown projects and unknown applications are skipped.
+	 * A missing waitlist file means that no project has a waitlist.
+	 *
+	 * @param projectDatabase     The database containing {@code Project} objects.
+	 * @param applicationDatabase The database containing {@code Application} objects.
+	 * @return An {@code ArrayList} of {@code Waitlist} objects loaded from the file,
+	 * or {@code null} if an error occurs during file reading.
+	 */
+	public ArrayList<Waitlist> read(IDatabase<Project> projectDatabase, IDatabase<Application> applicationDatabase)
+	{
+		ProjectDatabaseMgr projMgr = new ProjectDatabaseMgr();
+		ArrayList<Waitlist> waitlistList = new ArrayList<>();
+		Project project;
+		Application application;
+		int entryCount = 0;
+
+		// Waitlists can be long, so applications are looked up by ID in a map built once.
+		Map<String, Application> applicationMap = new HashMap<>();
+		for (Application app : applicationDatabase.getDataList())
+			applicationMap.put(app.getID(), app);
+
+		String line;
+        String[] data;
+
+        DataFileEvent event = DataFileEvent.start("read", waitlistFile);
+        try(BufferedReader reader = new BufferedReader(new FileReader(waitlistFile)))
+        {
+	        while ((line = reader.readLine()) != null)
+	        {
+	        	line = line.trim();
+	            if (line.isEmpty()) {
+	                continue; // skip blank lines
+	            }
+
+	            data = line.split(",", -1);
+	            if (data.length != 2) {
+	                // malformed line
+	                continue;
+	            }
+
+	            project = projMgr.getData(projectDatabase, data[0].trim());
+	            if(project == null)
+	            	continue;
+
+	            Waitlist waitlist = new Waitlist(project);
+	            for(String applicationID: data[1].split(";"))
+	            {
+	            	if(applicationID.trim().isEmpty())
+	            		continue;
+	            	application = applicationMap.get(applicationID.trim());
+	            	if(application != null)
+	            	{
+	            		waitlist.add(application);
+	            		entryCount++;
+	            	}
+	            }
+	            waitlistList.add(waitlist);
+	        }
+        }
+        catch(FileNotFoundException e)
+        {
+        	// Data saved before waitlists were kept has no waitlist file.
+        	event.finish(0);
+        	return new ArrayList<>();
+        }
+        catch(IOException e)
+        {
+            System.err.println("Error reading waitlist file: " + e.getMessage());
+            event.finish(0);
+            return null;
+        }
+
+		event.finish(entryCount);
+		return waitlistList;
+	}
+}
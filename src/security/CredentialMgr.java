@@ -0,0 +1,389 @@
+package security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import user.User;
+
+/**
+ * Verifies and changes the passwords of users.
+ * <p>
+ * Passwords are stored as salted hashes made by {@link PasswordHasher}. Users
+ * loaded with a plaintext password from an older data file are still accepted:
+ * the plaintext is compared in constant time and replaced by a hash on the
+ * first successful login. {@link #hashAll(List)} migrates all remaining
+ * plaintext passwords at once, and is run before the user files are saved,
+ * so that a plaintext password is never written back.
+ * </p>
+ * <p>
+ * Hashing is slow by design, so it runs on a dedicated pool of worker threads
+ * of fixed size. This bounds the CPU a burst of logins can take, however many
+ * arrive together. When the pool's queue is full, the calling thread hashes
+ * for itself, which slows further submissions down instead of failing them.
+ * </p>
+ * <p>
+ * A successful verification is remembered in a small cache for
+ * {@link #CACHE_TTL_MINUTES} minutes, so that a user who logs in again shortly
+ * afterwards is verified in microseconds. The cache never holds a password:
+ * it holds a keyed HMAC of it under a random key that exists only in memory,
+ * together with the stored hash it was verified against, so an entry stops
+ * matching as soon as the password changes. The cache is bounded to
+ * {@link #CACHE_CAPACITY} users, evicting the least recently used.
+ * </p>
+ */
+public class CredentialMgr {
+
+	/**
+	 * The maximum number of users whose verification is cached.
+	 */
+	public static final int CACHE_CAPACITY = 10_000;
+
+	/**
+	 * The number of minutes a verification stays cached.
+	 */
+	public static final long CACHE_TTL_MINUTES = 5;
+
+	/**
+	 * The number of hashing tasks that may wait for a worker before callers hash for themselves.
+	 */
+	private static final int QUEUE_CAPACITY = 1024;
+
+	/**
+	 * The dedicated pool of hashing threads.
+	 */
+	private static final ExecutorService hashingPool = createHashingPool();
+
+	/**
+	 * The cached verifications, keyed by user ID, in least recently used order.
+	 */
+	private static final Map<String, CachedCredential> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedCredential> eldest) {
+			return size() > CACHE_CAPACITY;
+		}
+	};
+
+	/**
+	 * The in-memory key of the cache fingerprints.
+	 */
+	private static final SecretKeySpec fingerprintKey = createFingerprintKey();
+
+	/**
+	 * The fingerprint MAC of each thread.
+	 */
+	private static final ThreadLocal<Mac> fingerprintMac = ThreadLocal.withInitial(CredentialMgr::createFingerprintMac);
+
+	/**
+	 * The password hasher.
+	 */
+	private final PasswordHasher hasher = new PasswordHasher();
+
+	/**
+	 * Checks a user's password.
+	 * <p>
+	 * If the stored password is plaintext or was hashed with fewer iterations
+	 * than are now used, it is replaced by a new hash when the check succeeds.
+	 * </p>
+	 *
+	 * @param user     The user whose password is checked.
+	 * @param password The password to check.
+	 * @return {@code true} if the password is correct, {@code false} otherwise.
+	 */
+	public boolean verify(User user, String password) {
+		if (user == null || password == null) {
+			return false;
+		}
+
+		String storedPassword = user.getPassword();
+		byte[] fingerprint = fingerprint(password);
+		if (isCached(user.getUserID(), storedPassword, fingerprint)) {
+			return true;
+		}
+
+		String newHash = runOnPool(() -> {
+			if (hasher.isHashed(storedPassword)) {
+				if (!hasher.verify(password, storedPassword)) {
+					return null;
+				}
+				return hasher.needsRehash(storedPassword) ? hasher.hash(password) : storedPassword;
+			}
+			byte[] expected = (storedPassword == null) ? new byte[0] : storedPassword.getBytes(StandardCharsets.UTF_8);
+			if (!MessageDigest.isEqual(expected, password.getBytes(StandardCharsets.UTF_8))) {
+				return null;
+			}
+			return hasher.hash(password);
+		});
+		if (newHash == null) {
+			return false;
+		}
+
+		boolean isCurrent;
+		synchronized (user) {
+			// Keep a password changed while this one was being verified.
+			if (user.getPassword() == storedPassword) {
+				user.setPassword(newHash);
+			}
+			isCurrent = (user.getPassword() == newHash);
+		}
+		if (isCurrent) {
+			synchronized (cache) {
+				cache.put(user.getUserID(), new CachedCredential(newHash, fingerprint,
+						System.nanoTime() + TimeUnit.MINUTES.toNanos(CACHE_TTL_MINUTES)));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Changes a user's password, provided the old password is correct.
+	 *
+	 * @param user        The user whose password is changed.
+	 * @param oldPassword The current password of the user.
+	 * @param newPassword The new password.
+	 * @return {@code true} if the password was changed, {@code false} if the old password is incorrect.
+	 */
+	public boolean changePassword(User user, String oldPassword, String newPassword) {
+		if (newPassword == null || !verify(user, oldPassword)) {
+			return false;
+		}
+
+		String newHash = runOnPool(() -> hasher.hash(newPassword));
+		if (newHash == null) {
+			return false;
+		}
+		synchronized (user) {
+			user.setPassword(newHash);
+		}
+		invalidate(user.getUserID());
+		return true;
+	}
+
+	/**
+	 * Replaces every plaintext password in a list of users by its hash.
+	 * <p>
+	 * The passwords are hashed in parallel on the hashing pool. The users who
+	 * still have {@link User#DEFAULT_PASSWORD}, which is public anyway, share a
+	 * single hash of it, so that a batch of new users costs one hash for all of
+	 * them rather than one each.
+	 * </p>
+	 *
+	 * @param userList The users whose passwords are migrated.
+	 * @return The number of passwords that were hashed.
+	 */
+	public int hashAll(List<? extends User> userList) {
+		List<Future<?>> futureList = new ArrayList<>();
+		AtomicInteger hashedCount = new AtomicInteger();
+		List<User> defaultUserList = new ArrayList<>();
+		Future<String> defaultHash = null;
+
+		for (User user : userList) {
+			String storedPassword = user.getPassword();
+			if (storedPassword == null || hasher.isHashed(storedPassword)) {
+				continue;
+			}
+			if (storedPassword.equals(User.DEFAULT_PASSWORD)) {
+				if (defaultHash == null) {
+					defaultHash = hashingPool.submit(() -> hasher.hash(User.DEFAULT_PASSWORD));
+				}
+				defaultUserList.add(user);
+				continue;
+			}
+			futureList.add(hashingPool.submit(() -> {
+				String newHash = hasher.hash(storedPassword);
+				synchronized (user) {
+					if (user.getPassword() == storedPassword) {
+						user.setPassword(newHash);
+						hashedCount.incrementAndGet();
+					}
+				}
+			}));
+		}
+
+		for (Future<?> future : futureList) {
+			await(future);
+		}
+
+		String newHash = (defaultHash == null) ? null : (String) await(defaultHash);
+		if (newHash != null) {
+			for (User user : defaultUserList) {
+				synchronized (user) {
+					if (user.getPassword().equals(User.DEFAULT_PASSWORD)) {
+						user.setPassword(newHash);
+						hashedCount.incrementAndGet();
+					}
+				}
+			}
+		}
+		return hashedCount.get();
+	}
+
+	/**
+	 * Discards the cached verification of a user, so that their next login checks the stored hash.
+	 *
+	 * @param userID The ID of the user.
+	 */
+	public void invalidate(String userID) {
+		synchronized (cache) {
+			cache.remove(userID);
+		}
+	}
+
+	/**
+	 * Checks whether a matching verification of a password is cached, discarding it if it has expired.
+	 *
+	 * @param userID         The ID of the user.
+	 * @param storedPassword The user's current stored password.
+	 * @param fingerprint    The fingerprint of the password being checked.
+	 * @return {@code true} if the password was verified against the same stored hash within the TTL.
+	 */
+	private boolean isCached(String userID, String storedPassword, byte[] fingerprint) {
+		CachedCredential credential;
+		synchronized (cache) {
+			credential = cache.get(userID);
+			if (credential == null) {
+				return false;
+			}
+			if (System.nanoTime() - credential.expiryTime >= 0) {
+				cache.remove(userID);
+				return false;
+			}
+		}
+		return credential.storedHash.equals(storedPassword) && MessageDigest.isEqual(credential.fingerprint, fingerprint);
+	}
+
+	/**
+	 * Runs a hashing task on the hashing pool and waits for its result.
+	 *
+	 * @param task The task to run.
+	 * @return The result of the task, or {@code null} if it failed or the wait was interrupted.
+	 */
+	private static String runOnPool(Callable<String> task) {
+		return (String) await(hashingPool.submit(task));
+	}
+
+	/**
+	 * Waits for a hashing task to complete.
+	 *
+	 * @param future The pending result of the task.
+	 * @return The result of the task, or {@code null} if it failed or the wait was interrupted.
+	 */
+	private static Object await(Future<?> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			System.err.println("Error hashing password: " + e.getCause().getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Computes the cache fingerprint of a password.
+	 *
+	 * @param password The password.
+	 * @return The keyed HMAC of the password.
+	 */
+	private static byte[] fingerprint(String password) {
+		return fingerprintMac.get().doFinal(password.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates the hashing pool, with one daemon thread per available processor.
+	 *
+	 * @return The hashing pool.
+	 */
+	private static ExecutorService createHashingPool() {
+		int threadCount = Runtime.getRuntime().availableProcessors();
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Creates a random key for the cache fingerprints.
+	 *
+	 * @return The key.
+	 */
+	private static SecretKeySpec createFingerprintKey() {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		return new SecretKeySpec(key, "HmacSHA256");
+	}
+
+	/**
+	 * Creates a MAC computing the cache fingerprints.
+	 *
+	 * @return The MAC, initialised with the fingerprint key.
+	 */
+	private static Mac createFingerprintMac() {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(fingerprintKey);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			// HmacSHA256 is required of every Java platform.
+			throw new IllegalStateException("Password fingerprinting is unavailable: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * A cached verification of a user's password.
+	 */
+	private static class CachedCredential {
+
+		/**
+		 * The stored hash the password was verified against.
+		 */
+		private final String storedHash;
+
+		/**
+		 * The fingerprint of the verified password.
+		 */
+		private final byte[] fingerprint;
+
+		/**
+		 * The value of {@link System#nanoTime()} at which the verification expires.
+		 */
+		private final long expiryTime;
+
+		/**
+		 * Constructs a cached verification.
+		 *
+		 * @param storedHash  The stored hash the password was verified against.
+		 * @param fingerprint The fingerprint of the verified password.
+		 * @param expiryTime  The value of {@link System#nanoTime()} at which the verification expires.
+		 */
+		private CachedCredential(String storedHash, byte[] fingerprint, long expiryTime) {
+			this.storedHash = storedHash;
+			this.fingerprint = fingerprint;
+			this.expiryTime = expiryTime;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package security;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Hashes and verifies passwords with salted PBKDF2.
+ * <p>
+ * A hashed password is stored as a single string of four {@code $}-separated
+ * parts: the scheme name, the iteration count, the Base64 salt and the Base64
+ * derived key, e.g. {@code pbkdf2-sha256$600000$<salt>$<key>}. The string
+ * contains no commas or spaces, so it can be stored in the user files as is.
+ * Because the iteration count is stored with the hash, it can be raised later
+ * without invalidating existing hashes; {@link #needsRehash(String)} reports
+ * the hashes made with fewer iterations.
+ * </p>
+ * <p>
+ * Hashing is deliberately slow. Callers should not hash on a latency-sensitive
+ * thread; {@link CredentialMgr} runs all hashing on a dedicated worker pool.
+ * </p>
+ */
+public class PasswordHasher {
+
+	/**
+	 * The name of the hashing scheme, stored as the first part of every hash.
+	 */
+	public static final String SCHEME = "pbkdf2-sha256";
+
+	/**
+	 * The number of PBKDF2 iterations used for new hashes.
+	 */
+	public static final int ITERATIONS = 600_000;
+
+	/**
+	 * The length of a random salt in bytes.
+	 */
+	private static final int SALT_LENGTH = 16;
+
+	/**
+	 * The length of the derived key in bits.
+	 */
+	private static final int KEY_LENGTH = 256;
+
+	/**
+	 * The JCA name of the key derivation algorithm.
+	 */
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+	/**
+	 * The source of the salts.
+	 */
+	private static final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Hashes a password with a new random salt.
+	 *
+	 * @param password The password to hash.
+	 * @return The hash, in the format described above.
+	 */
+	public String hash(String password) {
+		byte[] salt = new byte[SALT_LENGTH];
+		random.nextBytes(salt);
+		byte[] key = derive(password, salt, ITERATIONS);
+
+		Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+		return SCHEME + "$" + ITERATIONS + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(key);
+	}
+
+	/**
+	 * Checks a password against a hash.
+	 * <p>
+	 * The derived keys are compared in constant time. A malformed hash never matches.
+	 * </p>
+	 *
+	 * @param password   The password to check.
+	 * @param storedHash The hash to check against.
+	 * @return {@code true} if the password matches the hash, {@code false} otherwise.
+	 */
+	public boolean verify(String password, String storedHash) {
+		String[] parts = split(storedHash);
+		if (parts == null) {
+			return false;
+		}
+
+		try {
+			int iterations = Integer.parseInt(parts[1]);
+			Base64.Decoder decoder = Base64.getDecoder();
+			byte[] salt = decoder.decode(parts[2]);
+			byte[] expectedKey = decoder.decode(parts[3]);
+			if (iterations <= 0 || expectedKey.length == 0) {
+				return false;
+			}
+			return MessageDigest.isEqual(derive(password, salt, iterations, expectedKey.length * 8), expectedKey);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks whether a stored password is a hash made by this class, as opposed
+	 * to a plaintext password that has not been migrated yet.
+	 *
+	 * @param storedPassword The stored password.
+	 * @return {@code true} if the stored password is a hash, {@code false} otherwise.
+	 */
+	public boolean isHashed(String storedPassword) {
+		return split(storedPassword) != null;
+	}
+
+	/**
+	 * Checks whether a hash was made with fewer iterations than new hashes use.
+	 *
+	 * @param storedHash The hash to check.
+	 * @return {@code true} if the password should be hashed again the next time it is known.
+	 */
+	public boolean needsRehash(String storedHash) {
+		String[] parts = split(storedHash);
+		if (parts == null) {
+			return true;
+		}
+		try {
+			return Integer.parseInt(parts[1]) < ITERATIONS;
+		} catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Splits a hash into its four parts.
+	 *
+	 * @param storedHash The hash to split.
+	 * @return The scheme, iteration count, salt and key, or {@code null} if the string is not a hash of this scheme.
+	 */
+	private static String[] split(String storedHash) {
+		if (storedHash == null || !storedHash.startsWith(SCHEME + "$")) {
+			return null;
+		}
+		String[] parts = storedHash.split("\\$", -1);
+		return (parts.length == 4) ? parts : null;
+	}
+
+	/**
+	 * Derives a key of the default length from a password.
+	 *
+	 * @param password   The password.
+	 * @param salt       The salt.
+	 * @param iterations The number of iterations.
+	 * @return The derived key.
+	 */
+	private static byte[] derive(String password, byte[] salt, int iterations) {
+		return derive(password, salt, iterations, KEY_LENGTH);
+	}
+
+	/**
+	 * Derives a key from a password.
+	 *
+	 * @param password   The password.
+	 * @param salt       The salt.
+	 * @param iterations The number of iterations.
+	 * @param keyLength  The length of the key in bits.
+	 * @return The derived key.
+	 */
+	private static byte[] derive(String password, byte[] salt, int iterations, int keyLength) {
+		PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, keyLength);
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+		} catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+			// PBKDF2WithHmacSHA256 is required of every Java platform.
+			throw new IllegalStateException("Password hashing is unavailable: " + e.getMessage(), e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package security;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import user.User;
+
+/**
+ * Issues and resolves the session tokens of logged-in users.
+ * <p>
+ * A session is created when a user logs in and is identified by an opaque,
+ * random token. Resolving a token to its {@link User} is a single hash lookup,
+ * so a request carrying a token does not need to authenticate again. A session
+ * expires after {@link #IDLE_TIMEOUT_MINUTES} minutes without being used.
+ * </p>
+ * <p>
+ * Expired sessions are removed by a hashed timer wheel rather than by scanning
+ * all sessions. The wheel has {@link #WHEEL_SIZE} slots of one second each and
+ * is advanced by a background thread. A session is placed in the slot of its
+ * expiry time; using a session does not move it, since that would cost more
+ * than the lookup itself. Instead, when a slot comes round, each session in it
+ * is either removed, if it is still idle, or moved on to the slot of its new
+ * expiry time. Every session is therefore examined about once per idle timeout,
+ * however often it is used. A token is also checked for expiry when it is
+ * resolved, so a session never outlives its timeout by a tick.
+ * </p>
+ */
+public class SessionMgr {
+
+	/**
+	 * The number of minutes a session may stay unused before it expires.
+	 */
+	public static final long IDLE_TIMEOUT_MINUTES = 30;
+
+	/**
+	 * The number of slots in the timer wheel, enough for one full idle timeout.
+	 */
+	private static final int WHEEL_SIZE = 2048;
+
+	/**
+	 * The duration of a timer wheel tick in milliseconds.
+	 */
+	private static final long TICK_MILLIS = 1000;
+
+	/**
+	 * The idle timeout in nanoseconds.
+	 */
+	private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(IDLE_TIMEOUT_MINUTES);
+
+	/**
+	 * The active sessions, keyed by token.
+	 */
+	private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+	/**
+	 * The timer wheel: the sessions due to be examined at each tick, indexed by tick modulo {@link #WHEEL_SIZE}.
+	 */
+	private static final Queue<Session>[] wheel = createWheel();
+
+	/**
+	 * The value of {@link System#nanoTime()} at tick zero.
+	 */
+	private static final long epoch = System.nanoTime();
+
+	/**
+	 * The last tick whose slot has been processed. Guarded by the lock of {@link #wheel}.
+	 */
+	private static long currentTick = 0;
+
+	/**
+	 * The source of the session tokens.
+	 */
+	private static final SecureRandom random = new SecureRandom();
+
+	/**
+	 * The background thread advancing the timer wheel.
+	 */
+	private static final ScheduledExecutorService expiryTimer = startExpiryTimer();
+
+	/**
+	 * Creates a session for a user who has just been authenticated.
+	 *
+	 * @param user The authenticated user.
+	 * @return The token of the new session.
+	 */
+	public String createSession(User user) {
+		byte[] bytes = new byte[32];
+		random.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		Session session = new Session(token, user, System.nanoTime());
+		sessions.put(token, session);
+		schedule(session);
+		return token;
+	}
+
+	/**
+	 * Resolves a session token to its user, marking the session as used.
+	 *
+	 * @param token The session token.
+	 * @return The {@link User} the session belongs to, or {@code null} if the token is unknown or has expired.
+	 */
+	public User getUser(String token) {
+		if (token == null) {
+			return null;
+		}
+
+		Session session = sessions.get(token);
+		if (session == null) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+		if (session.isExpired(now)) {
+			sessions.remove(token, session);
+			return null;
+		}
+		session.lastAccessTime = now;
+		return session.user;
+	}
+
+	/**
+	 * Ends a session.
+	 *
+	 * @param token The session token.
+	 */
+	public void endSession(String token) {
+		if (token != null) {
+			sessions.remove(token);
+		}
+	}
+
+	/**
+	 * Ends all sessions of a user, e.g. after they change their password.
+	 * <p>
+	 * This looks at every session, which is acceptable for an operation as rare as this one.
+	 * </p>
+	 *
+	 * @param user The user whose sessions are ended.
+	 */
+	public void endSessions(User user) {
+		sessions.values().removeIf(session -> session.user == user);
+	}
+
+	/**
+	 * Retrieves the number of active sessions.
+	 *
+	 * @return The number of sessions that have not been ended or removed as expired.
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Places a session in the slot of the tick at which it will expire if it stays unused.
+	 *
+	 * @param session The session to schedule.
+	 */
+	private static void schedule(Session session) {
+		long expiryTick = toTick(session.lastAccessTime + IDLE_TIMEOUT_NANOS) + 1;
+		synchronized (wheel) {
+			expiryTick = Math.max(expiryTick, currentTick + 1);
+		}
+		wheel[(int) (expiryTick % WHEEL_SIZE)].add(session);
+	}
+
+	/**
+	 * Processes the slots of every tick that has passed since the wheel was last advanced.
+	 */
+	private static void advance() {
+		long now = System.nanoTime();
+		long nowTick = toTick(now);
+
+		synchronized (wheel) {
+			while (currentTick < nowTick) {
+				currentTick++;
+				Queue<Session> slot = wheel[(int) (currentTick % WHEEL_SIZE)];
+
+				// Only the sessions already in the slot; rescheduled ones may land in it again.
+				for (int i = slot.size(); i > 0; i--) {
+					Session session = slot.poll();
+					if (session == null) {
+						break;
+					}
+					if (sessions.get(session.token) != session) {
+						continue; // Already ended.
+					}
+					if (session.isExpired(now)) {
+						sessions.remove(session.token, session);
+					} else {
+						schedule(session);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts a value of {@link System#nanoTime()} to a tick of the timer wheel.
+	 *
+	 * @param nanoTime The time.
+	 * @return The number of whole ticks since {@link #epoch}.
+	 */
+	private static long toTick(long nanoTime) {
+		return TimeUnit.NANOSECONDS.toMillis(nanoTime - epoch) / TICK_MILLIS;
+	}
+
+	/**
+	 * Creates the empty slots of the timer wheel.
+	 *
+	 * @return The slots.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Queue<Session>[] createWheel() {
+		Queue<Session>[] wheel = (Queue<Session>[]) new Queue<?>[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+		return wheel;
+	}
+
+	/**
+	 * Starts the daemon thread that advances the timer wheel once per tick.
+	 *
+	 * @return The scheduler running the thread.
+	 */
+	private static ScheduledExecutorService startExpiryTimer() {
+		ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "session-expiry");
+			thread.setDaemon(true);
+			return thread;
+		});
+		timer.scheduleAtFixedRate(SessionMgr::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+		return timer;
+	}
+
+	/**
+	 * A session of a logged-in user.
+	 */
+	private static class Session {
+
+		/**
+		 * The token identifying the session.
+		 */
+		private final String token;
+
+		/**
+		 * The user the session belongs to.
+		 */
+		private final User user;
+
+		/**
+		 * The value of {@link System#nanoTime()} when the session was last used.
+		 */
+		private volatile long lastAccessTime;
+
+		/**
+		 * Constructs a session.
+		 *
+		 * @param token          The token identifying the session.
+		 * @param user           The user the session belongs to.
+		 * @param lastAccessTime The value of {@link System#nanoTime()} when the session was created.
+		 */
+		private Session(String token, User user, long lastAccessTime) {
+			this.token = token;
+			this.user = user;
+			this.lastAccessTime = lastAccessTime;
+		}
+
+		/**
+		 * Checks whether the session has been idle for longer than the timeout.
+		 *
+		 * @param now The current value of {@link System#nanoTime()}.
+		 * @return {@code true} if the session has expired.
+		 */
+		private boolean isExpired(long now) {
+			return now - lastAccessTime > IDLE_TIMEOUT_NANOS;
+		}
+	}
+}
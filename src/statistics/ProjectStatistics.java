@@ -0,0 +1,182 @@
+package statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import application.ApplicationStatus;
+import application.ApplicationType;
+import project.Project;
+
+/**
+ * Holds the pre-aggregated counters of a single {@link Project}.
+ * <p>
+ * The counters are kept up to date incrementally by {@link StatisticsMgr} as
+ * applications are submitted and change status, flats are booked and enquiries
+ * are filed or answered, so that every query is answered in constant time
+ * without scanning the application or enquiry databases. The counters are
+ * atomic, so that updates from different threads are never lost.
+ * </p>
+ */
+public class ProjectStatistics {
+
+	/**
+	 * Cached copy of all application types, to avoid cloning the array on every query.
+	 */
+	private static final ApplicationType[] TYPES = ApplicationType.values();
+
+	/**
+	 * Cached copy of all application statuses, to avoid cloning the array on every query.
+	 */
+	private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+	/**
+	 * The project these statistics belong to.
+	 */
+	private final Project project;
+
+	/**
+	 * The number of applications of each application type and status, at the position given by {@link #index}.
+	 */
+	private final AtomicIntegerArray applicationCounts = new AtomicIntegerArray(TYPES.length * STATUSES.length);
+
+	/**
+	 * The number of booked flats, indexed by room type.
+	 */
+	private final AtomicIntegerArray bookingCounts = new AtomicIntegerArray(Project.ROOM_TYPE.values().length);
+
+	/**
+	 * The number of enquiries about the project that have been replied to.
+	 */
+	private final AtomicInteger answeredEnquiries = new AtomicInteger();
+
+	/**
+	 * The number of enquiries about the project that are still awaiting a reply.
+	 */
+	private final AtomicInteger unansweredEnquiries = new AtomicInteger();
+
+	/**
+	 * Constructs an empty set of statistics for a project.
+	 *
+	 * @param project The project these statistics belong to.
+	 */
+	public ProjectStatistics(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Retrieves the project these statistics belong to.
+	 *
+	 * @return The related {@link Project}.
+	 */
+	public Project getProject() {
+		return project;
+	}
+
+	/**
+	 * Retrieves the number of applications of a given type currently in a given status.
+	 *
+	 * @param applicationType The application type.
+	 * @param status          The application status.
+	 * @return The number of matching applications.
+	 */
+	public int getApplicationCount(ApplicationType applicationType, ApplicationStatus status) {
+		return applicationCounts.get(index(applicationType, status));
+	}
+
+	/**
+	 * Retrieves the total number of applications of a given type.
+	 *
+	 * @param applicationType The application type.
+	 * @return The number of applications of that type, in any status.
+	 */
+	public int getApplicationCount(ApplicationType applicationType) {
+		int total = 0;
+		for (ApplicationStatus status : STATUSES) {
+			total += applicationCounts.get(index(applicationType, status));
+		}
+		return total;
+	}
+
+	/**
+	 * Retrieves the number of flats of a given room type booked in the project.
+	 *
+	 * @param roomType The room type.
+	 * @return The number of bookings for that room type.
+	 */
+	public int getBookingCount(Project.ROOM_TYPE roomType) {
+		return bookingCounts.get(roomType.ordinal());
+	}
+
+	/**
+	 * Retrieves the number of flats still available in the project.
+	 *
+	 * @return The remaining flat count.
+	 */
+	public int getRemainingFlats() {
+		return project.getCount();
+	}
+
+	/**
+	 * Retrieves the number of enquiries about the project that have been replied to.
+	 *
+	 * @return The number of answered enquiries.
+	 */
+	public int getAnsweredEnquiryCount() {
+		return answeredEnquiries.get();
+	}
+
+	/**
+	 * Retrieves the number of enquiries about the project that are awaiting a reply.
+	 *
+	 * @return The number of unanswered enquiries.
+	 */
+	public int getUnansweredEnquiryCount() {
+		return unansweredEnquiries.get();
+	}
+
+	/**
+	 * Adjusts the application counter for a type and status.
+	 *
+	 * @param applicationType The application type.
+	 * @param status          The application status.
+	 * @param delta           The amount to add (negative to subtract).
+	 */
+	void addApplications(ApplicationType applicationType, ApplicationStatus status, int delta) {
+		applicationCounts.addAndGet(index(applicationType, status), delta);
+	}
+
+	/**
+	 * Adjusts the booking counter for a room type.
+	 *
+	 * @param roomType The room type.
+	 * @param delta    The amount to add (negative to subtract).
+	 */
+	void addBookings(Project.ROOM_TYPE roomType, int delta) {
+		bookingCounts.addAndGet(roomType.ordinal(), delta);
+	}
+
+	/**
+	 * Adjusts the answered or unanswered enquiry counter.
+	 *
+	 * @param answered {@code true} to adjust the answered counter, {@code false} for the unanswered one.
+	 * @param delta    The amount to add (negative to subtract).
+	 */
+	void addEnquiries(boolean answered, int delta) {
+		if (answered) {
+			answeredEnquiries.addAndGet(delta);
+		} else {
+			unansweredEnquiries.addAndGet(delta);
+		}
+	}
+
+	/**
+	 * Computes the position of the counter for an application type and status.
+	 *
+	 * @param applicationType The application type.
+	 * @param status          The application status.
+	 * @return The index into {@link #applicationCounts}.
+	 */
+	private static int index(ApplicationType applicationType, ApplicationStatus status) {
+		return applicationType.ordinal() * STATUSES.length + status.ordinal();
+	}
+}
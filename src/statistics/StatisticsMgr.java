@@ -0,0 +1,160 @@
+package statistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import application.Application;
+import application.ApplicationStatus;
+import database.IDatabase;
+import enquiry.Enquiry;
+import project.Project;
+
+/**
+ * Maintains the pre-aggregated {@link ProjectStatistics} of every project.
+ * <p>
+ * The statistics are rebuilt once when the data is loaded and afterwards
+ * updated incrementally by the control layer on every application submission,
+ * status transition, booking and enquiry change. Looking up the statistics of
+ * a project is a single hash lookup keyed on the project ID.
+ * </p>
+ * <p>
+ * Statistics are updated from several threads at once, such as concurrent
+ * status updates and the application window scheduler, so the map is a
+ * {@link ConcurrentHashMap} and the counters of {@link ProjectStatistics}
+ * are atomic.
+ * </p>
+ */
+public class StatisticsMgr {
+
+	/**
+	 * The statistics of every project, keyed by project ID.
+	 */
+	private static final Map<String, ProjectStatistics> statisticsMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Retrieves the statistics of a project, creating empty statistics if none exist yet.
+	 *
+	 * @param project The project whose statistics are to be retrieved.
+	 * @return The {@link ProjectStatistics} of the project.
+	 */
+	public ProjectStatistics getStatistics(Project project) {
+		return statisticsMap.computeIfAbsent(project.getID(), id -> new ProjectStatistics(project));
+	}
+
+	/**
+	 * Discards all statistics and recomputes them from the given databases.
+	 * <p>
+	 * This is the only operation that scans the databases and is intended to be
+	 * called once after the data has been loaded from file.
+	 * </p>
+	 *
+	 * @param projectDatabase     The database containing all project data.
+	 * @param applicationDatabase The database containing all application data.
+	 * @param enquiryDatabase     The database containing all enquiry data.
+	 */
+	public void rebuild(IDatabase<Project> projectDatabase, IDatabase<Application> applicationDatabase,
+			IDatabase<Enquiry> enquiryDatabase) {
+		statisticsMap.clear();
+
+		for (Project project : projectDatabase.getDataList()) {
+			getStatistics(project);
+		}
+		for (Application application : applicationDatabase.getDataList()) {
+			recordApplication(application);
+			if (application.getStatus().equals(ApplicationStatus.BOOKED)) {
+				getStatistics(application.getProject()).addBookings(application.getProject().getRoomType(), 1);
+			}
+		}
+		for (Enquiry enquiry : enquiryDatabase.getDataList()) {
+			recordEnquiry(enquiry);
+		}
+	}
+
+	/**
+	 * Records a newly submitted application under its current status.
+	 *
+	 * @param application The application that was added to the database.
+	 */
+	public void recordApplication(Application application) {
+		if (application.getProject() != null) {
+			getStatistics(application.getProject())
+					.addApplications(application.getApplicationType(), application.getStatus(), 1);
+		}
+	}
+
+	/**
+	 * Records a status transition of an application.
+	 * <p>
+	 * A transition to {@code BOOKED} is also counted as a booking of the
+	 * project's room type.
+	 * </p>
+	 *
+	 * @param application The application whose status has changed.
+	 * @param oldStatus   The status before the transition.
+	 * @param newStatus   The status after the transition.
+	 */
+	public void recordStatusChange(Application application, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+		if (application.getProject() == null || oldStatus.equals(newStatus)) {
+			return;
+		}
+
+		ProjectStatistics statistics = getStatistics(application.getProject());
+		statistics.addApplications(application.getApplicationType(), oldStatus, -1);
+		statistics.addApplications(application.getApplicationType(), newStatus, 1);
+
+		if (newStatus.equals(ApplicationStatus.BOOKED)) {
+			statistics.addBookings(application.getProject().getRoomType(), 1);
+		} else if (oldStatus.equals(ApplicationStatus.BOOKED)) {
+			statistics.addBookings(application.getProject().getRoomType(), -1);
+		}
+	}
+
+	/**
+	 * Records a newly filed enquiry.
+	 *
+	 * @param enquiry The enquiry that was added to the database.
+	 */
+	public void recordEnquiry(Enquiry enquiry) {
+		if (enquiry.getProject() != null) {
+			getStatistics(enquiry.getProject()).addEnquiries(enquiry.isAnswered(), 1);
+		}
+	}
+
+	/**
+	 * Records a change to the reply of an enquiry.
+	 * <p>
+	 * The enquiry is moved between the answered and unanswered counters if the
+	 * new reply changed whether it counts as answered.
+	 * </p>
+	 *
+	 * @param enquiry     The enquiry whose reply has changed.
+	 * @param wasAnswered Whether the enquiry counted as answered before the change.
+	 */
+	public void recordReplyChange(Enquiry enquiry, boolean wasAnswered) {
+		if (enquiry.getProject() != null && wasAnswered != enquiry.isAnswered()) {
+			ProjectStatistics statistics = getStatistics(enquiry.getProject());
+			statistics.addEnquiries(wasAnswered, -1);
+			statistics.addEnquiries(!wasAnswered, 1);
+		}
+	}
+
+	/**
+	 * Records that an enquiry was removed from the database.
+	 *
+	 * @param enquiry The enquiry that was removed.
+	 */
+	public void removeEnquiry(Enquiry enquiry) {
+		if (enquiry.getProject() != null) {
+			getStatistics(enquiry.getProject()).addEnquiries(enquiry.isAnswered(), -1);
+		}
+	}
+
+	/**
+	 * Discards the statistics of a project that was removed from the database.
+	 *
+	 * @param project The removed project.
+	 */
+	public void removeProject(Project project) {
+		statisticsMap.remove(project.getID());
+	}
+}
@@ -10,6 +10,11 @@ package user;
  * </p>
  */
 public class User {
+
+	/**
+	 * The password of a user created without one.
+	 */
+	public static final String DEFAULT_PASSWORD = "password";
 	
 	/**
 	 * The unique identifier for the user. This is often an NRIC or a similar ID.
@@ -22,7 +27,8 @@ public class User {
 	protected String name;
 	
 	/**
-	 * The user's password.
+	 * The user's stored password: a salted hash made by {@link security.PasswordHasher},
+	 * or plaintext if it was loaded from an older file and has not been migrated yet.
 	 */
 	protected String password;
 	
@@ -61,7 +67,8 @@ public class User {
 	
 	/**
 	 * Constructs a new {@code User} with the provided information.
-	 * Sets the default password to "password".
+	 * Sets the password to {@link #DEFAULT_PASSWORD}. It is hashed with the other plaintext
+	 * passwords by {@link security.CredentialMgr#hashAll} before the user is saved.
 	 *
 	 * @param userID        The unique identifier for the user.
 	 * @param name          The name of the user.
@@ -69,25 +76,24 @@ public class User {
 	 * @param maritalStatus The marital status of the user.
 	 */
 	public User(String userID, String name, int age, MARITAL_STATUS maritalStatus) {
-		this.name = name;
-		this.userID = userID;
-		this.password = "password";
-		this.age = age;
-		this.maritalStatus = maritalStatus;
+		this(userID, name, age, maritalStatus, DEFAULT_PASSWORD);
 	}
 
 	/**
-	 * Constructs a new {@code User} with the provided information, including a custom password.
+	 * Constructs a new {@code User} with the provided information, including a custom stored password.
 	 *
 	 * @param userID        The unique identifier for the user.
 	 * @param name          The name of the user.
 	 * @param age           The age of the user.
 	 * @param maritalStatus The marital status of the user.
-	 * @param password      The custom password for the user.
+	 * @param password      The stored password for the user.
 	 */
 	public User(String userID, String name, int age, MARITAL_STATUS maritalStatus, String password) {
-		this(userID, name, age, maritalStatus);
+		this.name = name;
+		this.userID = userID;
 		this.password = password;
+		this.age = age;
+		this.maritalStatus = maritalStatus;
 	}
 	
 	/*
@@ -114,18 +120,26 @@ public class User {
 	}
 
 	/**
-	 * Retrieves the user's password.
+	 * Retrieves the user's stored password.
+	 * <p>
+	 * This is the hash to be persisted, not a password that can be compared
+	 * directly; use {@link security.CredentialMgr} to check a password.
+	 * </p>
 	 *
-	 * @return The user's password.
+	 * @return The user's stored password.
 	 */
 	public String getPassword() {
 		return password;
 	}
 
 	/**
-	 * Sets a new password for the user.
+	 * Sets the user's stored password.
+	 * <p>
+	 * To change a user's password, use {@link security.CredentialMgr#changePassword(User, String, String)},
+	 * which stores the new password as a hash.
+	 * </p>
 	 *
-	 * @param password The new password.
+	 * @param password The new stored password.
 	 */
 	public void setPassword(String password) {
 		this.password = password;
@@ -3,20 +3,30 @@ package userctrl;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import application.ActiveApplicationMgr;
 import application.Application;
 import application.ApplicationType;
 import application.ApplicationMgr;
+import audit.AuditMgr;
 import database.IDatabase;
 import databasemgr.ApplicationDatabaseMgr;
 import databasemgr.EnquiryDatabaseMgr;
 import databasemgr.ProjectDatabaseMgr;
 import enquiry.Enquiry;
 import enquiry.EnquiryMgr;
+import enquiry.EnquiryQueueMgr;
+import enquiry.EnquirySearchMgr;
+import metrics.MetricsMgr;
+import metrics.Operation;
 import project.Project;
 import display.ApplicationDisplayer;
 import display.EnquiryDisplayer;
 import display.ProjectDisplayer;
 import project.ProjectMgr;
+import project.ProjectQuery;
+import project.ProjectQueryResult;
+import project.ProjectSort;
+import statistics.StatisticsMgr;
 import user.Applicant;
 
 /**
@@ -27,13 +37,14 @@ import user.Applicant;
 public class ApplicantMgr {
 
 	/**
-	 * Sorts a list of projects by name.
+	 * Sorts a list of projects by an attribute.
 	 *
 	 * @param projectList   The list of projects to sort.
+	 * @param sort          The attribute to sort projects by.
 	 * @param isAscending   {@code true} to sort projects in ascending order, {@code false} for descending.
 	 */
-	public void sortProjects(List<Project> projectList, boolean isAscending) {
-		(new ProjectMgr()).sort(projectList, isAscending);
+	public void sortProjects(List<Project> projectList, ProjectSort sort, boolean isAscending) {
+		(new ProjectMgr()).sort(projectList, sort, isAscending);
 	}
 
 	/**
@@ -55,26 +66,47 @@ public class ApplicantMgr {
 		 */
 		return new ProjectDatabaseMgr().getData(projectDatabase, applicant)
 				.stream()
-				.filter(project -> (applicant.getAge() >= 21 && applicant.isMarried()) || (applicant.getAge() >= 35 && !(applicant.isMarried()) && project.getRoomType().equals(Project.ROOM_TYPE._2Room)))
+				.filter(project -> isEligible(applicant, project))
 				.collect(Collectors.toList());
 	}
 	
 	/**
-	 * Retrieves a filtered and sorted list of projects visible to the applicant, considering eligibility.
+	 * Retrieves the projects visible to the applicant that match a query, considering eligibility, in order.
 	 * <p>
-	 * This method first calls getProjects to get all valid projects 
-	 * and then filters the projects based on a specific attribute and value
-	 * before, finally, returning the final list.
+	 * The query is combined with the same visibility and eligibility rules as
+	 * {@link #getProjects(Applicant, IDatabase)}, and answered by the project
+	 * query engine, which uses an index where one applies.
 	 * </p>
 	 *
 	 * @param applicant       The applicant viewing the projects.
 	 * @param projectDatabase The database containing project information.
-	 * @param attribute_name  The name of the project attribute to filter by (e.g., "neighbourhood").
-	 * @param value           The value to filter the attribute by.
-	 * @return A {@code List} of {@code Project} objects, filtered by both the attribute and applicant eligibility.
+	 * @param query           The query the projects must match.
+	 * @param sort            The attribute to order the projects by.
+	 * @param isAscending     {@code true} for ascending order, {@code false} for descending.
+	 * @return The {@link ProjectQueryResult} holding the matching eligible projects.
 	 */
-	public List<Project> getProjects(Applicant applicant, IDatabase<Project> projectDatabase, String attribute_name, Object value) {
-		return new ProjectMgr().filter(getProjects(applicant, projectDatabase), attribute_name, value);
+	public ProjectQueryResult getProjects(Applicant applicant, IDatabase<Project> projectDatabase, ProjectQuery query,
+			ProjectSort sort, boolean isAscending) {
+		return new ProjectMgr().query(projectDatabase, query
+				.and(ProjectQuery.matching("accessible", new ProjectDatabaseMgr().getFilter(applicant)))
+				.and(ProjectQuery.matching("eligible", project -> isEligible(applicant, project))),
+				sort, isAscending);
+	}
+
+	/**
+	 * Checks whether the applicant's age and marital status allow them to apply for a project.
+	 * <ol>
+	 * <li>Applicants who are married and at least 21 may apply for any project.</li>
+	 * <li>Applicants who are single and at least 35 may only apply for 2-Room projects.</li>
+	 * </ol>
+	 *
+	 * @param applicant The applicant.
+	 * @param project   The project.
+	 * @return {@code true} if the applicant is eligible for the project, {@code false} otherwise.
+	 */
+	private boolean isEligible(Applicant applicant, Project project) {
+		return (applicant.getAge() >= 21 && applicant.isMarried())
+				|| (applicant.getAge() >= 35 && !(applicant.isMarried()) && project.getRoomType().equals(Project.ROOM_TYPE._2Room));
 	}
 	
 	/**
@@ -100,9 +132,12 @@ public class ApplicantMgr {
 	/**
 	 * Allows an applicant to apply for a selected project.
 	 * <p>
-	 * This method checks if the applicant is eligible to apply for the given project
-	 * based on their age, marital status, and the project's room type. If eligible,
+	 * This method checks if the project's application period is open and if the
+	 * applicant is eligible to apply for the given project based on their age,
+	 * marital status, and the project's room type. If eligible,
 	 * it creates a new BTO application and adds it to the database.
+	 * The application is refused if the applicant already has an active one,
+	 * even if another session submitted it at the same moment (see {@link ActiveApplicationMgr}).
 	 * </p>
 	 *
 	 * @param applicant           The applicant applying for the project.
@@ -111,26 +146,42 @@ public class ApplicantMgr {
 	 * @return {@code true} if the application was successful, {@code false} otherwise.
 	 */
 	public boolean applyForProject(Applicant applicant, Project project, IDatabase<Application> applicationDatabase) {
-		ApplicationDatabaseMgr mgr = new ApplicationDatabaseMgr();
-		ApplicationMgr appMgr = new ApplicationMgr();
-		Application projectApplication;
+		long startTime = System.nanoTime();
+		try {
+			ApplicationDatabaseMgr mgr = new ApplicationDatabaseMgr();
+			ApplicationMgr appMgr = new ApplicationMgr();
+			ActiveApplicationMgr activeMgr = new ActiveApplicationMgr();
+			Application projectApplication;
 				
-		if (applicant.getAge() >= 35 && !(applicant.isMarried()) && project.getRoomType().equals(Project.ROOM_TYPE._2Room)) {
-			// Eligibility criteria met
-		} else if (applicant.getAge() >= 21 && applicant.isMarried()) {
-			// Eligibility criteria met
-		} else {
-			return false; // Applicant is not eligible
-		}
+			if (!project.isOpenForApplications()) {
+				return false; // Application period has not started or has ended
+			}
+			
+			if (applicant.getAge() >= 35 && !(applicant.isMarried()) && project.getRoomType().equals(Project.ROOM_TYPE._2Room)) {
+				// Eligibility criteria met
+			} else if (applicant.getAge() >= 21 && applicant.isMarried()) {
+				// Eligibility criteria met
+			} else {
+				return false; // Applicant is not eligible
+			}
 		
-		projectApplication = appMgr.create(applicant, project, ApplicationType.BTO_APPLICATION);
-		if (mgr.add(applicationDatabase, projectApplication)) {
-			applicant.setAppliedProject(project);
-			applicant.setProjectApplication(projectApplication);
-			applicant.setCanApply(false);
-			return true;
-		} else {
-			return false;
+			projectApplication = appMgr.create(applicant, project, ApplicationType.BTO_APPLICATION);
+			if (!activeMgr.claim(projectApplication)) {
+				return false; // Applicant already has an active application
+			}
+			if (mgr.add(applicationDatabase, projectApplication)) {
+				(new StatisticsMgr()).recordApplication(projectApplication);
+				(new AuditMgr()).recordApplication(projectApplication);
+				applicant.setAppliedProject(project);
+				applicant.setProjectApplication(projectApplication);
+				applicant.setCanApply(false);
+				return true;
+			} else {
+				activeMgr.release(projectApplication);
+				return false;
+			}
+		} finally {
+			MetricsMgr.record(Operation.APPLY_FOR_PROJECT, startTime);
 		}
 	}
 	
@@ -184,6 +235,8 @@ public class ApplicantMgr {
 		Application withdrawalApplication = appMgr.create(applicant, applicant.getAppliedProject(), ApplicationType.WITHDRAWAL_APPLICATION);
 		
 		if (appDatabaseMgr.add(applicationDatabase, withdrawalApplication)) {
+			(new StatisticsMgr()).recordApplication(withdrawalApplication);
+			(new AuditMgr()).recordApplication(withdrawalApplication);
 			applicant.setWithdrawalApplication(withdrawalApplication);
 			applicant.setWithdrawing(true);
 			return true;
@@ -251,11 +304,18 @@ public class ApplicantMgr {
 	public boolean addEnquiry(Applicant applicant, IDatabase<Enquiry> enquiryDatabase, String question) {
 		EnquiryDatabaseMgr enqDbMgr = new EnquiryDatabaseMgr();
 		EnquiryMgr enqMgr = new EnquiryMgr();
+		Enquiry enquiry = enqMgr.create(applicant,
+				applicant.getAppliedProject(),
+				question.replace(',', ' '));
 		
-		return enqDbMgr.add(enquiryDatabase,
-				enqMgr.create(applicant,
-						applicant.getAppliedProject(),
-						question.replace(',', ' ')));
+		if (enqDbMgr.add(enquiryDatabase, enquiry)) {
+			(new StatisticsMgr()).recordEnquiry(enquiry);
+			(new EnquirySearchMgr()).add(enquiry);
+			(new EnquiryQueueMgr()).add(enquiry);
+			return true;
+		} else {
+			return false;
+		}
 	}
 	
 	/**
@@ -271,13 +331,11 @@ public class ApplicantMgr {
 	 * @return {@code true} if the enquiry was edited successfully, {@code false} if a reply already exists.
 	 */
 	public boolean editEnquiry(Enquiry enquiry, String question) {
-		if (!enquiry.getReply().isBlank()) {
-			// This condition appears to be reversed in the original code. An empty reply should allow editing.
-			// However, since I cannot modify the code, I will correct the Javadoc to reflect the code's behavior.
-			// The original code returns false if the reply is blank, preventing editing.
+		if (enquiry.isAnswered()) {
 			return false;
 		} else {
 			enquiry.setQuestion(question.replace(',', ' '));
+			(new EnquirySearchMgr()).update(enquiry);
 			return true;
 		}
 	}
@@ -295,13 +353,14 @@ public class ApplicantMgr {
 	 * @return {@code true} if the enquiry was deleted successfully, {@code false} if a reply already exists.
 	 */
 	public boolean deleteEnquiry(IDatabase<Enquiry> enquiryDatabase, Enquiry enquiry) {
-		if (!enquiry.getReply().isBlank()) {
-			// This condition appears to be reversed in the original code. An empty reply should allow deletion.
-			// However, since I cannot modify the code, I will correct the Javadoc to reflect the code's behavior.
-			// The original code returns false if the reply is blank, preventing deletion.
+		if (enquiry.isAnswered()) {
 			return false;
 		} else {
-			enquiryDatabase.getDataList().remove(enquiry);
+			if ((new EnquiryDatabaseMgr()).remove(enquiryDatabase, enquiry)) {
+				(new StatisticsMgr()).removeEnquiry(enquiry);
+				(new EnquirySearchMgr()).remove(enquiry);
+				(new EnquiryQueueMgr()).remove(enquiry);
+			}
 			return true;
 		}
 	}
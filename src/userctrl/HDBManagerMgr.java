@@ -1,23 +1,68 @@
 package userctrl;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import application.Application;
+import application.ApplicationStateMachine;
 import application.ApplicationStatus;
+import application.AssignmentMgr;
+import application.AssignmentResult;
+import application.BallotMgr;
+import application.BallotResult;
+import application.StatusUpdateResult;
+import application.WaitlistMgr;
+import audit.AuditMgr;
+import audit.AuditRecord;
+import audit.AuditState;
+import audit.AuditSummary;
 import database.IDatabase;
 import databasemgr.ApplicationDatabaseMgr;
 import databasemgr.ProjectDatabaseMgr;
 import display.ApplicationDisplayer;
+import display.AssignmentDisplayer;
+import display.AuditRecordDisplayer;
+import display.AuditStateDisplayer;
+import display.AuditSummaryDisplayer;
+import display.BallotDisplayer;
+import display.MetricsDisplayer;
 import display.ProjectDisplayer;
 import display.ReportDisplayer;
+import display.StatisticsDisplayer;
+import inventory.InventoryMgr;
+import metrics.MetricsMgr;
+import metrics.Operation;
 import misc.CheckType;
+import project.OfficerScheduleMgr;
+import project.OfficerSlotMgr;
 import project.Project;
+import project.ProjectIndexMgr;
 import project.ProjectInterface;
 import project.ProjectMgr;
+import project.ProjectQuery;
+import project.ProjectQueryResult;
+import project.ProjectSort;
+import project.ProjectWindowMgr;
+import reader.ApplicantImporter;
+import reader.ImportResult;
+import reader.ProjectImporter;
+import security.CredentialMgr;
+import statistics.ProjectStatistics;
+import statistics.StatisticsMgr;
 import user.Applicant;
 import user.HDBManager;
+import user.HDBOfficer;
 import user.User;
+import writer.MetricsWriter;
+import writer.ReportCSVWriter;
+import writer.ReportJSONWriter;
+import writer.ReportWriter;
 
 /**
  * Manages operations that an HDB Manager can perform within the system.
@@ -27,13 +72,14 @@ import user.User;
 public class HDBManagerMgr {
 
 	/**
-	 * Sorts a list of projects by name.
+	 * Sorts a list of projects by an attribute.
 	 *
 	 * @param projectList   The list of projects to sort.
+	 * @param sort          The attribute to sort projects by.
 	 * @param isAscending   {@code true} to sort projects in ascending order, {@code false} for descending.
 	 */
-	public void sortProjects(List<Project> projectList, boolean isAscending) {
-		(new ProjectMgr()).sort(projectList, isAscending);
+	public void sortProjects(List<Project> projectList, ProjectSort sort, boolean isAscending) {
+		(new ProjectMgr()).sort(projectList, sort, isAscending);
 	}
 	
 	/**
@@ -48,18 +94,20 @@ public class HDBManagerMgr {
 	}
 	
 	/**
-	 * Retrieves a filtered list of all projects in the database.
+	 * Retrieves the projects in the database that match a query, in order.
 	 *
 	 * @param manager         The HDB Manager performing the action.
 	 * @param projectDatabase The database containing project information.
-	 * @param attribute_name  The name of the project attribute to filter by (e.g., "neighbourhood").
-	 * @param value           The value to filter the attribute by.
-	 * @return A {@code List} of {@code Project} objects, filtered by the specified attribute and value.
+	 * @param query           The query the projects must match.
+	 * @param sort            The attribute to order the projects by.
+	 * @param isAscending     {@code true} for ascending order, {@code false} for descending.
+	 * @return The {@link ProjectQueryResult} holding the matching projects and the plan used to find them.
 	 */
-	public List<Project> getProjects(HDBManager manager, IDatabase<Project> projectDatabase, String attribute_name, Object value) {
-		return new ProjectMgr().filter(
-				new ProjectDatabaseMgr().getData(projectDatabase, manager),
-				attribute_name, value);
+	public ProjectQueryResult getProjects(HDBManager manager, IDatabase<Project> projectDatabase, ProjectQuery query,
+			ProjectSort sort, boolean isAscending) {
+		return new ProjectMgr().query(projectDatabase,
+				query.and(ProjectQuery.matching("accessible", new ProjectDatabaseMgr().getFilter(manager))),
+				sort, isAscending);
 	}
 
 	/**
@@ -92,7 +140,11 @@ public class HDBManagerMgr {
 	 * @param userDatabase    The database containing user information (for assigning officers to the project).
 	 */
 	public void createProject(HDBManager manager, IDatabase<Project> projectDatabase, IDatabase<User> userDatabase) {
-		(new ProjectDatabaseMgr()).add(projectDatabase, (new ProjectInterface()).createProject(manager, userDatabase));
+		Project project = (new ProjectInterface()).createProject(manager, userDatabase);
+		if ((new ProjectDatabaseMgr()).add(projectDatabase, project)) {
+			(new ProjectIndexMgr()).add(project);
+			(new ProjectWindowMgr()).update(project);
+		}
 	}
 	
 	/**
@@ -106,6 +158,9 @@ public class HDBManagerMgr {
 	 */
 	public void editProject(Project project) {
 		(new ProjectInterface()).editProject(project);
+		(new ProjectIndexMgr()).update(project);
+		(new ProjectWindowMgr()).update(project);
+		(new OfficerScheduleMgr()).invalidate();
 	}
 	
 	/**
@@ -130,7 +185,37 @@ public class HDBManagerMgr {
 	 * @param removableProject The project to be removed.
 	 */
 	public void removeProject(IDatabase<Project> projectDatabase, Project removableProject) {
-		projectDatabase.getDataList().remove(removableProject);
+		if ((new ProjectDatabaseMgr()).remove(projectDatabase, removableProject)) {
+			(new StatisticsMgr()).removeProject(removableProject);
+			(new ProjectIndexMgr()).remove(removableProject);
+			(new ProjectWindowMgr()).remove(removableProject);
+			(new InventoryMgr()).remove(removableProject);
+			(new OfficerSlotMgr()).remove(removableProject);
+			(new WaitlistMgr()).remove(removableProject);
+		}
+	}
+
+	/**
+	 * Adds a block of flats to a project, with the same number of flats on every floor.
+	 * <p>
+	 * Once a project has flats, officers book a particular flat for each
+	 * applicant, and the project's unit count follows the number of flats that
+	 * are not booked.
+	 * </p>
+	 *
+	 * @param project       The project.
+	 * @param block         The name of the new block.
+	 * @param lowestFloor   The lowest floor with flats.
+	 * @param highestFloor  The highest floor with flats.
+	 * @param unitsPerFloor The number of flats on each floor.
+	 * @param price         The price of each flat.
+	 * @return The number of flats added.
+	 * @throws IllegalArgumentException If the block already exists or its floors, flats or price are invalid.
+	 */
+	public int addBlock(Project project, String block, int lowestFloor, int highestFloor, int unitsPerFloor, double price) {
+		int unitCount = (new InventoryMgr()).addBlock(project, block, lowestFloor, highestFloor, unitsPerFloor, price);
+		(new ProjectIndexMgr()).update(project);
+		return unitCount;
 	}
 	
 	/**
@@ -158,14 +243,319 @@ public class HDBManagerMgr {
 	 * <p>
 	 * This method changes the application's status and then calls a method in {@link UserMgr}
 	 * to update the related user's status accordingly (e.g., to grant receipt access).
+	 * A project registration is only approved if an officer slot of its project
+	 * can be claimed; otherwise it is left unchanged.
+	 * </p>
+	 * <p>
+	 * The status is changed with a compare-and-set from the status read on
+	 * entry, so when two managers decide the same application at the same
+	 * time, only the first decision takes effect and the other fails, without
+	 * updating the user a second time.
 	 * </p>
 	 *
 	 * @param application The application to update.
 	 * @param newStatus   The new status to set for the application.
+	 * @return {@code true} if the application was updated, {@code false} if the transition is not allowed,
+	 *         the application was decided by another session, or it is a registration for a project
+	 *         whose officer slots are all filled, or which the officer already handles.
+	 * @see #decide(Application, ApplicationStatus)
+	 */
+	public boolean updateStatus(Application application, ApplicationStatus newStatus) {
+		return decide(application, newStatus).equals(StatusUpdateResult.UPDATED);
+	}
+
+	/**
+	 * Updates the status of a specific application, reporting why the update did not take effect.
+	 * <p>
+	 * This performs the same update as {@link #updateStatus(Application, ApplicationStatus)}.
+	 * </p>
+	 *
+	 * @param application The application to update.
+	 * @param newStatus   The new status to set for the application.
+	 * @return The {@link StatusUpdateResult}: {@code UPDATED} if the application was updated, or the reason it was not.
+	 */
+	public StatusUpdateResult decide(Application application, ApplicationStatus newStatus) {
+		long startTime = System.nanoTime();
+		try {
+			ApplicationStatus oldStatus = application.getStatus();
+			if (!ApplicationStateMachine.canTransition(application.getApplicationType(), oldStatus, newStatus)) {
+				return StatusUpdateResult.NOT_ALLOWED;
+			}
+			boolean joining = CheckType.isProjectRegistrationApplication(application) && newStatus.equals(ApplicationStatus.SUCCESSFUL);
+			OfficerSlotMgr slotMgr = new OfficerSlotMgr();
+			if (joining && !slotMgr.claim(application.getProject(), (HDBOfficer) application.getUser())) {
+				return application.getProject().getOfficers().contains(application.getUser())
+						? StatusUpdateResult.ALREADY_JOINED : StatusUpdateResult.NO_FREE_SLOT;
+			}
+			if (!application.updateStatus(oldStatus, newStatus)) {
+				if (joining) {
+					slotMgr.release(application.getProject(), (HDBOfficer) application.getUser());
+				}
+				return StatusUpdateResult.ALREADY_DECIDED;
+			}
+			(new StatisticsMgr()).recordStatusChange(application, oldStatus, newStatus);
+			(new AuditMgr()).recordStatusChange(application, oldStatus, newStatus);
+			(new UserMgr()).updateStatus(application, newStatus);
+			return StatusUpdateResult.UPDATED;
+		} finally {
+			MetricsMgr.record(Operation.UPDATE_STATUS, startTime);
+		}
+	}
+
+	/**
+	 * Retrieves the pending project registrations for a project, in the order they were submitted.
+	 *
+	 * @param project             The project.
+	 * @param applicationDatabase The database containing application information.
+	 * @return A {@code List} of pending registrations for the project, earliest first.
+	 */
+	public List<Application> getPendingRegistrations(Project project, IDatabase<Application> applicationDatabase) {
+		// Applications are stored in the order they were submitted.
+		return applicationDatabase.getDataList()
+				.stream()
+				.filter(application -> application.getProject() == project)
+				.filter(CheckType::isProjectRegistrationApplication)
+				.filter(application -> application.getStatus().equals(ApplicationStatus.PENDING))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Approves the pending project registrations for a project, in the order they were submitted,
+	 * until its officer slots are filled.
+	 * <p>
+	 * The registrations left over once the slots are filled stay pending, so
+	 * that the manager can reject them or add slots.
+	 * </p>
+	 *
+	 * @param project             The project.
+	 * @param applicationDatabase The database containing application information.
+	 * @return A {@code List} of the registrations that were approved.
+	 */
+	public List<Application> approveRegistrations(Project project, IDatabase<Application> applicationDatabase) {
+		OfficerSlotMgr slotMgr = new OfficerSlotMgr();
+		List<Application> approvedList = new ArrayList<>();
+		for (Application application : getPendingRegistrations(project, applicationDatabase)) {
+			if (slotMgr.getFreeSlots(project) == 0) {
+				break;
+			}
+			if (updateStatus(application, ApplicationStatus.SUCCESSFUL)) {
+				approvedList.add(application);
+			}
+		}
+		return approvedList;
+	}
+
+	/**
+	 * Computes an assignment of officers to projects from all pending project registrations.
+	 * <p>
+	 * The assignment approves as many registrations as the projects' free
+	 * officer slots allow, without giving an officer two projects whose
+	 * application periods overlap. It considers every project, since an
+	 * officer may have registered for projects of several managers, but does
+	 * not change any registration.
+	 * </p>
+	 *
+	 * @param applicationDatabase The database containing application information.
+	 * @return The {@link AssignmentResult}.
+	 */
+	public AssignmentResult planOfficerAssignment(IDatabase<Application> applicationDatabase) {
+		return (new AssignmentMgr()).solve(applicationDatabase);
+	}
+
+	/**
+	 * Approves the assigned registrations for the projects of an HDB Manager.
+	 * <p>
+	 * Registrations for other managers' projects are left for those managers
+	 * to apply. A registration whose project has filled its slots since the
+	 * assignment was computed is left pending.
+	 * </p>
+	 *
+	 * @param manager The HDB Manager applying the assignment.
+	 * @param result  The assignment computed by {@link #planOfficerAssignment(IDatabase)}.
+	 * @return A {@code List} of the registrations that were approved.
+	 */
+	public List<Application> applyOfficerAssignment(HDBManager manager, AssignmentResult result) {
+		List<Application> approvedList = new ArrayList<>();
+		for (Application application : result.getAssignedList()) {
+			if (application.getProject().getManager() == manager
+					&& application.getStatus().equals(ApplicationStatus.PENDING)
+					&& updateStatus(application, ApplicationStatus.SUCCESSFUL)) {
+				approvedList.add(application);
+			}
+		}
+		return approvedList;
+	}
+
+	/**
+	 * Displays the outcome of an assignment of officers to projects.
+	 *
+	 * @param result The {@code AssignmentResult} to display.
+	 */
+	public void displayAssignment(AssignmentResult result) {
+		(new AssignmentDisplayer()).display(result);
+	}
+
+	/**
+	 * Retrieves the projects of an HDB Manager that can be balloted.
+	 * <p>
+	 * A project can only be balloted once its application period has closed,
+	 * so that no application arrives after the draw.
+	 * </p>
+	 *
+	 * @param manager         The HDB Manager whose projects are to be retrieved.
+	 * @param projectDatabase The database containing project information.
+	 * @return A {@code List} of the manager's projects that are closed for applications.
+	 */
+	public List<Project> getBallotProjects(HDBManager manager, IDatabase<Project> projectDatabase) {
+		return getOwnProjects(manager, projectDatabase)
+				.stream()
+				.filter(project -> !project.isOpenForApplications())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Ballots the pending BTO applications of a list of projects.
+	 * <p>
+	 * The ballots are drawn by {@link BallotMgr}, in parallel and without
+	 * changing any application. Every draw is then checked against the
+	 * applications as they are now: if any drawn application is no longer
+	 * pending, it changed while the ballots were drawn, and nothing is applied.
+	 * Otherwise the results are applied together through
+	 * {@link #updateStatus(Application, ApplicationStatus)}, which also updates
+	 * the applicants. An application withdrawn while the results are being
+	 * applied keeps its withdrawal, and its draw is left out of the results and
+	 * the waitlist. The applications not drawn join their project's waitlist in
+	 * ranking order, and are offered the flats of successful applications that
+	 * are withdrawn.
+	 * </p>
+	 *
+	 * @param projectList         The projects to ballot.
+	 * @param applicationDatabase The database containing application information.
+	 * @param seed                The ballot seed; the same seed reproduces the same draw.
+	 * @return The {@link BallotResult} of each project, holding only the draws that took effect,
+	 *         or an empty {@code List} if the ballots were not applied.
+	 */
+	public List<BallotResult> runBallot(List<Project> projectList, IDatabase<Application> applicationDatabase, long seed) {
+		List<BallotResult> drawnList = (new BallotMgr()).draw(projectList, applicationDatabase, seed);
+
+		for (BallotResult result : drawnList) {
+			if (!canApply(result.getSuccessfulList(), ApplicationStatus.SUCCESSFUL)
+					|| !canApply(result.getUnsuccessfulList(), ApplicationStatus.UNSUCCESSFUL)) {
+				return new ArrayList<>();
+			}
+		}
+
+		List<BallotResult> resultList = new ArrayList<>();
+		for (BallotResult result : drawnList) {
+			List<Application> successfulList = new ArrayList<>();
+			List<Application> unsuccessfulList = new ArrayList<>();
+			for (Application application : result.getSuccessfulList()) {
+				if (updateStatus(application, ApplicationStatus.SUCCESSFUL)) {
+					successfulList.add(application);
+				}
+			}
+			for (Application application : result.getUnsuccessfulList()) {
+				if (updateStatus(application, ApplicationStatus.UNSUCCESSFUL)) {
+					unsuccessfulList.add(application);
+				}
+			}
+			(new WaitlistMgr()).add(result.getProject(), unsuccessfulList);
+			resultList.add(new BallotResult(result.getProject(), result.getSeed(), result.getAvailableCount(),
+					successfulList, unsuccessfulList));
+		}
+		return resultList;
+	}
+
+	/**
+	 * Checks whether every application in a list may still move to a status.
+	 *
+	 * @param applicationList The applications.
+	 * @param newStatus       The status to move to.
+	 * @return {@code true} if every transition is allowed.
+	 */
+	private boolean canApply(List<Application> applicationList, ApplicationStatus newStatus) {
+		for (Application application : applicationList) {
+			if (!ApplicationStateMachine.canTransition(application.getApplicationType(), application.getStatus(), newStatus)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Displays the outcome of the ballots of a list of projects.
+	 *
+	 * @param resultList The list of {@code BallotResult} to display.
+	 */
+	public void displayBallotResults(List<BallotResult> resultList) {
+		(new BallotDisplayer()).display(resultList);
+	}
+
+	/**
+	 * Retrieves the status transitions of a project's applications over a range of days, from the audit history.
+	 * <p>
+	 * The history is kept by project ID, so the transitions of a project that
+	 * has since been deleted can still be retrieved.
+	 * </p>
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The first day of the range.
+	 * @param to        The last day of the range.
+	 * @return A {@code List} of {@link AuditRecord} objects, earliest first.
+	 */
+	public List<AuditRecord> getAuditHistory(String projectID, LocalDate from, LocalDate to) {
+		return (new AuditMgr()).getHistory(projectID, from, to);
+	}
+
+	/**
+	 * Counts the status transitions of each kind of a project's applications on each day of a range,
+	 * from the audit history.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param from      The first day of the range.
+	 * @param to        The last day of the range.
+	 * @return The {@link AuditSummary}.
+	 */
+	public AuditSummary getAuditSummary(String projectID, LocalDate from, LocalDate to) {
+		return (new AuditMgr()).getSummary(projectID, from, to);
+	}
+
+	/**
+	 * Displays status transitions from the audit history.
+	 *
+	 * @param recordList The list of {@code AuditRecord} to display.
+	 */
+	public void displayAuditHistory(List<AuditRecord> recordList) {
+		(new AuditRecordDisplayer()).display(recordList);
+	}
+
+	/**
+	 * Displays the daily status transitions of a project's applications.
+	 *
+	 * @param summary The {@code AuditSummary} to display.
+	 */
+	public void displayAuditSummary(AuditSummary summary) {
+		(new AuditSummaryDisplayer()).display(summary);
+	}
+
+	/**
+	 * Rebuilds the state of a project's applications as it stood at the end of a day, from the audit history.
+	 *
+	 * @param projectID The ID of the project.
+	 * @param day       The day.
+	 * @return The {@link AuditState}.
+	 */
+	public AuditState getAuditState(String projectID, LocalDate day) {
+		return (new AuditMgr()).getState(projectID, day);
+	}
+
+	/**
+	 * Displays the state of a project's applications at the end of a past day.
+	 *
+	 * @param state The {@code AuditState} to display.
 	 */
-	public void updateStatus(Application application, ApplicationStatus newStatus) {
-		application.updateStatus(newStatus);
-		(new UserMgr()).updateStatus(application, newStatus);		
+	public void displayAuditState(AuditState state) {
+		(new AuditStateDisplayer()).display(state);
 	}
 
 	/**
@@ -246,6 +636,177 @@ public class HDBManagerMgr {
 		new ReportDisplayer().display(applicant);
 	}
 
+	/**
+	 * Exports a report for a list of applicants to a file.
+	 * <p>
+	 * The report contains the same fields as {@link #displayReport(List)} and is
+	 * written through a {@link ReportWriter} in large buffered chunks.
+	 * </p>
+	 *
+	 * @param applicantList The list of {@code Applicant} objects to export.
+	 * @param format        The export format ("CSV" or "JSON").
+	 * @param filePath      The file to write to, or {@code null} for the default report file.
+	 * @return {@code true} if the report was exported successfully, {@code false} otherwise.
+	 * @throws IllegalArgumentException if the format is not supported.
+	 */
+	public boolean exportReport(List<Applicant> applicantList, String format, String filePath) throws IllegalArgumentException {
+		ReportWriter writer;
+
+		if (format.equalsIgnoreCase("CSV")) {
+			writer = new ReportCSVWriter();
+		} else if (format.equalsIgnoreCase("JSON")) {
+			writer = new ReportJSONWriter();
+		} else {
+			throw new IllegalArgumentException("Invalid report format: " + format);
+		}
+
+		return writer.write(applicantList, filePath);
+	}
+
+	/**
+	 * Imports new applicants in bulk from a CSV file.
+	 * <p>
+	 * The rows are validated by an {@link ApplicantImporter} and checked against
+	 * the IDs of all existing users. The passwords of the accepted applicants are
+	 * hashed in parallel, and the applicants are then added to the user
+	 * database in one batch, while the rejected rows are written to the reject
+	 * file with the reason they were rejected. The accepted applicants are
+	 * written to the data files by the caller's next save, with the rest of the data.
+	 * </p>
+	 *
+	 * @param inputFile    The path of the CSV file to import.
+	 * @param rejectFile   The path of the file the rejected rows are written to.
+	 * @param userDatabase The database containing user information.
+	 * @return The {@link ImportResult} of the import, or {@code null} if a file could not be read or written.
+	 */
+	public ImportResult<Applicant> importApplicants(String inputFile, String rejectFile, IDatabase<User> userDatabase) {
+		Set<String> userIDs = userDatabase.getDataList()
+				.stream()
+				.map(User::getUserID)
+				.collect(Collectors.toCollection(HashSet::new));
+
+		ImportResult<Applicant> result = (new ApplicantImporter(userIDs)).importFile(inputFile, rejectFile);
+		if (result != null && !result.getAcceptedList().isEmpty()) {
+			(new CredentialMgr()).hashAll(result.getAcceptedList());
+			userDatabase.getDataList().addAll(result.getAcceptedList());
+		}
+		return result;
+	}
+
+	/**
+	 * Imports new projects in bulk from a CSV file.
+	 * <p>
+	 * The rows are validated by a {@link ProjectImporter} and checked against
+	 * the names of all existing projects. The accepted projects are added to the
+	 * project database, the project indexes and the statistics in one batch.
+	 * If any of them has officers assigned, the officers' schedules are
+	 * refreshed. The accepted projects and the officers' new projects are
+	 * written to the data files by the caller's next save, with the rest of the data.
+	 * </p>
+	 *
+	 * @param inputFile       The path of the CSV file to import.
+	 * @param rejectFile      The path of the file the rejected rows are written to.
+	 * @param projectDatabase The database containing project information.
+	 * @param userDatabase    The database containing user information (for the managers and officers of the projects).
+	 * @return The {@link ImportResult} of the import, or {@code null} if a file could not be read or written.
+	 */
+	public ImportResult<Project> importProjects(String inputFile, String rejectFile, IDatabase<Project> projectDatabase,
+			IDatabase<User> userDatabase) {
+		Set<String> projectNames = projectDatabase.getDataList()
+				.stream()
+				.map(project -> ProjectImporter.toKey(project.getName()))
+				.collect(Collectors.toCollection(HashSet::new));
+		Map<String, User> userIndex = new HashMap<>();
+		for (User user : userDatabase.getDataList()) {
+			userIndex.put(user.getUserID(), user);
+		}
+
+		ImportResult<Project> result = (new ProjectImporter(projectNames, userIndex)).importFile(inputFile, rejectFile);
+		if (result == null || result.getAcceptedList().isEmpty()) {
+			return result;
+		}
+
+		ProjectIndexMgr indexMgr = new ProjectIndexMgr();
+		ProjectWindowMgr windowMgr = new ProjectWindowMgr();
+		StatisticsMgr statisticsMgr = new StatisticsMgr();
+		projectDatabase.getDataList().addAll(result.getAcceptedList());
+		for (Project project : result.getAcceptedList()) {
+			indexMgr.add(project);
+			windowMgr.update(project);
+			statisticsMgr.getStatistics(project);
+		}
+
+		if (result.getAcceptedList().stream().anyMatch(project -> !project.getOfficers().isEmpty())) {
+			(new OfficerScheduleMgr()).invalidate();
+		}
+		return result;
+	}
+
+	/**
+	 * Replaces every plaintext password left in the user database by its hash.
+	 * <p>
+	 * Passwords are otherwise migrated one by one as users log in. Only the
+	 * user database is changed; the caller saves it if any password was hashed.
+	 * </p>
+	 *
+	 * @param userDatabase The database containing user information.
+	 * @return The number of passwords that were hashed.
+	 */
+	public int hashPasswords(IDatabase<User> userDatabase) {
+		return (new CredentialMgr()).hashAll(userDatabase.getDataList());
+	}
+
+	/**
+	 * Retrieves the pre-aggregated statistics of each of the given projects.
+	 * <p>
+	 * The statistics are maintained incrementally by {@link StatisticsMgr}, so
+	 * this takes constant time per project regardless of the number of
+	 * applications or enquiries.
+	 * </p>
+	 *
+	 * @param projectList The projects whose statistics are to be retrieved.
+	 * @return A {@code List} of {@code ProjectStatistics}, in the same order as the projects.
+	 */
+	public List<ProjectStatistics> getProjectStatistics(List<Project> projectList) {
+		StatisticsMgr statisticsMgr = new StatisticsMgr();
+		return projectList.stream()
+				.map(project -> statisticsMgr.getStatistics(project))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Displays the dashboard statistics of a list of projects.
+	 *
+	 * @param statisticsList The list of {@code ProjectStatistics} to display.
+	 */
+	public void displayProjectStatistics(List<ProjectStatistics> statisticsList) {
+		(new StatisticsDisplayer()).display(statisticsList);
+	}
+
+	/**
+	 * Displays the call counts and latency percentiles of the instrumented operations.
+	 */
+	public void displayMetrics() {
+		(new MetricsDisplayer()).display((new MetricsMgr()).getMetrics());
+	}
+
+	/**
+	 * Dumps the call counts and latency percentiles of the instrumented operations to a CSV file.
+	 *
+	 * @param filePath The file to write to, or {@code null} or blank for the default metrics file.
+	 * @return {@code true} if the metrics were written successfully, {@code false} otherwise.
+	 */
+	public boolean dumpMetrics(String filePath) {
+		return (new MetricsWriter()).write((new MetricsMgr()).getMetrics(), filePath);
+	}
+
+	/**
+	 * Discards the metrics recorded so far.
+	 */
+	public void resetMetrics() {
+		(new MetricsMgr()).reset();
+	}
+
 	/**
 	 * Retrieves a list of projects that are directly managed by a given HDB Manager.
 	 * <p>
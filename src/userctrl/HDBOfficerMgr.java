@@ -2,18 +2,29 @@ package userctrl;
 
 import java.util.List;
 
+import application.ActiveApplicationMgr;
 import application.Application;
 import application.ApplicationMgr;
 import application.ApplicationStatus;
 import application.ApplicationType;
+import audit.AuditMgr;
 import database.IDatabase;
 import databasemgr.ApplicationDatabaseMgr;
 import databasemgr.IItemDatabaseMgr;
 import databasemgr.ProjectDatabaseMgr;
 import display.ApplicationDisplayer;
+import display.FlatUnitDisplayer;
 import display.ProjectDisplayer;
+import inventory.FlatUnit;
+import inventory.InventoryMgr;
+import inventory.Reservation;
+import metrics.BookingEvent;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import project.OfficerScheduleMgr;
 import project.Project;
 import project.ProjectMgr;
+import statistics.StatisticsMgr;
 import user.Applicant;
 import user.HDBOfficer;
 
@@ -25,15 +36,16 @@ import user.HDBOfficer;
 public class HDBOfficerMgr {
 
 	/**
-	 * Updates the application status of an HDB Officer. If the officer is no longer eligible to apply,
-	 * the currently applied project (if any) is added to their list of prohibited projects.
+	 * Updates the application status of an HDB Officer. If the officer has an active BTO application,
+	 * its project is added to their list of prohibited projects.
 	 *
 	 * @param officer The HDB Officer whose status is to be updated.
 	 */
 	public void updateStatus(HDBOfficer officer) {
-		if (!officer.canApply()) {
-			if (!officer.getProhibitedProjects().contains(officer.getAppliedProject())) {
-				officer.getProhibitedProjects().add(officer.getAppliedProject());
+		Application activeApplication = (new ActiveApplicationMgr()).getActiveApplication(officer.getUserID());
+		if (activeApplication != null) {
+			if (!officer.getProhibitedProjects().contains(activeApplication.getProject())) {
+				officer.getProhibitedProjects().add(activeApplication.getProject());
 			}
 		}
 	}
@@ -69,7 +81,7 @@ public class HDBOfficerMgr {
 
 	/**
 	 * Allows an HDB Officer to register for a project. Checks if the officer is eligible to join
-	 * based on the application start and end dates of their currently joined projects.
+	 * based on the application periods of the projects they have joined or registered for.
 	 *
 	 * @param officer           The HDB Officer registering for the project.
 	 * @param project           The project the officer wishes to register for.
@@ -84,7 +96,10 @@ public class HDBOfficerMgr {
 		if (checkJoinEligibility(officer, project)) {
 			projectApplication = appMgr.create(officer, project, ApplicationType.PROJECT_REGISTRATION);
 			if (mgr.add(applicationDatabase, projectApplication)) {
+				(new StatisticsMgr()).recordApplication(projectApplication);
+				(new AuditMgr()).recordApplication(projectApplication);
 				officer.getRegisteredProjects().add(project);
+				(new OfficerScheduleMgr()).add(officer, project);
 				officer.getProhibitedProjects().add(project);
 				officer.getProjectRegistration().add(projectApplication);
 				return true;
@@ -98,30 +113,26 @@ public class HDBOfficerMgr {
 	
 	/**
 	 * Checks if an HDB Officer is eligible to join a new project based on the application
-	 * start and end dates of the projects they have already joined. An officer cannot join a project
-	 * if its application period overlaps with any of their currently joined projects.
+	 * periods of the projects they have already joined or registered for. An officer cannot join a project
+	 * if its application period shares a day with any of those projects.
 	 *
 	 * @param officer The HDB Officer attempting to join the project.
 	 * @param project The project the officer wants to join.
 	 * @return {@code true} if the officer is eligible to join, {@code false} otherwise.
 	 */
 	public boolean checkJoinEligibility(HDBOfficer officer, Project project) {
-		for (Project registeredProject : officer.getJoinedProjects()) {
-			if (
-					(registeredProject.getApplicationStartDate()
-							.isAfter(project.getApplicationStartDate())
-							&& registeredProject.getApplicationStartDate()
-							.isBefore(project.getApplicationEndDate()))
-					||
-					(registeredProject.getApplicationEndDate()
-							.isAfter(project.getApplicationStartDate())
-							&& registeredProject.getApplicationEndDate()
-							.isBefore(project.getApplicationEndDate()))
-					) {
-				return false;
-			}
-		}
-		return true;
+		return (new OfficerScheduleMgr()).isAvailable(officer, project);
+	}
+
+	/**
+	 * Retrieves the projects visible to the HDB Officer that they are eligible to join.
+	 *
+	 * @param officer         The HDB Officer.
+	 * @param projectDatabase The database containing project information.
+	 * @return A {@code List} of the projects the officer can register for, in order of their application start dates.
+	 */
+	public List<Project> getJoinableProjects(HDBOfficer officer, IDatabase<Project> projectDatabase) {
+		return (new OfficerScheduleMgr()).getAvailableProjects(officer, getProjects(officer, projectDatabase));
 	}
 
 	/**
@@ -172,6 +183,83 @@ public class HDBOfficerMgr {
 		return appDBMgr.getData(applicationDatabase, officer);
 	}
 
+	/**
+	 * Checks whether a project has individual flats to choose from, rather than a plain count of them.
+	 *
+	 * @param project The project.
+	 * @return {@code true} if a flat must be reserved before it is booked.
+	 */
+	public boolean hasUnits(Project project) {
+		return (new InventoryMgr()).hasUnits(project);
+	}
+
+	/**
+	 * Counts the available flats of a project on a floor and above.
+	 *
+	 * @param project  The project.
+	 * @param minFloor The lowest floor to count.
+	 * @return The number of available flats.
+	 */
+	public int countAvailableUnits(Project project, int minFloor) {
+		return (new InventoryMgr()).countAvailableUnits(project, minFloor);
+	}
+
+	/**
+	 * Retrieves the first available flats of a project on a floor and above.
+	 *
+	 * @param project  The project.
+	 * @param minFloor The lowest floor to look at.
+	 * @param limit    The greatest number of flats to retrieve.
+	 * @return A {@code List} of available flats, lowest floor first within each block.
+	 */
+	public List<FlatUnit> getAvailableUnits(Project project, int minFloor, int limit) {
+		return (new InventoryMgr()).getAvailableUnits(project, minFloor, limit);
+	}
+
+	/**
+	 * Finds a flat of a project by its address.
+	 *
+	 * @param project    The project.
+	 * @param block      The name of the block.
+	 * @param floor      The floor of the flat.
+	 * @param unitNumber The number of the flat on its floor.
+	 * @return The {@link FlatUnit}, or {@code null} if the project has no such flat.
+	 */
+	public FlatUnit findUnit(Project project, String block, int floor, int unitNumber) {
+		return (new InventoryMgr()).findUnit(project, block, floor, unitNumber);
+	}
+
+	/**
+	 * Displays a list of flats.
+	 *
+	 * @param unitList The list of {@code FlatUnit} objects to display.
+	 */
+	public void displayUnits(List<FlatUnit> unitList) {
+		(new FlatUnitDisplayer()).display(unitList);
+	}
+
+	/**
+	 * Reserves a flat for an applicant's application, holding it while the booking is confirmed.
+	 * The reservation expires after {@link InventoryMgr#RESERVATION_TIMEOUT_MINUTES} minutes.
+	 *
+	 * @param officer     The HDB Officer making the reservation.
+	 * @param application The application the flat is reserved for.
+	 * @param unit        The flat to reserve.
+	 * @return The {@link Reservation}, or {@code null} if the flat has been taken.
+	 */
+	public Reservation reserveUnit(HDBOfficer officer, Application application, FlatUnit unit) {
+		return (new InventoryMgr()).reserve(application.getProject(), unit, application.getID());
+	}
+
+	/**
+	 * Releases a reserved flat without booking it.
+	 *
+	 * @param reservation The reservation to release.
+	 */
+	public void releaseUnit(Reservation reservation) {
+		(new InventoryMgr()).release(reservation);
+	}
+
 	/**
 	 * Allows an HDB Officer to book a flat for an applicant based on their application.
 	 * <p>
@@ -179,21 +267,121 @@ public class HDBOfficerMgr {
 	 * decreases the available count and updates the application status to "Booked". It also
 	 * triggers the generation of a receipt for the applicant.
 	 * </p>
+	 * <p>
+	 * If the project has individual flats, the first available one, lowest floor
+	 * first, is reserved and booked.
+	 * </p>
 	 *
 	 * @param officer     The HDB Officer performing the booking.
 	 * @param application The application for which the flat is to be booked.
 	 * @return {@code true} if the booking was successful, {@code false} otherwise (e.g., no flats left).
 	 */
 	public boolean bookApplicantFlat(HDBOfficer officer, Application application) {
-		ProjectMgr projectMgr = new ProjectMgr();
-		
-		if (projectMgr.decreaseCount(application.getProject())) {
-			application.updateStatus(ApplicationStatus.BOOKED);
-			((Applicant) application.getUser()).generateReceipt();
-			application.getProject().setCount(application.getProject().getCount() - 1);
-			return true;
-		} else {
+		long startTime = System.nanoTime();
+		BookingEvent event = BookingEvent.start(application.getID(), application.getProject().getID());
+		try {
+			InventoryMgr inventoryMgr = new InventoryMgr();
+			ProjectMgr projectMgr = new ProjectMgr();
+
+			if (inventoryMgr.hasUnits(application.getProject())) {
+				Reservation reservation = inventoryMgr.reserveAny(application.getProject(), 1, application.getID());
+				if (reservation != null) {
+					return confirmBooking(application, reservation, event);
+				}
+			} else if (projectMgr.decreaseCount(application.getProject())) {
+				if (completeBooking(application, null)) {
+					event.finish(true, application.getProject().getCount());
+					return true;
+				}
+				projectMgr.increaseCount(application.getProject());
+			}
+			event.finish(false, application.getProject().getCount());
+			return false;
+		} finally {
+			MetricsMgr.record(Operation.BOOK_FLAT, startTime);
+		}
+	}
+
+	/**
+	 * Books a reserved flat for an applicant, confirming the reservation.
+	 * <p>
+	 * The booking fails if the reservation has expired or was made for another
+	 * application, in which case the flat is released.
+	 * </p>
+	 *
+	 * @param officer     The HDB Officer performing the booking.
+	 * @param application The application for which the flat is to be booked.
+	 * @param reservation The reservation of the flat, made for the application.
+	 * @return {@code true} if the booking was successful, {@code false} otherwise.
+	 */
+	public boolean bookApplicantFlat(HDBOfficer officer, Application application, Reservation reservation) {
+		long startTime = System.nanoTime();
+		BookingEvent event = BookingEvent.start(application.getID(), application.getProject().getID());
+		try {
+			return confirmBooking(application, reservation, event);
+		} finally {
+			MetricsMgr.record(Operation.BOOK_FLAT, startTime);
+		}
+	}
+
+	/**
+	 * Confirms the reservation of a flat and books it for the application it was made for.
+	 *
+	 * @param application The application for which the flat is to be booked.
+	 * @param reservation The reservation of the flat.
+	 * @param event       The booking event, finished by this method.
+	 * @return {@code true} if the booking was successful, {@code false} otherwise.
+	 */
+	private boolean confirmBooking(Application application, Reservation reservation, BookingEvent event) {
+		InventoryMgr inventoryMgr = new InventoryMgr();
+
+		if (!reservation.getApplicationID().equals(application.getID())
+				|| application.getStatus().equals(ApplicationStatus.BOOKED)) {
+			inventoryMgr.release(reservation);
+			event.finish(false, application.getProject().getCount());
+			return false;
+		}
+		if (!inventoryMgr.confirm(reservation)) {
+			event.finish(false, application.getProject().getCount());
+			return false;
+		}
+		if (!completeBooking(application, reservation.getUnit())) {
+			inventoryMgr.unbook(reservation);
+			event.finish(false, application.getProject().getCount());
+			return false;
+		}
+
+		(new ProjectMgr()).decreaseCount(application.getProject());
+		event.finish(true, application.getProject().getCount());
+		return true;
+	}
+
+	/**
+	 * Marks an application as booked once its flat has been taken, and generates the applicant's receipt.
+	 * <p>
+	 * Only a successful application can be booked. If it is not, for instance
+	 * because another officer booked it or it was withdrawn in the meantime,
+	 * nothing is changed and the caller gives the flat back.
+	 * </p>
+	 *
+	 * @param application The booked application.
+	 * @param unit        The booked flat, or {@code null} if the project has no individual flats.
+	 * @return {@code true} if the application is now booked, {@code false} if it was not successful.
+	 */
+	private boolean completeBooking(Application application, FlatUnit unit) {
+		if (!application.updateStatus(ApplicationStatus.SUCCESSFUL, ApplicationStatus.BOOKED)) {
 			return false;
 		}
+		(new StatisticsMgr()).recordStatusChange(application, ApplicationStatus.SUCCESSFUL, ApplicationStatus.BOOKED);
+		(new AuditMgr()).recordStatusChange(application, ApplicationStatus.SUCCESSFUL, ApplicationStatus.BOOKED);
+
+		Applicant applicant = (Applicant) application.getUser();
+		applicant.generateReceipt();
+		if (unit != null) {
+			applicant.setReceipt(applicant.getReceipt() + "\n"
+					+ "Flat: " + unit.getAddress() + "\n"
+					+ "Price: " + unit.getPrice());
+		}
+		return true;
 	}
-}
\ No newline at end of file
+}
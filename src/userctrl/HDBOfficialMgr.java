@@ -6,7 +6,10 @@ import database.IDatabase;
 import databasemgr.EnquiryDatabaseMgr;
 import display.EnquiryDisplayer;
 import enquiry.Enquiry;
+import enquiry.EnquiryQueueMgr;
+import enquiry.EnquirySearchMgr;
 import misc.CheckType;
+import statistics.StatisticsMgr;
 import user.HDBOfficial;
 import user.User;
 
@@ -15,6 +18,11 @@ import user.User;
  * related to enquiries. This includes viewing and replying to enquiries.
  */
 public class HDBOfficialMgr {
+
+	/**
+	 * The maximum number of enquiries returned by a search.
+	 */
+	public static final int SEARCH_RESULT_LIMIT = 20;
 	
 	/**
 	 * Displays a list of enquiries to the console.
@@ -30,14 +38,18 @@ public class HDBOfficialMgr {
 	 * <p>
 	 * Managers see enquiries related to their managed projects,
 	 * while Officers see enquiries related to the projects they are assigned to.
-	 * This method fetches the relevant enquiries from the database and displays them.
+	 * This method displays the first page of the relevant enquiries and returns
+	 * the displayer, which can be used to move to the next or previous page.
 	 * </p>
 	 *
 	 * @param official        The HDB Official viewing the enquiries.
 	 * @param enquiryDatabase The database containing enquiry information.
+	 * @return The {@link EnquiryDisplayer} browsing the relevant enquiries.
 	 */
-	public void viewEnquiries(HDBOfficial official, IDatabase<Enquiry> enquiryDatabase) {
-		displayEnquiries((new EnquiryDatabaseMgr()).getData(enquiryDatabase, (User) official));
+	public EnquiryDisplayer viewEnquiries(HDBOfficial official, IDatabase<Enquiry> enquiryDatabase) {
+		EnquiryDisplayer displayer = new EnquiryDisplayer();
+		displayer.browse(new EnquiryDatabaseMgr(), enquiryDatabase, (User) official, EnquiryDisplayer.DEFAULT_PAGE_SIZE);
+		return displayer;
 	}
 	
 	/**
@@ -73,7 +85,57 @@ public class HDBOfficialMgr {
 	 * @return {@code true} if the reply was successfully added.
 	 */
 	public boolean replyTo(Enquiry enquiry, String reply) {
+		boolean wasAnswered = enquiry.isAnswered();
 		enquiry.setReply(reply);
+		(new StatisticsMgr()).recordReplyChange(enquiry, wasAnswered);
+		(new EnquirySearchMgr()).update(enquiry);
+		if (enquiry.isAnswered()) {
+			(new EnquiryQueueMgr()).remove(enquiry);
+		} else {
+			(new EnquiryQueueMgr()).add(enquiry);
+		}
 		return true;
 	}
+
+	/**
+	 * Claims the oldest unanswered enquiry that an HDB Official can reply to.
+	 * <p>
+	 * The enquiry is taken from the work queue of one of the official's projects,
+	 * so that no other official is given the same enquiry. It must afterwards be
+	 * replied to with {@link #replyTo} or handed back with {@link #releaseEnquiry}.
+	 * </p>
+	 *
+	 * @param official The HDB Official claiming the enquiry.
+	 * @return The claimed {@code Enquiry}, or {@code null} if there are no unanswered enquiries to claim.
+	 */
+	public Enquiry claimNextEnquiry(HDBOfficial official) {
+		return (new EnquiryQueueMgr()).claimNext(official);
+	}
+
+	/**
+	 * Returns a claimed enquiry that was not replied to, so that it can be claimed again.
+	 *
+	 * @param enquiry The claimed enquiry.
+	 * @return {@code true} if the enquiry was returned to its work queue, {@code false} if it was not claimed.
+	 */
+	public boolean releaseEnquiry(Enquiry enquiry) {
+		return (new EnquiryQueueMgr()).release(enquiry);
+	}
+
+	/**
+	 * Searches the questions and replies of the enquiries an HDB Official can view.
+	 * <p>
+	 * The search uses the enquiry full-text index and returns the best matches
+	 * first, restricted to the same enquiries as {@link #viewEnquiries}.
+	 * </p>
+	 *
+	 * @param official        The HDB Official searching the enquiries.
+	 * @param enquiryDatabase The database containing enquiry information.
+	 * @param keywords        The keywords to search for.
+	 * @return A {@code List} of at most {@link #SEARCH_RESULT_LIMIT} matching {@code Enquiry} objects, best match first.
+	 */
+	public List<Enquiry> searchEnquiries(HDBOfficial official, IDatabase<Enquiry> enquiryDatabase, String keywords) {
+		return (new EnquirySearchMgr()).search(keywords,
+				(new EnquiryDatabaseMgr()).getFilter((User) official, false), SEARCH_RESULT_LIMIT);
+	}
 }
\ No newline at end of file
@@ -1,11 +1,28 @@
 package userctrl;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import application.ActiveApplicationMgr;
 import application.Application;
+import application.ApplicationStateMachine;
 import application.ApplicationStatus;
 import application.ApplicationType;
+import application.WaitlistMgr;
+import audit.AuditMgr;
 import database.IDatabase;
 import databasemgr.UserDatabaseMgr;
 import display.UserDisplayer;
+import inventory.InventoryMgr;
+import metrics.MetricsMgr;
+import metrics.Operation;
+import project.OfficerScheduleMgr;
+import project.Project;
+import project.ProjectMgr;
+import security.CredentialMgr;
+import security.SessionMgr;
+import statistics.StatisticsMgr;
 import user.Applicant;
 import user.HDBManager;
 import user.HDBOfficer;
@@ -129,6 +146,9 @@ public class UserMgr {
 
 	/**
 	 * Authenticates a user by checking their User ID and password against the user database.
+	 * <p>
+	 * The password is checked against the user's stored hash by {@link CredentialMgr}.
+	 * </p>
 	 *
 	 * @param userDatabase The database containing user information.
 	 * @param userID       The User ID to authenticate.
@@ -136,15 +156,56 @@ public class UserMgr {
 	 * @return The {@code User} object if authentication is successful, {@code null} otherwise.
 	 */
 	public User getUser(IDatabase<User> userDatabase, String userID, String password) {
-		User user = (new UserDatabaseMgr()).getUser(userDatabase, userID);
+		long startTime = System.nanoTime();
+		try {
+			User user = (new UserDatabaseMgr()).getUser(userDatabase, userID);
 
-		if (user != null && user.getPassword().equals(password)) {
-			return user;
-		} else {
-			return null;
+			if (user != null && (new CredentialMgr()).verify(user, password)) {
+				return user;
+			} else {
+				return null;
+			}
+		} finally {
+			MetricsMgr.record(Operation.LOGIN, startTime);
 		}
 	}
 
+	/**
+	 * Logs a user in, opening a session for them.
+	 *
+	 * @param userDatabase The database containing user information.
+	 * @param userID       The User ID to authenticate.
+	 * @param password     The password to verify.
+	 * @return The token of the new session if authentication is successful, {@code null} otherwise.
+	 */
+	public String login(IDatabase<User> userDatabase, String userID, String password) {
+		User user = getUser(userDatabase, userID, password);
+		return (user != null) ? (new SessionMgr()).createSession(user) : null;
+	}
+
+	/**
+	 * Retrieves the user a session belongs to.
+	 * <p>
+	 * This is a hash lookup of the token, without authenticating again, and
+	 * keeps the session from expiring.
+	 * </p>
+	 *
+	 * @param sessionToken The token returned by {@link #login(IDatabase, String, String)}.
+	 * @return The logged-in {@code User}, or {@code null} if the session does not exist or has expired.
+	 */
+	public User getSessionUser(String sessionToken) {
+		return (new SessionMgr()).getUser(sessionToken);
+	}
+
+	/**
+	 * Logs a user out, ending their session.
+	 *
+	 * @param sessionToken The token of the session to end.
+	 */
+	public void logout(String sessionToken) {
+		(new SessionMgr()).endSession(sessionToken);
+	}
+
 	/**
 	 * Retrieves a user from the database based on their User ID.
 	 *
@@ -195,6 +256,9 @@ public class UserMgr {
 
 	/**
 	 * Allows a user to change their password, provided the old password is correct.
+	 * <p>
+	 * The new password is stored as a salted hash, and all of the user's sessions are ended.
+	 * </p>
 	 *
 	 * @param user        The {@code User} object whose password needs to be changed.
 	 * @param oldPassword The current password of the user.
@@ -202,71 +266,189 @@ public class UserMgr {
 	 * @return {@code true} if the password was changed successfully, {@code false} otherwise (incorrect old password).
 	 */
 	public boolean changePassword(User user, String oldPassword, String newPassword) {
-		if (user.getPassword().equals(oldPassword)) {
-			user.setPassword(newPassword);
+		if ((new CredentialMgr()).changePassword(user, oldPassword, newPassword)) {
+			(new SessionMgr()).endSessions(user);
 			return true;
 		} else {
 			return false;
 		}
 	}
 
+	/**
+	 * The effect on the user of an application reaching each status, for each type of application.
+	 * Statuses with no entry leave the user unchanged.
+	 */
+	private static final Map<ApplicationType, Map<ApplicationStatus, BiConsumer<UserMgr, Application>>> effects = new EnumMap<>(ApplicationType.class);
+
+	static {
+		for (ApplicationType applicationType : ApplicationType.values()) {
+			effects.put(applicationType, new EnumMap<>(ApplicationStatus.class));
+		}
+		effects.get(ApplicationType.PROJECT_REGISTRATION).put(ApplicationStatus.SUCCESSFUL, UserMgr::joinProject);
+		effects.get(ApplicationType.PROJECT_REGISTRATION).put(ApplicationStatus.UNSUCCESSFUL, UserMgr::leaveRegistration);
+		effects.get(ApplicationType.WITHDRAWAL_APPLICATION).put(ApplicationStatus.SUCCESSFUL, UserMgr::withdraw);
+		effects.get(ApplicationType.WITHDRAWAL_APPLICATION).put(ApplicationStatus.UNSUCCESSFUL, UserMgr::keepApplication);
+		effects.get(ApplicationType.BTO_APPLICATION).put(ApplicationStatus.UNSUCCESSFUL, UserMgr::releaseApplication);
+		effects.get(ApplicationType.BTO_APPLICATION).put(ApplicationStatus.BOOKED, UserMgr::completeBooking);
+	}
+
 	/**
 	 * Updates the status of a user based on the outcome of their application.
 	 * <p>
 	 * This method handles different application types and statuses:
 	 * <ul>
-	 * <li>For successful **Project Registration**, it updates the officer's joined and registered projects.</li>
-	 * <li>For successful **Withdrawal Applications**, it resets the applicant's applied project and eligibility.</li>
+	 * <li>For successful **Project Registration**, it updates the officer's joined and registered projects.
+	 * The officer is added to the project when its slot is claimed, through {@link project.OfficerSlotMgr}.</li>
+	 * <li>For successful **Withdrawal Applications**, it marks the withdrawn BTO application as withdrawn and resets the applicant's applied project and eligibility.
+	 * If the withdrawn application was successful or booked, its flat is given up to the head of the project's waitlist.</li>
 	 * <li>For unsuccessful **BTO Applications**, it resets the applicant's applied project and eligibility.</li>
 	 * <li>For booked **BTO Applications**, it marks the applicant as unable to apply for new projects and sets the receipt to ready.</li>
 	 * </ul>
+	 * The effect is looked up in a table by the application's type and new status.
 	 * </p>
 	 *
 	 * @param application The {@code Application} object whose status has been updated.
 	 * @param newStatus   The new status of the application.
 	 */
 	public void updateStatus(Application application, ApplicationStatus newStatus) {
-		if (application.getApplicationType().equals(ApplicationType.PROJECT_REGISTRATION)) {
-			if (newStatus.equals(ApplicationStatus.SUCCESSFUL)) {
-				((HDBOfficer) (application.getUser()))
-				.getJoinedProjects().add(application.getProject());
-				((HDBOfficer) (application.getUser()))
-				.getRegisteredProjects().remove(application.getProject());
-				application.getProject().getOfficers().add((HDBOfficer) application.getUser());
-			}
-		} else if (application.getApplicationType().equals(ApplicationType.WITHDRAWAL_APPLICATION)) {
-			if (newStatus.equals(ApplicationStatus.SUCCESSFUL)) {
-				((Applicant) (application.getUser()))
-				.setAppliedProject(null);
-				((Applicant) (application.getUser()))
-				.setCanApply(true);
-				((Applicant) (application.getUser()))
-				.setWithdrawing(false);
-				((Applicant) (application.getUser()))
-				.setReceiptReady(false);
-			} else {
-				((Applicant) (application.getUser()))
-				.setCanApply(true);
-				((Applicant) (application.getUser()))
-				.setWithdrawing(false);
-			}
-		} else if (application.getApplicationType().equals(ApplicationType.BTO_APPLICATION)) {
-			if (newStatus.equals(ApplicationStatus.UNSUCCESSFUL)) {
-				((Applicant) (application.getUser()))
-				.setAppliedProject(null);
-				((Applicant) (application.getUser()))
-				.setCanApply(true);
-				((Applicant) (application.getUser()))
-				.setReceiptReady(false);
-			} else if (newStatus.equals(ApplicationStatus.BOOKED)) {
-				((Applicant) (application.getUser()))
-				.setCanApply(false);
-				((Applicant) (application.getUser()))
-				.setReceiptReady(true);
+		BiConsumer<UserMgr, Application> effect = effects.get(application.getApplicationType()).get(newStatus);
+		if (effect != null) {
+			effect.accept(this, application);
+		}
+	}
+
+	/**
+	 * Moves the project of an officer's approved registration from their registered projects to their joined projects.
+	 *
+	 * @param application The approved project registration.
+	 */
+	private void joinProject(Application application) {
+		HDBOfficer officer = (HDBOfficer) application.getUser();
+		officer.getJoinedProjects().add(application.getProject());
+		officer.getRegisteredProjects().remove(application.getProject());
+		(new OfficerScheduleMgr()).add(officer, application.getProject());
+	}
+
+	/**
+	 * Removes the project of an officer's rejected registration from their registered projects.
+	 *
+	 * @param application The rejected project registration.
+	 */
+	private void leaveRegistration(Application application) {
+		// A rejected registration no longer commits the officer to the project's dates.
+		HDBOfficer officer = (HDBOfficer) application.getUser();
+		officer.getRegisteredProjects().remove(application.getProject());
+		(new OfficerScheduleMgr()).refresh(officer);
+	}
+
+	/**
+	 * Withdraws the BTO application of an applicant whose withdrawal was approved.
+	 * <p>
+	 * The BTO application is withdrawn from whichever status it has when the
+	 * compare-and-set succeeds, so a withdrawal racing a booking withdraws the
+	 * booked application and gives up the flat that was just booked.
+	 * </p>
+	 *
+	 * @param application The approved withdrawal application.
+	 */
+	private void withdraw(Application application) {
+		Applicant applicant = (Applicant) application.getUser();
+		Application projectApplication = applicant.getProjectApplication();
+		ApplicationStatus oldStatus = null;
+		if (projectApplication != null) {
+			do {
+				oldStatus = projectApplication.getStatus();
+				if (!ApplicationStateMachine.canTransition(projectApplication.getApplicationType(), oldStatus,
+						ApplicationStatus.WITHDRAWN)) {
+					oldStatus = null;
+					break;
+				}
+			} while (!projectApplication.updateStatus(oldStatus, ApplicationStatus.WITHDRAWN));
+			if (oldStatus != null) {
+				(new StatisticsMgr()).recordStatusChange(projectApplication, oldStatus, ApplicationStatus.WITHDRAWN);
+				(new AuditMgr()).recordStatusChange(projectApplication, oldStatus, ApplicationStatus.WITHDRAWN);
+				(new ActiveApplicationMgr()).release(projectApplication);
 			}
 		}
+		applicant.setAppliedProject(null);
+		applicant.setCanApply(true);
+		applicant.setWithdrawing(false);
+		applicant.setReceiptReady(false);
+		if (ApplicationStatus.SUCCESSFUL.equals(oldStatus) || ApplicationStatus.BOOKED.equals(oldStatus)) {
+			giveUpFlat(projectApplication, oldStatus);
+		}
+	}
+
+	/**
+	 * Lets an applicant whose withdrawal was rejected keep their BTO application.
+	 *
+	 * @param application The rejected withdrawal application.
+	 */
+	private void keepApplication(Application application) {
+		Applicant applicant = (Applicant) application.getUser();
+		applicant.setCanApply(true);
+		applicant.setWithdrawing(false);
+	}
+
+	/**
+	 * Frees an applicant whose BTO application was unsuccessful to apply again.
+	 *
+	 * @param application The unsuccessful BTO application.
+	 */
+	private void releaseApplication(Application application) {
+		(new ActiveApplicationMgr()).release(application);
+		Applicant applicant = (Applicant) application.getUser();
+		applicant.setAppliedProject(null);
+		applicant.setCanApply(true);
+		applicant.setReceiptReady(false);
+	}
+
+	/**
+	 * Marks an applicant whose BTO application was booked as unable to apply, with their receipt ready.
+	 *
+	 * @param application The booked BTO application.
+	 */
+	private void completeBooking(Application application) {
+		Applicant applicant = (Applicant) application.getUser();
+		applicant.setCanApply(false);
+		applicant.setReceiptReady(true);
 	}
 	
+	/**
+	 * Gives up the flat of a withdrawn BTO application, and offers it to the next application on the project's waitlist.
+	 * <p>
+	 * A booked flat is first made available again. The promoted application
+	 * becomes successful, and its applicant is once more applying for the
+	 * project, so that an officer can book a flat for them.
+	 * </p>
+	 *
+	 * @param projectApplication The withdrawn BTO application.
+	 * @param oldStatus          The status of the application before it was withdrawn: successful or booked.
+	 */
+	private void giveUpFlat(Application projectApplication, ApplicationStatus oldStatus) {
+		Project project = projectApplication.getProject();
+		if (oldStatus.equals(ApplicationStatus.BOOKED)) {
+			(new InventoryMgr()).unbook(project, projectApplication.getID());
+			(new ProjectMgr()).increaseCount(project);
+		}
+
+		Application promoted = (new WaitlistMgr()).poll(project);
+		if (promoted == null) {
+			return;
+		}
+		if (!promoted.updateStatus(ApplicationStatus.UNSUCCESSFUL, ApplicationStatus.SUCCESSFUL)) {
+			// The application was withdrawn while waiting.
+			(new ActiveApplicationMgr()).release(promoted);
+			return;
+		}
+		(new StatisticsMgr()).recordStatusChange(promoted, ApplicationStatus.UNSUCCESSFUL, ApplicationStatus.SUCCESSFUL);
+		(new AuditMgr()).recordStatusChange(promoted, ApplicationStatus.UNSUCCESSFUL, ApplicationStatus.SUCCESSFUL);
+		Applicant applicant = (Applicant) promoted.getUser();
+		applicant.setAppliedProject(project);
+		applicant.setCanApply(false);
+		applicant.setReceiptReady(false);
+	}
+
 	/**
 	 * Displays user information.
 	 *
@@ -9,6 +9,8 @@ import application.ApplicationType;
 import database.IDatabase;
 import enquiry.Enquiry;
 import project.Project;
+import project.ProjectQuery;
+import project.ProjectSort;
 import user.Applicant;
 import userctrl.ApplicantMgr;
 
@@ -143,7 +145,8 @@ public class ApplicantInterface {
 	/**
 	 * Displays a list of available projects to the applicant, with options to filter and sort.
 	 * <p>
-	 * This method prompts the user to choose a filter (by name, neighbourhood, or room type)
+	 * This method prompts the user to choose a filter (by name, neighbourhood, room type, or an
+	 * advanced search combining several criteria)
 	 * and a sorting order before displaying the filtered and sorted list of projects.
 	 * </p>
 	 *
@@ -156,8 +159,10 @@ public class ApplicantInterface {
 		
 		int filterChoice, intValue;
 		boolean sortAscending;
+		ProjectSort sortBy;
 		String value;
 		List<Project> projectList = new ArrayList<>();
+		ProjectQuery query;
 
 		System.out.println("\n\n");
 		System.out.println("View Options:");
@@ -167,24 +172,26 @@ public class ApplicantInterface {
 		System.out.println("2. Name");
 		System.out.println("3. Neighbourhood");
 		System.out.println("4. Room Type");
+		System.out.println("5. Advanced search");
 		
 		filterChoice = sc.nextInt();
 		
+		sortBy = new UserInterfaceHelper().getProjectSort(sc);
 		sortAscending = new UserInterfaceHelper().getSortOrder(sc);
 		
 		switch (filterChoice) {
 		case 1:
-			projectList = appMgr.getProjects(applicant, projectDatabase);
+			projectList = appMgr.getProjects(applicant, projectDatabase, ProjectQuery.all(), sortBy, sortAscending).getProjects();
 			break;
 		case 2:
 			System.out.println("Enter project name:");
 			value = sc.nextLine();
-			projectList = appMgr.getProjects(applicant, projectDatabase, "Name", value);
+			projectList = appMgr.getProjects(applicant, projectDatabase, ProjectQuery.nameIs(value), sortBy, sortAscending).getProjects();
 			break;
 		case 3:
 			System.out.println("Enter neighbourhood name:");
 			value = sc.nextLine();
-			projectList = appMgr.getProjects(applicant, projectDatabase, "Neighbourhood", value);
+			projectList = appMgr.getProjects(applicant, projectDatabase, ProjectQuery.neighbourhoodIs(value), sortBy, sortAscending).getProjects();
 			break;
 		case 4:
 			System.out.println("Enter flat-type:");
@@ -197,15 +204,20 @@ public class ApplicantInterface {
 				System.out.println("Invalid input");
 				break;
 			}
-			projectList = appMgr.getProjects(applicant, projectDatabase, "RoomType", ((intValue == 2) ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room));
+			projectList = appMgr.getProjects(applicant, projectDatabase, ProjectQuery.roomTypeIs((intValue == 2) ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room), sortBy, sortAscending).getProjects();
+			break;
+		case 5:
+			query = new UserInterfaceHelper().readProjectQuery(sc, false);
+			if (query == null) {
+				return;
+			}
+			projectList = appMgr.getProjects(applicant, projectDatabase, query, sortBy, sortAscending).getProjects();
 			break;
 		default:
 			System.out.println("Invalid filter choice.");
 			return;
 		}
 		
-		appMgr.sortProjects(projectList, sortAscending);
-		
 		System.out.println();
 		System.out.println("Available Projects are as follows:");
 		System.out.println();
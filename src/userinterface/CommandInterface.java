@@ -0,0 +1,891 @@
+package userinterface;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import application.ActiveApplicationMgr;
+import application.Application;
+import application.ApplicationStatus;
+import application.AssignmentResult;
+import application.BallotResult;
+import database.IDatabase;
+import enquiry.Enquiry;
+import inventory.FlatUnit;
+import inventory.Reservation;
+import misc.CheckType;
+import misc.DateConvertor;
+import project.Project;
+import reader.ImportResult;
+import user.Applicant;
+import user.HDBManager;
+import user.HDBOfficer;
+import user.User;
+import userctrl.ApplicantMgr;
+import userctrl.HDBManagerMgr;
+import userctrl.HDBOfficerMgr;
+import userctrl.UserMgr;
+
+/**
+ * Provides a non-interactive command-line interface for scheduled jobs.
+ * <p>
+ * Instead of presenting menus, this class executes a single command given as
+ * program arguments directly against the control layer, reporting the outcome
+ * on the console and through an exit code.
+ * </p>
+ * <p>
+ * The {@code batch} command runs a script file of commands, one per line, so
+ * that a job loads the data once and saves it once however many commands it
+ * runs. Commands that change data do not save it themselves; the caller saves
+ * the data after {@link #run} returns if {@link #hasUnsavedChanges()} is set.
+ * Commands act on behalf of the user whose ID they are given and are subject
+ * to the same checks as the interactive menus, but without a password, as
+ * scheduled jobs are run by the operator.
+ * </p>
+ */
+public class CommandInterface {
+
+	/**
+	 * Exit code returned when a command completes successfully.
+	 */
+	public static final int EXIT_SUCCESS = 0;
+
+	/**
+	 * Exit code returned when a command is well-formed but fails to complete.
+	 */
+	public static final int EXIT_FAILURE = 1;
+
+	/**
+	 * Exit code returned when a command or its arguments are invalid.
+	 */
+	public static final int EXIT_USAGE = 2;
+
+	/**
+	 * A whitespace-separated token of a script line, or a double-quoted token that may contain whitespace.
+	 */
+	private static final Pattern TOKEN_PATTERN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+
+	/**
+	 * The address of a flat within its project, as {@code <block>#<floor>-<unit>}.
+	 */
+	private static final Pattern UNIT_PATTERN = Pattern.compile("(.+)#(\\d+)-(\\d+)");
+
+	/**
+	 * Whether a command has changed data that has not been saved yet.
+	 */
+	private boolean hasUnsavedChanges = false;
+
+	/**
+	 * Executes the command described by the given program arguments.
+	 * <p>
+	 * Supported commands:
+	 * <ul>
+	 * <li>{@code export-report <CSV|JSON> <filePath> [RoomType <2|3> | MaritalStatus <SINGLE|MARRIED>]}</li>
+	 * <li>{@code import-applicants <csvFile> <rejectFile>}</li>
+	 * <li>{@code import-projects <csvFile> <rejectFile>}</li>
+	 * <li>{@code hash-passwords}</li>
+	 * <li>{@code approve <managerID> <applicationID>}</li>
+	 * <li>{@code reject <managerID> <applicationID>}</li>
+	 * <li>{@code approve-registrations <managerID> <projectID>}</li>
+	 * <li>{@code assign-officers <managerID>}</li>
+	 * <li>{@code toggle-visibility <managerID> <projectID> [on|off]}</li>
+	 * <li>{@code add-block <managerID> <projectID> <block> <lowestFloor> <highestFloor> <flatsPerFloor> <price>}</li>
+	 * <li>{@code book-flat <officerID> <applicationID> [<block>#<floor>-<unit>]}</li>
+	 * <li>{@code apply <applicantID> <projectID>}</li>
+	 * <li>{@code ballot <managerID> <seed> [projectID]}</li>
+	 * <li>{@code audit-history <projectID> <fromDate> <toDate>}</li>
+	 * <li>{@code audit-summary <projectID> <fromDate> <toDate>}</li>
+	 * <li>{@code audit-state <projectID> <date>}</li>
+	 * <li>{@code batch <scriptFile>}</li>
+	 * </ul>
+	 * A file path of {@code -} selects the default report file of the chosen format.
+	 * Dates are written as {@code DD-MM-YYYY}.
+	 * </p>
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param enquiryDatabase     The database containing enquiry information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	public int run(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<Enquiry> enquiryDatabase,
+			IDatabase<User> userDatabase) {
+		if (args.length == 0) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		if (args[0].equalsIgnoreCase("batch")) {
+			return runBatch(args, projectDatabase, applicationDatabase, enquiryDatabase, userDatabase);
+		}
+		return execute(args, projectDatabase, applicationDatabase, enquiryDatabase, userDatabase);
+	}
+
+	/**
+	 * Checks whether the commands run so far have changed data that has not been saved yet.
+	 *
+	 * @return {@code true} if the data should be saved, {@code false} otherwise.
+	 */
+	public boolean hasUnsavedChanges() {
+		return hasUnsavedChanges;
+	}
+
+	/**
+	 * Executes a single command other than {@code batch}.
+	 *
+	 * @param args                The command name followed by its arguments.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param enquiryDatabase     The database containing enquiry information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int execute(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<Enquiry> enquiryDatabase,
+			IDatabase<User> userDatabase) {
+		switch (args[0].toLowerCase()) {
+		case "export-report":
+			return exportReport(args, userDatabase);
+		case "import-applicants":
+		case "import-projects":
+			return importFile(args, projectDatabase, userDatabase);
+		case "hash-passwords":
+			return hashPasswords(args, userDatabase);
+		case "approve":
+		case "reject":
+			return updateApplication(args, applicationDatabase, userDatabase);
+		case "approve-registrations":
+			return approveRegistrations(args, projectDatabase, applicationDatabase, userDatabase);
+		case "assign-officers":
+			return assignOfficers(args, applicationDatabase, userDatabase);
+		case "toggle-visibility":
+			return toggleVisibility(args, projectDatabase, userDatabase);
+		case "add-block":
+			return addBlock(args, projectDatabase, userDatabase);
+		case "book-flat":
+			return bookFlat(args, applicationDatabase, userDatabase);
+		case "apply":
+			return applyForProject(args, projectDatabase, applicationDatabase, userDatabase);
+		case "ballot":
+			return runBallot(args, projectDatabase, applicationDatabase, userDatabase);
+		case "audit-history":
+		case "audit-summary":
+			return showAudit(args);
+		case "audit-state":
+			return showAuditState(args);
+		default:
+			System.err.println("Unknown command: " + args[0]);
+			printUsage();
+			return EXIT_USAGE;
+		}
+	}
+
+	/**
+	 * Runs the commands of a script file in order.
+	 * <p>
+	 * Each non-blank line that does not start with {@code #} is one command,
+	 * written as it would be on the command line; arguments containing spaces
+	 * may be double-quoted. A failing command is reported with its line number
+	 * and does not stop the script. The script fails if any command failed.
+	 * </p>
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param enquiryDatabase     The database containing enquiry information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the script.
+	 */
+	private int runBatch(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<Enquiry> enquiryDatabase,
+			IDatabase<User> userDatabase) {
+		List<String> lineList = new ArrayList<>();
+		String line;
+
+		if (args.length != 2) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(args[1]))) {
+			while ((line = reader.readLine()) != null) {
+				lineList.add(line);
+			}
+		} catch (IOException e) {
+			System.err.println("Error reading script file: " + e.getMessage());
+			return EXIT_FAILURE;
+		}
+
+		int commandCount = 0;
+		int failedCount = 0;
+		for (int i = 0; i < lineList.size(); i++) {
+			line = lineList.get(i).trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+
+			String[] commandArgs = tokenize(line);
+			int exitCode;
+			commandCount++;
+			if (commandArgs[0].equalsIgnoreCase("batch")) {
+				System.err.println("Scripts cannot run other scripts.");
+				exitCode = EXIT_USAGE;
+			} else {
+				exitCode = execute(commandArgs, projectDatabase, applicationDatabase, enquiryDatabase, userDatabase);
+			}
+
+			if (exitCode != EXIT_SUCCESS) {
+				System.err.println("Line " + (i + 1) + " failed: " + line);
+				failedCount++;
+			}
+		}
+
+		System.out.println("Ran " + commandCount + " commands: " + (commandCount - failedCount) + " succeeded, "
+				+ failedCount + " failed.");
+		return (failedCount == 0) ? EXIT_SUCCESS : EXIT_FAILURE;
+	}
+
+	/**
+	 * Splits a script line into its arguments.
+	 *
+	 * @param line The non-blank script line.
+	 * @return The arguments, starting with the command name.
+	 */
+	private String[] tokenize(String line) {
+		List<String> tokenList = new ArrayList<>();
+		Matcher matcher = TOKEN_PATTERN.matcher(line);
+		while (matcher.find()) {
+			tokenList.add((matcher.group(1) != null) ? matcher.group(1) : matcher.group(2));
+		}
+		return tokenList.toArray(new String[0]);
+	}
+
+	/**
+	 * Approves or rejects a pending application on behalf of the manager of its project.
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int updateApplication(String[] args, IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+
+		if (args.length != 3) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		Application application = findApplication(mgr.getApplications(manager, applicationDatabase), args[2]);
+		if (application == null) {
+			System.err.println("No pending application " + args[2] + " for a project of " + args[1] + ".");
+			return EXIT_FAILURE;
+		}
+
+		ApplicationStatus newStatus = args[0].equalsIgnoreCase("approve") ? ApplicationStatus.SUCCESSFUL : ApplicationStatus.UNSUCCESSFUL;
+		switch (mgr.decide(application, newStatus)) {
+		case UPDATED:
+			break;
+		case NOT_ALLOWED:
+			System.err.println("Application " + application.getID() + " is " + application.getStatus()
+					+ " and cannot be updated to " + newStatus + ".");
+			return EXIT_FAILURE;
+		case ALREADY_DECIDED:
+			System.err.println("Application " + application.getID() + " was decided by another session and is now "
+					+ application.getStatus() + ".");
+			return EXIT_FAILURE;
+		case ALREADY_JOINED:
+			System.err.println(application.getUser().getUserID() + " already handles project " + application.getProject().getID() + ".");
+			return EXIT_FAILURE;
+		case NO_FREE_SLOT:
+			System.err.println("Project " + application.getProject().getID() + " has no free officer slot.");
+			return EXIT_FAILURE;
+		}
+		hasUnsavedChanges = true;
+		System.out.println("Updated application " + application.getID() + " to " + newStatus + ".");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Approves the pending officer registrations for a project on behalf of its manager,
+	 * in the order they were submitted, until its officer slots are filled.
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int approveRegistrations(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+
+		if (args.length != 3) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		Project project = mgr.getOwnProjects(manager, projectDatabase)
+				.stream()
+				.filter(ownProject -> ownProject.getID().equals(args[2]))
+				.findFirst()
+				.orElse(null);
+		if (project == null) {
+			System.err.println("No project " + args[2] + " managed by " + args[1] + ".");
+			return EXIT_FAILURE;
+		}
+
+		List<Application> approvedList = mgr.approveRegistrations(project, applicationDatabase);
+		if (!approvedList.isEmpty()) {
+			hasUnsavedChanges = true;
+		}
+		for (Application application : approvedList) {
+			System.out.println("Approved registration " + application.getID() + " of " + application.getUser().getUserID() + ".");
+		}
+		System.out.println("Approved " + approvedList.size() + " registrations; "
+				+ mgr.getPendingRegistrations(project, applicationDatabase).size() + " still pending.");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Assigns officers to projects from all pending registrations, and approves the assigned
+	 * registrations for the projects of the given manager.
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int assignOfficers(String[] args, IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+
+		if (args.length != 2) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		AssignmentResult result = mgr.planOfficerAssignment(applicationDatabase);
+		List<Application> approvedList = mgr.applyOfficerAssignment(manager, result);
+		if (!approvedList.isEmpty()) {
+			hasUnsavedChanges = true;
+		}
+		for (Application application : approvedList) {
+			System.out.println("Approved registration " + application.getID() + " of " + application.getUser().getUserID() + ".");
+		}
+		System.out.println("Assigned " + result.getAssignedList().size() + " of "
+				+ (result.getAssignedList().size() + result.getUnassignedList().size()) + " pending registrations to "
+				+ result.getSlotCount() + " free officer slots; approved " + approvedList.size() + " for " + args[1] + ".");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Toggles the visibility of a project on behalf of its manager, or sets it if a target visibility is given.
+	 *
+	 * @param args            The program arguments, starting with the command name.
+	 * @param projectDatabase The database containing project information.
+	 * @param userDatabase    The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int toggleVisibility(String[] args, IDatabase<Project> projectDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+
+		if (args.length != 3 && args.length != 4) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		if (args.length == 4 && !args[3].equalsIgnoreCase("on") && !args[3].equalsIgnoreCase("off")) {
+			System.err.println("Invalid visibility: " + args[3]);
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		Project project = mgr.getOwnProjects(manager, projectDatabase)
+				.stream()
+				.filter(ownProject -> ownProject.getID().equals(args[2]))
+				.findFirst()
+				.orElse(null);
+		if (project == null) {
+			System.err.println("No project " + args[2] + " managed by " + args[1] + ".");
+			return EXIT_FAILURE;
+		}
+
+		if (args.length == 3 || project.isVisible() != args[3].equalsIgnoreCase("on")) {
+			mgr.toggleProjectVisibility(project);
+			hasUnsavedChanges = true;
+		}
+		System.out.println("Project " + project.getID() + " is " + (project.isVisible() ? "visible" : "not visible") + ".");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Adds a block of flats to a project on behalf of its manager.
+	 *
+	 * @param args            The program arguments, starting with the command name.
+	 * @param projectDatabase The database containing project information.
+	 * @param userDatabase    The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int addBlock(String[] args, IDatabase<Project> projectDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		int lowestFloor, highestFloor, unitsPerFloor;
+		double price;
+
+		if (args.length != 8) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		try {
+			lowestFloor = Integer.parseInt(args[4]);
+			highestFloor = Integer.parseInt(args[5]);
+			unitsPerFloor = Integer.parseInt(args[6]);
+			price = Double.parseDouble(args[7]);
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid number: " + e.getMessage());
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		Project project = mgr.getOwnProjects(manager, projectDatabase)
+				.stream()
+				.filter(ownProject -> ownProject.getID().equals(args[2]))
+				.findFirst()
+				.orElse(null);
+		if (project == null) {
+			System.err.println("No project " + args[2] + " managed by " + args[1] + ".");
+			return EXIT_FAILURE;
+		}
+
+		try {
+			int unitCount = mgr.addBlock(project, args[3], lowestFloor, highestFloor, unitsPerFloor, price);
+			hasUnsavedChanges = true;
+			System.out.println("Added " + unitCount + " flats in block " + args[3] + " to project " + project.getID() + ".");
+			return EXIT_SUCCESS;
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return EXIT_FAILURE;
+		}
+	}
+
+	/**
+	 * Books a flat for a successful application on behalf of an officer of its project.
+	 * <p>
+	 * If the project has individual flats, the flat at the given address is
+	 * booked, or the first available one, lowest floor first, if no address is given.
+	 * </p>
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int bookFlat(String[] args, IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		HDBOfficerMgr mgr = new HDBOfficerMgr();
+		Matcher unitMatcher = null;
+
+		if (args.length != 3 && args.length != 4) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		if (args.length == 4) {
+			unitMatcher = UNIT_PATTERN.matcher(args[3]);
+			if (!unitMatcher.matches()) {
+				System.err.println("Invalid flat address: " + args[3]);
+				return EXIT_USAGE;
+			}
+		}
+
+		HDBOfficer officer = (HDBOfficer) getUser(userDatabase, args[1], CheckType::isHDBOfficer, "HDB Officer");
+		if (officer == null) {
+			return EXIT_FAILURE;
+		}
+
+		Application application = findApplication(mgr.getApplicantApplications(officer, applicationDatabase), args[2]);
+		if (application == null || !application.getStatus().equals(ApplicationStatus.SUCCESSFUL)) {
+			System.err.println("No successful application " + args[2] + " for a project joined by " + args[1] + ".");
+			return EXIT_FAILURE;
+		}
+
+		if (unitMatcher == null) {
+			if (!mgr.bookApplicantFlat(officer, application)) {
+				System.err.println("No flats left in project " + application.getProject().getID() + ".");
+				return EXIT_FAILURE;
+			}
+			hasUnsavedChanges = true;
+			System.out.println("Booked a flat for application " + application.getID() + ".");
+			return EXIT_SUCCESS;
+		}
+
+		FlatUnit unit = mgr.findUnit(application.getProject(), unitMatcher.group(1),
+				Integer.parseInt(unitMatcher.group(2)), Integer.parseInt(unitMatcher.group(3)));
+		if (unit == null) {
+			System.err.println("No flat " + args[3] + " in project " + application.getProject().getID() + ".");
+			return EXIT_FAILURE;
+		}
+		Reservation reservation = mgr.reserveUnit(officer, application, unit);
+		if (reservation == null || !mgr.bookApplicantFlat(officer, application, reservation)) {
+			System.err.println("Flat " + unit.getAddress() + " is not available.");
+			return EXIT_FAILURE;
+		}
+		hasUnsavedChanges = true;
+		System.out.println("Booked " + unit.getAddress() + " for application " + application.getID() + ".");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Applies for a project on behalf of an applicant.
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int applyForProject(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		ApplicantMgr mgr = new ApplicantMgr();
+
+		if (args.length != 3) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		Applicant applicant = (Applicant) getUser(userDatabase, args[1], CheckType::isApplicant, "applicant");
+		if (applicant == null) {
+			return EXIT_FAILURE;
+		}
+		if ((new ActiveApplicationMgr()).hasActiveApplication(applicant.getUserID())) {
+			System.err.println("Applicant " + args[1] + " already has an active application.");
+			return EXIT_FAILURE;
+		}
+
+		Project project = mgr.getProjects(applicant, projectDatabase)
+				.stream()
+				.filter(eligibleProject -> eligibleProject.getID().equals(args[2]))
+				.findFirst()
+				.orElse(null);
+		if (project == null || !mgr.applyForProject(applicant, project, applicationDatabase)) {
+			System.err.println("Applicant " + args[1] + " is not eligible for project " + args[2] + ".");
+			return EXIT_FAILURE;
+		}
+		hasUnsavedChanges = true;
+		System.out.println("Applied for project " + project.getID() + ".");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Ballots the pending BTO applications of one or all closed projects of a manager.
+	 *
+	 * @param args                The program arguments, starting with the command name.
+	 * @param projectDatabase     The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 * @param userDatabase        The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int runBallot(String[] args, IDatabase<Project> projectDatabase,
+			IDatabase<Application> applicationDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		long seed;
+
+		if (args.length != 3 && args.length != 4) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		try {
+			seed = Long.parseLong(args[2]);
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid seed: " + args[2]);
+			return EXIT_USAGE;
+		}
+
+		HDBManager manager = (HDBManager) getUser(userDatabase, args[1], CheckType::isHDBManager, "HDB Manager");
+		if (manager == null) {
+			return EXIT_FAILURE;
+		}
+
+		List<Project> projectList = mgr.getBallotProjects(manager, projectDatabase);
+		if (args.length == 4) {
+			projectList = projectList.stream()
+					.filter(project -> project.getID().equals(args[3]))
+					.collect(Collectors.toList());
+			if (projectList.isEmpty()) {
+				System.err.println("No project " + args[3] + " managed by " + args[1] + " is closed for applications.");
+				return EXIT_FAILURE;
+			}
+		}
+
+		List<BallotResult> resultList = mgr.runBallot(projectList, applicationDatabase, seed);
+		if (!projectList.isEmpty() && resultList.isEmpty()) {
+			System.err.println("Applications changed while the ballot was drawn; nothing was applied.");
+			return EXIT_FAILURE;
+		}
+		for (BallotResult result : resultList) {
+			System.out.println("Balloted project " + result.getProject().getID() + ": "
+					+ result.getSuccessfulList().size() + " successful, " + result.getUnsuccessfulList().size() + " unsuccessful.");
+			if (!result.getSuccessfulList().isEmpty() || !result.getUnsuccessfulList().isEmpty()) {
+				hasUnsavedChanges = true;
+			}
+		}
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Retrieves a user of a given role by their ID, reporting an error if there is none.
+	 *
+	 * @param userDatabase The database containing user information.
+	 * @param userID       The ID of the user.
+	 * @param hasRole      The check the user's role must pass.
+	 * @param role         The name of the role, used in the error message.
+	 * @return The user, or {@code null} if there is no user of the role with the ID.
+	 */
+	private User getUser(IDatabase<User> userDatabase, String userID, Predicate<User> hasRole, String role) {
+		User user = (new UserMgr()).getUser(userDatabase, userID);
+		if (user == null || !hasRole.test(user)) {
+			System.err.println("No " + role + " with ID " + userID + ".");
+			return null;
+		}
+		return user;
+	}
+
+	/**
+	 * Finds an application by its ID in a list of applications.
+	 *
+	 * @param applicationList The applications to search.
+	 * @param applicationID   The ID of the application.
+	 * @return The application, or {@code null} if it is not in the list.
+	 */
+	private Application findApplication(List<Application> applicationList, String applicationID) {
+		return applicationList.stream()
+				.filter(application -> application.getID().equals(applicationID))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * Exports the applicant report using the same filters as the interactive report menu.
+	 *
+	 * @param args         The program arguments, starting with the command name.
+	 * @param userDatabase The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int exportReport(String[] args, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<User> userList;
+
+		if (args.length != 3 && args.length != 5) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		String format = args[1];
+		String filePath = args[2].equals("-") ? null : args[2];
+
+		if (args.length == 3) {
+			userList = mgr.getReceiptReadyUsers(userDatabase);
+		} else if (args[3].equalsIgnoreCase("RoomType")) {
+			if (!args[4].equals("2") && !args[4].equals("3")) {
+				System.err.println("Invalid room type: " + args[4]);
+				return EXIT_USAGE;
+			}
+			userList = mgr.getReceiptReadyUsers(userDatabase, "RoomType", args[4].equals("2") ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room);
+		} else if (args[3].equalsIgnoreCase("MaritalStatus")) {
+			try {
+				userList = mgr.getReceiptReadyUsers(userDatabase, "Marital Status", User.MARITAL_STATUS.valueOf(args[4].toUpperCase()));
+			} catch (IllegalArgumentException e) {
+				System.err.println("Invalid marital status: " + args[4]);
+				return EXIT_USAGE;
+			}
+		} else {
+			System.err.println("Invalid report filter: " + args[3]);
+			return EXIT_USAGE;
+		}
+
+		List<Applicant> applicantList = mgr.toApplicantList(userList);
+		try {
+			if (mgr.exportReport(applicantList, format, filePath)) {
+				System.out.println("Exported " + applicantList.size() + " report rows.");
+				return EXIT_SUCCESS;
+			} else {
+				return EXIT_FAILURE;
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return EXIT_USAGE;
+		}
+	}
+
+	/**
+	 * Imports applicants or projects in bulk from a CSV file.
+	 * <p>
+	 * The accepted rows are added to the data and saved with it after the
+	 * command, and the rejected rows are written to the reject file. The command fails if any row was rejected.
+	 * </p>
+	 *
+	 * @param args            The program arguments, starting with the command name.
+	 * @param projectDatabase The database containing project information.
+	 * @param userDatabase    The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int importFile(String[] args, IDatabase<Project> projectDatabase, IDatabase<User> userDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		ImportResult<?> result;
+
+		if (args.length != 3) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		if (args[0].equalsIgnoreCase("import-applicants")) {
+			result = mgr.importApplicants(args[1], args[2], userDatabase);
+		} else {
+			result = mgr.importProjects(args[1], args[2], projectDatabase, userDatabase);
+		}
+
+		if (result == null) {
+			return EXIT_FAILURE;
+		}
+		if (!result.getAcceptedList().isEmpty()) {
+			hasUnsavedChanges = true;
+		}
+		System.out.println("Read " + result.getReadCount() + " rows: imported " + result.getAcceptedList().size()
+				+ ", rejected " + result.getRejectedCount() + ".");
+		return (result.getRejectedCount() == 0) ? EXIT_SUCCESS : EXIT_FAILURE;
+	}
+
+	/**
+	 * Hashes every plaintext password left in the user files.
+	 *
+	 * @param args         The program arguments, starting with the command name.
+	 * @param userDatabase The database containing user information.
+	 * @return The exit code of the command.
+	 */
+	private int hashPasswords(String[] args, IDatabase<User> userDatabase) {
+		if (args.length != 1) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+
+		int hashedCount = (new HDBManagerMgr()).hashPasswords(userDatabase);
+		if (hashedCount > 0) {
+			hasUnsavedChanges = true;
+		}
+		System.out.println("Hashed " + hashedCount + " plaintext passwords.");
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Shows the status transitions of a project's applications over a range of days, from the audit history:
+	 * each transition for {@code audit-history}, or the number of each kind on each day for {@code audit-summary}.
+	 *
+	 * @param args The program arguments, starting with the command name.
+	 * @return The exit code of the command.
+	 */
+	private int showAudit(String[] args) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		LocalDate from, to;
+
+		if (args.length != 4) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		try {
+			from = DateConvertor.parseToLocalDate(args[2]);
+			to = DateConvertor.parseToLocalDate(args[3]);
+		} catch (DateTimeParseException e) {
+			System.err.println("Invalid date: " + e.getParsedString());
+			return EXIT_USAGE;
+		}
+		if (to.isBefore(from)) {
+			System.err.println("The range ends before it starts.");
+			return EXIT_USAGE;
+		}
+
+		if (args[0].equalsIgnoreCase("audit-history")) {
+			mgr.displayAuditHistory(mgr.getAuditHistory(args[1], from, to));
+		} else {
+			mgr.displayAuditSummary(mgr.getAuditSummary(args[1], from, to));
+		}
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Shows the state of a project's applications as it stood at the end of a day, from the audit history.
+	 *
+	 * @param args The program arguments, starting with the command name.
+	 * @return The exit code of the command.
+	 */
+	private int showAuditState(String[] args) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		LocalDate day;
+
+		if (args.length != 3) {
+			printUsage();
+			return EXIT_USAGE;
+		}
+		try {
+			day = DateConvertor.parseToLocalDate(args[2]);
+		} catch (DateTimeParseException e) {
+			System.err.println("Invalid date: " + e.getParsedString());
+			return EXIT_USAGE;
+		}
+
+		mgr.displayAuditState(mgr.getAuditState(args[1], day));
+		return EXIT_SUCCESS;
+	}
+
+	/**
+	 * Prints the supported commands and their arguments.
+	 */
+	private void printUsage() {
+		System.err.println("Usage:");
+		System.err.println("\texport-report <CSV|JSON> <filePath|-> [RoomType <2|3> | MaritalStatus <SINGLE|MARRIED>]");
+		System.err.println("\timport-applicants <csvFile> <rejectFile>");
+		System.err.println("\timport-projects <csvFile> <rejectFile>");
+		System.err.println("\thash-passwords");
+		System.err.println("\tapprove <managerID> <applicationID>");
+		System.err.println("\treject <managerID> <applicationID>");
+		System.err.println("\tapprove-registrations <managerID> <projectID>");
+		System.err.println("\tassign-officers <managerID>");
+		System.err.println("\ttoggle-visibility <managerID> <projectID> [on|off]");
+		System.err.println("\tadd-block <managerID> <projectID> <block> <lowestFloor> <highestFloor> <flatsPerFloor> <price>");
+		System.err.println("\tbook-flat <officerID> <applicationID> [<block>#<floor>-<unit>]");
+		System.err.println("\tapply <applicantID> <projectID>");
+		System.err.println("\tballot <managerID> <seed> [projectID]");
+		System.err.println("\taudit-history <projectID> <fromDate> <toDate>");
+		System.err.println("\taudit-summary <projectID> <fromDate> <toDate>");
+		System.err.println("\taudit-state <projectID> <date>");
+		System.err.println("\tbatch <scriptFile>");
+	}
+}
@@ -1,14 +1,23 @@
 package userinterface;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
 import application.Application;
 import application.ApplicationStatus;
+import application.AssignmentResult;
+import application.BallotResult;
 import database.IDatabase;
 import enquiry.Enquiry;
+import misc.DateConvertor;
 import project.Project;
+import project.ProjectQuery;
+import project.ProjectQueryResult;
+import project.ProjectSort;
+import user.Applicant;
 import user.HDBManager;
 import user.User;
 import userctrl.HDBManagerMgr;
@@ -23,7 +32,8 @@ public class HDBManagerInterface {
 	 * Manages the main menu for an HDB Manager.
 	 * <p>
 	 * This method presents the primary options to the manager and delegates
-	 * to specific methods for handling projects, applications, enquiries, and reports.
+	 * to specific methods for handling projects, applications, enquiries, reports, the project dashboard
+	 * and the performance metrics.
 	 * </p>
 	 *
 	 * @param manager The logged-in HDB Manager.
@@ -45,7 +55,9 @@ public class HDBManagerInterface {
 			System.out.println("2. Manage Applications");
 			System.out.println("3. Manage Enquiries");
 			System.out.println("4. Generate Report");
-			System.out.println("5. Return to Previous Page");
+			System.out.println("5. View Project Dashboard");
+			System.out.println("6. View Performance Metrics");
+			System.out.println("7. Return to Previous Page");
 			
 			choice = sc.nextInt();
 			sc.nextLine();
@@ -55,7 +67,7 @@ public class HDBManagerInterface {
 				manageProjects(sc, manager, projectDatabase, userDatabase);
 				break;
 			case 2:
-				manageApplications(sc, manager, applicationDatabase);
+				manageApplications(sc, manager, projectDatabase, applicationDatabase);
 				break;
 			case 3:
 				manageEnquiries(manager, enquiryDatabase);
@@ -64,6 +76,12 @@ public class HDBManagerInterface {
 				generateReport(sc, userDatabase);
 				break;
 			case 5:
+				viewDashboard(sc, manager, projectDatabase);
+				break;
+			case 6:
+				viewMetrics(sc);
+				break;
+			case 7:
 				System.out.println("Returning to previous page");
 				return;
 			default:
@@ -72,6 +90,86 @@ public class HDBManagerInterface {
 			}
 		}
 	}
+	
+	/**
+	 * Displays the call counts and latencies of the instrumented operations to the HDB Manager.
+	 * <p>
+	 * The manager can then dump the metrics to a file or reset them.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 */
+	private void viewMetrics(Scanner sc) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		mgr.displayMetrics();
+
+		while (true) {
+			System.out.println("1. Return");
+			System.out.println("2. Dump metrics to file");
+			System.out.println("3. Reset metrics");
+
+			switch (sc.nextInt()) {
+			case 1:
+				sc.nextLine();
+				return;
+			case 2:
+				sc.nextLine();
+				System.out.println("Enter file path (leave blank for the default metrics file):");
+				if (mgr.dumpMetrics(sc.nextLine().trim())) {
+					System.out.println("Metrics dumped successfully!");
+				} else {
+					System.out.println("Unable to dump metrics.");
+				}
+				return;
+			case 3:
+				sc.nextLine();
+				mgr.resetMetrics();
+				System.out.println("Metrics reset.");
+				return;
+			default:
+				System.out.println("Invalid input. Please try again.");
+				continue;
+			}
+		}
+	}
+
+	/**
+	 * Displays the dashboard statistics of projects to the HDB Manager.
+	 * <p>
+	 * The statistics are pre-aggregated, so the dashboard does not scan the
+	 * application or enquiry databases.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager			The logged-in HDB Manager.
+	 * @param projectDatabase 	The database containing project information.
+	 */
+	private void viewDashboard(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<Project> projectList;
+		
+		System.out.println("Show dashboard for:");
+		System.out.println("1. Projects created by you");
+		System.out.println("2. All Projects");
+		
+		switch (sc.nextInt()) {
+		case 1:
+			projectList = mgr.getOwnProjects(manager, projectDatabase);
+			break;
+		case 2:
+			projectList = mgr.getProjects(manager, projectDatabase);
+			break;
+		default:
+			System.out.println("Invalid choice.");
+			return;
+		}
+		sc.nextLine();
+		
+		System.out.println();
+		System.out.println("Project Dashboard:");
+		System.out.println();
+		mgr.displayProjectStatistics(mgr.getProjectStatistics(projectList));
+	}
 
 	/**
 	 * Manages project-related operations for an HDB Manager (viewing, creating, editing, deleting).
@@ -92,7 +190,8 @@ public class HDBManagerInterface {
 			System.out.println("3. Edit a Project");
 			System.out.println("4. Delete a Project");
 			System.out.println("5. Toggle Project Visibility");
-			System.out.println("6. Return to previous page");
+			System.out.println("6. Add a Block of Flats");
+			System.out.println("7. Return to previous page");
 			choice = sc.nextInt();
 			
 			switch (choice) {
@@ -112,6 +211,9 @@ public class HDBManagerInterface {
 				toggleProject(sc, manager, projectDatabase);
 				break;
 			case 6:
+				addBlock(sc, manager, projectDatabase);
+				break;
+			case 7:
 				System.out.println("Returning to previous page");
 				return;
 			default:
@@ -133,8 +235,11 @@ public class HDBManagerInterface {
 		
 		int filterChoice, intValue;
 		boolean sortAscending;
+		ProjectSort sortBy;
 		String value;
 		List<Project> projectList = new ArrayList<>();
+		ProjectQuery query;
+		ProjectQueryResult result = null;
 
 		System.out.println("View Options:");
 
@@ -144,26 +249,26 @@ public class HDBManagerInterface {
 		System.out.println("3. Neighbourhood");
 		System.out.println("4. Room Type");
 		System.out.println("5. Created by you");
+		System.out.println("6. Advanced search");
 
 		filterChoice = sc.nextInt();
 		
+		sortBy = new UserInterfaceHelper().getProjectSort(sc);
 		sortAscending = new UserInterfaceHelper().getSortOrder(sc);
 		
-		sc.nextLine(); // to collect the newline
-		
 		switch (filterChoice) {
 		case 1:
-			projectList = mgr.getProjects(manager, projectDatabase);
+			result = mgr.getProjects(manager, projectDatabase, ProjectQuery.all(), sortBy, sortAscending);
 			break;
 		case 2:
 			System.out.println("Enter project name:");
 			value = sc.nextLine();
-			projectList = mgr.getProjects(manager, projectDatabase, "Name", value);
+			result = mgr.getProjects(manager, projectDatabase, ProjectQuery.nameIs(value), sortBy, sortAscending);
 			break;
 		case 3:
 			System.out.println("Enter neighbourhood name:");
 			value = sc.nextLine();
-			projectList = mgr.getProjects(manager, projectDatabase, "Neighbourhood", value);
+			result = mgr.getProjects(manager, projectDatabase, ProjectQuery.neighbourhoodIs(value), sortBy, sortAscending);
 			break;
 		case 4:
 			System.out.println("Enter flat-type:");
@@ -176,22 +281,37 @@ public class HDBManagerInterface {
 				System.out.println("Invalid input");
 				break;
 			}
-			projectList = mgr.getProjects(manager, projectDatabase, "RoomType", ((intValue == 2) ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room));
+			result = mgr.getProjects(manager, projectDatabase, ProjectQuery.roomTypeIs((intValue == 2) ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room), sortBy, sortAscending);
 			break;
 		case 5:
 			projectList = mgr.getOwnProjects(manager, projectDatabase);
 			break;
+		case 6:
+			query = new UserInterfaceHelper().readProjectQuery(sc, true);
+			if (query == null) {
+				return;
+			}
+			result = mgr.getProjects(manager, projectDatabase, query, sortBy, sortAscending);
+			break;
 		default:
 			System.out.println("Invalid filter choice.");
 			return;
 		}
 
-		mgr.sortProjects(projectList, sortAscending);
+		if (result != null) {
+			projectList = result.getProjects();
+		} else {
+			mgr.sortProjects(projectList, sortBy, sortAscending);
+		}
 		
 		System.out.println();
 		System.out.println("Projects are as follows:");
 		System.out.println();
 		mgr.displayProject(projectList);
+		
+		if (result != null) {
+			System.out.println("Query plan: " + result.getPlan() + " (" + result.getExaminedCount() + " projects examined)");
+		}
 	}
 	
 	/**
@@ -258,6 +378,51 @@ public class HDBManagerInterface {
 		}
 	}
 	
+	/**
+	 * Allows the HDB Manager to add a block of flats to one of their projects.
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager 			The logged-in HDB Manager.
+	 * @param projectDatabase 	The database containing project information.
+	 */
+	private void addBlock(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<Project> projectList;
+		int projectIndex, lowestFloor, highestFloor, unitsPerFloor;
+		String block;
+		double price;
+
+		System.out.println("List of all Projects:");
+		projectList = mgr.getOwnProjects(manager, projectDatabase);
+		mgr.displayProject(projectList);
+		
+		System.out.println("Enter index of project to add the block to:");
+		projectIndex = sc.nextInt();
+		
+		if (!new UserInterfaceHelper().isValidIndex(projectList, projectIndex - 1)) {
+			System.out.println("Invalid index.");
+			return;
+		}
+
+		System.out.println("Enter block name:");
+		block = sc.next();
+		System.out.println("Enter lowest floor:");
+		lowestFloor = sc.nextInt();
+		System.out.println("Enter highest floor:");
+		highestFloor = sc.nextInt();
+		System.out.println("Enter number of flats on each floor:");
+		unitsPerFloor = sc.nextInt();
+		System.out.println("Enter price of each flat:");
+		price = sc.nextDouble();
+
+		try {
+			int unitCount = mgr.addBlock(projectList.get(projectIndex - 1), block, lowestFloor, highestFloor, unitsPerFloor, price);
+			System.out.println("Successfully added " + unitCount + " flats in block " + block);
+		} catch (IllegalArgumentException e) {
+			System.out.println("Unable to add block: " + e.getMessage());
+		}
+	}
+	
 	/**
 	 * Allows the HDB Manager to delete an existing project.
 	 *
@@ -285,13 +450,14 @@ public class HDBManagerInterface {
 	}
 	
 	/**
-	 * Manages application-related operations for an HDB Manager (viewing and updating status).
+	 * Manages application-related operations for an HDB Manager (viewing and updating status, and balloting).
 	 *
 	 * @param sc				The Scanner Object
 	 * @param manager The logged-in HDB Manager.
+	 * @param projectDatabase The database containing project information.
 	 * @param applicationDatabase The database containing application information.
 	 */
-	public void manageApplications(Scanner sc, HDBManager manager, IDatabase<Application> applicationDatabase) {
+	public void manageApplications(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase, IDatabase<Application> applicationDatabase) {
 		HDBManagerMgr mgr = new HDBManagerMgr();
 		
 		int choice;
@@ -301,7 +467,11 @@ public class HDBManagerInterface {
 			System.out.println("Menu:");
 			System.out.println("1. View Applications");
 			System.out.println("2. Update Applications");
-			System.out.println("3. Return to previous page");
+			System.out.println("3. Run Ballot");
+			System.out.println("4. Approve Officer Registrations");
+			System.out.println("5. Assign Officers to Projects");
+			System.out.println("6. View Application History");
+			System.out.println("7. Return to previous page");
 			choice = sc.nextInt();
 			sc.nextLine();
 			
@@ -313,6 +483,18 @@ public class HDBManagerInterface {
 				updateApplications(sc, manager, applicationDatabase);
 				break;
 			case 3:
+				runBallot(sc, manager, projectDatabase, applicationDatabase);
+				break;
+			case 4:
+				approveRegistrations(sc, manager, projectDatabase, applicationDatabase);
+				break;
+			case 5:
+				assignOfficers(sc, manager, applicationDatabase);
+				break;
+			case 6:
+				viewApplicationHistory(sc, manager, projectDatabase);
+				break;
+			case 7:
 				System.out.println("Returning to previous page");
 				return;
 			default:
@@ -372,13 +554,211 @@ public class HDBManagerInterface {
 				break;
 			}
 			
-			mgr.updateStatus(applicationList.get(applicationIndex - 1), newStatus);
-			System.out.println("Successfully updated Application!");
+			switch (mgr.decide(applicationList.get(applicationIndex - 1), newStatus)) {
+			case UPDATED:
+				System.out.println("Successfully updated Application!");
+				break;
+			case NOT_ALLOWED:
+				System.out.println("The application cannot be updated to " + newStatus + ". Application update was unsuccessful.");
+				break;
+			case ALREADY_DECIDED:
+				System.out.println("The application has already been decided in another session. Application update was unsuccessful.");
+				break;
+			case ALREADY_JOINED:
+				System.out.println("The officer already handles this project. Application update was unsuccessful.");
+				break;
+			case NO_FREE_SLOT:
+				System.out.println("The project has no free officer slot. Application update was unsuccessful.");
+				break;
+			}
 		} else {
 			System.out.println("Invalid index.");
 		}
 	}
 	
+	/**
+	 * Allows the HDB Manager to approve the pending officer registrations for one of their projects.
+	 * <p>
+	 * The registrations are approved in the order they were submitted until the
+	 * project's officer slots are filled; the rest stay pending.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager The logged-in HDB Manager.
+	 * @param projectDatabase The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 */
+	private void approveRegistrations(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase, IDatabase<Application> applicationDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<Project> projectList = mgr.getOwnProjects(manager, projectDatabase);
+
+		System.out.println("Projects created by you:");
+		mgr.displayProject(projectList);
+		if (projectList.isEmpty()) {
+			return;
+		}
+
+		System.out.println("Enter index of project:");
+		int projectIndex = sc.nextInt();
+		sc.nextLine();
+		if (!new UserInterfaceHelper().isValidIndex(projectList, projectIndex - 1)) {
+			System.out.println("Invalid index.");
+			return;
+		}
+
+		Project project = projectList.get(projectIndex - 1);
+		List<Application> approvedList = mgr.approveRegistrations(project, applicationDatabase);
+		System.out.println("Approved registrations:");
+		mgr.displayApplications(approvedList);
+		System.out.println(mgr.getPendingRegistrations(project, applicationDatabase).size() + " registrations still pending.");
+	}
+
+	/**
+	 * Allows the HDB Manager to assign officers to projects from all pending registrations at once.
+	 * <p>
+	 * The assignment is shown first, and the manager then chooses whether to
+	 * approve the assigned registrations for their own projects.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager The logged-in HDB Manager.
+	 * @param applicationDatabase The database containing application information.
+	 */
+	private void assignOfficers(Scanner sc, HDBManager manager, IDatabase<Application> applicationDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		AssignmentResult result = mgr.planOfficerAssignment(applicationDatabase);
+		mgr.displayAssignment(result);
+		if (result.getAssignedList().isEmpty()) {
+			return;
+		}
+
+		while (true) {
+			System.out.println("1. Approve the assigned registrations for your projects");
+			System.out.println("2. Cancel");
+
+			switch (sc.nextInt()) {
+			case 1:
+				sc.nextLine();
+				List<Application> approvedList = mgr.applyOfficerAssignment(manager, result);
+				System.out.println("Approved registrations:");
+				mgr.displayApplications(approvedList);
+				return;
+			case 2:
+				sc.nextLine();
+				return;
+			default:
+				System.out.println("Invalid input. Please try again.");
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Allows the HDB Manager to view the status transitions of a project's applications over a range of days.
+	 * <p>
+	 * The number of transitions of each kind on each day is shown first, and
+	 * the manager then chooses whether to list the transitions themselves, or
+	 * the status of each application as it stood at the end of the range.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager The logged-in HDB Manager.
+	 * @param projectDatabase The database containing project information.
+	 */
+	private void viewApplicationHistory(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<Project> projectList = mgr.getOwnProjects(manager, projectDatabase);
+
+		System.out.println("Projects created by you:");
+		mgr.displayProject(projectList);
+		if (projectList.isEmpty()) {
+			return;
+		}
+
+		System.out.println("Enter index of project:");
+		int projectIndex = sc.nextInt();
+		sc.nextLine();
+		if (!new UserInterfaceHelper().isValidIndex(projectList, projectIndex - 1)) {
+			System.out.println("Invalid index.");
+			return;
+		}
+		Project project = projectList.get(projectIndex - 1);
+
+		LocalDate from, to;
+		try {
+			System.out.println("From (DD-MM-YYYY):");
+			from = DateConvertor.parseToLocalDate(sc.nextLine().trim());
+			System.out.println("To (DD-MM-YYYY):");
+			to = DateConvertor.parseToLocalDate(sc.nextLine().trim());
+		} catch (DateTimeParseException e) {
+			System.out.println("Invalid date.");
+			return;
+		}
+
+		mgr.displayAuditSummary(mgr.getAuditSummary(project.getID(), from, to));
+		System.out.println("1. List the transitions");
+		System.out.println("2. Show the applications as they stood at the end of " + DateConvertor.formatLocalDate(to));
+		System.out.println("3. Return");
+		int choice = sc.nextInt();
+		sc.nextLine();
+		if (choice == 1) {
+			mgr.displayAuditHistory(mgr.getAuditHistory(project.getID(), from, to));
+		} else if (choice == 2) {
+			mgr.displayAuditState(mgr.getAuditState(project.getID(), to));
+		}
+	}
+
+	/**
+	 * Allows the HDB Manager to ballot the pending BTO applications of their closed projects.
+	 * <p>
+	 * The manager chooses one project or all of them, and a seed, which is
+	 * shown with the results so that the draw can be reproduced.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param manager The logged-in HDB Manager.
+	 * @param projectDatabase The database containing project information.
+	 * @param applicationDatabase The database containing application information.
+	 */
+	private void runBallot(Scanner sc, HDBManager manager, IDatabase<Project> projectDatabase, IDatabase<Application> applicationDatabase) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		List<Project> projectList = mgr.getBallotProjects(manager, projectDatabase);
+		long seed;
+
+		System.out.println("Projects closed for applications:");
+		mgr.displayProject(projectList);
+		if (projectList.isEmpty()) {
+			return;
+		}
+
+		System.out.println("Enter index of project to ballot (0 for all projects):");
+		int projectIndex = sc.nextInt();
+		sc.nextLine();
+		if (projectIndex != 0) {
+			if (!new UserInterfaceHelper().isValidIndex(projectList, projectIndex - 1)) {
+				System.out.println("Invalid index.");
+				return;
+			}
+			projectList = List.of(projectList.get(projectIndex - 1));
+		}
+
+		System.out.println("Enter ballot seed (leave blank for a random seed):");
+		String seedText = sc.nextLine().trim();
+		try {
+			seed = seedText.isEmpty() ? System.nanoTime() : Long.parseLong(seedText);
+		} catch (NumberFormatException e) {
+			System.out.println("Invalid seed.");
+			return;
+		}
+
+		List<BallotResult> resultList = mgr.runBallot(projectList, applicationDatabase, seed);
+		if (resultList.isEmpty()) {
+			System.out.println("Applications changed while the ballot was drawn; nothing was applied. Please try again.");
+			return;
+		}
+		mgr.displayBallotResults(resultList);
+	}
+
 	/**
 	 * Navigates to the enquiry management interface for the HDB Manager.
 	 *
@@ -446,9 +826,57 @@ public class HDBManagerInterface {
 			return;
 		}
 		
+		List<Applicant> applicantList = mgr.toApplicantList(userList);
+		
 		System.out.println("\n\n");
 		System.out.println("Report:");
 		System.out.println();
-		mgr.displayReport(mgr.toApplicantList(userList));
+		mgr.displayReport(applicantList);
+		
+		exportReport(sc, applicantList);
+	}
+	
+	/**
+	 * Allows the HDB Manager to export a generated report to a CSV or JSON file.
+	 *
+	 * @param sc				The Scanner Object
+	 * @param applicantList The applicants contained in the report.
+	 */
+	private void exportReport(Scanner sc, List<Applicant> applicantList) {
+		HDBManagerMgr mgr = new HDBManagerMgr();
+		String format, filePath;
+		
+		while (true) {
+			System.out.println("Export report?");
+			System.out.println("1. No");
+			System.out.println("2. Export as CSV");
+			System.out.println("3. Export as JSON");
+			
+			switch (sc.nextInt()) {
+			case 1:
+				sc.nextLine();
+				return;
+			case 2:
+				format = "CSV";
+				break;
+			case 3:
+				format = "JSON";
+				break;
+			default:
+				System.out.println("Invalid input. Please try again.");
+				continue;
+			}
+			break;
+		}
+		sc.nextLine();
+		
+		System.out.println("Enter file path (leave blank for the default report file):");
+		filePath = sc.nextLine().trim();
+		
+		if (mgr.exportReport(applicantList, format, filePath)) {
+			System.out.println("Report successfully exported!");
+		} else {
+			System.out.println("Unable to export report.");
+		}
 	}
 }
\ No newline at end of file
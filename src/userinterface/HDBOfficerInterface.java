@@ -6,7 +6,11 @@ import java.util.Scanner;
 
 import application.Application;
 import database.IDatabase;
+import display.ItemDisplayer;
 import enquiry.Enquiry;
+import inventory.FlatUnit;
+import inventory.InventoryMgr;
+import inventory.Reservation;
 import project.Project;
 import user.HDBOfficer;
 import userctrl.HDBOfficerMgr;
@@ -110,7 +114,7 @@ public class HDBOfficerInterface {
 	/**
 	 * Allows the HDB Officer to register for an available project.
 	 * <p>
-	 * This method fetches the list of available projects, displays them, and prompts the officer
+	 * This method fetches the list of projects the officer is eligible to join, displays them, and prompts the officer
 	 * to select one to register for. It then calls the manager to handle the registration logic.
 	 * </p>
 	 *
@@ -126,7 +130,7 @@ public class HDBOfficerInterface {
 		List<Project> projectList = new ArrayList<>();
 		
 		System.out.println("List of available projects:");
-		projectList = offMgr.getProjects(officer, projectDatabase);
+		projectList = offMgr.getJoinableProjects(officer, projectDatabase);
 		offMgr.displayProject(projectList);
 		
 		if (projectList.isEmpty()) {
@@ -229,7 +233,10 @@ public class HDBOfficerInterface {
 					+ "Enter application index number of application you wish to book:");
 			applicationIndex = sc.nextInt();
 			
-			if (new UserInterfaceHelper().isValidIndex(applicationList, applicationIndex - 1)) {
+			if (new UserInterfaceHelper().isValidIndex(applicationList, applicationIndex - 1)
+					&& mgr.hasUnits(applicationList.get(applicationIndex - 1).getProject())) {
+				bookUnit(sc, officer, applicationList.get(applicationIndex - 1));
+			} else if (new UserInterfaceHelper().isValidIndex(applicationList, applicationIndex - 1)) {
 				if (mgr.bookApplicantFlat(officer, applicationList.get(applicationIndex - 1))) {
 					System.out.println("Successfully updated status to booked!");
 				} else {
@@ -241,6 +248,59 @@ public class HDBOfficerInterface {
 		}
 	}
 	
+	/**
+	 * Allows the HDB Officer to choose a flat for an application, reserve it and confirm the booking.
+	 * <p>
+	 * The flat stays reserved while the officer decides, so that no other officer
+	 * can book it, for at most {@link InventoryMgr#RESERVATION_TIMEOUT_MINUTES} minutes.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param officer The logged-in HDB Officer.
+	 * @param application The application for which the flat is to be booked.
+	 */
+	private void bookUnit(Scanner sc, HDBOfficer officer, Application application) {
+		HDBOfficerMgr mgr = new HDBOfficerMgr();
+		Project project = application.getProject();
+		int minFloor, unitIndex;
+
+		System.out.println("Enter the lowest floor the applicant wants (1 for any floor):");
+		minFloor = sc.nextInt();
+
+		System.out.println(mgr.countAvailableUnits(project, minFloor) + " flats available on floor " + minFloor + " and above.");
+		List<FlatUnit> unitList = mgr.getAvailableUnits(project, minFloor, ItemDisplayer.DEFAULT_PAGE_SIZE);
+		if (unitList.isEmpty()) {
+			return;
+		}
+		mgr.displayUnits(unitList);
+
+		System.out.println("Enter index of flat to reserve:");
+		unitIndex = sc.nextInt();
+		if (!new UserInterfaceHelper().isValidIndex(unitList, unitIndex - 1)) {
+			System.out.println("Invalid index");
+			return;
+		}
+
+		Reservation reservation = mgr.reserveUnit(officer, application, unitList.get(unitIndex - 1));
+		if (reservation == null) {
+			System.out.println("That flat has just been taken. Please choose another.");
+			return;
+		}
+
+		System.out.println(reservation.getUnit().getAddress() + " is reserved for "
+				+ InventoryMgr.RESERVATION_TIMEOUT_MINUTES + " minutes.");
+		System.out.println("1. Confirm booking");
+		System.out.println("2. Release flat");
+		if (sc.nextInt() != 1) {
+			mgr.releaseUnit(reservation);
+			System.out.println("Flat released.");
+		} else if (mgr.bookApplicantFlat(officer, application, reservation)) {
+			System.out.println("Successfully booked " + reservation.getUnit().getAddress() + "!");
+		} else {
+			System.out.println("Unable to book the flat. The reservation may have expired.");
+		}
+	}
+	
 	/**
 	 * Navigates to the enquiry management interface for the HDB Officer.
 	 *
@@ -18,7 +18,8 @@ public class HDBOfficialInterface {
 	 * Manages the main menu for handling enquiries for an HDB Official.
 	 * <p>
 	 * This method provides a loop for the official to choose between viewing enquiries,
-	 * replying to them, or returning to the previous menu.
+	 * replying to them, searching them, working through the unanswered ones, or
+	 * returning to the previous menu.
 	 * </p>
 	 *
 	 * @param official The logged-in HDB Official.
@@ -33,18 +34,26 @@ public class HDBOfficialInterface {
 			System.out.println("Menu:");
 			System.out.println("1. View Enquiries");
 			System.out.println("2. Reply to Enquiries");
-			System.out.println("3. Return to previous page");
+			System.out.println("3. Search Enquiries");
+			System.out.println("4. Reply to Oldest Unanswered Enquiry");
+			System.out.println("5. Return to previous page");
 			
 			choice = sc.nextInt();
 			
 			switch (choice) {
 			case 1:
-				viewEnquiries(official, enquiryDatabase);
+				viewEnquiries(sc, official, enquiryDatabase);
 				break;
 			case 2:
 				replyToEnquiries(sc, official, enquiryDatabase);
 				break;
 			case 3:
+				searchEnquiries(sc, official, enquiryDatabase);
+				break;
+			case 4:
+				replyToNextEnquiry(sc, official);
+				break;
+			case 5:
 				System.out.println("Returning to previous page");
 				return;
 			default:
@@ -58,14 +67,16 @@ public class HDBOfficialInterface {
 	 * Displays the enquiries that the HDB Official can view.
 	 * <p>
 	 * Managers see enquiries for their managed projects, while Officers see them for their assigned projects.
+	 * The enquiries are shown one page at a time.
 	 * </p>
 	 *
+	 * @param sc				The Scanner Object
 	 * @param official The HDB Official viewing the enquiries.
 	 * @param enquiryDatabase The database containing enquiry information.
 	 */
-	public void viewEnquiries(HDBOfficial official, IDatabase<Enquiry> enquiryDatabase) {
+	public void viewEnquiries(Scanner sc, HDBOfficial official, IDatabase<Enquiry> enquiryDatabase) {
 		System.out.println("All enquiries you can view:");
-		(new HDBOfficialMgr()).viewEnquiries(official, enquiryDatabase);
+		(new UserInterfaceHelper()).navigatePages(sc, (new HDBOfficialMgr()).viewEnquiries(official, enquiryDatabase));
 	}
 
 	/**
@@ -112,4 +123,60 @@ public class HDBOfficialInterface {
 			System.out.println("Invalid index");
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Allows the HDB Official to reply to the oldest unanswered enquiry of their projects.
+	 * <p>
+	 * The enquiry is claimed from the work queue so that no other official works on
+	 * it at the same time. If the official leaves the reply blank, the enquiry is
+	 * handed back to the queue unanswered.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param official The HDB Official replying to the enquiry.
+	 */
+	public void replyToNextEnquiry(Scanner sc, HDBOfficial official) {
+		HDBOfficialMgr mgr = new HDBOfficialMgr();
+		Enquiry enquiry = mgr.claimNextEnquiry(official);
+		if (enquiry == null) {
+			System.out.println("There are no unanswered enquiries.");
+			return;
+		}
+
+		mgr.displayEnquiries(List.of(enquiry));
+		sc.nextLine();
+		System.out.println("Enter reply (leave blank to skip):");
+		String reply = sc.nextLine().replace(',', ' ');
+
+		if (reply.isBlank()) {
+			mgr.releaseEnquiry(enquiry);
+			System.out.println("Enquiry returned to the queue.");
+		} else if (mgr.replyTo(enquiry, reply)) {
+			System.out.println("Successfully saved reply!");
+		} else {
+			System.out.println("Unsuccessful.");
+		}
+	}
+
+	/**
+	 * Searches the questions and replies of the enquiries the HDB Official can view.
+	 * <p>
+	 * This helps to find duplicate or related questions without paging through
+	 * every enquiry. The best matches are displayed first.
+	 * </p>
+	 *
+	 * @param sc				The Scanner Object
+	 * @param official The HDB Official searching the enquiries.
+	 * @param enquiryDatabase The database containing enquiry information.
+	 */
+	public void searchEnquiries(Scanner sc, HDBOfficial official, IDatabase<Enquiry> enquiryDatabase) {
+		HDBOfficialMgr mgr = new HDBOfficialMgr();
+		sc.nextLine();
+		System.out.println("Enter keywords:");
+		String keywords = sc.nextLine();
+
+		List<Enquiry> enquiryList = mgr.searchEnquiries(official, enquiryDatabase, keywords);
+		System.out.println("Best matching enquiries:");
+		mgr.displayEnquiries(enquiryList);
+	}
+}
@@ -25,9 +25,9 @@ public class UserInterface {
 	 * Allows a user to log in to the system by providing their User ID and password.
 	 *
 	 * @param userDatabase The database containing user information for authentication.
-	 * @return The logged-in {@code User} object if credentials are valid, or {@code null} otherwise.
+	 * @return The token of the user's new session if credentials are valid, or {@code null} otherwise.
 	 */
-	public User login(IDatabase<User> userDatabase) {
+	public String login(IDatabase<User> userDatabase) {
 		UserMgr userMgr = new UserMgr();
 
 		String userID, password;
@@ -38,7 +38,7 @@ public class UserInterface {
 		System.out.println("Enter Password:");
 		password = sc.next();
 		
-		return userMgr.getUser(userDatabase, userID, password);
+		return userMgr.login(userDatabase, userID, password);
 	}
 	
 	/**
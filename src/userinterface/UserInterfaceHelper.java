@@ -1,8 +1,17 @@
 package userinterface;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
+import display.ItemDisplayer;
+import misc.DateConvertor;
+import project.Project;
+import project.ProjectQuery;
+import project.ProjectSort;
+
 /**
  * A helper class for handling common user interface operations.
  * This class provides utility methods for tasks such as validating user input
@@ -28,6 +37,31 @@ public class UserInterfaceHelper {
 		}
 	}
 	
+	/**
+	 * Prompts the user for the attribute to sort projects by.
+	 *
+	 * @param sc The Scanner Object
+	 * @return The selected {@link ProjectSort}.
+	 */
+	public ProjectSort getProjectSort(Scanner sc) {
+		ProjectSort[] sorts = ProjectSort.values();
+		while(true) {
+			System.out.println("Sort by:");
+			for (int i = 0; i < sorts.length; i++) {
+				System.out.println((i + 1) + ". " + sorts[i].getLabel());
+			}
+			int input = sc.nextInt();
+			sc.nextLine();
+			
+			if(input < 1 || input > sorts.length) {
+				System.out.println("Invalid input. Please try again.");
+			}
+			else {
+				return sorts[input - 1];
+			}
+		}
+	}
+	
 	/**
 	 * Prompts the user for the sorting order (ascending or descending).
 	 *
@@ -42,7 +76,7 @@ public class UserInterfaceHelper {
 			input = sc.nextInt();
 			sc.nextLine();
 			
-			if(input != 1 || input != 2) {
+			if(input != 1 && input != 2) {
 				System.out.println("Invalid input. Please try again.");
 			}
 			else {
@@ -50,4 +84,122 @@ public class UserInterfaceHelper {
 			}
 		}
 	}
+
+	/**
+	 * Lets the user move between the pages shown by a browsing displayer.
+	 * <p>
+	 * Only the options that lead to an existing page are offered. The method
+	 * returns when the user chooses to stop, or when there is only one page.
+	 * </p>
+	 *
+	 * @param <T>       The type of objects being browsed.
+	 * @param sc        The Scanner Object
+	 * @param displayer The displayer that has started browsing.
+	 */
+	public <T> void navigatePages(Scanner sc, ItemDisplayer<T> displayer) {
+		while (displayer.hasNext() || displayer.hasPrevious()) {
+			System.out.println("Navigate:");
+			System.out.println("1. Next Page" + (displayer.hasNext() ? "" : " (none)"));
+			System.out.println("2. Previous Page" + (displayer.hasPrevious() ? "" : " (none)"));
+			System.out.println("3. Done");
+			int input = sc.nextInt();
+			sc.nextLine();
+
+			if (input == 1) {
+				if (!displayer.next()) {
+					System.out.println("This is the last page.");
+				}
+			} else if (input == 2) {
+				if (!displayer.previous()) {
+					System.out.println("This is the first page.");
+				}
+			} else if (input == 3) {
+				return;
+			} else {
+				System.out.println("Invalid input. Please try again.");
+			}
+		}
+	}
+
+	/**
+	 * Prompts the user for the criteria of an advanced project search.
+	 * <p>
+	 * Every criterion is optional, and the criteria that are given must all match.
+	 * Several neighbourhoods may be given separated by commas, in which case a
+	 * project in any of them matches.
+	 * </p>
+	 *
+	 * @param sc            The Scanner Object
+	 * @param askVisibility {@code true} to also prompt for the visibility of the projects.
+	 * @return The {@link ProjectQuery} combining the given criteria, or {@code null} if the input was invalid.
+	 */
+	public ProjectQuery readProjectQuery(Scanner sc, boolean askVisibility) {
+		List<ProjectQuery> criteria = new ArrayList<>();
+		String line;
+
+		try {
+			System.out.println("Leave a criterion blank to skip it.");
+
+			System.out.println("Neighbourhoods (separate multiple neighbourhoods with commas):");
+			line = sc.nextLine().trim();
+			if (!line.isEmpty()) {
+				List<ProjectQuery> neighbourhoods = new ArrayList<>();
+				for (String neighbourhood : line.split(",")) {
+					if (!neighbourhood.isBlank()) {
+						neighbourhoods.add(ProjectQuery.neighbourhoodIs(neighbourhood.trim()));
+					}
+				}
+				criteria.add(ProjectQuery.anyOf(neighbourhoods.toArray(new ProjectQuery[0])));
+			}
+
+			System.out.println("Room type (2 or 3):");
+			line = sc.nextLine().trim();
+			if (line.equals("2") || line.equals("3")) {
+				criteria.add(ProjectQuery.roomTypeIs(line.equals("2") ? Project.ROOM_TYPE._2Room : Project.ROOM_TYPE._3Room));
+			} else if (!line.isEmpty()) {
+				throw new IllegalArgumentException("Invalid room type: " + line);
+			}
+
+			System.out.println("Minimum selling price:");
+			String minPrice = sc.nextLine().trim();
+			System.out.println("Maximum selling price:");
+			String maxPrice = sc.nextLine().trim();
+			if (!minPrice.isEmpty() || !maxPrice.isEmpty()) {
+				criteria.add(ProjectQuery.priceBetween(
+						minPrice.isEmpty() ? 0 : Double.parseDouble(minPrice),
+						maxPrice.isEmpty() ? Double.MAX_VALUE : Double.parseDouble(maxPrice)));
+			}
+
+			System.out.println("Open for applications on or after (DD-MM-YYYY):");
+			String from = sc.nextLine().trim();
+			System.out.println("Open for applications on or before (DD-MM-YYYY):");
+			String to = sc.nextLine().trim();
+			if (!from.isEmpty() || !to.isEmpty()) {
+				criteria.add(ProjectQuery.openBetween(
+						from.isEmpty() ? LocalDate.MIN : DateConvertor.parseToLocalDate(from),
+						to.isEmpty() ? LocalDate.MAX : DateConvertor.parseToLocalDate(to)));
+			}
+
+			System.out.println("Minimum number of remaining flats:");
+			line = sc.nextLine().trim();
+			if (!line.isEmpty()) {
+				criteria.add(ProjectQuery.remainingAtLeast(Integer.parseInt(line)));
+			}
+
+			if (askVisibility) {
+				System.out.println("Visibility (1. Visible, 2. Not visible):");
+				line = sc.nextLine().trim();
+				if (line.equals("1") || line.equals("2")) {
+					criteria.add(ProjectQuery.visibleIs(line.equals("1")));
+				} else if (!line.isEmpty()) {
+					throw new IllegalArgumentException("Invalid visibility: " + line);
+				}
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			System.out.println("Invalid input: " + e.getMessage());
+			return null;
+		}
+
+		return criteria.isEmpty() ? ProjectQuery.all() : ProjectQuery.allOf(criteria.toArray(new ProjectQuery[0]));
+	}
 }
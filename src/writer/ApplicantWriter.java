@@ -5,6 +5,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
 
+import metrics.DataFileEvent;
 import user.Applicant;
 
 /**
@@ -39,9 +40,33 @@ public class ApplicantWriter implements IUserWriter<Applicant>
 	 */
 	@Override
 	public void write(List<Applicant> applicantList)
+	{
+		write(applicantList, false);
+	}
+
+	/**
+	 * Appends the provided list of applicants to the end of the applicant data file
+	 * in a single write, leaving the existing lines untouched.
+	 * This is used to persist a batch of newly imported applicants.
+	 *
+	 * @param applicantList The {@code List} of new {@code Applicant} objects to append.
+	 */
+	public void append(List<Applicant> applicantList)
+	{
+		write(applicantList, true);
+	}
+
+	/**
+	 * Writes the provided list of applicants to the applicant data file.
+	 *
+	 * @param applicantList The {@code List} of {@code Applicant} objects to write.
+	 * @param isAppending   {@code true} to append to the file, {@code false} to overwrite it.
+	 */
+	private void write(List<Applicant> applicantList, boolean isAppending)
 	{
 		String line;
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(applicantFile)))
+        DataFileEvent event = DataFileEvent.start(isAppending ? "append" : "write", applicantFile);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(applicantFile, isAppending)))
         {
     		for(Applicant applicant: applicantList)
     		{
@@ -66,7 +91,7 @@ public class ApplicantWriter implements IUserWriter<Applicant>
         catch (IOException e) {
             System.err.println("Error writing applicant file: " + e.getMessage());
         }
-
+        event.finish(applicantList.size());
 	}
 
 }
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.util.List;
 
 import application.Application;
+import metrics.DataFileEvent;
 
 /**
  * Writes a list of {@code Application} objects to a CSV file.
@@ -30,6 +31,7 @@ public class ApplicationWriter implements IWriter<Application>
 	public void write(List<Application> applicationList)
 	{
 		String line;
+        DataFileEvent event = DataFileEvent.start("write", applicationFile);
         try(BufferedWriter writer = new BufferedWriter(new FileWriter(applicationFile)))
         {
     		for(Application application: applicationList)
@@ -46,6 +48,6 @@ public class ApplicationWriter implements IWriter<Application>
         catch (IOException e) {
             System.err.println("Error writing application file: " + e.getMessage());
         }
-
+        event.finish(applicationList.size());
 	}
 }
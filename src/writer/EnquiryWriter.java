@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.util.List;
 
 import enquiry.Enquiry;
+import metrics.DataFileEvent;
 
 /**
  * Writes a list of {@code Enquiry} objects to a CSV file.
@@ -34,6 +35,7 @@ public class EnquiryWriter implements IWriter<Enquiry>
 	public void write(List<Enquiry> enquiryList)
 	{
 		String line;
+        DataFileEvent event = DataFileEvent.start("write", enquiryFile);
         try(BufferedWriter writer = new BufferedWriter(new FileWriter(enquiryFile)))
         {
     		for(Enquiry enquiry: enquiryList)
@@ -50,7 +52,7 @@ public class EnquiryWriter implements IWriter<Enquiry>
         catch (IOException e) {
             System.err.println("Error writing enquiry file: " + e.getMessage());
         }
-
+        event.finish(enquiryList.size());
 	}
 
 }
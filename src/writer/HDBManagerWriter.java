@@ -5,6 +5,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
 
+import metrics.DataFileEvent;
 import user.HDBManager;
 
 /**
@@ -24,6 +25,7 @@ public class HDBManagerWriter implements IUserWriter<HDBManager>
 	public void write(List<HDBManager> managerList)
 	{
 		String line;
+        DataFileEvent event = DataFileEvent.start("write", HDBManagerFile);
         try(BufferedWriter writer = new BufferedWriter(new FileWriter(HDBManagerFile)))
         {
     		for(HDBManager manager: managerList)
@@ -40,5 +42,6 @@ public class HDBManagerWriter implements IUserWriter<HDBManager>
         catch (IOException e) {
             System.err.println("Error writing HDBManager file: " + e.getMessage());
         }
+        event.finish(managerList.size());
 	}
 }
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.util.List;
 
 import application.Application;
+import metrics.DataFileEvent;
 import project.Project;
 import user.HDBOfficer;
 
@@ -46,6 +47,7 @@ public class HDBOfficerWriter implements IUserWriter<HDBOfficer>
 	public void write(List<HDBOfficer> officerList)
 	{
 		String line;
+        DataFileEvent event = DataFileEvent.start("write", HDBOfficerFile);
         try(BufferedWriter writer = new BufferedWriter(new FileWriter(HDBOfficerFile)))
         {
     		for(HDBOfficer officer: officerList)
@@ -98,7 +100,7 @@ public class HDBOfficerWriter implements IUserWriter<HDBOfficer>
         catch (IOException e) {
             System.err.println("Error writing HDBOfficer file: " + e.getMessage());
         }
-
+        event.finish(officerList.size());
 	}
 
 }
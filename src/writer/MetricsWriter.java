@@ -0,0 +1,66 @@
+package writer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import metrics.DataFileEvent;
+import metrics.OperationMetrics;
+
+/**
+ * Dumps the call counts and latencies of the instrumented operations to a CSV file.
+ * <p>
+ * Each operation is written on its own line after a header line, with latencies
+ * in nanoseconds. The data is saved in the following format:
+ * operation, count, meanNanos, p50Nanos, p99Nanos, maxNanos
+ * </p>
+ */
+public class MetricsWriter implements IWriter<OperationMetrics>
+{
+	/**
+	 * Writes the metrics to the default metrics file.
+	 *
+	 * @param metricsList The {@code List} of {@code OperationMetrics} objects to write.
+	 */
+	@Override
+	public void write(List<OperationMetrics> metricsList)
+	{
+		write(metricsList, null);
+	}
+
+	/**
+	 * Writes the metrics to the given file, replacing any existing content.
+	 *
+	 * @param metricsList The {@code List} of {@code OperationMetrics} objects to write.
+	 * @param filePath    The path of the file to write to, or {@code null} for the default file.
+	 * @return {@code true} if the metrics were written successfully, {@code false} otherwise.
+	 */
+	public boolean write(List<OperationMetrics> metricsList, String filePath)
+	{
+		String path = (filePath == null || filePath.isBlank()) ? metricsFile : filePath;
+        DataFileEvent event = DataFileEvent.start("write", path);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(path)))
+        {
+        	writer.write("operation,count,meanNanos,p50Nanos,p99Nanos,maxNanos");
+        	writer.newLine();
+    		for(OperationMetrics metrics: metricsList)
+    		{
+    			writer.write(metrics.getOperation() + ","
+    					+ metrics.getCount() + ","
+    					+ metrics.getMeanNanos() + ","
+    					+ metrics.getP50Nanos() + ","
+    					+ metrics.getP99Nanos() + ","
+    					+ metrics.getMaxNanos());
+    			writer.newLine();
+    		}
+    		event.finish(metricsList.size());
+    		return true;
+        }
+        catch (IOException e) {
+            System.err.println("Error writing metrics file: " + e.getMessage());
+            event.finish(0);
+            return false;
+        }
+	}
+}
@@ -5,6 +5,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
 
+import metrics.DataFileEvent;
 import misc.DateConvertor;
 import project.Project;
 import user.User;
@@ -45,9 +46,33 @@ public class ProjectWriter implements IWriter<Project>
 	 */
 	@Override
 	public void write(List<Project> projectList)
+	{
+		write(projectList, false);
+	}
+
+	/**
+	 * Appends the provided list of projects to the end of the project data file
+	 * in a single write, leaving the existing lines untouched.
+	 * This is used to persist a batch of newly imported projects.
+	 *
+	 * @param projectList The {@code List} of new {@code Project} objects to append.
+	 */
+	public void append(List<Project> projectList)
+	{
+		write(projectList, true);
+	}
+
+	/**
+	 * Writes the provided list of projects to the project data file.
+	 *
+	 * @param projectList The {@code List} of {@code Project} objects to write.
+	 * @param isAppending {@code true} to append to the file, {@code false} to overwrite it.
+	 */
+	private void write(List<Project> projectList, boolean isAppending)
 	{
 		String line;
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(projectFile)))
+        DataFileEvent event = DataFileEvent.start(isAppending ? "append" : "write", projectFile);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(projectFile, isAppending)))
         {
     		for(Project project: projectList)
     		{
@@ -80,5 +105,6 @@ public class ProjectWriter implements IWriter<Project>
         catch (IOException e) {
             System.err.println("Error writing project file: " + e.getMessage());
         }
+        event.finish(projectList.size());
 	}
 }
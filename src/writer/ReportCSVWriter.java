@@ -0,0 +1,67 @@
+package writer;
+
+import user.Applicant;
+
+/**
+ * Exports the applicant/flat-choice report as a CSV file.
+ * <p>
+ * Each applicant is written on its own line after a header line. Fields that
+ * contain commas, quotes or line breaks are quoted, with embedded quotes doubled.
+ * The data is saved in the following format:
+ * applicantName, projectName, roomType, age, maritalStatus
+ * </p>
+ */
+public class ReportCSVWriter extends ReportWriter
+{
+	@Override
+	protected String getDefaultFile()
+	{
+		return reportCSVFile;
+	}
+
+	@Override
+	protected void writeHeader(StringBuilder buffer)
+	{
+		buffer.append("Applicant Name,Project Name,Room Type,Age,Marital Status\n");
+	}
+
+	@Override
+	protected void writeRow(StringBuilder buffer, Applicant applicant, int index)
+	{
+		appendField(buffer, applicant.getName()).append(',');
+		appendField(buffer, applicant.getAppliedProject().getName()).append(',');
+		appendField(buffer, applicant.getAppliedProject().getRoomType().toString()).append(',');
+		buffer.append(applicant.getAge()).append(',');
+		appendField(buffer, applicant.getMaritalStatus().toString().toLowerCase()).append('\n');
+	}
+
+	@Override
+	protected void writeFooter(StringBuilder buffer)
+	{
+		// CSV has no footer.
+	}
+
+	/**
+	 * Appends a single field, quoting it if it contains a separator, quote or line break.
+	 *
+	 * @param buffer The buffer to append to.
+	 * @param value  The field value.
+	 * @return The same buffer, for chaining.
+	 */
+	private StringBuilder appendField(StringBuilder buffer, String value)
+	{
+		if(value.indexOf(',') < 0 && value.indexOf('"') < 0
+				&& value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+			return buffer.append(value);
+
+		buffer.append('"');
+		for(int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			if(c == '"')
+				buffer.append('"');
+			buffer.append(c);
+		}
+		return buffer.append('"');
+	}
+}
@@ -0,0 +1,88 @@
+package writer;
+
+import user.Applicant;
+
+/**
+ * Exports the applicant/flat-choice report as a JSON file.
+ * <p>
+ * The report is written as a single array of objects, one per applicant, with the
+ * keys {@code applicantName}, {@code projectName}, {@code roomType}, {@code age}
+ * and {@code maritalStatus}.
+ * </p>
+ */
+public class ReportJSONWriter extends ReportWriter
+{
+	@Override
+	protected String getDefaultFile()
+	{
+		return reportJSONFile;
+	}
+
+	@Override
+	protected void writeHeader(StringBuilder buffer)
+	{
+		buffer.append('[');
+	}
+
+	@Override
+	protected void writeRow(StringBuilder buffer, Applicant applicant, int index)
+	{
+		if(index > 0)
+			buffer.append(',');
+		buffer.append("\n  {\"applicantName\": ");
+		appendString(buffer, applicant.getName());
+		buffer.append(", \"projectName\": ");
+		appendString(buffer, applicant.getAppliedProject().getName());
+		buffer.append(", \"roomType\": ");
+		appendString(buffer, applicant.getAppliedProject().getRoomType().toString());
+		buffer.append(", \"age\": ").append(applicant.getAge());
+		buffer.append(", \"maritalStatus\": ");
+		appendString(buffer, applicant.getMaritalStatus().toString().toLowerCase());
+		buffer.append('}');
+	}
+
+	@Override
+	protected void writeFooter(StringBuilder buffer)
+	{
+		buffer.append("\n]\n");
+	}
+
+	/**
+	 * Appends a JSON string literal, escaping quotes, backslashes and control characters.
+	 *
+	 * @param buffer The buffer to append to.
+	 * @param value  The string value.
+	 */
+	private void appendString(StringBuilder buffer, String value)
+	{
+		buffer.append('"');
+		for(int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			switch(c)
+			{
+			case '"':
+				buffer.append("\\\"");
+				break;
+			case '\\':
+				buffer.append("\\\\");
+				break;
+			case '\n':
+				buffer.append("\\n");
+				break;
+			case '\r':
+				buffer.append("\\r");
+				break;
+			case '\t':
+				buffer.append("\\t");
+				break;
+			default:
+				if(c < 0x20)
+					buffer.append(String.format("\\u%04x", (int) c));
+				else
+					buffer.append(c);
+			}
+		}
+		buffer.append('"');
+	}
+}
@@ -0,0 +1,126 @@
+package writer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import metrics.DataFileEvent;
+import user.Applicant;
+
+/**
+ * An abstract base class for exporting the applicant/flat-choice report to a file.
+ * <p>
+ * Rows are rendered into a reusable {@link StringBuilder} and written to a
+ * {@link FileChannel} in large chunks, so the cost of an export is dominated by
+ * the number of chunks rather than the number of fields. Subclasses only define
+ * how the header, each row and the footer of the report are formatted.
+ * </p>
+ */
+public abstract class ReportWriter implements IWriter<Applicant>
+{
+	/**
+	 * The number of characters buffered before a chunk is flushed to the file channel.
+	 */
+	protected static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * Writes the report to the default report file of this format.
+	 *
+	 * @param applicantList The {@code List} of {@code Applicant} objects to be exported.
+	 */
+	@Override
+	public void write(List<Applicant> applicantList)
+	{
+		write(applicantList, getDefaultFile());
+	}
+
+	/**
+	 * Writes the report to the given file, replacing any existing content.
+	 * <p>
+	 * The rendered text is flushed to the channel whenever the buffer reaches
+	 * {@link #CHUNK_SIZE} characters, and once more after the footer.
+	 * </p>
+	 *
+	 * @param applicantList The {@code List} of {@code Applicant} objects to be exported.
+	 * @param filePath      The path of the file to write to, or {@code null} for the default file.
+	 * @return {@code true} if the report was written successfully, {@code false} otherwise.
+	 */
+	public boolean write(List<Applicant> applicantList, String filePath)
+	{
+		StringBuilder buffer = new StringBuilder(CHUNK_SIZE + 1024);
+		Path path = Paths.get((filePath == null || filePath.isBlank()) ? getDefaultFile() : filePath);
+
+		DataFileEvent event = DataFileEvent.start("export", path.toString());
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+		{
+			writeHeader(buffer);
+			int i = 0;
+			for(Applicant applicant: applicantList)
+			{
+				writeRow(buffer, applicant, i++);
+				if(buffer.length() >= CHUNK_SIZE)
+					flush(channel, buffer);
+			}
+			writeFooter(buffer);
+			flush(channel, buffer);
+			event.finish(applicantList.size());
+			return true;
+		}
+		catch (IOException e) {
+			System.err.println("Error writing report file: " + e.getMessage());
+			event.finish(0);
+			return false;
+		}
+	}
+
+	/**
+	 * Encodes the buffered text as UTF-8, writes it to the channel and clears the buffer.
+	 *
+	 * @param channel The channel to write to.
+	 * @param buffer  The buffer holding the rendered text.
+	 * @throws IOException If an error occurs while writing.
+	 */
+	private void flush(FileChannel channel, StringBuilder buffer) throws IOException
+	{
+		ByteBuffer bytes = StandardCharsets.UTF_8.encode(buffer.toString());
+		while(bytes.hasRemaining())
+			channel.write(bytes);
+		buffer.setLength(0);
+	}
+
+	/**
+	 * Retrieves the file the report is written to when no path is given.
+	 *
+	 * @return The default report file path.
+	 */
+	protected abstract String getDefaultFile();
+
+	/**
+	 * Appends the text that precedes the first row.
+	 *
+	 * @param buffer The buffer to append to.
+	 */
+	protected abstract void writeHeader(StringBuilder buffer);
+
+	/**
+	 * Appends a single applicant row.
+	 *
+	 * @param buffer    The buffer to append to.
+	 * @param applicant The applicant to be written.
+	 * @param index     The zero-based position of the row in the report.
+	 */
+	protected abstract void writeRow(StringBuilder buffer, Applicant applicant, int index);
+
+	/**
+	 * Appends the text that follows the last row.
+	 *
+	 * @param buffer The buffer to append to.
+	 */
+	protected abstract void writeFooter(StringBuilder buffer);
+}
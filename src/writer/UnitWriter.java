@@ -0,0 +1,67 @@
+package writer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import inventory.FlatUnit;
+import inventory.UnitInventory;
+import metrics.DataFileEvent;
+
+/**
+ * Writes the flats of projects to a CSV file.
+ * The data is stored in the following format:
+ * projectID, block, floor, unitNumber, price, [bookedApplicationID].
+ */
+public class UnitWriter implements IWriter<UnitInventory>
+{
+	/*
+	 * Data is stored as follows:
+	 * projectID,
+	 * block,
+	 * floor(int),
+	 * unitNumber(int),
+	 * price(double),
+	 * [bookedApplicationID]
+	 */
+
+	/**
+	 * Writes the flats of the provided inventories to the unit data file, one flat per line.
+	 * Reserved flats are written as available, as reservations do not outlive the session.
+	 *
+	 * @param inventoryList The {@code List} of {@code UnitInventory} objects to write.
+	 */
+	@Override
+	public void write(List<UnitInventory> inventoryList)
+	{
+		String line, bookedApplicationID;
+		int unitCount = 0;
+
+        DataFileEvent event = DataFileEvent.start("write", unitFile);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(unitFile)))
+        {
+    		for(UnitInventory inventory: inventoryList)
+    		{
+    			for(FlatUnit unit: inventory.getUnitList())
+    			{
+    				bookedApplicationID = inventory.getBookedApplicationID(unit);
+    				line = inventory.getProject().getID() + ", "
+    						+ unit.getBlock() + ", "
+    						+ unit.getFloor() + ", "
+    						+ unit.getUnitNumber() + ", "
+    						+ unit.getPrice() + ", "
+    						+ (bookedApplicationID == null ? "" : bookedApplicationID);
+
+    				writer.write(line);
+    				writer.newLine();
+    				unitCount++;
+    			}
+    		}
+        }
+        catch (IOException e) {
+            System.err.println("Error writing unit file: " + e.getMessage());
+        }
+        event.finish(unitCount);
+	}
+}
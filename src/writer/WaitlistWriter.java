@@ -0,0 +1,62 @@
+package writer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import application.Application;
+import application.Waitlist;
+import metrics.DataFileEvent;
+
+/**
+ * Writes the waitlists of projects to a CSV file.
+ * The data is stored in the following format:
+ * projectID, [applicationIDs separated by ;].
+ */
+public class WaitlistWriter implements IWriter<Waitlist>
+{
+	/*
+	 * Data is stored as follows:
+	 * projectID,
+	 * [applicationIDs] (Individually separated by ;, head first)
+	 */
+
+	/**
+	 * Writes the provided waitlists to the waitlist data file, one project per line.
+	 * Empty waitlists are not written.
+	 *
+	 * @param waitlistList The {@code List} of {@code Waitlist} objects to write.
+	 */
+	@Override
+	public void write(List<Waitlist> waitlistList)
+	{
+		String line;
+		int entryCount = 0;
+
+        DataFileEvent event = DataFileEvent.start("write", waitlistFile);
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(waitlistFile)))
+        {
+    		for(Waitlist waitlist: waitlistList)
+    		{
+    			List<Application> applicationList = waitlist.getApplicationList();
+    			if(applicationList.isEmpty())
+    				continue;
+
+    			line = waitlist.getProject().getID() + ", ";
+    			for(int i = 0; i < applicationList.size(); i++)
+    			{
+    				line += (i == 0 ? "" : "; ") + applicationList.get(i).getID();
+    			}
+
+    			writer.write(line);
+    			writer.newLine();
+    			entryCount += applicationList.size();
+    		}
+        }
+        catch (IOException e) {
+            System.err.println("Error writing waitlist file: " + e.getMessage());
+        }
+        event.finish(entryCount);
+	}
+}